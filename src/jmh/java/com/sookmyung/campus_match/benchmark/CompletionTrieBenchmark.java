@@ -0,0 +1,65 @@
+package com.sookmyung.campus_match.benchmark;
+
+import com.sookmyung.campus_match.service.search.suggest.CompletionTrie;
+import com.sookmyung.campus_match.service.search.suggest.Suggestion;
+import com.sookmyung.campus_match.service.search.suggest.SuggestionType;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 자동완성 조회 지연 시간
+ * - SampleTime 모드 결과의 p0.99 로 키 입력당 지연(목표 5ms 미만) 확인
+ * - 접두사는 실제 입력처럼 1~4 글자
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.SampleTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class CompletionTrieBenchmark {
+
+    private static final String SYLLABLES = "가나다라마바사아자차카타파하스터디프로젝트공모전개발자인";
+
+    @Param({"100000"})
+    private int entryCount;
+
+    private CompletionTrie trie;
+    private String[] prefixes;
+    private int next;
+
+    @Setup
+    public void setUp() {
+        Random random = new Random(42);
+        trie = new CompletionTrie(10);
+        for (int i = 0; i < entryCount; i++) {
+            trie.add(randomWord(random, 2 + random.nextInt(5)) + " " + randomWord(random, 2 + random.nextInt(4)),
+                    SuggestionType.POST, random.nextInt(10_000));
+        }
+        prefixes = new String[1024];
+        for (int i = 0; i < prefixes.length; i++) {
+            prefixes[i] = randomWord(random, 1 + random.nextInt(4));
+        }
+    }
+
+    @Benchmark
+    public List<Suggestion> suggest() {
+        String prefix = prefixes[next++ & (prefixes.length - 1)];
+        return trie.suggest(prefix, 10);
+    }
+
+    private static String randomWord(Random random, int length) {
+        StringBuilder word = new StringBuilder(length);
+        for (int i = 0; i < length; i++) {
+            word.append(SYLLABLES.charAt(random.nextInt(SYLLABLES.length())));
+        }
+        return word.toString();
+    }
+}
@@ -0,0 +1,139 @@
+package com.sookmyung.campus_match.benchmark;
+
+import com.sookmyung.campus_match.domain.recommendation.UserRecommendation;
+import com.sookmyung.campus_match.domain.user.User;
+import com.sookmyung.campus_match.repository.recommendation.UserRecommendationBatchRepositoryImpl;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+import org.springframework.jdbc.support.GeneratedKeyHolder;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.math.BigDecimal;
+import java.sql.PreparedStatement;
+import java.sql.Statement;
+import java.sql.Timestamp;
+import java.sql.Types;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * user_recommendations 대량 저장 방식 비교 (결과 단위: 행/초)
+ * - rowByRow: IDENTITY 키 엔티티를 saveAll 할 때와 같은 방식 (행마다 INSERT 후 생성 키 조회)
+ * - jdbcBatch: UserRecommendationBatchRepository (JdbcTemplate 배치 INSERT)
+ * 기본은 인메모리 H2, MySQL 비교는 빈 스키마를 지정하여 실행
+ * (예: -p jdbcUrl="jdbc:mysql://127.0.0.1:3306/bench?rewriteBatchedStatements=true" -p driverClassName=com.mysql.cj.jdbc.Driver
+ *  -p username=... -p password=...)
+ * 드라이버는 클래스명으로 직접 등록 (JMH jar 에서는 드라이버별 META-INF/services 파일이 하나만 남음)
+ * rewriteBatchedStatements 를 빼고 실행하면 드라이버의 다중 행 INSERT 변환 효과만 따로 볼 수 있음
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@OperationsPerInvocation(RecommendationBulkInsertBenchmark.ROWS)
+public class RecommendationBulkInsertBenchmark {
+
+    static final int ROWS = 1000;
+
+    private static final String CREATE_TABLE_SQL =
+            "CREATE TABLE IF NOT EXISTS user_recommendations (" +
+            "id BIGINT AUTO_INCREMENT PRIMARY KEY, " +
+            "user_id BIGINT NOT NULL, " +
+            "recommended_user_id BIGINT NOT NULL, " +
+            "similarity_score DECIMAL(5,4), " +
+            "recommendation_reason TEXT, " +
+            "generated_at TIMESTAMP NOT NULL, " +
+            "created_at TIMESTAMP, " +
+            "updated_at TIMESTAMP)";
+
+    private static final String INSERT_SQL =
+            "INSERT INTO user_recommendations " +
+            "(user_id, recommended_user_id, similarity_score, recommendation_reason, generated_at, created_at, updated_at) " +
+            "VALUES (?, ?, ?, ?, ?, ?, ?)";
+
+    @Param({"jdbc:h2:mem:bulk-insert;MODE=MySQL;DB_CLOSE_DELAY=-1"})
+    private String jdbcUrl;
+
+    @Param({"org.h2.Driver"})
+    private String driverClassName;
+
+    @Param({"sa"})
+    private String username;
+
+    @Param({""})
+    private String password;
+
+    private JdbcTemplate jdbcTemplate;
+    private TransactionTemplate transactionTemplate;
+    private UserRecommendationBatchRepositoryImpl batchRepository;
+    private List<UserRecommendation> recommendations;
+
+    @Setup
+    public void setUp() {
+        DriverManagerDataSource dataSource = new DriverManagerDataSource(jdbcUrl, username, password);
+        dataSource.setDriverClassName(driverClassName);
+        jdbcTemplate = new JdbcTemplate(dataSource);
+        transactionTemplate = new TransactionTemplate(new DataSourceTransactionManager(dataSource));
+        batchRepository = new UserRecommendationBatchRepositoryImpl(jdbcTemplate);
+        jdbcTemplate.execute(CREATE_TABLE_SQL);
+
+        // 사용자 50명 × 추천 20개 (추천 배치 한 청크 분량)
+        LocalDateTime generatedAt = LocalDateTime.now();
+        recommendations = new ArrayList<>(ROWS);
+        for (int i = 0; i < ROWS; i++) {
+            User owner = User.builder().build();
+            owner.setId((long) (i / 20 + 1));
+            User recommended = User.builder().build();
+            recommended.setId((long) (i % 20 + 100));
+            recommendations.add(UserRecommendation.builder()
+                    .user(owner)
+                    .recommendedUser(recommended)
+                    .similarityScore(BigDecimal.valueOf(0.5 + (i % 50) / 100.0))
+                    .generatedAt(generatedAt)
+                    .build());
+        }
+    }
+
+    @TearDown(Level.Iteration)
+    public void clear() {
+        jdbcTemplate.execute("DELETE FROM user_recommendations");
+    }
+
+    @Benchmark
+    public void rowByRow() {
+        transactionTemplate.executeWithoutResult(status -> {
+            Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+            for (UserRecommendation recommendation : recommendations) {
+                jdbcTemplate.update(connection -> {
+                    PreparedStatement ps = connection.prepareStatement(INSERT_SQL, Statement.RETURN_GENERATED_KEYS);
+                    ps.setLong(1, recommendation.getUser().getId());
+                    ps.setLong(2, recommendation.getRecommendedUser().getId());
+                    ps.setBigDecimal(3, BigDecimal.valueOf(recommendation.getSimilarityScore()));
+                    ps.setNull(4, Types.VARCHAR);
+                    ps.setTimestamp(5, Timestamp.valueOf(recommendation.getGeneratedAt()));
+                    ps.setTimestamp(6, now);
+                    ps.setTimestamp(7, now);
+                    return ps;
+                }, new GeneratedKeyHolder());
+            }
+        });
+    }
+
+    @Benchmark
+    public void jdbcBatch() {
+        transactionTemplate.executeWithoutResult(status -> batchRepository.batchInsert(recommendations));
+    }
+}
@@ -0,0 +1,101 @@
+package com.sookmyung.campus_match.benchmark;
+
+import com.sookmyung.campus_match.domain.recommendation.UserRecommendation;
+import com.sookmyung.campus_match.domain.user.User;
+import com.sookmyung.campus_match.service.recommendation.RecommendationFeatureSnapshot;
+import com.sookmyung.campus_match.service.recommendation.RecommendationRanker;
+import com.sookmyung.campus_match.service.recommendation.SimilarityCalculator;
+import com.sookmyung.campus_match.service.recommendation.UserFeatureVector;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 추천 상위 K 선택 방식 비교
+ * - sortAllCandidates: 기존 방식 (임계값을 넘는 후보마다 엔티티 생성 → 전체 정렬 → 상위 20개)
+ * - heapTopK: RecommendationRanker (원시 타입 최소 힙, 최종 20명만 엔티티 생성)
+ * 할당량은 gc 프로파일러의 gc.alloc.rate.norm (B/op) 으로 비교
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class RecommendationRankerBenchmark {
+
+    @Param({"2000", "20000"})
+    private int userCount;
+
+    private RecommendationFeatureSnapshot snapshot;
+    private User[] targets;
+    private int next;
+
+    @Setup
+    public void setUp() {
+        Random random = new Random(42);
+        String[] departments = {"컴퓨터학부", "경영학부", "경제학부", "화학과", "미디어학부"};
+        Map<Long, User> candidates = new LinkedHashMap<>();
+        Map<Long, UserFeatureVector> features = new HashMap<>();
+        for (long id = 1; id <= userCount; id++) {
+            String department = departments[random.nextInt(departments.length)];
+            User user = User.builder().department(department).build();
+            user.setId(id);
+            candidates.put(id, user);
+            long[] interests = {random.nextInt(10), 10 + random.nextInt(10)};
+            int[] keywords = {random.nextInt(50), 50 + random.nextInt(50)};
+            features.put(id, new UserFeatureVector(id, department, interests,
+                    1 << random.nextInt(4), true, keywords, false));
+        }
+        // 후보 상한 없이 두 방식이 같은 후보 집합을 점수 계산하도록 함
+        snapshot = new RecommendationFeatureSnapshot(candidates, features, Integer.MAX_VALUE);
+        targets = new ArrayList<>(candidates.values()).subList(0, 64).toArray(new User[0]);
+    }
+
+    @Benchmark
+    public List<UserRecommendation> heapTopK() {
+        User user = nextTarget();
+        return RecommendationRanker.rank(user, snapshot.getFeatures(user.getId()), snapshot, LocalDateTime.now());
+    }
+
+    @Benchmark
+    public List<UserRecommendation> sortAllCandidates() {
+        User user = nextTarget();
+        UserFeatureVector target = snapshot.getFeatures(user.getId());
+        LocalDateTime generatedAt = LocalDateTime.now();
+        List<UserRecommendation> recommendations = new ArrayList<>();
+        for (User candidate : snapshot.getCandidatesFor(target)) {
+            double similarityScore = SimilarityCalculator.similarity(target, snapshot.getFeatures(candidate.getId()));
+            if (similarityScore > RecommendationRanker.MIN_SIMILARITY) {
+                recommendations.add(UserRecommendation.builder()
+                        .user(user)
+                        .recommendedUser(candidate)
+                        .similarityScore(BigDecimal.valueOf(similarityScore))
+                        .generatedAt(generatedAt)
+                        .build());
+            }
+        }
+        recommendations.sort((a, b) -> Double.compare(b.getSimilarityScore(), a.getSimilarityScore()));
+        return recommendations.size() > RecommendationRanker.MAX_RECOMMENDATIONS
+                ? new ArrayList<>(recommendations.subList(0, RecommendationRanker.MAX_RECOMMENDATIONS))
+                : recommendations;
+    }
+
+    private User nextTarget() {
+        User user = targets[next];
+        next = (next + 1) % targets.length;
+        return user;
+    }
+}
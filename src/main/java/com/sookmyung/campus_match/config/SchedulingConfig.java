@@ -0,0 +1,10 @@
+package com.sookmyung.campus_match.config;
+
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.annotation.EnableScheduling;
+
+@Configuration
+@EnableScheduling
+public class SchedulingConfig {
+    // @Scheduled 주기 작업 (조회수 일괄 반영 등)
+}
@@ -0,0 +1,38 @@
+package com.sookmyung.campus_match.config.recommendation;
+
+import com.github.benmanes.caffeine.cache.Caffeine;
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.annotation.EnableCaching;
+import org.springframework.cache.caffeine.CaffeineCacheManager;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.util.List;
+
+/**
+ * 추천 조회 캐시 설정 (Caffeine)
+ * - 캐시별 최대 항목 수 + 쓰기 후 TTL
+ * - recordStats 로 적중/미스/제거 통계를 수집하고, 시작 시 캐시를 미리 등록하여
+ *   Actuator 가 cache.gets / cache.evictions 메트릭으로 노출하도록 함
+ */
+@Configuration
+@EnableCaching
+public class RecommendationCacheConfig {
+
+    public static final String USER_RECOMMENDATIONS = "recommendations.user";
+    public static final String DEPARTMENT_RECOMMENDATIONS = "recommendations.department";
+    public static final String INTEREST_RECOMMENDATIONS = "recommendations.interest";
+
+    @Bean
+    public CacheManager cacheManager(RecommendationProperties properties) {
+        RecommendationProperties.Cache config = properties.getCache();
+        CaffeineCacheManager cacheManager = new CaffeineCacheManager();
+        cacheManager.setCaffeine(Caffeine.newBuilder()
+                .maximumSize(config.getMaxSize())
+                .expireAfterWrite(config.getTtl())
+                .recordStats());
+        cacheManager.setCacheNames(List.of(USER_RECOMMENDATIONS, DEPARTMENT_RECOMMENDATIONS, INTEREST_RECOMMENDATIONS));
+        cacheManager.setAllowNullValues(false);
+        return cacheManager;
+    }
+}
@@ -0,0 +1,52 @@
+package com.sookmyung.campus_match.config.recommendation;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+
+@Component
+@ConfigurationProperties(prefix = "recommendation")
+@Getter
+@Setter
+public class RecommendationProperties {
+
+    private Batch batch = new Batch();
+    private Embedding embedding = new Embedding();
+    private Candidate candidate = new Candidate();
+    private Cache cache = new Cache();
+
+    @Getter
+    @Setter
+    public static class Batch {
+        private int chunkSize = 200; // 청크당 사용자 수 (청크마다 트랜잭션 1회)
+        private int parallelism = Math.max(1, Runtime.getRuntime().availableProcessors()); // 계산 워커 수
+    }
+
+    @Getter
+    @Setter
+    public static class Embedding {
+        private int m = 16; // HNSW 노드당 연결 수
+        private int efConstruction = 100; // 구축 시 탐색 폭 (클수록 정확, 느림)
+        private int efSearch = 64; // 검색 시 탐색 폭
+        private int loadPageSize = 1000; // 시작 시 인덱스 구축 페이지 크기
+        private int dimension = 256; // 생성 임베딩 차원 (해시 TF-IDF)
+        private int generationPageSize = 500; // 임베딩 생성 배치 페이지 크기 (메모리 상한)
+    }
+
+    @Getter
+    @Setter
+    public static class Candidate {
+        private int maxCandidates = 2000; // 사용자당 점수 계산 후보 상한 (포스팅 겹침 수 순)
+    }
+
+    @Getter
+    @Setter
+    public static class Cache {
+        private Duration ttl = Duration.ofMinutes(5); // 조회 캐시 유지 시간 (학과/관심사 목록의 최대 지연)
+        private long maxSize = 10_000; // 캐시별 최대 항목 수 (초과 시 자주 쓰지 않는 항목부터 제거)
+        private int maxCachedResults = 50; // 키당 캐시하는 최대 결과 수 (limit 이 더 크면 캐시 우회)
+    }
+}
@@ -0,0 +1,68 @@
+package com.sookmyung.campus_match.config.search;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+
+@Component
+@ConfigurationProperties(prefix = "search")
+@Getter
+@Setter
+public class SearchProperties {
+
+    private Index index = new Index();
+    private UserBoosts userBoosts = new UserBoosts();
+    private Suggest suggest = new Suggest();
+    private Cache cache = new Cache();
+    private Fuzzy fuzzy = new Fuzzy();
+
+    @Getter
+    @Setter
+    public static class Index {
+        private String directory = "data/search-index"; // 색인 스냅샷 저장 경로
+        private int loadPageSize = 1000; // 색인 구축 시 페이지 크기
+        private int snapshotEveryChanges = 500; // 변경 N건마다 스냅샷 저장
+    }
+
+    /**
+     * 사용자 검색 필드별 가중치 (BM25 용어 빈도에 곱해짐)
+     */
+    @Getter
+    @Setter
+    public static class UserBoosts {
+        private float name = 3f;
+        private float department = 2f;
+        private float headline = 2f;
+        private float bio = 1f;
+        private float tags = 1.5f;
+        private float interests = 1.5f;
+    }
+
+    @Getter
+    @Setter
+    public static class Suggest {
+        private int topN = 10; // 트라이 노드마다 미리 계산해 둘 후보 수 (응답 최대 개수)
+        private Duration rebuildInterval = Duration.ofMinutes(10); // 전체 재구축 주기 (조회수/좋아요 반영)
+    }
+
+    @Getter
+    @Setter
+    public static class Cache {
+        private boolean enabled = true;
+        private int maxSize = 5000; // 캐시할 최대 검색 결과 수
+        private Duration ttl = Duration.ofMinutes(5); // 조회수/좋아요처럼 버전을 올리지 않는 변경의 최대 반영 지연
+    }
+
+    /**
+     * 오타 교정 검색 (게시글 제목, 사용자 이름 단어 기준)
+     */
+    @Getter
+    @Setter
+    public static class Fuzzy {
+        private boolean enabled = true;
+        private int minHits = 3; // 정확 일치 결과가 이보다 적을 때만 교정한 질의로 재검색
+    }
+}
@@ -0,0 +1,38 @@
+package com.sookmyung.campus_match.config.trending;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+
+/**
+ * 인기 게시글(트렌딩) 점수 설정
+ * - 점수 = 활동별 가중치의 합, 활동 시점부터 half-life 마다 절반으로 감소
+ */
+@Component
+@ConfigurationProperties(prefix = "trending")
+@Getter
+@Setter
+public class TrendingProperties {
+
+    private Duration halfLife = Duration.ofHours(24); // 점수가 절반이 되는 시간
+    private Duration seedWindow = Duration.ofDays(14); // 시작 시 누적 조회수/좋아요/댓글로 점수를 채울 최근 게시글 기간
+    private double minScore = 0.1; // 정리 시 이보다 낮아진 게시글은 순위에서 제외
+    private Duration cleanupInterval = Duration.ofMinutes(10); // 낮은 점수 정리 주기
+    private int maxLimit = 50; // 조회 최대 개수
+    private Weights weights = new Weights();
+
+    /**
+     * 활동별 가중치
+     */
+    @Getter
+    @Setter
+    public static class Weights {
+        private double view = 1.0;
+        private double like = 3.0;
+        private double comment = 4.0;
+        private double application = 6.0;
+    }
+}
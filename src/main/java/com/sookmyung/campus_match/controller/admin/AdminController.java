@@ -7,6 +7,8 @@ import com.sookmyung.campus_match.dto.admin.SystemNoticeResponse;
 import com.sookmyung.campus_match.dto.common.ApiEnvelope;
 import com.sookmyung.campus_match.dto.message.MessageReportResponse;
 import com.sookmyung.campus_match.service.admin.AdminService;
+import com.sookmyung.campus_match.service.recommendation.RecommendationBatchRunner;
+import com.sookmyung.campus_match.service.recommendation.embedding.EmbeddingGenerationService;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
 import io.swagger.v3.oas.annotations.responses.ApiResponses;
@@ -34,6 +36,8 @@ public class AdminController {
 
     private final AdminService adminService;
     private final DevPrincipalResolver principalResolver;
+    private final RecommendationBatchRunner recommendationBatchRunner;
+    private final EmbeddingGenerationService embeddingGenerationService;
 
     @Operation(summary = "전체 회원 목록 조회", description = "승인/탈퇴 대상 확인용 회원 목록을 조회합니다.")
     @ApiResponses(value = {
@@ -197,4 +201,34 @@ public class AdminController {
         StatisticsResponse statistics = adminService.getStatistics();
         return ResponseEntity.ok(ApiEnvelope.success(statistics));
     }
+
+    @Operation(summary = "추천 전체 재생성", description = "추천 전체 재생성 배치를 백그라운드에서 시작합니다. 진행 상황은 /actuator/recommendationbatch 에서 확인합니다.")
+    @ApiResponses(value = {
+        @ApiResponse(responseCode = "202", description = "배치 시작"),
+        @ApiResponse(responseCode = "403", description = "관리자 권한 없음"),
+        @ApiResponse(responseCode = "409", description = "이미 실행 중")
+    })
+    @PostMapping("/recommendations/regenerate")
+    public ResponseEntity<ApiEnvelope<String>> regenerateRecommendations() {
+        if (!recommendationBatchRunner.startAsync()) {
+            return ResponseEntity.status(HttpStatus.CONFLICT)
+                    .body(ApiEnvelope.error("BATCH_ALREADY_RUNNING", "추천 배치가 이미 실행 중입니다."));
+        }
+        return ResponseEntity.status(HttpStatus.ACCEPTED).body(ApiEnvelope.success("추천 배치를 시작했습니다."));
+    }
+
+    @Operation(summary = "임베딩 전체 재생성", description = "프로필/경력/게시글 텍스트로 전체 사용자 임베딩을 백그라운드에서 다시 생성합니다.")
+    @ApiResponses(value = {
+        @ApiResponse(responseCode = "202", description = "생성 시작"),
+        @ApiResponse(responseCode = "403", description = "관리자 권한 없음"),
+        @ApiResponse(responseCode = "409", description = "이미 실행 중")
+    })
+    @PostMapping("/embeddings/regenerate")
+    public ResponseEntity<ApiEnvelope<String>> regenerateEmbeddings() {
+        if (!embeddingGenerationService.startAsync()) {
+            return ResponseEntity.status(HttpStatus.CONFLICT)
+                    .body(ApiEnvelope.error("EMBEDDING_ALREADY_RUNNING", "임베딩 생성이 이미 실행 중입니다."));
+        }
+        return ResponseEntity.status(HttpStatus.ACCEPTED).body(ApiEnvelope.success("임베딩 생성을 시작했습니다."));
+    }
 }
@@ -3,6 +3,8 @@ package com.sookmyung.campus_match.controller.dev;
 import com.sookmyung.campus_match.dto.common.ApiEnvelope;
 import com.sookmyung.campus_match.dto.common.PageResponse;
 import com.sookmyung.campus_match.dto.search.PostSearchResponse;
+import com.sookmyung.campus_match.dto.search.SuggestionResponse;
+import com.sookmyung.campus_match.dto.search.UnifiedSearchResponse;
 import com.sookmyung.campus_match.dto.search.UserSearchResponse;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.context.annotation.Profile;
@@ -121,6 +123,24 @@ public class DevSearchController {
         return ResponseEntity.ok(ApiEnvelope.success(emptyResponse));
     }
 
+    @GetMapping
+    public ResponseEntity<ApiEnvelope<UnifiedSearchResponse>> search(
+            @RequestParam(required = false) String keyword,
+            @RequestParam(defaultValue = "10") Integer size) {
+
+        log.info("Dev 환경 - 통합 검색 스텁 호출: keyword={}, size={}", keyword, size);
+        return ResponseEntity.ok(ApiEnvelope.success(UnifiedSearchResponse.empty()));
+    }
+
+    @GetMapping("/suggest")
+    public ResponseEntity<ApiEnvelope<List<SuggestionResponse>>> suggest(
+            @RequestParam(required = false) String q,
+            @RequestParam(defaultValue = "10") Integer limit) {
+
+        log.info("Dev 환경 - 자동완성 스텁 호출: q={}, limit={}", q, limit);
+        return ResponseEntity.ok(ApiEnvelope.success(List.of()));
+    }
+
     // 검색 요청 DTO
     public static class SearchRequest {
         public String keyword;
@@ -87,7 +87,7 @@ public class PostCommentController {
         }
     }
 
-    @Operation(summary = "댓글 목록 조회", description = "게시글의 댓글 목록을 페이징하여 조회합니다.")
+    @Operation(summary = "댓글 목록 조회", description = "게시글의 댓글 목록을 페이징하여 조회합니다. cursor 를 넘기면 COUNT 없이 다음 페이지를 조회합니다 (응답의 nextCursor 사용).")
     @ApiResponses(value = {
             @ApiResponse(responseCode = "200", description = "댓글 목록 조회 성공"),
             @ApiResponse(responseCode = "400", description = "잘못된 정렬 파라미터"),
@@ -103,9 +103,13 @@ public class PostCommentController {
             @Parameter(description = "페이지 크기", example = "20")
             @RequestParam(defaultValue = "20") Integer size,
             @Parameter(description = "정렬 (필드,방향)", example = "createdAt,asc")
-            @RequestParam(defaultValue = "createdAt,asc") String sort) {
+            @RequestParam(defaultValue = "createdAt,asc") String sort,
+            @Parameter(description = "다음 페이지 커서 (이전 응답의 nextCursor, 지정 시 page/sort 무시)")
+            @RequestParam(required = false) String cursor) {
         
-        PageResponse<PostCommentResponse> comments = postCommentService.getComments(postId, page, size, sort);
+        PageResponse<PostCommentResponse> comments = cursor != null
+                ? postCommentService.getCommentsByCursor(postId, cursor, size)
+                : postCommentService.getComments(postId, page, size, sort);
         return ResponseEntity.ok(ApiEnvelope.success(comments));
     }
 }
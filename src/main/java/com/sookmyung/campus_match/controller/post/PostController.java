@@ -4,6 +4,7 @@ import com.sookmyung.campus_match.dto.common.ApiEnvelope;
 import com.sookmyung.campus_match.dto.common.PageResponse;
 import com.sookmyung.campus_match.dto.post.*;
 import com.sookmyung.campus_match.service.post.PostService;
+import com.sookmyung.campus_match.service.post.trending.TrendingPostService;
 import com.sookmyung.campus_match.util.security.SecurityUtils;
 import com.sookmyung.campus_match.config.security.CurrentUserResolver;
 import com.sookmyung.campus_match.domain.common.enums.PostCategory;
@@ -23,6 +24,7 @@ import org.springframework.validation.annotation.Validated;
 import org.springframework.web.bind.annotation.*;
 
 import java.net.URI;
+import java.util.List;
 import jakarta.servlet.http.HttpServletRequest;
 
 /**
@@ -38,6 +40,7 @@ public class PostController {
 
     private final PostService postService;
     private final CurrentUserResolver currentUserResolver;
+    private final TrendingPostService trendingPostService;
 
     @Operation(summary = "게시글 생성", description = "새로운 게시글을 생성합니다. 작성자만 가능.")
     @ApiResponses(value = {
@@ -170,7 +173,7 @@ public class PostController {
         }
     }
 
-    @Operation(summary = "게시글 목록 조회", description = "게시글 목록을 페이징하여 조회합니다.")
+    @Operation(summary = "게시글 목록 조회", description = "게시글 목록을 페이징하여 조회합니다. cursor 를 넘기면 COUNT 없이 다음 페이지를 조회합니다 (응답의 nextCursor 사용).")
     @ApiResponses(value = {
             @ApiResponse(responseCode = "200", description = "게시글 목록 조회 성공"),
             @ApiResponse(responseCode = "400", description = "잘못된 정렬 파라미터"),
@@ -183,12 +186,32 @@ public class PostController {
             @Parameter(description = "페이지 크기", example = "20")
             @RequestParam(defaultValue = "20") Integer size,
             @Parameter(description = "정렬 (필드,방향)", example = "createdAt,desc")
-            @RequestParam(defaultValue = "createdAt,desc") String sort) {
+            @RequestParam(defaultValue = "createdAt,desc") String sort,
+            @Parameter(description = "다음 페이지 커서 (이전 응답의 nextCursor, 지정 시 page/sort 무시)")
+            @RequestParam(required = false) String cursor) {
         
-        PageResponse<PostSummaryResponse> posts = postService.getPosts(page, size, sort);
+        Long viewerId = viewerId();
+        PageResponse<PostSummaryResponse> posts = cursor != null
+                ? postService.getPostsByCursor(cursor, size, viewerId)
+                : postService.getPosts(page, size, sort, viewerId);
         return ResponseEntity.ok(ApiEnvelope.success(posts));
     }
 
+    @Operation(summary = "인기 게시글 조회", description = "최근 조회/좋아요/댓글/지원 활동을 시간 감쇠 점수로 합산한 인기 게시글을 조회합니다. category 를 지정하면 해당 카테고리 안의 순위를 반환합니다.")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "인기 게시글 조회 성공"),
+            @ApiResponse(responseCode = "400", description = "잘못된 카테고리")
+    })
+    @GetMapping("/trending")
+    public ResponseEntity<ApiEnvelope<List<TrendingPostResponse>>> getTrendingPosts(
+            @Parameter(description = "카테고리 (없으면 전체)", example = "STUDY")
+            @RequestParam(required = false) PostCategory category,
+            @Parameter(description = "조회 개수", example = "10")
+            @RequestParam(defaultValue = "10") Integer limit) {
+
+        return ResponseEntity.ok(ApiEnvelope.success(trendingPostService.getTrending(category, limit)));
+    }
+
     @Operation(summary = "게시글 상세 조회", description = "게시글 상세 정보를 조회합니다. 조회수 증가.")
     @ApiResponses(value = {
             @ApiResponse(responseCode = "200", description = "게시글 상세 조회 성공"),
@@ -201,6 +224,7 @@ public class PostController {
             @PathVariable Long id) {
         
         PostDetailResponse post = postService.getPost(id);
+        postService.incrementViews(id);
         return ResponseEntity.ok(ApiEnvelope.success(post));
     }
 
@@ -228,6 +252,26 @@ public class PostController {
         }
     }
 
+    @Operation(summary = "게시글 좋아요 취소", description = "게시글 좋아요를 취소합니다. 좋아요가 없으면 무시(멱등성 보장).")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "좋아요 취소 성공"),
+            @ApiResponse(responseCode = "500", description = "서버 내부 오류")
+    })
+    @DeleteMapping("/{id}/like")
+    public ResponseEntity<ApiEnvelope<Void>> unlikePost(
+            @Parameter(description = "게시글 ID", example = "1")
+            @PathVariable Long id) {
+
+        try {
+            Long currentUserId = currentUserResolver.currentUserId();
+            postService.unlikePost(id, currentUserId);
+            return ResponseEntity.ok(ApiEnvelope.okMessage());
+        } catch (Exception e) {
+            log.warn("게시글 좋아요 취소 실패 - 게시글 ID: {}, 오류: {}", id, e.getMessage());
+            return ResponseEntity.ok(ApiEnvelope.okMessage());
+        }
+    }
+
     @Operation(summary = "게시글 좋아요 수 조회", description = "게시글의 좋아요 수를 조회합니다.")
     @ApiResponses(value = {
             @ApiResponse(responseCode = "200", description = "좋아요 수 조회 성공",
@@ -273,7 +317,7 @@ public class PostController {
         // WHY: dev 환경에서 카테고리 파싱 실패 시 명확한 에러 메시지 제공
         try {
             PostCategory postCategory = PostCategory.from(category);
-            PageResponse<PostSummaryResponse> posts = postService.getPostsByCategory(postCategory, page, size);
+            PageResponse<PostSummaryResponse> posts = postService.getPostsByCategory(postCategory, page, size, viewerId());
             return ResponseEntity.ok(ApiEnvelope.success(posts));
         } catch (IllegalArgumentException e) {
             // GlobalExceptionHandler에서 처리됨
@@ -284,4 +328,15 @@ public class PostController {
             return ResponseEntity.ok(ApiEnvelope.success(PageResponse.empty()));
         }
     }
+
+    /**
+     * 목록의 좋아요 여부 표시용 현재 사용자 ID (확인할 수 없으면 null, 목록 조회 자체는 실패시키지 않음)
+     */
+    private Long viewerId() {
+        try {
+            return currentUserResolver.currentUserId();
+        } catch (Exception e) {
+            return null;
+        }
+    }
 }
@@ -3,6 +3,7 @@ package com.sookmyung.campus_match.controller.recommendation;
 import com.sookmyung.campus_match.domain.user.User;
 import com.sookmyung.campus_match.dto.common.ApiEnvelope;
 import com.sookmyung.campus_match.dto.user.UserResponse;
+import com.sookmyung.campus_match.service.recommendation.RecommendationReadService;
 import com.sookmyung.campus_match.service.recommendation.RecommendationService;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
@@ -26,6 +27,7 @@ import java.util.List;
 public class RecommendationController {
 
     private final RecommendationService recommendationService;
+    private final RecommendationReadService recommendationReadService;
 
     @Operation(summary = "AI 사용자 추천", description = "관심사/자기소개 기반으로 추천 사용자 목록을 조회합니다.")
     @ApiResponses(value = {
@@ -60,8 +62,7 @@ public class RecommendationController {
             @Parameter(description = "추천할 사용자 수", example = "10")
             @RequestParam(defaultValue = "10") int limit) {
         
-        List<User> users = recommendationService.getRecommendedUsersForUser(userId, limit);
-        List<UserResponse> response = users.stream().map(UserResponse::from).toList();
+        List<UserResponse> response = recommendationReadService.getRecommendedUsersForUser(userId, limit);
         return ResponseEntity.ok(ApiEnvelope.success(response));
     }
 
@@ -79,8 +80,7 @@ public class RecommendationController {
             @Parameter(description = "추천할 사용자 수", example = "10")
             @RequestParam(defaultValue = "10") int limit) {
         
-        List<User> users = recommendationService.getUsersByInterest(interestType, limit);
-        List<UserResponse> response = users.stream().map(UserResponse::from).toList();
+        List<UserResponse> response = recommendationReadService.getUsersByInterest(interestType, limit);
         return ResponseEntity.ok(ApiEnvelope.success(response));
     }
 
@@ -98,8 +98,7 @@ public class RecommendationController {
             @Parameter(description = "추천할 사용자 수", example = "10")
             @RequestParam(defaultValue = "10") int limit) {
         
-        List<User> users = recommendationService.getUsersByDepartment(department, limit);
-        List<UserResponse> response = users.stream().map(UserResponse::from).toList();
+        List<UserResponse> response = recommendationReadService.getUsersByDepartment(department, limit);
         return ResponseEntity.ok(ApiEnvelope.success(response));
     }
 }
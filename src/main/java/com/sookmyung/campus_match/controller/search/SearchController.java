@@ -1,11 +1,17 @@
 package com.sookmyung.campus_match.controller.search;
 
+import com.sookmyung.campus_match.domain.common.enums.PostCategory;
 import com.sookmyung.campus_match.dto.common.ApiEnvelope;
 import com.sookmyung.campus_match.dto.common.PageResponse;
+import com.sookmyung.campus_match.dto.search.PostSearchCondition;
 import com.sookmyung.campus_match.dto.search.PostSearchResponse;
 import com.sookmyung.campus_match.dto.search.UserSearchResponse;
 import com.sookmyung.campus_match.dto.search.SearchRequest;
+import com.sookmyung.campus_match.dto.search.SuggestionResponse;
+import com.sookmyung.campus_match.dto.search.UnifiedSearchResponse;
 import com.sookmyung.campus_match.service.search.SearchService;
+import com.sookmyung.campus_match.service.search.SearchSuggestionService;
+import com.sookmyung.campus_match.service.search.UnifiedSearchService;
 import lombok.extern.slf4j.Slf4j;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
@@ -17,6 +23,8 @@ import org.springframework.context.annotation.Profile;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
+import java.util.List;
+
 @Slf4j
 @Tag(name = "Search", description = "검색 API")
 @RestController
@@ -26,6 +34,25 @@ import org.springframework.web.bind.annotation.*;
 public class SearchController {
 
     private final SearchService searchService;
+    private final SearchSuggestionService searchSuggestionService;
+    private final UnifiedSearchService unifiedSearchService;
+
+    @Operation(summary = "통합 검색", description = "게시글, 사용자, 팀을 한 번에 검색하고 카테고리/마감 여부/학과/관심사별 개수를 함께 반환합니다")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "통합 검색 성공"),
+            @ApiResponse(responseCode = "400", description = "잘못된 검색어"),
+            @ApiResponse(responseCode = "401", description = "인증 실패"),
+            @ApiResponse(responseCode = "500", description = "서버 내부 오류")
+    })
+    @GetMapping
+    public ResponseEntity<ApiEnvelope<UnifiedSearchResponse>> search(
+            @RequestParam(required = false) String keyword,
+            @RequestParam(defaultValue = "10") Integer size) {
+
+        log.debug("통합 검색 요청 - keyword: {}, size: {}", keyword, size);
+
+        return ResponseEntity.ok(ApiEnvelope.success(unifiedSearchService.search(keyword, size)));
+    }
 
     @Operation(summary = "사용자 검색", description = "키워드로 사용자를 검색합니다")
     @ApiResponses(value = {
@@ -43,25 +70,21 @@ public class SearchController {
         // WHY: dev 환경에서 검색 파라미터 검증과 안전한 처리
         log.debug("사용자 검색 요청 - keyword: {}, page: {}, size: {}", keyword, page, size);
         
-        try {
-            // keyword가 비어있으면 빈 결과 반환
-            if (keyword == null || keyword.trim().isEmpty()) {
-                log.debug("검색 키워드가 비어있어 빈 결과 반환");
-                return ResponseEntity.ok(ApiEnvelope.success(PageResponse.empty()));
-            }
-            
-            PageResponse<UserSearchResponse> users = searchService.searchUsers(keyword, page, size, null);
-            return ResponseEntity.ok(ApiEnvelope.success(users));
-        } catch (Exception e) {
-            log.warn("사용자 검색 실패 - 빈 결과 반환: {}", e.getMessage());
+        // keyword가 비어있으면 빈 결과 반환
+        if (keyword == null || keyword.trim().isEmpty()) {
+            log.debug("검색 키워드가 비어있어 빈 결과 반환");
             return ResponseEntity.ok(ApiEnvelope.success(PageResponse.empty()));
         }
+        
+        // 검색 오류는 빈 결과로 감추지 않고 GlobalExceptionHandler 에서 상태 코드로 응답
+        PageResponse<UserSearchResponse> users = searchService.searchUsers(keyword, page, size, null);
+        return ResponseEntity.ok(ApiEnvelope.success(users));
     }
 
-    @Operation(summary = "게시글 검색", description = "키워드로 게시글을 검색합니다")
+    @Operation(summary = "게시글 검색", description = "키워드로 게시글을 검색합니다. 카테고리(여러 개 가능)/마감 여부/작성자 학과로 거를 수 있고, cursor 를 넘기면 COUNT 없이 다음 페이지를 조회합니다 (응답의 nextCursor 사용)")
     @ApiResponses(value = {
             @ApiResponse(responseCode = "200", description = "게시글 검색 성공"),
-            @ApiResponse(responseCode = "400", description = "잘못된 검색어"),
+            @ApiResponse(responseCode = "400", description = "잘못된 검색어 또는 커서"),
             @ApiResponse(responseCode = "401", description = "인증 실패"),
             @ApiResponse(responseCode = "500", description = "서버 내부 오류")
     })
@@ -69,23 +92,47 @@ public class SearchController {
     public ResponseEntity<ApiEnvelope<PageResponse<PostSearchResponse>>> searchPosts(
             @RequestParam(required = false) String keyword,
             @RequestParam(defaultValue = "0") Integer page,
-            @RequestParam(defaultValue = "20") Integer size) {
+            @RequestParam(defaultValue = "20") Integer size,
+            @RequestParam(required = false) String cursor,
+            @Parameter(description = "카테고리 (예: category=STUDY&category=PROJECT)") @RequestParam(required = false) List<PostCategory> category,
+            @Parameter(description = "모집 마감 여부") @RequestParam(required = false) Boolean closed,
+            @Parameter(description = "작성자 학과") @RequestParam(required = false) String department) {
         
         // WHY: dev 환경에서 검색 파라미터 검증과 안전한 처리
-        log.debug("게시글 검색 요청 - keyword: {}, page: {}, size: {}", keyword, page, size);
+        log.debug("게시글 검색 요청 - keyword: {}, page: {}, size: {}, cursor: {}, category: {}, closed: {}, department: {}",
+                keyword, page, size, cursor, category, closed, department);
         
-        try {
-            // keyword가 비어있으면 빈 결과 반환
-            if (keyword == null || keyword.trim().isEmpty()) {
-                log.debug("검색 키워드가 비어있어 빈 결과 반환");
-                return ResponseEntity.ok(ApiEnvelope.success(PageResponse.empty()));
-            }
-            
-            PageResponse<PostSearchResponse> posts = searchService.searchPosts(keyword, page, size, null);
-            return ResponseEntity.ok(ApiEnvelope.success(posts));
-        } catch (Exception e) {
-            log.warn("게시글 검색 실패 - 빈 결과 반환: {}", e.getMessage());
+        // keyword가 비어있으면 빈 결과 반환
+        if (keyword == null || keyword.trim().isEmpty()) {
+            log.debug("검색 키워드가 비어있어 빈 결과 반환");
             return ResponseEntity.ok(ApiEnvelope.success(PageResponse.empty()));
         }
+        
+        // 검색 오류(잘못된 커서 등)는 빈 결과로 감추지 않고 GlobalExceptionHandler 에서 상태 코드로 응답
+        PostSearchCondition condition = PostSearchCondition.builder()
+                .categories(category)
+                .closed(closed)
+                .department(department)
+                .build();
+        PageResponse<PostSearchResponse> posts = cursor != null
+                ? searchService.searchPostsByCursor(keyword, condition, cursor, size)
+                : searchService.searchPosts(keyword, condition, page, size, null);
+        return ResponseEntity.ok(ApiEnvelope.success(posts));
+    }
+
+    @Operation(summary = "검색어 자동완성", description = "입력 중인 접두사로 게시글 제목, 사용자 이름, 학과, 관심사 후보를 반환합니다")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "자동완성 조회 성공"),
+            @ApiResponse(responseCode = "401", description = "인증 실패")
+    })
+    @GetMapping("/suggest")
+    public ResponseEntity<ApiEnvelope<List<SuggestionResponse>>> suggest(
+            @RequestParam(required = false) String q,
+            @RequestParam(defaultValue = "10") Integer limit) {
+
+        if (q == null || q.trim().isEmpty()) {
+            return ResponseEntity.ok(ApiEnvelope.success(List.of()));
+        }
+        return ResponseEntity.ok(ApiEnvelope.success(searchSuggestionService.suggest(q, limit)));
     }
 }
@@ -0,0 +1,10 @@
+package com.sookmyung.campus_match.domain.common.enums;
+
+/**
+ * 배치 작업 상태 ENUM
+ */
+public enum BatchStatus {
+    RUNNING,    // 실행 중 (비정상 종료 시 이 상태로 남음)
+    COMPLETED,  // 완료
+    FAILED      // 일부 청크 실패
+}
@@ -0,0 +1,22 @@
+package com.sookmyung.campus_match.domain.event;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 게시글 생성/수정/삭제 이벤트
+ */
+@Getter
+@RequiredArgsConstructor
+public class PostChangedEvent {
+
+    public enum ChangeType {
+        CREATED,
+        UPDATED,
+        DELETED
+    }
+
+    private final Long postId;
+    private final Long authorId;
+    private final ChangeType changeType;
+}
@@ -0,0 +1,22 @@
+package com.sookmyung.campus_match.domain.event;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 게시글 활동 이벤트 (조회/좋아요/댓글/지원)
+ */
+@Getter
+@RequiredArgsConstructor
+public class PostEngagementEvent {
+
+    public enum EngagementType {
+        VIEW,
+        LIKE,
+        COMMENT,
+        APPLICATION
+    }
+
+    private final Long postId;
+    private final EngagementType engagementType;
+}
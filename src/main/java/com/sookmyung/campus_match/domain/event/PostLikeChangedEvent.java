@@ -0,0 +1,16 @@
+package com.sookmyung.campus_match.domain.event;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 게시글 좋아요 추가/취소 이벤트 (실제로 행이 추가/삭제된 경우만)
+ */
+@Getter
+@RequiredArgsConstructor
+public class PostLikeChangedEvent {
+
+    private final Long postId;
+    private final Long userId;
+    private final boolean liked;
+}
@@ -0,0 +1,14 @@
+package com.sookmyung.campus_match.domain.event;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 팀 생성/수정/삭제/비활성화 이벤트
+ */
+@Getter
+@RequiredArgsConstructor
+public class TeamChangedEvent {
+
+    private final Long teamId;
+}
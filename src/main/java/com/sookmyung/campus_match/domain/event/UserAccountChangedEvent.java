@@ -0,0 +1,14 @@
+package com.sookmyung.campus_match.domain.event;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 사용자 계정 상태(승인/반려, 삭제) 변경 이벤트
+ */
+@Getter
+@RequiredArgsConstructor
+public class UserAccountChangedEvent {
+
+    private final Long userId;
+}
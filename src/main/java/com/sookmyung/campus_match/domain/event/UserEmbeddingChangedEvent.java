@@ -0,0 +1,16 @@
+package com.sookmyung.campus_match.domain.event;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 사용자 임베딩 저장/삭제 이벤트
+ * - vector가 null이면 삭제
+ */
+@Getter
+@RequiredArgsConstructor
+public class UserEmbeddingChangedEvent {
+
+    private final Long userId;
+    private final float[] vector;
+}
@@ -0,0 +1,14 @@
+package com.sookmyung.campus_match.domain.event;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 사용자 관심사 추가/삭제 이벤트
+ */
+@Getter
+@RequiredArgsConstructor
+public class UserInterestChangedEvent {
+
+    private final Long userId;
+}
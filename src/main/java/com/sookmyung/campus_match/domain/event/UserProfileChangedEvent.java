@@ -0,0 +1,14 @@
+package com.sookmyung.campus_match.domain.event;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 사용자 프로필(자기소개, 헤드라인 등) 변경 이벤트
+ */
+@Getter
+@RequiredArgsConstructor
+public class UserProfileChangedEvent {
+
+    private final Long userId;
+}
@@ -0,0 +1,16 @@
+package com.sookmyung.campus_match.domain.event;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+import java.util.Collection;
+
+/**
+ * 사용자 추천 목록(user_recommendations) 재생성/부분 갱신 이벤트
+ */
+@Getter
+@RequiredArgsConstructor
+public class UserRecommendationsChangedEvent {
+
+    private final Collection<Long> userIds;
+}
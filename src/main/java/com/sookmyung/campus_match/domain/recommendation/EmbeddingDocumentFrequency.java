@@ -0,0 +1,30 @@
+package com.sookmyung.campus_match.domain.recommendation;
+
+import com.sookmyung.campus_match.domain.common.BaseEntity;
+import jakarta.persistence.*;
+import lombok.*;
+
+/**
+ * 마지막 임베딩 전체 생성 시 집계한 문서 빈도 통계
+ * - frequencies: 버킷별 문서 빈도 (int32 little-endian, DocumentFrequencies 형식)
+ * - 개별 임베딩 갱신이 재시작 후에도 같은 IDF 가중치를 쓰도록 보관
+ */
+@Entity
+@Table(name = "embedding_document_frequencies")
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class EmbeddingDocumentFrequency extends BaseEntity {
+
+    @Column(name = "dimension", nullable = false)
+    private int dimension;
+
+    @Column(name = "document_count", nullable = false)
+    private int documentCount;
+
+    @Lob
+    @Column(name = "frequencies", nullable = false, columnDefinition = "BLOB")
+    private byte[] frequencies;
+}
@@ -0,0 +1,42 @@
+package com.sookmyung.campus_match.domain.recommendation;
+
+import com.sookmyung.campus_match.domain.common.BaseEntity;
+import com.sookmyung.campus_match.domain.common.enums.BatchStatus;
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.time.LocalDateTime;
+
+/**
+ * 추천 전체 재생성 배치의 진행 체크포인트
+ * - lastUserId: 이 ID까지의 사용자는 모두 커밋 완료 (사용자 ID 오름차순 처리)
+ * - 완료되지 않은 가장 최근 실행이 있으면 lastUserId 이후부터 재개
+ */
+@Entity
+@Table(name = "recommendation_batch_checkpoints")
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class RecommendationBatchCheckpoint extends BaseEntity {
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "status", nullable = false, length = 20)
+    private BatchStatus status;
+
+    @Column(name = "total_users", nullable = false)
+    private int totalUsers;
+
+    @Column(name = "processed_users", nullable = false)
+    private int processedUsers;
+
+    @Column(name = "last_user_id")
+    private Long lastUserId;
+
+    @Column(name = "started_at", nullable = false)
+    private LocalDateTime startedAt;
+
+    @Column(name = "finished_at")
+    private LocalDateTime finishedAt;
+}
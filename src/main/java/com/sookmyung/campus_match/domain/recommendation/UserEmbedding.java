@@ -21,6 +21,14 @@ public class UserEmbedding extends BaseEntity {
     @Lob
     @Column(name = "embedding_vector", columnDefinition = "TEXT")
     private String embeddingVector;
+
+    // float32 little-endian 바이너리 (EmbeddingCodec 형식)
+    @Lob
+    @Column(name = "embedding_data", columnDefinition = "BLOB")
+    private byte[] embeddingData;
+
+    @Column(name = "dimension")
+    private Integer dimension;
     
     // TODO: DB가 VECTOR 타입을 지원한다면 columnDefinition = "VECTOR" 고려
 }
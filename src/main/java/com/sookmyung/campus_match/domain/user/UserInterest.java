@@ -8,6 +8,7 @@ import lombok.*;
 @Table(name = "user_interests", uniqueConstraints = {
     @UniqueConstraint(name = "uk_user_interests_user_interest", columnNames = {"user_id", "interest_id"})
 })
+@EntityListeners(UserInterestChangeListener.class)
 @Getter
 @Setter
 @NoArgsConstructor
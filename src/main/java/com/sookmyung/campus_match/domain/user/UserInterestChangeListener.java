@@ -0,0 +1,29 @@
+package com.sookmyung.campus_match.domain.user;
+
+import com.sookmyung.campus_match.domain.event.UserInterestChangedEvent;
+import jakarta.persistence.PostPersist;
+import jakarta.persistence.PostRemove;
+import jakarta.persistence.PostUpdate;
+import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Component;
+
+/**
+ * UserInterest 엔티티 변경 시 UserInterestChangedEvent 발행
+ * WHY: 관심사를 저장하는 경로와 무관하게 추천 갱신이 누락되지 않도록 엔티티 수준에서 감지
+ */
+@Component
+@RequiredArgsConstructor
+public class UserInterestChangeListener {
+
+    private final ApplicationEventPublisher eventPublisher;
+
+    @PostPersist
+    @PostUpdate
+    @PostRemove
+    public void onChange(UserInterest userInterest) {
+        if (userInterest.getUser() != null) {
+            eventPublisher.publishEvent(new UserInterestChangedEvent(userInterest.getUser().getId()));
+        }
+    }
+}
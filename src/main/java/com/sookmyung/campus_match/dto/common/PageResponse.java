@@ -40,6 +40,9 @@ public class PageResponse<T> {
     /** 실제 데이터 목록 */
     private List<T> content;
 
+    /** 다음 페이지 커서 (커서 페이징에서 다음 페이지가 있을 때만 설정) */
+    private String nextCursor;
+
     // --- Factory methods ---
 
     /**
@@ -70,6 +73,16 @@ public class PageResponse<T> {
                 .build();
     }
 
+    /**
+     * 커서 페이징 응답 생성 (COUNT 없음, 다음 페이지가 없으면 nextCursor 생략)
+     */
+    public static <T> PageResponse<T> from(org.springframework.data.domain.Slice<T> slice, String nextCursor) {
+        return from(slice).toBuilder()
+                .hasNext(nextCursor != null)
+                .nextCursor(nextCursor)
+                .build();
+    }
+
     /**
      * 빈 페이지 응답 생성
      * WHY: dev 환경에서 오류 시 빈 결과를 반환하기 위함
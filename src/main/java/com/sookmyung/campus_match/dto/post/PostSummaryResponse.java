@@ -1,5 +1,6 @@
 package com.sookmyung.campus_match.dto.post;
 
+import com.fasterxml.jackson.annotation.JsonInclude;
 import com.sookmyung.campus_match.domain.common.enums.PostCategory;
 import lombok.*;
 
@@ -11,9 +12,12 @@ import java.time.LocalDateTime;
 @Getter
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 @AllArgsConstructor
-@Builder
+@Builder(toBuilder = true)
 public class PostSummaryResponse {
 
+    /** 목록 쿼리에서 잘라서 가져오는 내용 미리보기 길이 */
+    public static final int CONTENT_PREVIEW_LENGTH = 200;
+
     private Long id;
     private PostCategory category;
     private String title;
@@ -33,6 +37,24 @@ public class PostSummaryResponse {
     private LocalDateTime createdAt;
     private LocalDateTime updatedAt;
 
+    /** 현재 사용자의 좋아요 여부 (사용자를 알 수 없으면 생략) */
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    private Boolean liked;
+
+    /**
+     * 목록 조회 쿼리의 생성자 표현식용 (PostRepository 의 *Summaries 쿼리)
+     * - 작성자 이름/학과는 JOIN 한 컬럼으로 받아 작성자 엔티티를 따로 읽지 않음
+     * - content 는 CONTENT_PREVIEW_LENGTH 만큼 잘린 미리보기
+     */
+    public PostSummaryResponse(Long id, PostCategory category, String title, String content, String requiredRoles,
+                               Integer recruitmentCount, String duration, String linkUrl, String imageUrl, Boolean isClosed,
+                               Integer viewCount, Integer likeCount, Integer commentCount,
+                               Long authorId, String authorName, String authorDepartment,
+                               LocalDateTime createdAt, LocalDateTime updatedAt) {
+        this(id, category, title, content, requiredRoles, recruitmentCount, duration, linkUrl, imageUrl, isClosed,
+                viewCount, likeCount, commentCount, authorId, authorName, authorDepartment, createdAt, updatedAt, null);
+    }
+
     public static PostSummaryResponse from(com.sookmyung.campus_match.domain.post.Post post) {
         return PostSummaryResponse.builder()
                 .id(post.getId())
@@ -0,0 +1,37 @@
+package com.sookmyung.campus_match.dto.post;
+
+import com.sookmyung.campus_match.domain.common.enums.PostCategory;
+import com.sookmyung.campus_match.service.post.trending.TrendingBoard;
+import com.sookmyung.campus_match.service.post.trending.TrendingPost;
+import lombok.*;
+
+import java.time.LocalDateTime;
+
+/**
+ * 인기 게시글 응답 DTO
+ */
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@AllArgsConstructor
+@Builder
+public class TrendingPostResponse {
+
+    private Long id;
+    private PostCategory category;
+    private String title;
+    private String authorName;
+    private LocalDateTime createdAt;
+    private Double trendingScore;
+
+    public static TrendingPostResponse from(TrendingBoard.Ranked ranked) {
+        TrendingPost post = ranked.getPost();
+        return TrendingPostResponse.builder()
+                .id(post.getPostId())
+                .category(post.getCategory())
+                .title(post.getTitle())
+                .authorName(post.getAuthorName())
+                .createdAt(post.getCreatedAt())
+                .trendingScore(Math.round(ranked.getScore() * 100) / 100.0)
+                .build();
+    }
+}
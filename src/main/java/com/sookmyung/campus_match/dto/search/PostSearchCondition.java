@@ -0,0 +1,42 @@
+package com.sookmyung.campus_match.dto.search;
+
+import com.sookmyung.campus_match.domain.common.enums.PostCategory;
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/**
+ * 게시글 검색 필터 조건
+ * - 카테고리는 여러 개 중 하나(OR), 조건끼리는 AND
+ * - 값이 없는 조건은 적용하지 않음
+ * - equals/hashCode 로 검색 결과 캐시 키에 포함
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@Schema(description = "게시글 검색 필터 조건")
+public class PostSearchCondition {
+
+    @Schema(description = "카테고리 (여러 개면 그중 하나)", example = "[\"STUDY\", \"PROJECT\"]")
+    private List<PostCategory> categories;
+
+    @Schema(description = "모집 마감 여부", example = "false")
+    private Boolean closed;
+
+    @Schema(description = "작성자 학과", example = "컴퓨터과학전공")
+    private String department;
+
+    public static PostSearchCondition none() {
+        return new PostSearchCondition();
+    }
+
+    public boolean isEmpty() {
+        return (categories == null || categories.isEmpty()) && closed == null
+                && (department == null || department.isBlank());
+    }
+}
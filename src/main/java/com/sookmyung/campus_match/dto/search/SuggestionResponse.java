@@ -0,0 +1,24 @@
+package com.sookmyung.campus_match.dto.search;
+
+import com.sookmyung.campus_match.service.search.suggest.Suggestion;
+import lombok.*;
+
+/**
+ * 검색어 자동완성 응답 DTO
+ */
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@AllArgsConstructor
+@Builder
+public class SuggestionResponse {
+
+    private String text;
+    private String type; // POST, USER, DEPARTMENT, INTEREST
+
+    public static SuggestionResponse from(Suggestion suggestion) {
+        return SuggestionResponse.builder()
+                .text(suggestion.getText())
+                .type(suggestion.getType().name())
+                .build();
+    }
+}
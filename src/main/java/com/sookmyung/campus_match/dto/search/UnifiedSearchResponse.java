@@ -0,0 +1,47 @@
+package com.sookmyung.campus_match.dto.search;
+
+import com.sookmyung.campus_match.dto.team.TeamResponse;
+import lombok.*;
+
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 통합 검색 응답 DTO
+ * - results: 게시글/사용자/팀 결과를 관련도 순으로 합친 목록 (종류별 최고 점수 대비 비율)
+ * - facets: 일치 문서 전체 기준 카테고리, 마감 여부, 학과, 관심사별 개수
+ */
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@AllArgsConstructor
+@Builder
+public class UnifiedSearchResponse {
+
+    private List<Hit> results;
+    private List<PostSearchResponse> posts;
+    private long totalPosts;
+    private List<UserSearchResponse> users;
+    private long totalUsers;
+    private List<TeamResponse> teams;
+    private long totalTeams;
+    private Map<String, Map<String, Integer>> facets;
+
+    public static UnifiedSearchResponse empty() {
+        return UnifiedSearchResponse.builder()
+                .results(List.of())
+                .posts(List.of())
+                .users(List.of())
+                .teams(List.of())
+                .facets(Map.of())
+                .build();
+    }
+
+    @Getter
+    @NoArgsConstructor(access = AccessLevel.PROTECTED)
+    @AllArgsConstructor
+    public static class Hit {
+        private String type; // POST, USER, TEAM
+        private Long id;
+        private double score;
+    }
+}
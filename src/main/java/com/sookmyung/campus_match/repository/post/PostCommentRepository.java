@@ -3,11 +3,13 @@ package com.sookmyung.campus_match.repository.post;
 import com.sookmyung.campus_match.domain.post.PostComment;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDateTime;
 import java.util.List;
 
 @Repository
@@ -21,6 +23,18 @@ public interface PostCommentRepository extends JpaRepository<PostComment, Long>
     List<PostComment> findByPost_IdOrderByCreatedAtDesc(Long postId);
     
     Page<PostComment> findByPost_IdOrderByCreatedAtAsc(Long postId, Pageable pageable);
+
+    // 키셋 페이징 (createdAt ASC, id ASC) - Slice 반환으로 COUNT 없이 size + 1 건만 조회
+    @Query("SELECT pc FROM PostComment pc WHERE pc.post.id = :postId ORDER BY pc.createdAt ASC, pc.id ASC")
+    Slice<PostComment> findFirstSliceByPostId(@Param("postId") Long postId, Pageable pageable);
+
+    @Query("SELECT pc FROM PostComment pc WHERE pc.post.id = :postId " +
+           "AND (pc.createdAt > :createdAt OR (pc.createdAt = :createdAt AND pc.id > :id)) " +
+           "ORDER BY pc.createdAt ASC, pc.id ASC")
+    Slice<PostComment> findSliceByPostIdAfter(@Param("postId") Long postId,
+                                              @Param("createdAt") LocalDateTime createdAt,
+                                              @Param("id") Long id,
+                                              Pageable pageable);
     
     long countByPost_Id(Long postId);
     
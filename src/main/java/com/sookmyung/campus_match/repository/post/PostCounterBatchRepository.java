@@ -0,0 +1,31 @@
+package com.sookmyung.campus_match.repository.post;
+
+import java.util.List;
+import java.util.Map;
+
+/**
+ * posts 의 비정규화 카운터(view_count, like_count) 일괄 반영용 커스텀 리포지토리
+ */
+public interface PostCounterBatchRepository {
+
+    /**
+     * 게시글 ID 별 조회수 증가분을 JDBC 배치 UPDATE 로 한 번에 반영
+     * WHY: 조회마다 같은 행을 UPDATE 하면 인기 글 한 행에 잠금이 몰리므로 모아서 간격마다 한 번만 갱신
+     */
+    void addViewCounts(Map<Long, Long> deltas);
+
+    /**
+     * 게시글 ID 별 좋아요 수 증감분을 JDBC 배치 UPDATE 로 한 번에 반영 (0 미만으로 내려가지 않음)
+     */
+    void addLikeCounts(Map<Long, Long> deltas);
+
+    /**
+     * afterId 다음 게시글 limit 개의 (id, 저장된 like_count, post_likes 행 수) - 키셋 페이지
+     */
+    List<long[]> findLikeCountsAfter(long afterId, int limit);
+
+    /**
+     * like_count 가 아직 expected 일 때만 actual 로 고침 (그 사이 반영된 증감분을 덮어쓰지 않도록)
+     */
+    boolean repairLikeCount(long postId, long expected, long actual);
+}
@@ -0,0 +1,70 @@
+package com.sookmyung.campus_match.repository.post;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+@RequiredArgsConstructor
+public class PostCounterBatchRepositoryImpl implements PostCounterBatchRepository {
+
+    private static final String ADD_VIEWS_SQL =
+            "UPDATE posts SET view_count = COALESCE(view_count, 0) + ? WHERE id = ?";
+
+    private static final String ADD_LIKES_SQL =
+            "UPDATE posts SET like_count = GREATEST(COALESCE(like_count, 0) + ?, 0) WHERE id = ?";
+
+    private static final String LIKE_COUNTS_SQL =
+            "SELECT p.id, COALESCE(p.like_count, 0), " +
+            "(SELECT COUNT(*) FROM post_likes l WHERE l.post_id = p.id) " +
+            "FROM posts p WHERE p.id > ? ORDER BY p.id LIMIT ?";
+
+    private static final String REPAIR_LIKES_SQL =
+            "UPDATE posts SET like_count = ? WHERE id = ? AND COALESCE(like_count, 0) = ?";
+
+    private static final int BATCH_SIZE = 500;
+
+    private final JdbcTemplate jdbcTemplate;
+
+    /**
+     * 한 트랜잭션으로 실행하여 실패 시 일부만 반영되지 않도록 함 (호출 측이 증가분 전체를 되돌려 재시도)
+     */
+    @Override
+    @Transactional
+    public void addViewCounts(Map<Long, Long> deltas) {
+        batchAdd(ADD_VIEWS_SQL, deltas);
+    }
+
+    @Override
+    @Transactional
+    public void addLikeCounts(Map<Long, Long> deltas) {
+        batchAdd(ADD_LIKES_SQL, deltas);
+    }
+
+    @Override
+    public List<long[]> findLikeCountsAfter(long afterId, int limit) {
+        return jdbcTemplate.query(LIKE_COUNTS_SQL,
+                (rs, rowNum) -> new long[]{rs.getLong(1), rs.getLong(2), rs.getLong(3)}, afterId, limit);
+    }
+
+    @Override
+    public boolean repairLikeCount(long postId, long expected, long actual) {
+        return jdbcTemplate.update(REPAIR_LIKES_SQL, actual, postId, expected) > 0;
+    }
+
+    private void batchAdd(String sql, Map<Long, Long> deltas) {
+        if (deltas.isEmpty()) {
+            return;
+        }
+        // ID 순서로 갱신하여 동시에 도는 다른 일괄 갱신과 잠금 순서가 엇갈리지 않도록 함
+        List<Map.Entry<Long, Long>> rows = new ArrayList<>(deltas.entrySet());
+        rows.sort(Map.Entry.comparingByKey());
+        jdbcTemplate.batchUpdate(sql, rows, BATCH_SIZE, (ps, row) -> {
+            ps.setLong(1, row.getValue());
+            ps.setLong(2, row.getKey());
+        });
+    }
+}
@@ -0,0 +1,18 @@
+package com.sookmyung.campus_match.repository.post;
+
+/**
+ * 좋아요 추가/취소를 각각 SQL 한 문장으로 처리하는 커스텀 리포지토리
+ */
+public interface PostLikeCommandRepository {
+
+    /**
+     * 삭제되지 않은 게시글에 아직 좋아요가 없을 때만 추가 (추가했으면 true)
+     * - 존재 확인과 INSERT 를 한 문장으로, 동시에 같은 좋아요가 들어오면 유니크 키(post_id, user_id)가 막고 false
+     */
+    boolean insertIfAbsent(Long postId, Long userId);
+
+    /**
+     * 좋아요가 있으면 삭제 (삭제했으면 true)
+     */
+    boolean deleteIfPresent(Long postId, Long userId);
+}
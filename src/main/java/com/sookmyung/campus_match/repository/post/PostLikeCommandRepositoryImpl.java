@@ -0,0 +1,39 @@
+package com.sookmyung.campus_match.repository.post;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+
+@RequiredArgsConstructor
+public class PostLikeCommandRepositoryImpl implements PostLikeCommandRepository {
+
+    private static final String INSERT_SQL =
+            "INSERT INTO post_likes (post_id, user_id, created_at, updated_at) " +
+            "SELECT p.id, ?, ?, ? FROM posts p " +
+            "WHERE p.id = ? AND p.is_deleted = false " +
+            "AND NOT EXISTS (SELECT 1 FROM post_likes l WHERE l.post_id = ? AND l.user_id = ?)";
+
+    private static final String DELETE_SQL =
+            "DELETE FROM post_likes WHERE post_id = ? AND user_id = ?";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    @Override
+    public boolean insertIfAbsent(Long postId, Long userId) {
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+        try {
+            return jdbcTemplate.update(INSERT_SQL, userId, now, now, postId, postId, userId) > 0;
+        } catch (DuplicateKeyException e) {
+            // 같은 사용자의 동시 요청이 먼저 추가함
+            return false;
+        }
+    }
+
+    @Override
+    public boolean deleteIfPresent(Long postId, Long userId) {
+        return jdbcTemplate.update(DELETE_SQL, postId, userId) > 0;
+    }
+}
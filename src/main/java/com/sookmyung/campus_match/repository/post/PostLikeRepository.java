@@ -8,11 +8,12 @@ import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
 @Repository
-public interface PostLikeRepository extends JpaRepository<PostLike, Long> {
+public interface PostLikeRepository extends JpaRepository<PostLike, Long>, PostLikeCommandRepository {
 
     // 중첩 속성 표기를 사용한 메서드들
     List<PostLike> findByPost_Id(Long postId);
@@ -22,6 +23,12 @@ public interface PostLikeRepository extends JpaRepository<PostLike, Long> {
     Optional<PostLike> findByPost_IdAndUser_Id(Long postId, Long userId);
     
     boolean existsByPost_IdAndUser_Id(Long postId, Long userId);
+
+    /**
+     * postIds 중 사용자가 좋아요한 게시글 ID (IN 한 번, (post_id, user_id) 유니크 인덱스로 조회)
+     */
+    @Query("SELECT pl.post.id FROM PostLike pl WHERE pl.user.id = :userId AND pl.post.id IN :postIds")
+    List<Long> findLikedPostIds(@Param("userId") Long userId, @Param("postIds") Collection<Long> postIds);
     
     long countByPost_Id(Long postId);
 
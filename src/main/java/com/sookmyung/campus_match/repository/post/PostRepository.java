@@ -2,18 +2,33 @@ package com.sookmyung.campus_match.repository.post;
 
 import com.sookmyung.campus_match.domain.post.Post;
 import com.sookmyung.campus_match.domain.common.enums.PostCategory;
+import com.sookmyung.campus_match.domain.common.enums.ApprovalStatus;
+import com.sookmyung.campus_match.dto.post.PostSummaryResponse;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
+import java.util.Optional;
 
 @Repository
-public interface PostRepository extends JpaRepository<Post, Long> {
+public interface PostRepository extends JpaRepository<Post, Long>, PostCounterBatchRepository {
+
+    // 목록용 요약 DTO 생성자 표현식 (작성자는 JOIN 컬럼, 내용은 미리보기 길이만큼 SQL 에서 자름)
+    // → 작성자 지연 로딩 SELECT 없이 목록 한 페이지를 쿼리 한 번으로 조회, 긴 본문을 읽어오지 않음
+    String SUMMARY_SELECT = "SELECT new com.sookmyung.campus_match.dto.post.PostSummaryResponse(" +
+            "p.id, p.category, COALESCE(p.title, p.postTitle), " +
+            "SUBSTRING(COALESCE(p.content, p.postContent), 1, " + PostSummaryResponse.CONTENT_PREVIEW_LENGTH + "), " +
+            "p.requiredRoles, p.recruitmentCount, p.duration, p.linkUrl, p.imageUrl, COALESCE(p.isClosed, false), " +
+            "p.viewCount, p.likeCount, p.commentCount, a.id, a.name, a.department, p.createdAt, p.updatedAt) " +
+            "FROM Post p JOIN p.author a ";
 
     List<Post> findByAuthor_Id(Long userId);
     
@@ -61,6 +76,33 @@ public interface PostRepository extends JpaRepository<Post, Long> {
     @Query("SELECT p FROM Post p WHERE p.isDeleted = false AND p.isClosed = false")
     Page<Post> findAllActiveAndOpen(Pageable pageable);
 
+    @Query(value = SUMMARY_SELECT + "WHERE p.isDeleted = false AND p.isClosed = false",
+           countQuery = "SELECT COUNT(p) FROM Post p WHERE p.isDeleted = false AND p.isClosed = false")
+    Page<PostSummaryResponse> findActiveAndOpenSummaries(Pageable pageable);
+
+    // 키셋 페이징 (createdAt DESC, id DESC) - Slice 반환으로 COUNT 없이 size + 1 건만 조회
+    @Query(SUMMARY_SELECT + "WHERE p.isDeleted = false AND p.isClosed = false " +
+           "ORDER BY p.createdAt DESC, p.id DESC")
+    Slice<PostSummaryResponse> findActiveAndOpenSummariesFirst(Pageable pageable);
+
+    @Query(SUMMARY_SELECT + "WHERE p.isDeleted = false AND p.isClosed = false " +
+           "AND (p.createdAt < :createdAt OR (p.createdAt = :createdAt AND p.id < :id)) " +
+           "ORDER BY p.createdAt DESC, p.id DESC")
+    Slice<PostSummaryResponse> findActiveAndOpenSummariesBefore(@Param("createdAt") LocalDateTime createdAt,
+                                                                @Param("id") Long id,
+                                                                Pageable pageable);
+
+    @Query("SELECT p FROM Post p WHERE p.isDeleted = false AND " +
+           "(p.postTitle LIKE %:keyword% OR p.postContent LIKE %:keyword% OR p.author.name LIKE %:keyword%) AND " +
+           "p.category IN :categories AND " +
+           "(:closed IS NULL OR p.isClosed = :closed) AND " +
+           "(:department IS NULL OR p.author.department = :department)")
+    Slice<Post> searchSliceByKeyword(@Param("keyword") String keyword,
+                                     @Param("categories") Collection<PostCategory> categories,
+                                     @Param("closed") Boolean closed,
+                                     @Param("department") String department,
+                                     Pageable pageable);
+
     // 추가 메서드들 (기존 서비스 코드와 호환성을 위해)
     @Query("SELECT p FROM Post p WHERE p.postTitle LIKE %:keyword%")
     Page<Post> findByTitleContainingIgnoreCase(@Param("keyword") String keyword, Pageable pageable);
@@ -74,13 +116,18 @@ public interface PostRepository extends JpaRepository<Post, Long> {
             @Param("keyword") String keyword, 
             Pageable pageable);
 
-    // SearchService에서 호출하는 메서드들
-    @Query("SELECT p FROM Post p WHERE " +
+    // SearchService에서 호출하는 메서드들 (색인 준비 전 필터 검색, 삭제된 글 제외)
+    // categories 는 비우지 않고 전달 (카테고리 조건이 없으면 전체 카테고리)
+    @Query("SELECT p FROM Post p WHERE p.isDeleted = false AND " +
            "(:keyword IS NULL OR (p.postTitle LIKE %:keyword% OR p.postContent LIKE %:keyword% OR p.author.name LIKE %:keyword%)) AND " +
-           "(:category IS NULL OR p.category = :category)")
-    Page<Post> searchByKeywordAndCategory(@Param("keyword") String keyword, 
-                                         @Param("category") PostCategory category, 
-                                         Pageable pageable);
+           "p.category IN :categories AND " +
+           "(:closed IS NULL OR p.isClosed = :closed) AND " +
+           "(:department IS NULL OR p.author.department = :department)")
+    Page<Post> searchByKeywordAndCondition(@Param("keyword") String keyword,
+                                           @Param("categories") Collection<PostCategory> categories,
+                                           @Param("closed") Boolean closed,
+                                           @Param("department") String department,
+                                           Pageable pageable);
 
     @Query("SELECT p FROM Post p WHERE " +
            "p.postTitle LIKE %:keyword% OR p.postContent LIKE %:keyword% OR p.author.name LIKE %:keyword%")
@@ -106,4 +153,63 @@ public interface PostRepository extends JpaRepository<Post, Long> {
      */
     @Query("SELECT p FROM Post p WHERE p.category = :category AND p.isDeleted = false")
     Page<Post> findByCategoryAndIsDeletedFalse(@Param("category") PostCategory category, Pageable pageable);
+
+    @Query(value = SUMMARY_SELECT + "WHERE p.category = :category AND p.isDeleted = false",
+           countQuery = "SELECT COUNT(p) FROM Post p WHERE p.category = :category AND p.isDeleted = false")
+    Page<PostSummaryResponse> findSummariesByCategory(@Param("category") PostCategory category, Pageable pageable);
+
+    // 상세 조회용 (작성자 함께 조회)
+    @Query("SELECT p FROM Post p JOIN FETCH p.author WHERE p.id = :id")
+    Optional<Post> findWithAuthorById(@Param("id") Long id);
+
+    // 추천 특성 일괄 조회용 (authorId, category) 쌍
+    @Query("SELECT DISTINCT p.author.id, p.category FROM Post p WHERE p.author.approvalStatus = :status")
+    List<Object[]> findAuthorCategoryPairsByApprovalStatus(@Param("status") ApprovalStatus status);
+
+    @Query("SELECT DISTINCT p.author.id, p.category FROM Post p WHERE p.author.id IN :authorIds")
+    List<Object[]> findAuthorCategoryPairsByAuthorIds(@Param("authorIds") Collection<Long> authorIds);
+
+    // 임베딩 생성용 (authorId, title, content) - 삭제된 글 제외
+    @Query("SELECT p.author.id, p.postTitle, p.postContent FROM Post p " +
+           "WHERE p.author.id IN :authorIds AND (p.isDeleted = false OR p.isDeleted IS NULL)")
+    List<Object[]> findEmbeddingTextsByAuthorIds(@Param("authorIds") Collection<Long> authorIds);
+
+    // 검색 색인용 문서 (id, title, content, authorName, isDeleted, updatedAt, category, isClosed, authorDepartment) - 키셋 페이지
+    @Query("SELECT p.id, p.postTitle, p.postContent, a.name, p.isDeleted, p.updatedAt, p.category, p.isClosed, a.department " +
+           "FROM Post p JOIN p.author a " +
+           "WHERE p.id > :afterId ORDER BY p.id")
+    List<Object[]> findSearchDocumentsAfter(@Param("afterId") Long afterId, Pageable pageable);
+
+    // 검색 색인 스냅샷 이후 변경분 (검색 색인용 문서와 같은 컬럼)
+    @Query("SELECT p.id, p.postTitle, p.postContent, a.name, p.isDeleted, p.updatedAt, p.category, p.isClosed, a.department " +
+           "FROM Post p JOIN p.author a " +
+           "WHERE p.updatedAt > :since AND p.id > :afterId ORDER BY p.id")
+    List<Object[]> findSearchDocumentsUpdatedAfter(@Param("since") LocalDateTime since,
+                                                   @Param("afterId") Long afterId,
+                                                   Pageable pageable);
+
+    @Query("SELECT p.id, p.postTitle, p.postContent, a.name, p.isDeleted, p.updatedAt, p.category, p.isClosed, a.department " +
+           "FROM Post p JOIN p.author a " +
+           "WHERE p.id IN :postIds")
+    List<Object[]> findSearchDocumentsByIds(@Param("postIds") Collection<Long> postIds);
+
+    // 인기 게시글 점수 초기값 (id, title, category, authorName, createdAt, viewCount, likeCount, commentCount)
+    // - 최근 작성된 삭제되지 않은 글 키셋 페이지
+    @Query("SELECT p.id, p.postTitle, p.category, a.name, p.createdAt, p.viewCount, p.likeCount, p.commentCount " +
+           "FROM Post p JOIN p.author a " +
+           "WHERE p.createdAt >= :since AND p.id > :afterId AND (p.isDeleted = false OR p.isDeleted IS NULL) ORDER BY p.id")
+    List<Object[]> findTrendingSourcesAfter(@Param("since") LocalDateTime since,
+                                            @Param("afterId") Long afterId,
+                                            Pageable pageable);
+
+    // 인기 게시글 순위에 올릴 게시글 정보 (id, title, category, authorName, createdAt) - 삭제된 글 제외
+    @Query("SELECT p.id, p.postTitle, p.category, a.name, p.createdAt " +
+           "FROM Post p JOIN p.author a " +
+           "WHERE p.id = :postId AND (p.isDeleted = false OR p.isDeleted IS NULL)")
+    List<Object[]> findTrendingPostById(@Param("postId") Long postId);
+
+    // 자동완성 후보 (id, title, viewCount, likeCount) - 삭제되지 않은 글 키셋 페이지
+    @Query("SELECT p.id, p.postTitle, p.viewCount, p.likeCount FROM Post p " +
+           "WHERE p.id > :afterId AND (p.isDeleted = false OR p.isDeleted IS NULL) ORDER BY p.id")
+    List<Object[]> findSuggestionSourcesAfter(@Param("afterId") Long afterId, Pageable pageable);
 }
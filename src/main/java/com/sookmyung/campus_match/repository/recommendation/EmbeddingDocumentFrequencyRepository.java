@@ -0,0 +1,13 @@
+package com.sookmyung.campus_match.repository.recommendation;
+
+import com.sookmyung.campus_match.domain.recommendation.EmbeddingDocumentFrequency;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+import java.util.Optional;
+
+@Repository
+public interface EmbeddingDocumentFrequencyRepository extends JpaRepository<EmbeddingDocumentFrequency, Long> {
+
+    Optional<EmbeddingDocumentFrequency> findFirstByOrderByIdDesc();
+}
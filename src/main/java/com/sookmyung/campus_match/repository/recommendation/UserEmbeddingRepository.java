@@ -1,9 +1,14 @@
 package com.sookmyung.campus_match.repository.recommendation;
 
 import com.sookmyung.campus_match.domain.recommendation.UserEmbedding;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 
 @Repository
@@ -12,4 +17,13 @@ public interface UserEmbeddingRepository extends JpaRepository<UserEmbedding, Lo
     Optional<UserEmbedding> findByUser_Id(Long userId);
     
     boolean existsByUserId(Long userId);
+
+    List<UserEmbedding> findByUser_IdIn(Collection<Long> userIds);
+
+    /**
+     * 인덱스 구축용 키셋 페이지 조회 (id, user_id, 바이너리 벡터, 텍스트 벡터)
+     */
+    @Query("SELECT e.id, e.user.id, e.embeddingData, e.embeddingVector FROM UserEmbedding e " +
+           "WHERE e.id > :afterId ORDER BY e.id")
+    List<Object[]> findEmbeddingPage(@Param("afterId") Long afterId, Pageable pageable);
 }
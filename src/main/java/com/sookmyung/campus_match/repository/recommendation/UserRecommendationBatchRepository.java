@@ -0,0 +1,17 @@
+package com.sookmyung.campus_match.repository.recommendation;
+
+import com.sookmyung.campus_match.domain.recommendation.UserRecommendation;
+
+import java.util.List;
+
+/**
+ * user_recommendations 대량 저장용 커스텀 리포지토리
+ */
+public interface UserRecommendationBatchRepository {
+
+    /**
+     * JDBC 배치 INSERT
+     * WHY: IDENTITY 키 전략에서는 Hibernate가 INSERT를 배치로 묶지 못하므로 직접 배치 실행
+     */
+    void batchInsert(List<UserRecommendation> recommendations);
+}
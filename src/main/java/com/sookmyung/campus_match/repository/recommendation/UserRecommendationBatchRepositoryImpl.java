@@ -0,0 +1,45 @@
+package com.sookmyung.campus_match.repository.recommendation;
+
+import com.sookmyung.campus_match.domain.recommendation.UserRecommendation;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.math.BigDecimal;
+import java.sql.Timestamp;
+import java.sql.Types;
+import java.time.LocalDateTime;
+import java.util.List;
+
+@RequiredArgsConstructor
+public class UserRecommendationBatchRepositoryImpl implements UserRecommendationBatchRepository {
+
+    private static final String INSERT_SQL =
+            "INSERT INTO user_recommendations " +
+            "(user_id, recommended_user_id, similarity_score, recommendation_reason, generated_at, created_at, updated_at) " +
+            "VALUES (?, ?, ?, ?, ?, ?, ?)";
+
+    private static final int BATCH_SIZE = 500;
+
+    private final JdbcTemplate jdbcTemplate;
+
+    @Override
+    public void batchInsert(List<UserRecommendation> recommendations) {
+        if (recommendations.isEmpty()) {
+            return;
+        }
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+        jdbcTemplate.batchUpdate(INSERT_SQL, recommendations, BATCH_SIZE, (ps, recommendation) -> {
+            ps.setLong(1, recommendation.getUser().getId());
+            ps.setLong(2, recommendation.getRecommendedUser().getId());
+            ps.setBigDecimal(3, BigDecimal.valueOf(recommendation.getSimilarityScore()));
+            if (recommendation.getRecommendationReason() != null) {
+                ps.setString(4, recommendation.getRecommendationReason());
+            } else {
+                ps.setNull(4, Types.VARCHAR);
+            }
+            ps.setTimestamp(5, Timestamp.valueOf(recommendation.getGeneratedAt()));
+            ps.setTimestamp(6, now);
+            ps.setTimestamp(7, now);
+        });
+    }
+}
@@ -9,10 +9,11 @@ import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
 import java.util.List;
 
 @Repository
-public interface UserRecommendationRepository extends JpaRepository<UserRecommendation, Long> {
+public interface UserRecommendationRepository extends JpaRepository<UserRecommendation, Long>, UserRecommendationBatchRepository {
 
     List<UserRecommendation> findByUser_Id(Long userId);
     
@@ -26,7 +27,32 @@ public interface UserRecommendationRepository extends JpaRepository<UserRecommen
            "ur.user.id = :userId AND ur.similarityScore >= :minScore")
     List<UserRecommendation> findByUserIdAndMinSimilarityScore(@Param("userId") Long userId, @Param("minScore") Double minScore);
 
-    // 추가 메서드들 (기존 서비스 코드와 호환성을 위해)
+    /**
+     * 지정한 사용자들의 저장된 추천 수와 최저 유사도 (user_id, count, min score)
+     * - 추천 목록이 없는 사용자는 결과에 없음
+     */
+    @Query("SELECT ur.user.id, COUNT(ur), MIN(ur.similarityScore) FROM UserRecommendation ur " +
+           "WHERE ur.user.id IN :userIds GROUP BY ur.user.id")
+    List<Object[]> findRecommendationStatsByUserIds(@Param("userIds") Collection<Long> userIds);
+
+    /**
+     * 지정한 사용자들의 최저 유사도 추천 항목 (동점이면 사용자당 여러 건)
+     */
+    @Query("SELECT ur FROM UserRecommendation ur WHERE ur.user.id IN :userIds AND ur.similarityScore = " +
+           "(SELECT MIN(r.similarityScore) FROM UserRecommendation r WHERE r.user.id = ur.user.id)")
+    List<UserRecommendation> findLowestByUserIds(@Param("userIds") Collection<Long> userIds);
+
+    /**
+     * 저장된 추천 목록 (추천 사용자 함께 조회, 유사도 내림차순)
+     */
+    @Query("SELECT ur FROM UserRecommendation ur JOIN FETCH ur.recommendedUser " +
+           "WHERE ur.user.id = :userId ORDER BY ur.similarityScore DESC")
+    List<UserRecommendation> findWithRecommendedUserByUserId(@Param("userId") Long userId);
+
+    /**
+     * 여러 사용자의 추천 목록을 한 번에 삭제 (배치 청크 단위)
+     */
     @Modifying
-    void deleteByUserId(Long userId);
+    @Query("DELETE FROM UserRecommendation ur WHERE ur.user.id IN :userIds")
+    int deleteByUserIdIn(@Param("userIds") Collection<Long> userIds);
 }
@@ -9,6 +9,7 @@ import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
 import java.util.List;
 
 @Repository
@@ -30,4 +31,11 @@ public interface TeamRepository extends JpaRepository<Team, Long> {
     // TeamService에서 호출하는 메서드들
     @Query("SELECT t FROM Team t JOIN t.members tm WHERE tm.user.id = :userId")
     List<Team> findByMembers_User_Id(@Param("userId") Long userId);
+
+    // 검색 색인용 문서 (id, teamName, description, isActive) - 키셋 페이지
+    @Query("SELECT t.id, t.teamName, t.description, t.isActive FROM Team t WHERE t.id > :afterId ORDER BY t.id")
+    List<Object[]> findSearchDocumentsAfter(@Param("afterId") Long afterId, Pageable pageable);
+
+    @Query("SELECT t.id, t.teamName, t.description, t.isActive FROM Team t WHERE t.id IN :teamIds")
+    List<Object[]> findSearchDocumentsByIds(@Param("teamIds") Collection<Long> teamIds);
 }
@@ -10,6 +10,7 @@ import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.time.LocalDate;
+import java.util.Collection;
 import java.util.List;
 
 @Repository
@@ -29,4 +30,8 @@ public interface ExperienceRepository extends JpaRepository<Experience, Long> {
                                            Pageable pageable);
     
     List<Experience> findByUserIdOrderByStartDateDesc(Long userId);
+
+    // 임베딩 생성용 (userId, title, description, tags)
+    @Query("SELECT e.user.id, e.title, e.description, e.tags FROM Experience e WHERE e.user.id IN :userIds")
+    List<Object[]> findEmbeddingTextsByUserIds(@Param("userIds") Collection<Long> userIds);
 }
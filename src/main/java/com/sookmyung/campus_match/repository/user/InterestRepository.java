@@ -9,6 +9,7 @@ import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
 import java.util.List;
 
 @Repository
@@ -24,4 +25,16 @@ public interface InterestRepository extends JpaRepository<Interest, Long> {
                           Pageable pageable);
     
     List<Interest> findByCategory(String category);
+
+    /**
+     * 관심사 이름(한글 또는 영문)으로 ID 조회 (idx_interests_name / idx_interests_name_en 사용)
+     */
+    @Query("SELECT i.id FROM Interest i WHERE i.interestName IN :names OR i.interestNameEn IN :names")
+    List<Long> findIdsByNames(@Param("names") Collection<String> names);
+
+    // 자동완성용 관심사별 사용자 수 (interestName, interestNameEn, count)
+    @Query("SELECT i.interestName, i.interestNameEn, COUNT(ui) FROM Interest i " +
+           "LEFT JOIN UserInterest ui ON ui.interest = i " +
+           "GROUP BY i.id, i.interestName, i.interestNameEn")
+    List<Object[]> findSuggestionWeights();
 }
@@ -4,16 +4,19 @@ import com.sookmyung.campus_match.domain.user.Profile;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import com.sookmyung.campus_match.domain.user.User;
+import com.sookmyung.campus_match.domain.common.enums.ApprovalStatus;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 
 @Repository
-public interface ProfileRepository extends JpaRepository<Profile, Long> {
+public interface ProfileRepository extends JpaRepository<Profile, Long>, ProfileViewCountBatchRepository {
 
     Optional<Profile> findByUser_Id(Long userId);
     
@@ -32,4 +35,15 @@ public interface ProfileRepository extends JpaRepository<Profile, Long> {
     @Modifying
     @Query("UPDATE Profile p SET p.viewCount = p.viewCount + 1 WHERE p.user.id = :userId")
     int incrementViewCount(@Param("userId") Long userId);
+
+    // 추천 특성 일괄 조회용 (userId, bio) 쌍
+    @Query("SELECT p.user.id, p.bio FROM Profile p WHERE p.user.approvalStatus = :status")
+    List<Object[]> findUserBiosByApprovalStatus(@Param("status") ApprovalStatus status);
+
+    @Query("SELECT p.user.id, p.bio FROM Profile p WHERE p.user.id IN :userIds")
+    List<Object[]> findUserBiosByUserIds(@Param("userIds") Collection<Long> userIds);
+
+    // 임베딩 생성용 (userId, headline, bio)
+    @Query("SELECT p.user.id, p.headline, p.bio FROM Profile p WHERE p.user.id IN :userIds")
+    List<Object[]> findEmbeddingTextsByUserIds(@Param("userIds") Collection<Long> userIds);
 }
@@ -0,0 +1,14 @@
+package com.sookmyung.campus_match.repository.user;
+
+import java.util.Map;
+
+/**
+ * profiles.view_count 일괄 반영용 커스텀 리포지토리
+ */
+public interface ProfileViewCountBatchRepository {
+
+    /**
+     * 사용자 ID 별 프로필 조회수 증가분을 JDBC 배치 UPDATE 로 한 번에 반영
+     */
+    void addViewCountsByUserId(Map<Long, Long> deltas);
+}
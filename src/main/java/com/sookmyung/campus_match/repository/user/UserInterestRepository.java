@@ -2,11 +2,14 @@ package com.sookmyung.campus_match.repository.user;
 
 import com.sookmyung.campus_match.domain.user.UserInterest;
 import com.sookmyung.campus_match.domain.user.User;
+import com.sookmyung.campus_match.domain.common.enums.ApprovalStatus;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
 import java.util.List;
 
 @Repository
@@ -23,4 +26,29 @@ public interface UserInterestRepository extends JpaRepository<UserInterest, Long
 
     // 추가 메서드들 (기존 서비스 코드와 호환성을 위해)
     List<UserInterest> findByUser(User user);
+
+    // 추천 특성 일괄 조회용 (userId, interestId) 쌍
+    @Query("SELECT ui.user.id, ui.interest.id FROM UserInterest ui WHERE ui.user.approvalStatus = :status")
+    List<Object[]> findUserInterestPairsByApprovalStatus(@Param("status") ApprovalStatus status);
+
+    @Query("SELECT ui.user.id, ui.interest.id FROM UserInterest ui WHERE ui.user.id IN :userIds")
+    List<Object[]> findUserInterestPairsByUserIds(@Param("userIds") Collection<Long> userIds);
+
+    /**
+     * 관심사 겹침 수 기준 사용자 순위 (user_id, overlap)
+     * - 겹침 수 내림차순, 같으면 사용자 ID 오름차순 (상위 pageable 크기만큼)
+     * - (interest_id, user_id) 인덱스로 해당 관심사 행만 읽음
+     */
+    @Query("SELECT ui.user.id, COUNT(ui) FROM UserInterest ui " +
+           "WHERE ui.interest.id IN :interestIds AND ui.user.approvalStatus = :status " +
+           "GROUP BY ui.user.id " +
+           "ORDER BY COUNT(ui) DESC, ui.user.id ASC")
+    List<Object[]> findUserOverlapByInterestIds(@Param("interestIds") Collection<Long> interestIds,
+                                                @Param("status") ApprovalStatus status,
+                                                Pageable pageable);
+
+    // 검색 색인용 관심사 이름 (userId, interestName, interestNameEn)
+    @Query("SELECT ui.user.id, i.interestName, i.interestNameEn FROM UserInterest ui JOIN ui.interest i " +
+           "WHERE ui.user.id IN :userIds")
+    List<Object[]> findInterestNamesByUserIds(@Param("userIds") Collection<Long> userIds);
 }
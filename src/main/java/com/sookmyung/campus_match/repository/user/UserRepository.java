@@ -9,6 +9,7 @@ import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -80,4 +81,24 @@ public interface UserRepository extends JpaRepository<User, Long> {
     @Query("SELECT u FROM User u WHERE u.department = :department AND u.approvalStatus = :status")
     List<User> findByDepartmentAndApprovalStatus(@Param("department") String department, 
                                                 @Param("status") ApprovalStatus status);
+
+    // 배치 작업용 사용자 ID 키셋 페이지 조회
+    @Query("SELECT u.id FROM User u WHERE u.id > :afterId ORDER BY u.id")
+    List<Long> findIdsAfter(@Param("afterId") Long afterId, Pageable pageable);
+
+    // 검색 색인용 문서 (id, name, department) - 상태별 키셋 페이지
+    @Query("SELECT u.id, u.name, u.department FROM User u " +
+           "WHERE u.approvalStatus = :status AND u.id > :afterId ORDER BY u.id")
+    List<Object[]> findSearchDocumentsAfter(@Param("status") ApprovalStatus status,
+                                            @Param("afterId") Long afterId,
+                                            Pageable pageable);
+
+    // 검색 색인 증분 갱신용 (id, name, department, approvalStatus)
+    @Query("SELECT u.id, u.name, u.department, u.approvalStatus FROM User u WHERE u.id IN :userIds")
+    List<Object[]> findSearchDocumentsByIds(@Param("userIds") Collection<Long> userIds);
+
+    // 자동완성용 학과별 사용자 수 (department, count)
+    @Query("SELECT u.department, COUNT(u) FROM User u " +
+           "WHERE u.approvalStatus = :status AND u.department IS NOT NULL GROUP BY u.department")
+    List<Object[]> countByDepartment(@Param("status") ApprovalStatus status);
 }
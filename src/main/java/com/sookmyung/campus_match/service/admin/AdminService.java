@@ -1,6 +1,7 @@
 package com.sookmyung.campus_match.service.admin;
 
 import com.sookmyung.campus_match.domain.admin.SystemNotice;
+import com.sookmyung.campus_match.domain.event.UserAccountChangedEvent;
 import com.sookmyung.campus_match.domain.message.MessageReport;
 import com.sookmyung.campus_match.domain.user.User;
 import com.sookmyung.campus_match.domain.common.enums.ApprovalStatus;
@@ -16,6 +17,7 @@ import com.sookmyung.campus_match.repository.message.MessageReportRepository;
 import com.sookmyung.campus_match.repository.user.UserRepository;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -34,6 +36,7 @@ public class AdminService {
     private final UserRepository userRepository;
     private final SystemNoticeRepository systemNoticeRepository;
     private final MessageReportRepository messageReportRepository;
+    private final ApplicationEventPublisher eventPublisher;
 
     @Transactional
     public void approveUser(Long userId, ApproveUserRequest request) {
@@ -50,6 +53,7 @@ public class AdminService {
         }
         
         userRepository.save(user);
+        eventPublisher.publishEvent(new UserAccountChangedEvent(userId));
     }
 
     @Transactional
@@ -74,6 +78,7 @@ public class AdminService {
         }
 
         userRepository.delete(user);
+        eventPublisher.publishEvent(new UserAccountChangedEvent(userId));
         log.info("사용자 강제 삭제: 사용자 ID {}, 신고 횟수 {}", userId, user.getReportCount());
     }
 
@@ -1,5 +1,7 @@
 package com.sookmyung.campus_match.service.post;
 
+import com.sookmyung.campus_match.domain.event.PostChangedEvent;
+import com.sookmyung.campus_match.domain.event.PostEngagementEvent;
 import com.sookmyung.campus_match.domain.post.Post;
 import com.sookmyung.campus_match.domain.post.PostApplication;
 import com.sookmyung.campus_match.domain.user.User;
@@ -13,6 +15,7 @@ import com.sookmyung.campus_match.repository.user.UserRepository;
 import com.sookmyung.campus_match.util.page.PageUtils;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.http.HttpStatus;
@@ -34,6 +37,7 @@ public class PostApplicationService {
     private final PostApplicationRepository postApplicationRepository;
     private final UserRepository userRepository;
     private final PageUtils pageUtils;
+    private final ApplicationEventPublisher eventPublisher;
 
     /**
      * 게시글에 지원
@@ -64,6 +68,7 @@ public class PostApplicationService {
                 .build();
 
         PostApplication savedApplication = postApplicationRepository.save(application);
+        eventPublisher.publishEvent(new PostEngagementEvent(postId, PostEngagementEvent.EngagementType.APPLICATION));
         return PostApplicationResponse.from(savedApplication);
     }
 
@@ -90,6 +95,7 @@ public class PostApplicationService {
 
         post.setIsClosed(true);
         postRepository.save(post);
+        eventPublisher.publishEvent(new PostChangedEvent(postId, currentUserId, PostChangedEvent.ChangeType.UPDATED));
     }
 
     /**
@@ -1,18 +1,25 @@
 package com.sookmyung.campus_match.service.post;
 
+import com.sookmyung.campus_match.domain.event.PostEngagementEvent;
 import com.sookmyung.campus_match.domain.post.Post;
 import com.sookmyung.campus_match.domain.post.PostComment;
 import com.sookmyung.campus_match.domain.user.User;
 import com.sookmyung.campus_match.domain.common.enums.ApprovalStatus;
 import com.sookmyung.campus_match.dto.comment.PostCommentCreateRequest;
 import com.sookmyung.campus_match.dto.comment.PostCommentResponse;
+import com.sookmyung.campus_match.dto.common.PageResponse;
 import com.sookmyung.campus_match.repository.post.PostCommentRepository;
 import com.sookmyung.campus_match.repository.post.PostRepository;
 import com.sookmyung.campus_match.repository.user.UserRepository;
+import com.sookmyung.campus_match.util.page.PageCursor;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.Sort;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -28,16 +35,48 @@ public class PostCommentService {
     private final PostCommentRepository postCommentRepository;
     private final PostRepository postRepository;
     private final UserRepository userRepository;
+    private final ApplicationEventPublisher eventPublisher;
 
     /**
      * 게시글의 댓글 목록 조회 (페이징 지원)
+     * - 작성순 (createdAt, id 오름차순), 다음 페이지가 있으면 커서 페이징을 이어갈 nextCursor 포함
      */
     public com.sookmyung.campus_match.dto.common.PageResponse<PostCommentResponse> getComments(Long postId, Integer page, Integer size, String sort) {
         // TODO: PageUtils를 사용한 페이징 처리
-        Pageable pageable = org.springframework.data.domain.PageRequest.of(page != null ? page : 0, size != null ? size : 20);
+        // 메서드 이름의 createdAt 정렬 뒤에 id 정렬이 붙어 같은 시각의 댓글도 순서가 고정됨
+        Pageable pageable = org.springframework.data.domain.PageRequest.of(page != null ? page : 0, size != null ? size : 20, Sort.by("id"));
         Page<PostComment> comments = postCommentRepository.findByPost_IdOrderByCreatedAtAsc(postId, pageable);
         
-        return com.sookmyung.campus_match.dto.common.PageResponse.from(comments.map(PostCommentResponse::from));
+        return com.sookmyung.campus_match.dto.common.PageResponse.from(comments.map(PostCommentResponse::from))
+                .toBuilder()
+                .nextCursor(comments.hasNext() ? nextCursor(comments.getContent()) : null)
+                .build();
+    }
+
+    /**
+     * 게시글의 댓글 목록 커서 페이징 (작성순)
+     * - (createdAt, id) seek 조건으로 조회하여 몇 번째 페이지든 비용이 같고 COUNT 쿼리 없음
+     * - cursor 가 없으면 첫 페이지
+     */
+    public PageResponse<PostCommentResponse> getCommentsByCursor(Long postId, String cursor, Integer size) {
+        Pageable pageable = PageRequest.of(0, PageCursor.pageSize(size));
+        Slice<PostComment> comments;
+        if (cursor == null || cursor.isBlank()) {
+            comments = postCommentRepository.findFirstSliceByPostId(postId, pageable);
+        } else {
+            PageCursor position = PageCursor.decode(cursor);
+            comments = postCommentRepository.findSliceByPostIdAfter(postId, position.getCreatedAt(), position.getId(), pageable);
+        }
+        return PageResponse.from(comments.map(PostCommentResponse::from),
+                comments.hasNext() ? nextCursor(comments.getContent()) : null);
+    }
+
+    private static String nextCursor(List<PostComment> comments) {
+        if (comments.isEmpty()) {
+            return null;
+        }
+        PostComment last = comments.get(comments.size() - 1);
+        return PageCursor.encode(last.getCreatedAt(), last.getId());
     }
 
     /**
@@ -91,6 +130,7 @@ public class PostCommentService {
         // 게시글의 댓글 수 증가
         post.increaseCommentCount(1);
         postRepository.save(post);
+        eventPublisher.publishEvent(new PostEngagementEvent(postId, PostEngagementEvent.EngagementType.COMMENT));
         
         return PostCommentResponse.from(savedComment);
     }
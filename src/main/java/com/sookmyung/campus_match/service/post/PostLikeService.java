@@ -0,0 +1,164 @@
+package com.sookmyung.campus_match.service.post;
+
+import com.sookmyung.campus_match.domain.event.PostEngagementEvent;
+import com.sookmyung.campus_match.domain.event.PostLikeChangedEvent;
+import com.sookmyung.campus_match.repository.post.PostLikeRepository;
+import com.sookmyung.campus_match.repository.post.PostRepository;
+import com.sookmyung.campus_match.util.counter.WriteBehindCounter;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * 게시글 좋아요 / 좋아요 취소
+ * - 추가는 "삭제되지 않은 글 + 아직 없는 좋아요" 조건을 건 INSERT 한 문장, 취소는 DELETE 한 문장 (중복 요청은 변화 없음)
+ * - posts.like_count 는 커밋된 변경만 메모리 카운터에 모았다가 like-count.flush-interval 마다 배치 UPDATE 로 반영
+ *   → 좋아요가 몰려도 게시글 행을 요청마다 잠그지 않음, 조회 시에는 아직 반영되지 않은 증감분을 더해 보여줌
+ * - like-count.reconcile-interval 마다 post_likes 행 수 기준으로 like_count 를 바로잡음
+ *   (반영 전 종료, 과거의 읽고-수정-쓰기 유실 등으로 어긋난 값 복구)
+ * - 좋아요 트랜잭션은 커밋 전에 "진행 중"으로 등록하고 커밋/롤백 이벤트에서 해제
+ *   WHY: 커밋 직후~증감분 등록 전 사이에 보정이 돌면 행 수대로 고친 뒤 증감분이 또 더해져 이중 반영됨
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+@Transactional(readOnly = true)
+public class PostLikeService {
+
+    private static final int RECONCILE_PAGE_SIZE = 1000;
+
+    private final PostLikeRepository postLikeRepository;
+    private final PostRepository postRepository;
+    private final ApplicationEventPublisher eventPublisher;
+    private final WriteBehindCounter likeDeltas = new WriteBehindCounter();
+    private final WriteBehindCounter inFlightLikes = new WriteBehindCounter();
+
+    /**
+     * 좋아요 추가 (새로 추가했으면 true, 이미 눌렀거나 없는/삭제된 글이면 false)
+     */
+    @Transactional
+    public boolean like(Long postId, Long userId) {
+        if (!postLikeRepository.insertIfAbsent(postId, userId)) {
+            return false;
+        }
+        inFlightLikes.increment(postId);
+        eventPublisher.publishEvent(new PostLikeChangedEvent(postId, userId, true));
+        eventPublisher.publishEvent(new PostEngagementEvent(postId, PostEngagementEvent.EngagementType.LIKE));
+        return true;
+    }
+
+    /**
+     * 좋아요 취소 (취소했으면 true, 좋아요가 없었으면 false)
+     */
+    @Transactional
+    public boolean unlike(Long postId, Long userId) {
+        if (!postLikeRepository.deleteIfPresent(postId, userId)) {
+            return false;
+        }
+        inFlightLikes.increment(postId);
+        eventPublisher.publishEvent(new PostLikeChangedEvent(postId, userId, false));
+        return true;
+    }
+
+    /**
+     * postIds 중 사용자가 좋아요한 게시글 ID (목록 한 페이지를 쿼리 한 번으로 확인)
+     * - userId 가 없거나 postIds 가 비었으면 DB 를 거치지 않고 빈 집합
+     */
+    public Set<Long> likedPostIds(Long userId, Collection<Long> postIds) {
+        if (userId == null || postIds == null || postIds.isEmpty()) {
+            return Set.of();
+        }
+        Set<Long> distinct = new LinkedHashSet<>(postIds);
+        distinct.remove(null);
+        if (distinct.isEmpty()) {
+            return Set.of();
+        }
+        return new HashSet<>(postLikeRepository.findLikedPostIds(userId, distinct));
+    }
+
+    /**
+     * 아직 like_count 에 반영되지 않은 증감분
+     */
+    public long pendingLikes(Long postId) {
+        return likeDeltas.pending(postId);
+    }
+
+    /**
+     * 커밋된 변경을 증감분에 넣은 뒤 진행 중 표시를 해제 (보정이 둘 중 하나는 항상 보도록 이 순서 유지)
+     */
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onLikeChanged(PostLikeChangedEvent event) {
+        likeDeltas.add(event.getPostId(), event.isLiked() ? 1L : -1L);
+        inFlightLikes.add(event.getPostId(), -1L);
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_ROLLBACK)
+    public void onLikeRolledBack(PostLikeChangedEvent event) {
+        inFlightLikes.add(event.getPostId(), -1L);
+    }
+
+    @Scheduled(fixedDelayString = "${like-count.flush-interval:2s}")
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public void flush() {
+        Map<Long, Long> deltas = likeDeltas.drain();
+        if (deltas.isEmpty()) {
+            return;
+        }
+        try {
+            postRepository.addLikeCounts(deltas);
+        } catch (Exception e) {
+            deltas.forEach(likeDeltas::add);
+            log.warn("좋아요 수 반영 실패, 다음 주기에 재시도 - 대상 수: {}, 오류: {}", deltas.size(), e.getMessage());
+        }
+    }
+
+    /**
+     * like_count 를 post_likes 행 수로 바로잡음
+     * - 먼저 모인 증감분을 반영하고, 그 뒤에도 진행 중이거나 반영 대기 중인 글은 다음 차례로 미룸
+     *   (진행 중 → 대기 순으로 확인해야 커밋 직후 넘어가는 변경을 놓치지 않음)
+     * - 읽은 값 그대로일 때만 고치므로 그 사이 반영된 증감분을 덮어쓰지 않음
+     */
+    @Scheduled(fixedDelayString = "${like-count.reconcile-interval:1h}", initialDelayString = "${like-count.reconcile-interval:1h}")
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public void reconcile() {
+        flush();
+        int repaired = 0;
+        long afterId = 0L;
+        while (true) {
+            List<long[]> rows = postRepository.findLikeCountsAfter(afterId, RECONCILE_PAGE_SIZE);
+            for (long[] row : rows) {
+                long postId = row[0];
+                if (row[1] != row[2] && inFlightLikes.pending(postId) == 0 && likeDeltas.pending(postId) == 0
+                        && postRepository.repairLikeCount(postId, row[1], row[2])) {
+                    repaired++;
+                }
+            }
+            if (rows.size() < RECONCILE_PAGE_SIZE) {
+                break;
+            }
+            afterId = rows.get(rows.size() - 1)[0];
+        }
+        if (repaired > 0) {
+            log.info("좋아요 수 보정 완료 - 보정한 게시글 수: {}", repaired);
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        flush();
+    }
+}
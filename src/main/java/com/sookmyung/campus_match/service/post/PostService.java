@@ -1,8 +1,9 @@
 package com.sookmyung.campus_match.service.post;
 
+import com.sookmyung.campus_match.domain.event.PostChangedEvent;
+import com.sookmyung.campus_match.domain.event.PostEngagementEvent;
 import com.sookmyung.campus_match.domain.post.Post;
 import com.sookmyung.campus_match.domain.common.enums.PostCategory;
-import com.sookmyung.campus_match.domain.post.PostLike;
 import com.sookmyung.campus_match.domain.post.PostApplication;
 import com.sookmyung.campus_match.domain.user.User;
 import com.sookmyung.campus_match.domain.common.enums.ApplicationStatus;
@@ -16,17 +17,22 @@ import com.sookmyung.campus_match.dto.post.PostSummaryResponse;
 import com.sookmyung.campus_match.repository.post.PostRepository;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.Sort;
 
-import com.sookmyung.campus_match.repository.post.PostLikeRepository;
 import com.sookmyung.campus_match.repository.post.PostApplicationRepository;
 import com.sookmyung.campus_match.repository.user.UserRepository;
+import com.sookmyung.campus_match.service.counter.ViewCountBuffer;
+import com.sookmyung.campus_match.util.page.PageCursor;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.util.List;
 import java.util.Optional;
+import java.util.Set;
 import java.time.LocalDateTime;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
@@ -39,9 +45,11 @@ import org.springframework.data.domain.PageRequest;
 public class PostService {
 
     private final PostRepository postRepository;
-    private final PostLikeRepository postLikeRepository;
     private final PostApplicationRepository postApplicationRepository;
     private final UserRepository userRepository;
+    private final ApplicationEventPublisher eventPublisher;
+    private final ViewCountBuffer viewCountBuffer;
+    private final PostLikeService postLikeService;
 
     /**
      * AI 기반 게시글 작성 도움 기능
@@ -238,6 +246,7 @@ public class PostService {
                 .build();
         
         Post savedPost = postRepository.save(post);
+        eventPublisher.publishEvent(new PostChangedEvent(savedPost.getId(), authorId, PostChangedEvent.ChangeType.CREATED));
         return com.sookmyung.campus_match.dto.post.PostDetailResponse.from(savedPost);
     }
 
@@ -277,65 +286,140 @@ public class PostService {
         }
         
         Post updatedPost = postRepository.save(post);
+        eventPublisher.publishEvent(new PostChangedEvent(postId, userId, PostChangedEvent.ChangeType.UPDATED));
         return com.sookmyung.campus_match.dto.post.PostDetailResponse.from(updatedPost);
     }
 
     /**
-     * 게시글 조회
+     * 게시글 조회 (작성자는 같은 쿼리에서 함께 조회)
      */
     public com.sookmyung.campus_match.dto.post.PostDetailResponse getPost(Long postId) {
-        Post post = postRepository.findById(postId)
+        Post post = postRepository.findWithAuthorById(postId)
                 .orElseThrow(() -> new IllegalArgumentException("Post not found: " + postId));
-        return com.sookmyung.campus_match.dto.post.PostDetailResponse.from(post);
+        com.sookmyung.campus_match.dto.post.PostDetailResponse response = com.sookmyung.campus_match.dto.post.PostDetailResponse.from(post);
+        // 아직 DB 에 반영되지 않은 조회수/좋아요 수 포함
+        long pendingViews = viewCountBuffer.pendingPostViews(postId);
+        long pendingLikes = postLikeService.pendingLikes(postId);
+        return pendingViews == 0 && pendingLikes == 0 ? response : response.toBuilder()
+                .viewCount((int) ((response.getViewCount() != null ? response.getViewCount() : 0) + pendingViews))
+                .likeCount((int) Math.max(0, (response.getLikeCount() != null ? response.getLikeCount() : 0) + pendingLikes))
+                .build();
     }
 
     /**
      * 게시글 목록 조회
+     * - 최신순 (createdAt, id 내림차순), 다음 페이지가 있으면 커서 페이징을 이어갈 nextCursor 포함
+     * - 요약 DTO 로 바로 조회 (목록 쿼리 + COUNT 쿼리), content 는 미리보기
+     * - 아직 DB 에 반영되지 않은 조회수/좋아요 수 포함, viewerId 가 있으면 각 글의 좋아요 여부 포함
      */
-    public com.sookmyung.campus_match.dto.common.PageResponse<com.sookmyung.campus_match.dto.post.PostSummaryResponse> getPosts(Integer page, Integer size, String sort) {
+    public com.sookmyung.campus_match.dto.common.PageResponse<com.sookmyung.campus_match.dto.post.PostSummaryResponse> getPosts(Integer page, Integer size, String sort, Long viewerId) {
         // TODO: PageUtils를 사용한 페이징 처리
-        Pageable pageable = org.springframework.data.domain.PageRequest.of(page != null ? page : 0, size != null ? size : 20);
-        Page<Post> posts = postRepository.findAllActiveAndOpen(pageable);
-        return com.sookmyung.campus_match.dto.common.PageResponse.from(posts.map(com.sookmyung.campus_match.dto.post.PostSummaryResponse::from));
+        Pageable pageable = org.springframework.data.domain.PageRequest.of(page != null ? page : 0, size != null ? size : 20,
+                Sort.by(Sort.Order.desc("createdAt"), Sort.Order.desc("id")));
+        Page<PostSummaryResponse> posts = postRepository.findActiveAndOpenSummaries(pageable);
+        return withLiveState(com.sookmyung.campus_match.dto.common.PageResponse.from(posts)
+                .toBuilder()
+                .nextCursor(posts.hasNext() ? nextCursor(posts.getContent()) : null)
+                .build(), viewerId);
+    }
+
+    /**
+     * 게시글 목록 커서 페이징 (최신순)
+     * - (createdAt, id) seek 조건으로 조회하여 몇 번째 페이지든 비용이 같고 COUNT 쿼리 없음
+     * - cursor 가 없으면 첫 페이지
+     */
+    public PageResponse<PostSummaryResponse> getPostsByCursor(String cursor, Integer size, Long viewerId) {
+        Pageable pageable = PageRequest.of(0, PageCursor.pageSize(size));
+        Slice<PostSummaryResponse> posts;
+        if (cursor == null || cursor.isBlank()) {
+            posts = postRepository.findActiveAndOpenSummariesFirst(pageable);
+        } else {
+            PageCursor position = PageCursor.decode(cursor);
+            posts = postRepository.findActiveAndOpenSummariesBefore(position.getCreatedAt(), position.getId(), pageable);
+        }
+        return withLiveState(PageResponse.from(posts,
+                posts.hasNext() ? nextCursor(posts.getContent()) : null), viewerId);
+    }
+
+    /**
+     * 목록의 각 글에 반영 대기 중인 조회수/좋아요 수를 더하고 viewerId 의 좋아요 여부 표시
+     * - 상세 조회와 같은 값을 보여주기 위함 (좋아요 여부는 페이지당 쿼리 한 번, viewerId 가 없으면 생략)
+     */
+    private PageResponse<PostSummaryResponse> withLiveState(PageResponse<PostSummaryResponse> page, Long viewerId) {
+        if (page.getContent() == null || page.getContent().isEmpty()) {
+            return page;
+        }
+        Set<Long> liked = viewerId == null ? null : postLikeService.likedPostIds(viewerId,
+                page.getContent().stream().map(PostSummaryResponse::getId).toList());
+        return page.toBuilder()
+                .content(page.getContent().stream()
+                        .map(post -> withPendingCounts(post, liked))
+                        .toList())
+                .build();
+    }
+
+    private PostSummaryResponse withPendingCounts(PostSummaryResponse post, Set<Long> liked) {
+        long pendingViews = viewCountBuffer.pendingPostViews(post.getId());
+        long pendingLikes = postLikeService.pendingLikes(post.getId());
+        if (pendingViews == 0 && pendingLikes == 0 && liked == null) {
+            return post;
+        }
+        PostSummaryResponse.PostSummaryResponseBuilder builder = post.toBuilder();
+        if (pendingViews != 0) {
+            builder.viewCount((int) ((post.getViewCount() != null ? post.getViewCount() : 0) + pendingViews));
+        }
+        if (pendingLikes != 0) {
+            builder.likeCount((int) Math.max(0, (post.getLikeCount() != null ? post.getLikeCount() : 0) + pendingLikes));
+        }
+        if (liked != null) {
+            builder.liked(liked.contains(post.getId()));
+        }
+        return builder.build();
+    }
+
+    private static String nextCursor(List<PostSummaryResponse> posts) {
+        if (posts.isEmpty()) {
+            return null;
+        }
+        PostSummaryResponse last = posts.get(posts.size() - 1);
+        return PageCursor.encode(last.getCreatedAt(), last.getId());
     }
 
     /**
      * 조회수 증가
+     * - DB 는 ViewCountBuffer 가 주기적으로 모아서 반영 (조회마다 같은 행을 UPDATE 하지 않음)
      */
-    @Transactional
     public void incrementViews(Long postId) {
-        postRepository.incrementViews(postId);
+        viewCountBuffer.incrementPostView(postId);
+        eventPublisher.publishEvent(new PostEngagementEvent(postId, PostEngagementEvent.EngagementType.VIEW));
     }
 
+    /**
+     * 좋아요 (이미 눌렀으면 무시, 멱등성)
+     * - 게시글 행을 읽거나 잠그지 않음, like_count 반영은 PostLikeService 참고
+     */
     @Transactional
     public void likePost(Long postId, Long userId) {
-        User user = userRepository.findById(userId)
-                .orElseThrow(() -> new IllegalArgumentException("User not found: " + userId));
-        
-        Post post = postRepository.findById(postId)
-                .orElseThrow(() -> new IllegalArgumentException("Post not found: " + postId));
-
-        // 이미 좋아요를 눌렀는지 확인
-        if (postLikeRepository.existsByPostAndUser(post, user)) {
-            // 이미 좋아요를 눌렀으면 무시 (멱등성)
-            return;
+        if (!userRepository.existsById(userId)) {
+            throw new IllegalArgumentException("User not found: " + userId);
         }
+        postLikeService.like(postId, userId);
+    }
 
-        PostLike like = PostLike.builder()
-                .post(post)
-                .user(user)
-                .build();
-
-        postLikeRepository.save(like);
-        post.increaseLikeCount(1);
-        postRepository.save(post);
+    /**
+     * 좋아요 취소 (누르지 않았으면 무시, 멱등성)
+     */
+    @Transactional
+    public void unlikePost(Long postId, Long userId) {
+        postLikeService.unlike(postId, userId);
     }
 
     public com.sookmyung.campus_match.dto.post.PostLikeCountResponse getPostLikeCount(Long postId) {
         Post post = postRepository.findById(postId)
                 .orElseThrow(() -> new IllegalArgumentException("Post not found: " + postId));
 
-        return com.sookmyung.campus_match.dto.post.PostLikeCountResponse.of(postId, post.getLikeCount() != null ? post.getLikeCount().longValue() : 0L);
+        long stored = post.getLikeCount() != null ? post.getLikeCount().longValue() : 0L;
+        return com.sookmyung.campus_match.dto.post.PostLikeCountResponse.of(postId, Math.max(0L, stored + postLikeService.pendingLikes(postId)));
     }
 
     @Transactional
@@ -359,6 +443,7 @@ public class PostService {
                 .build();
 
         PostApplication savedApplication = postApplicationRepository.save(application);
+        eventPublisher.publishEvent(new PostEngagementEvent(postId, PostEngagementEvent.EngagementType.APPLICATION));
         return PostApplicationResponse.from(savedApplication);
     }
 
@@ -435,6 +520,9 @@ public class PostService {
 
         post.closeRecruitment();
         postRepository.save(post);
+
+        // 검색 색인의 마감 여부 필터가 바로 반영되도록 수정 이벤트 발행
+        eventPublisher.publishEvent(new PostChangedEvent(postId, user.getId(), PostChangedEvent.ChangeType.UPDATED));
     }
 
     @Transactional
@@ -453,17 +541,18 @@ public class PostService {
         // Soft delete
         post.setIsDeleted(true);
         postRepository.save(post);
+        eventPublisher.publishEvent(new PostChangedEvent(postId, user.getId(), PostChangedEvent.ChangeType.DELETED));
     }
 
     /**
      * 카테고리별 게시글 목록 조회
      * WHY: dev 환경에서 카테고리별 게시글 조회 기능 제공
      */
-    public PageResponse<PostSummaryResponse> getPostsByCategory(PostCategory category, Integer page, Integer size) {
+    public PageResponse<PostSummaryResponse> getPostsByCategory(PostCategory category, Integer page, Integer size, Long viewerId) {
         try {
             Pageable pageable = PageRequest.of(page, size);
-            Page<Post> posts = postRepository.findByCategoryAndIsDeletedFalse(category, pageable);
-            return PageResponse.from(posts.map(PostSummaryResponse::from));
+            Page<PostSummaryResponse> posts = postRepository.findSummariesByCategory(category, pageable);
+            return withLiveState(PageResponse.from(posts), viewerId);
         } catch (Exception e) {
             log.warn("카테고리별 게시글 조회 실패 - 빈 결과 반환: {}", e.getMessage());
             return PageResponse.empty();
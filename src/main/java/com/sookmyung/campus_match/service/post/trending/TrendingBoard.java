@@ -0,0 +1,218 @@
+package com.sookmyung.campus_match.service.post.trending;
+
+import com.sookmyung.campus_match.domain.common.enums.PostCategory;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.EnumMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableSet;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentSkipListSet;
+
+/**
+ * 시간 감쇠 점수 기반 인기 게시글 순위 (전체 + 카테고리별)
+ * - 활동 가중치 w 를 시각 t 에 받으면 기준 시각 t0 에 대해 w * e^(λ(t - t0)) 를 더해 둠
+ *   → 모든 글의 점수가 같은 비율로 감소하므로 저장 값 순서가 곧 현재 점수 순서 (조회 때마다 재계산 없음)
+ * - 현재 점수는 조회 시 e^(-λ(now - t0)) 를 곱해 계산, 지수가 커지면 기준 시각을 옮기며 한 번에 다시 씀
+ * - 순위는 ConcurrentSkipListSet 으로 유지하여 조회는 잠금 없이 앞에서부터 limit 개만 읽음
+ * - 갱신은 하나씩 (synchronized), 갱신 중 조회는 해당 글이 잠시 빠져 보일 수 있음
+ */
+public final class TrendingBoard {
+
+    /** e^40 ≈ 2.4e17, 가중치를 곱해도 double 정밀도 안에서 충분한 여유 */
+    private static final double REBASE_EXPONENT = 40;
+
+    private static final Comparator<Entry> ORDER = Comparator
+            .comparingDouble((Entry entry) -> entry.boosted).reversed()
+            .thenComparingLong(entry -> entry.post.getPostId());
+
+    private final double decayPerMilli;
+    private final Map<Long, Entry> entries = new ConcurrentHashMap<>();
+    private volatile Rankings rankings;
+
+    public TrendingBoard(Duration halfLife, long nowMillis) {
+        this.decayPerMilli = Math.log(2) / Math.max(1L, halfLife.toMillis());
+        this.rankings = new Rankings(nowMillis);
+    }
+
+    /**
+     * atMillis 시각의 활동 점수 weight 를 더함 (처음 보는 글은 post 로 새로 등록)
+     */
+    public synchronized void record(TrendingPost post, double weight, long atMillis) {
+        Entry existing = entries.get(post.getPostId());
+        add(existing, post, weight, atMillis);
+    }
+
+    /**
+     * 이미 순위에 있는 글에 활동 점수를 더함 (없으면 false, 호출 측에서 게시글 정보를 읽어 record)
+     */
+    public synchronized boolean touch(long postId, double weight, long atMillis) {
+        Entry existing = entries.get(postId);
+        if (existing == null) {
+            return false;
+        }
+        add(existing, existing.post, weight, atMillis);
+        return true;
+    }
+
+    /**
+     * 순위에 있는 글의 제목/카테고리 등 정보만 교체 (점수 유지)
+     */
+    public synchronized void update(TrendingPost post) {
+        Entry existing = entries.get(post.getPostId());
+        if (existing != null) {
+            replace(existing, new Entry(post, existing.boosted));
+        }
+    }
+
+    public synchronized void remove(long postId) {
+        Entry existing = entries.remove(postId);
+        if (existing != null) {
+            rankings.remove(existing);
+        }
+    }
+
+    public boolean contains(long postId) {
+        return entries.containsKey(postId);
+    }
+
+    public int size() {
+        return entries.size();
+    }
+
+    /**
+     * 기준 시각을 nowMillis 로 옮기고 현재 점수가 minScore 미만인 글을 제외 (제외한 수 반환)
+     */
+    public synchronized int prune(double minScore, long nowMillis) {
+        int before = entries.size();
+        rebase(nowMillis, minScore);
+        return before - entries.size();
+    }
+
+    /**
+     * 현재 점수 상위 limit 개 (category 가 null 이면 전체)
+     */
+    public List<Ranked> top(PostCategory category, int limit, long nowMillis) {
+        Rankings current = rankings;
+        double decay = Math.exp(-decayPerMilli * (nowMillis - current.epochMillis));
+        NavigableSet<Entry> ranking = category == null ? current.all : current.byCategory.get(category);
+        List<Ranked> result = new ArrayList<>(Math.max(0, Math.min(limit, entries.size())));
+        if (ranking == null) {
+            return result;
+        }
+        Iterator<Entry> iterator = ranking.iterator();
+        while (result.size() < limit && iterator.hasNext()) {
+            Entry entry = iterator.next();
+            result.add(new Ranked(entry.post, entry.boosted * decay));
+        }
+        return result;
+    }
+
+    private void add(Entry existing, TrendingPost post, double weight, long atMillis) {
+        if (exponent(atMillis) > REBASE_EXPONENT) {
+            rebase(atMillis, 0);
+            existing = entries.get(post.getPostId());
+        }
+        double boosted = weight * Math.exp(exponent(atMillis));
+        Entry next = new Entry(post, existing != null ? existing.boosted + boosted : boosted);
+        if (existing != null) {
+            replace(existing, next);
+        } else {
+            entries.put(post.getPostId(), next);
+            rankings.add(next);
+        }
+    }
+
+    private void replace(Entry existing, Entry next) {
+        Rankings current = rankings;
+        current.remove(existing);
+        entries.put(next.post.getPostId(), next);
+        current.add(next);
+    }
+
+    private double exponent(long atMillis) {
+        return decayPerMilli * (atMillis - rankings.epochMillis);
+    }
+
+    /**
+     * 모든 저장 값을 새 기준 시각 기준으로 다시 쓰고 순위를 새로 만들어 교체
+     */
+    private void rebase(long epochMillis, double minScore) {
+        double scale = Math.exp(-exponent(epochMillis));
+        Rankings fresh = new Rankings(epochMillis);
+        for (Iterator<Entry> iterator = entries.values().iterator(); iterator.hasNext(); ) {
+            Entry entry = iterator.next();
+            double boosted = entry.boosted * scale;
+            if (boosted < minScore) {
+                iterator.remove();
+                continue;
+            }
+            Entry rescaled = new Entry(entry.post, boosted);
+            entries.put(entry.post.getPostId(), rescaled);
+            fresh.add(rescaled);
+        }
+        rankings = fresh;
+    }
+
+    /**
+     * 순위 항목과 조회 시점의 점수
+     */
+    public static final class Ranked {
+        private final TrendingPost post;
+        private final double score;
+
+        private Ranked(TrendingPost post, double score) {
+            this.post = post;
+            this.score = score;
+        }
+
+        public TrendingPost getPost() {
+            return post;
+        }
+
+        public double getScore() {
+            return score;
+        }
+    }
+
+    private static final class Entry {
+        private final TrendingPost post;
+        private final double boosted;
+
+        private Entry(TrendingPost post, double boosted) {
+            this.post = post;
+            this.boosted = boosted;
+        }
+    }
+
+    private static final class Rankings {
+        private final long epochMillis;
+        private final NavigableSet<Entry> all = new ConcurrentSkipListSet<>(ORDER);
+        private final Map<PostCategory, NavigableSet<Entry>> byCategory = new EnumMap<>(PostCategory.class);
+
+        private Rankings(long epochMillis) {
+            this.epochMillis = epochMillis;
+            for (PostCategory category : PostCategory.values()) {
+                byCategory.put(category, new ConcurrentSkipListSet<>(ORDER));
+            }
+        }
+
+        private void add(Entry entry) {
+            all.add(entry);
+            if (entry.post.getCategory() != null) {
+                byCategory.get(entry.post.getCategory()).add(entry);
+            }
+        }
+
+        private void remove(Entry entry) {
+            all.remove(entry);
+            if (entry.post.getCategory() != null) {
+                byCategory.get(entry.post.getCategory()).remove(entry);
+            }
+        }
+    }
+}
@@ -0,0 +1,45 @@
+package com.sookmyung.campus_match.service.post.trending;
+
+import com.sookmyung.campus_match.domain.common.enums.PostCategory;
+
+import java.time.LocalDateTime;
+
+/**
+ * 인기 게시글 순위에 보관하는 게시글 요약 (조회 시 DB 를 거치지 않기 위함, 불변)
+ */
+public final class TrendingPost {
+
+    private final long postId;
+    private final PostCategory category;
+    private final String title;
+    private final String authorName;
+    private final LocalDateTime createdAt;
+
+    public TrendingPost(long postId, PostCategory category, String title, String authorName, LocalDateTime createdAt) {
+        this.postId = postId;
+        this.category = category;
+        this.title = title;
+        this.authorName = authorName;
+        this.createdAt = createdAt;
+    }
+
+    public long getPostId() {
+        return postId;
+    }
+
+    public PostCategory getCategory() {
+        return category;
+    }
+
+    public String getTitle() {
+        return title;
+    }
+
+    public String getAuthorName() {
+        return authorName;
+    }
+
+    public LocalDateTime getCreatedAt() {
+        return createdAt;
+    }
+}
@@ -0,0 +1,177 @@
+package com.sookmyung.campus_match.service.post.trending;
+
+import com.sookmyung.campus_match.config.trending.TrendingProperties;
+import com.sookmyung.campus_match.domain.common.enums.PostCategory;
+import com.sookmyung.campus_match.domain.event.PostChangedEvent;
+import com.sookmyung.campus_match.domain.event.PostEngagementEvent;
+import com.sookmyung.campus_match.dto.post.TrendingPostResponse;
+import com.sookmyung.campus_match.repository.post.PostRepository;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.List;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 인기 게시글 (시간 감쇠 점수)
+ * - 조회/좋아요/댓글/지원 이벤트(커밋 후)마다 가중치만큼 점수를 더하고, 점수는 half-life 마다 절반으로 감소
+ * - 시작 시 최근 seed-window 안에 작성된 글의 누적 조회수/좋아요/댓글 수를 작성 시점 활동으로 보고 점수를 채움
+ * - 조회는 메모리 순위(TrendingBoard)만 읽고 DB 를 거치지 않음
+ * - 순위에 없던 글에 활동이 생기면 그때 게시글 정보를 한 번 읽어 등록, 삭제된 글은 즉시 제외
+ * - 주기적으로 점수가 min-score 아래로 떨어진 글을 정리
+ * WHY: 전체 글을 조회수/좋아요 순으로 정렬하는 쿼리(누적 기준, 매번 filesort) 대신 최근 활동 기준 순위를 바로 돌려주기 위함
+ */
+@Slf4j
+@Service
+public class TrendingPostService {
+
+    private static final int PAGE_SIZE = 1000;
+
+    private final PostRepository postRepository;
+    private final TrendingProperties properties;
+    private final TrendingBoard board;
+    private final ScheduledExecutorService scheduler = Executors.newSingleThreadScheduledExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "trending-posts");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    public TrendingPostService(PostRepository postRepository, TrendingProperties properties) {
+        this.postRepository = postRepository;
+        this.properties = properties;
+        this.board = new TrendingBoard(properties.getHalfLife(), System.currentTimeMillis());
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void start() {
+        scheduler.execute(() -> {
+            try {
+                seed();
+            } catch (Exception e) {
+                log.warn("인기 게시글 초기 점수 적재 실패: {}", e.getMessage());
+            }
+        });
+        long intervalMillis = Math.max(1000L, properties.getCleanupInterval().toMillis());
+        scheduler.scheduleWithFixedDelay(() -> {
+            try {
+                int removed = board.prune(properties.getMinScore(), System.currentTimeMillis());
+                log.debug("인기 게시글 정리 - 제외: {}, 남은 글: {}", removed, board.size());
+            } catch (Exception e) {
+                log.warn("인기 게시글 정리 실패: {}", e.getMessage());
+            }
+        }, intervalMillis, intervalMillis, TimeUnit.MILLISECONDS);
+    }
+
+    /**
+     * 인기 게시글 (category 가 null 이면 전체 카테고리)
+     */
+    public List<TrendingPostResponse> getTrending(PostCategory category, int limit) {
+        int safeLimit = Math.max(1, Math.min(limit, properties.getMaxLimit()));
+        return board.top(category, safeLimit, System.currentTimeMillis()).stream()
+                .map(TrendingPostResponse::from)
+                .toList();
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onEngagement(PostEngagementEvent event) {
+        try {
+            double weight = weightOf(event.getEngagementType());
+            long now = System.currentTimeMillis();
+            if (!board.touch(event.getPostId(), weight, now)) {
+                for (Object[] row : postRepository.findTrendingPostById(event.getPostId())) {
+                    board.record(toPost(row), weight, now);
+                }
+            }
+        } catch (Exception e) {
+            log.warn("인기 게시글 점수 갱신 실패 - 게시글 ID: {}, 오류: {}", event.getPostId(), e.getMessage());
+        }
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onPostChanged(PostChangedEvent event) {
+        try {
+            if (event.getChangeType() == PostChangedEvent.ChangeType.DELETED) {
+                board.remove(event.getPostId());
+            } else if (event.getChangeType() == PostChangedEvent.ChangeType.UPDATED && board.contains(event.getPostId())) {
+                // 제목/카테고리 변경 반영 (점수 유지)
+                List<Object[]> rows = postRepository.findTrendingPostById(event.getPostId());
+                if (rows.isEmpty()) {
+                    board.remove(event.getPostId());
+                }
+                for (Object[] row : rows) {
+                    board.update(toPost(row));
+                }
+            }
+        } catch (Exception e) {
+            log.warn("인기 게시글 정보 갱신 실패 - 게시글 ID: {}, 오류: {}", event.getPostId(), e.getMessage());
+        }
+    }
+
+    /**
+     * 최근 작성된 글의 누적 활동으로 초기 점수 채우기 (현재 스레드에서 실행)
+     */
+    public void seed() {
+        long startedAt = System.currentTimeMillis();
+        LocalDateTime since = LocalDateTime.now().minus(properties.getSeedWindow());
+        TrendingProperties.Weights weights = properties.getWeights();
+        long afterId = 0L;
+        while (true) {
+            List<Object[]> rows = postRepository.findTrendingSourcesAfter(since, afterId, PageRequest.of(0, PAGE_SIZE));
+            if (rows == null || rows.isEmpty()) {
+                break;
+            }
+            for (Object[] row : rows) {
+                double weight = weights.getView() * count(row[5])
+                        + weights.getLike() * count(row[6])
+                        + weights.getComment() * count(row[7]);
+                LocalDateTime createdAt = (LocalDateTime) row[4];
+                if (weight > 0 && createdAt != null) {
+                    board.record(toPost(row), weight, createdAt.atZone(ZoneId.systemDefault()).toInstant().toEpochMilli());
+                }
+            }
+            afterId = (Long) rows.get(rows.size() - 1)[0];
+            if (rows.size() < PAGE_SIZE) {
+                break;
+            }
+        }
+        board.prune(properties.getMinScore(), System.currentTimeMillis());
+        log.info("인기 게시글 초기 점수 적재 완료 - 게시글 수: {}, 소요: {}ms",
+                board.size(), System.currentTimeMillis() - startedAt);
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        scheduler.shutdownNow();
+    }
+
+    private double weightOf(PostEngagementEvent.EngagementType type) {
+        TrendingProperties.Weights weights = properties.getWeights();
+        return switch (type) {
+            case VIEW -> weights.getView();
+            case LIKE -> weights.getLike();
+            case COMMENT -> weights.getComment();
+            case APPLICATION -> weights.getApplication();
+        };
+    }
+
+    /**
+     * 게시글 정보 행 (id, title, category, authorName, createdAt, ...) → TrendingPost
+     */
+    private static TrendingPost toPost(Object[] row) {
+        return new TrendingPost((Long) row[0], (PostCategory) row[2], (String) row[1], (String) row[3], (LocalDateTime) row[4]);
+    }
+
+    private static long count(Object value) {
+        return value instanceof Number number ? number.longValue() : 0L;
+    }
+}
@@ -1,5 +1,6 @@
 package com.sookmyung.campus_match.service.profile;
 
+import com.sookmyung.campus_match.domain.event.UserProfileChangedEvent;
 import com.sookmyung.campus_match.domain.user.Profile;
 import com.sookmyung.campus_match.domain.user.User;
 import com.sookmyung.campus_match.dto.profile.ProfileCreateRequest;
@@ -9,8 +10,10 @@ import com.sookmyung.campus_match.exception.ApiException;
 import com.sookmyung.campus_match.exception.ErrorCode;
 import com.sookmyung.campus_match.repository.user.ProfileRepository;
 import com.sookmyung.campus_match.repository.user.UserRepository;
+import com.sookmyung.campus_match.service.counter.ViewCountBuffer;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -26,6 +29,8 @@ public class ProfileService {
 
     private final ProfileRepository profileRepository;
     private final UserRepository userRepository;
+    private final ApplicationEventPublisher eventPublisher;
+    private final ViewCountBuffer viewCountBuffer;
 
     @Transactional
     public ProfileResponse createProfile(ProfileCreateRequest request, String username) {
@@ -46,6 +51,7 @@ public class ProfileService {
                 .build();
 
         Profile savedProfile = profileRepository.save(profile);
+        eventPublisher.publishEvent(new UserProfileChangedEvent(user.getId()));
         // TODO: 실제 관심사와 경력 데이터를 가져와서 전달해야 함
         return ProfileResponse.from(savedProfile, List.of(), List.of());
     }
@@ -67,6 +73,7 @@ public class ProfileService {
         profile.update(request.getHeadline(), request.getBio(), 
                 request.getGreetingEnabled() != null ? request.getGreetingEnabled() : true);
         Profile updatedProfile = profileRepository.save(profile);
+        eventPublisher.publishEvent(new UserProfileChangedEvent(user.getId()));
         
         // TODO: 실제 관심사와 경력 데이터를 가져와서 전달해야 함
         return ProfileResponse.from(updatedProfile, List.of(), List.of());
@@ -77,7 +84,7 @@ public class ProfileService {
                 .orElseThrow(() -> new ApiException(ErrorCode.USER_NOT_FOUND, "프로필을 찾을 수 없습니다."));
 
         // TODO: 실제 관심사와 경력 데이터를 가져와서 전달해야 함
-        return ProfileResponse.from(profile, List.of(), List.of());
+        return withPendingViews(ProfileResponse.from(profile, List.of(), List.of()), profile.getUserId());
     }
 
     public ProfileResponse getProfileByUserId(Long userId) {
@@ -85,27 +92,37 @@ public class ProfileService {
                 .orElseThrow(() -> new ApiException(ErrorCode.USER_NOT_FOUND, "프로필을 찾을 수 없습니다."));
 
         // TODO: 실제 관심사와 경력 데이터를 가져와서 전달해야 함
-        return ProfileResponse.from(profile, List.of(), List.of());
+        return withPendingViews(ProfileResponse.from(profile, List.of(), List.of()), profile.getUserId());
     }
 
     /**
      * 프로필 조회수 증가
+     * - 프로필 ID 는 사용자 ID 와 같음, DB 는 ViewCountBuffer 가 주기적으로 모아서 반영
      */
-    @Transactional
     public void incrementViewCount(Long profileId) {
-        Profile profile = profileRepository.findById(profileId)
-                .orElseThrow(() -> new ApiException(ErrorCode.USER_NOT_FOUND, "프로필을 찾을 수 없습니다."));
-        
-        profile.incrementViewCount();
-        profileRepository.save(profile);
+        if (!profileRepository.existsById(profileId)) {
+            throw new ApiException(ErrorCode.USER_NOT_FOUND, "프로필을 찾을 수 없습니다.");
+        }
+        viewCountBuffer.incrementProfileView(profileId);
     }
 
     /**
-     * 사용자 ID로 프로필 조회수 증가 (Repository 직접 호출)
+     * 사용자 ID로 프로필 조회수 증가 (존재 확인 없이 버퍼에만 더함, 없는 프로필은 반영 시 0 행 갱신)
      */
-    @Transactional
     public void incrementViewCountByUserId(Long userId) {
-        profileRepository.incrementViewCount(userId);
+        viewCountBuffer.incrementProfileView(userId);
+    }
+
+    /**
+     * 아직 DB 에 반영되지 않은 조회수 포함
+     */
+    private ProfileResponse withPendingViews(ProfileResponse response, Long userId) {
+        long pendingViews = viewCountBuffer.pendingProfileViews(userId);
+        if (pendingViews == 0) {
+            return response;
+        }
+        int viewCount = response.getViewCount() != null ? response.getViewCount() : 0;
+        return response.toBuilder().viewCount((int) (viewCount + pendingViews)).build();
     }
 
     /**
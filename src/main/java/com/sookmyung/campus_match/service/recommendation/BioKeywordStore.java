@@ -0,0 +1,123 @@
+package com.sookmyung.campus_match.service.recommendation;
+
+import org.springframework.stereotype.Component;
+
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 자기소개 키워드 특성 저장소
+ * - 키워드를 정수 ID로 인턴하고, 사용자별로 정렬된 int 배열을 보관
+ * - 자기소개 원문이 바뀐 경우에만 다시 토큰화
+ * - 추천 대상에서 빠진 사용자(삭제/승인 취소)는 remove/retainOnly 로 정리
+ * WHY: 추천 계산 때마다 같은 자기소개를 정규식으로 반복 토큰화하지 않고,
+ *      유사도는 정렬된 정수 배열 병합으로 계산하기 위함
+ */
+@Component
+public class BioKeywordStore {
+
+    private static final int[] NO_KEYWORDS = new int[0];
+
+    private final Map<String, Integer> dictionary = new ConcurrentHashMap<>();
+    private final AtomicInteger nextKeywordId = new AtomicInteger();
+    private final Map<Long, Entry> entries = new ConcurrentHashMap<>();
+
+    /**
+     * 사용자 자기소개 반영 후 정렬된 키워드 ID 반환
+     * - 저장된 원문과 같으면 토큰화 없이 기존 배열 반환
+     */
+    public int[] update(Long userId, String bio) {
+        String text = bio != null ? bio : "";
+        Entry current = entries.get(userId);
+        if (current != null && current.bio.equals(text)) {
+            return current.keywordIds;
+        }
+        int[] keywordIds = intern(text);
+        entries.put(userId, new Entry(text, keywordIds));
+        return keywordIds;
+    }
+
+    /**
+     * 정렬된 키워드 ID (저장된 적 없으면 빈 배열)
+     */
+    public int[] getKeywordIds(Long userId) {
+        Entry entry = entries.get(userId);
+        return entry != null ? entry.keywordIds : NO_KEYWORDS;
+    }
+
+    public void remove(Long userId) {
+        entries.remove(userId);
+    }
+
+    /**
+     * 지정한 사용자만 남기고 나머지 항목 제거 (전체 스냅샷 적재 시)
+     */
+    public void retainOnly(Collection<Long> userIds) {
+        Set<Long> retained = new HashSet<>(userIds);
+        entries.keySet().removeIf(userId -> !retained.contains(userId));
+    }
+
+    private int[] intern(String text) {
+        String[] tokens = tokenize(text);
+        if (tokens.length == 0) {
+            return NO_KEYWORDS;
+        }
+        int[] ids = new int[tokens.length];
+        for (int i = 0; i < tokens.length; i++) {
+            ids[i] = dictionary.computeIfAbsent(tokens[i], k -> nextKeywordId.getAndIncrement());
+        }
+        Arrays.sort(ids);
+        int size = 0;
+        for (int i = 0; i < ids.length; i++) {
+            if (i == 0 || ids[i] != ids[i - 1]) {
+                ids[size++] = ids[i];
+            }
+        }
+        return size == ids.length ? ids : Arrays.copyOf(ids, size);
+    }
+
+    /**
+     * 자기소개 토큰화 (영문 소문자/한글 연속 구간, 2자 이상)
+     * - 기존 정규식 구현(toLowerCase → [^a-zA-Z가-힣] 치환 → 공백 분리)과 같은 결과를 문자 순회 한 번으로 계산
+     */
+    static String[] tokenize(String text) {
+        if (text == null || text.isEmpty()) {
+            return new String[0];
+        }
+        String lower = text.toLowerCase();
+        String[] tokens = new String[lower.length() / 2 + 1];
+        int count = 0;
+        int start = -1;
+        for (int i = 0; i <= lower.length(); i++) {
+            boolean wordChar = i < lower.length() && isWordChar(lower.charAt(i));
+            if (wordChar && start < 0) {
+                start = i;
+            } else if (!wordChar && start >= 0) {
+                if (i - start > 1) {
+                    tokens[count++] = lower.substring(start, i);
+                }
+                start = -1;
+            }
+        }
+        return Arrays.copyOf(tokens, count);
+    }
+
+    private static boolean isWordChar(char c) {
+        return (c >= 'a' && c <= 'z') || (c >= 'A' && c <= 'Z') || (c >= '가' && c <= '힣');
+    }
+
+    private static final class Entry {
+        private final String bio;
+        private final int[] keywordIds;
+
+        private Entry(String bio, int[] keywordIds) {
+            this.bio = bio;
+            this.keywordIds = keywordIds;
+        }
+    }
+}
@@ -0,0 +1,23 @@
+package com.sookmyung.campus_match.service.recommendation;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+import org.springframework.stereotype.Component;
+
+/**
+ * 추천 배치 진행률/처리량/예상 종료 시간 조회 (/actuator/recommendationbatch)
+ * - 실행은 관리자 API(POST /api/admin/recommendations/regenerate)로만 시작
+ */
+@Component
+@Endpoint(id = "recommendationbatch")
+@RequiredArgsConstructor
+public class RecommendationBatchEndpoint {
+
+    private final RecommendationBatchRunner batchRunner;
+
+    @ReadOperation
+    public RecommendationBatchProgress progress() {
+        return batchRunner.getProgress();
+    }
+}
@@ -0,0 +1,27 @@
+package com.sookmyung.campus_match.service.recommendation;
+
+import com.sookmyung.campus_match.domain.common.enums.BatchStatus;
+import lombok.Builder;
+import lombok.Getter;
+
+import java.time.LocalDateTime;
+
+/**
+ * 추천 배치 진행 상황 (Actuator 노출용)
+ */
+@Getter
+@Builder
+public class RecommendationBatchProgress {
+
+    private final boolean running;
+    private final Long runId;
+    private final BatchStatus status;
+    private final int totalUsers;
+    private final int processedUsers;
+    private final double percent;
+    private final double usersPerSecond;
+    private final Long etaSeconds;
+    private final Long lastUserId;
+    private final LocalDateTime startedAt;
+    private final LocalDateTime finishedAt;
+}
@@ -0,0 +1,277 @@
+package com.sookmyung.campus_match.service.recommendation;
+
+import com.sookmyung.campus_match.config.recommendation.RecommendationProperties;
+import com.sookmyung.campus_match.domain.common.enums.BatchStatus;
+import com.sookmyung.campus_match.domain.recommendation.RecommendationBatchCheckpoint;
+import com.sookmyung.campus_match.domain.recommendation.UserRecommendation;
+import com.sookmyung.campus_match.domain.user.User;
+import com.sookmyung.campus_match.repository.recommendation.RecommendationBatchCheckpointRepository;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 추천 전체 재생성 배치 실행기
+ * - 승인 사용자를 ID 오름차순 청크로 나누어 고정 크기 워커 풀에서 병렬 계산
+ * - 모든 워커가 같은 읽기 전용 특성 스냅샷을 공유 (적재 1회)
+ * - 청크마다 독립 트랜잭션으로 커밋하고, 연속으로 완료된 구간까지 체크포인트 저장
+ * - 중단/실패한 실행이 있으면 체크포인트 이후부터 재개
+ */
+@Slf4j
+@Component
+public class RecommendationBatchRunner {
+
+    private final RecommendationFeatureLoader featureLoader;
+    private final RecommendationChunkWriter chunkWriter;
+    private final RecommendationBatchCheckpointRepository checkpointRepository;
+    private final RecommendationProperties properties;
+
+    private final AtomicBoolean running = new AtomicBoolean(false);
+    private final AtomicInteger processedInRun = new AtomicInteger();
+    private final ExecutorService launcher = Executors.newSingleThreadExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "recommendation-batch-launcher");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    private volatile RecommendationBatchCheckpoint checkpoint;
+    private volatile long runStartedNanos;
+    private volatile int resumedFrom;
+
+    public RecommendationBatchRunner(RecommendationFeatureLoader featureLoader,
+                                     RecommendationChunkWriter chunkWriter,
+                                     RecommendationBatchCheckpointRepository checkpointRepository,
+                                     RecommendationProperties properties) {
+        this.featureLoader = featureLoader;
+        this.chunkWriter = chunkWriter;
+        this.checkpointRepository = checkpointRepository;
+        this.properties = properties;
+    }
+
+    /**
+     * 배치를 백그라운드에서 시작
+     * @return 이미 실행 중이면 false
+     */
+    public boolean startAsync() {
+        if (running.get()) {
+            return false;
+        }
+        launcher.execute(() -> {
+            try {
+                run();
+            } catch (Exception e) {
+                log.error("추천 배치 실행 실패", e);
+            }
+        });
+        return true;
+    }
+
+    /**
+     * 배치를 현재 스레드에서 실행 (완료될 때까지 대기)
+     * @return 이미 실행 중이면 false
+     */
+    public boolean run() {
+        if (!running.compareAndSet(false, true)) {
+            log.info("추천 배치가 이미 실행 중입니다.");
+            return false;
+        }
+        try {
+            execute();
+            return true;
+        } finally {
+            running.set(false);
+        }
+    }
+
+    private void execute() {
+        RecommendationFeatureSnapshot snapshot = featureLoader.loadApprovedSnapshot();
+        List<User> users = new ArrayList<>(snapshot.getCandidates());
+        users.sort(Comparator.comparing(User::getId));
+
+        RecommendationBatchCheckpoint current = resumeOrStart(users.size());
+        if (current.getLastUserId() != null) {
+            Long lastUserId = current.getLastUserId();
+            users.removeIf(user -> user.getId() <= lastUserId);
+            log.info("추천 배치 재개 - 실행 ID: {}, 마지막 완료 사용자 ID: {}, 남은 사용자: {}",
+                    current.getId(), lastUserId, users.size());
+        }
+        // 재개 시 스냅샷 사용자 수가 달라졌을 수 있으므로 남은 수 기준으로 다시 계산
+        current.setTotalUsers(current.getProcessedUsers() + users.size());
+        checkpoint = checkpointRepository.save(current);
+
+        processedInRun.set(0);
+        resumedFrom = current.getProcessedUsers();
+        runStartedNanos = System.nanoTime();
+
+        List<List<User>> chunks = partition(users, Math.max(1, properties.getBatch().getChunkSize()));
+        boolean[] completed = new boolean[chunks.size()];
+        int[] nextToCheckpoint = {0};
+        boolean failed = false;
+
+        ExecutorService workers = Executors.newFixedThreadPool(Math.max(1, properties.getBatch().getParallelism()),
+                new NamedThreadFactory("recommendation-batch-"));
+        try {
+            List<Future<?>> futures = new ArrayList<>(chunks.size());
+            for (int i = 0; i < chunks.size(); i++) {
+                int chunkIndex = i;
+                List<User> chunk = chunks.get(i);
+                futures.add(workers.submit(() -> {
+                    processChunk(chunk, snapshot);
+                    onChunkCompleted(chunks, completed, nextToCheckpoint, chunkIndex);
+                }));
+            }
+            for (Future<?> future : futures) {
+                try {
+                    future.get();
+                } catch (Exception e) {
+                    failed = true;
+                    log.error("추천 배치 청크 처리 실패", e);
+                }
+            }
+        } catch (RuntimeException e) {
+            failed = true;
+            throw e;
+        } finally {
+            workers.shutdownNow();
+            finish(failed);
+        }
+    }
+
+    private RecommendationBatchCheckpoint resumeOrStart(int totalUsers) {
+        RecommendationBatchCheckpoint last = checkpointRepository.findFirstByOrderByIdDesc().orElse(null);
+        if (last != null && last.getStatus() != BatchStatus.COMPLETED) {
+            last.setStatus(BatchStatus.RUNNING);
+            last.setFinishedAt(null);
+            return last;
+        }
+        return RecommendationBatchCheckpoint.builder()
+                .status(BatchStatus.RUNNING)
+                .totalUsers(totalUsers)
+                .processedUsers(0)
+                .startedAt(LocalDateTime.now())
+                .build();
+    }
+
+    private void processChunk(List<User> chunk, RecommendationFeatureSnapshot snapshot) {
+        LocalDateTime generatedAt = LocalDateTime.now();
+        List<Long> userIds = new ArrayList<>(chunk.size());
+        List<UserRecommendation> recommendations = new ArrayList<>(chunk.size() * RecommendationRanker.MAX_RECOMMENDATIONS);
+        for (User user : chunk) {
+            userIds.add(user.getId());
+            recommendations.addAll(RecommendationRanker.rank(user, snapshot.getFeatures(user.getId()), snapshot, generatedAt));
+        }
+        chunkWriter.writeChunk(userIds, recommendations);
+        processedInRun.addAndGet(chunk.size());
+    }
+
+    /**
+     * 앞선 청크가 모두 끝난 구간까지만 체크포인트를 전진
+     * WHY: 청크가 순서 없이 끝나므로, 재개 시 누락이 없도록 연속 완료 구간만 기록
+     */
+    private synchronized void onChunkCompleted(List<List<User>> chunks, boolean[] completed,
+                                               int[] nextToCheckpoint, int chunkIndex) {
+        completed[chunkIndex] = true;
+        int advanced = 0;
+        Long lastUserId = null;
+        while (nextToCheckpoint[0] < completed.length && completed[nextToCheckpoint[0]]) {
+            List<User> chunk = chunks.get(nextToCheckpoint[0]);
+            advanced += chunk.size();
+            lastUserId = chunk.get(chunk.size() - 1).getId();
+            nextToCheckpoint[0]++;
+        }
+        if (advanced == 0) {
+            return;
+        }
+        RecommendationBatchCheckpoint current = checkpoint;
+        current.setProcessedUsers(current.getProcessedUsers() + advanced);
+        current.setLastUserId(lastUserId);
+        checkpoint = checkpointRepository.save(current);
+    }
+
+    private synchronized void finish(boolean failed) {
+        RecommendationBatchCheckpoint current = checkpoint;
+        current.setStatus(failed ? BatchStatus.FAILED : BatchStatus.COMPLETED);
+        current.setFinishedAt(LocalDateTime.now());
+        try {
+            checkpoint = checkpointRepository.save(current);
+        } catch (Exception e) {
+            log.warn("추천 배치 체크포인트 저장 실패: {}", e.getMessage());
+        }
+        log.info("추천 배치 종료 - 상태: {}, 처리: {}/{}, 소요: {}초",
+                current.getStatus(), current.getProcessedUsers(), current.getTotalUsers(),
+                Duration.ofNanos(System.nanoTime() - runStartedNanos).toSeconds());
+    }
+
+    /**
+     * 현재(또는 마지막) 실행의 진행 상황
+     */
+    public RecommendationBatchProgress getProgress() {
+        RecommendationBatchCheckpoint current = checkpoint;
+        if (current == null) {
+            return RecommendationBatchProgress.builder().running(running.get()).build();
+        }
+        boolean isRunning = running.get();
+        int total = current.getTotalUsers();
+        // 실행 중에는 커밋된 청크 기준 카운터를, 종료 후에는 체크포인트 값을 사용
+        int processed = isRunning ? resumedFrom + processedInRun.get() : current.getProcessedUsers();
+        double elapsedSeconds = (System.nanoTime() - runStartedNanos) / 1_000_000_000.0;
+        double usersPerSecond = isRunning && elapsedSeconds > 0 ? processedInRun.get() / elapsedSeconds : 0.0;
+        Long etaSeconds = isRunning && usersPerSecond > 0
+                ? (long) Math.ceil(Math.max(0, total - processed) / usersPerSecond) : null;
+
+        return RecommendationBatchProgress.builder()
+                .running(isRunning)
+                .runId(current.getId())
+                .status(current.getStatus())
+                .totalUsers(total)
+                .processedUsers(processed)
+                .percent(total > 0 ? Math.min(100.0, processed * 100.0 / total) : 0.0)
+                .usersPerSecond(usersPerSecond)
+                .etaSeconds(etaSeconds)
+                .lastUserId(current.getLastUserId())
+                .startedAt(current.getStartedAt())
+                .finishedAt(current.getFinishedAt())
+                .build();
+    }
+
+    private static <T> List<List<T>> partition(List<T> items, int size) {
+        List<List<T>> chunks = new ArrayList<>((items.size() + size - 1) / size);
+        for (int from = 0; from < items.size(); from += size) {
+            chunks.add(items.subList(from, Math.min(items.size(), from + size)));
+        }
+        return chunks;
+    }
+
+    private static final class NamedThreadFactory implements ThreadFactory {
+        private final String prefix;
+        private final AtomicInteger count = new AtomicInteger();
+
+        private NamedThreadFactory(String prefix) {
+            this.prefix = prefix;
+        }
+
+        @Override
+        public Thread newThread(Runnable runnable) {
+            Thread thread = new Thread(runnable, prefix + count.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        launcher.shutdownNow();
+    }
+}
@@ -0,0 +1,239 @@
+package com.sookmyung.campus_match.service.recommendation;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 추천 1단계: 포스팅 리스트 합집합으로 점수 계산 대상 후보를 선별
+ * - 학과 / 관심사 / 게시글 카테고리별 사용자 목록과 합집합
+ * - 관심사 없음 / 게시글 없음 그룹: 양쪽 모두 정보가 없으면 중간 점수를 받으므로 별도 포스팅으로 유지
+ * - 위 조건에 하나도 해당하지 않는 사용자는 유사도가 자기소개 가중치(0.1) 이하라
+ *   최소 유사도를 넘을 수 없으므로, 상한을 넘지 않는 한 결과가 전체 탐색과 같음
+ * - 후보가 상한을 넘으면 겹치는 포스팅 수가 많은 순으로 자름
+ * WHY: 점수 계산 비용을 전체 사용자 수가 아니라 대상 사용자의 이웃 규모에 비례시키기 위함
+ */
+public final class RecommendationCandidateGenerator {
+
+    /** 기본 후보 상한 */
+    public static final int DEFAULT_MAX_CANDIDATES = 2000;
+
+    private static final long[] EMPTY = new long[0];
+
+    private final Map<String, long[]> byDepartment;
+    private final Map<Long, long[]> byInterest;
+    private final long[][] byCategory = new long[Integer.SIZE][];
+    private long[] withoutInterests;
+    private long[] withoutPosts;
+    private final int maxCandidates;
+
+    public RecommendationCandidateGenerator(Collection<UserFeatureVector> features, int maxCandidates) {
+        this.maxCandidates = Math.max(1, maxCandidates);
+
+        Map<String, List<Long>> departments = new HashMap<>();
+        Map<Long, List<Long>> interests = new HashMap<>();
+        List<List<Long>> categories = new ArrayList<>(Integer.SIZE);
+        for (int bit = 0; bit < Integer.SIZE; bit++) {
+            categories.add(new ArrayList<>());
+        }
+        List<Long> noInterests = new ArrayList<>();
+        List<Long> noPosts = new ArrayList<>();
+
+        for (UserFeatureVector feature : features) {
+            Long userId = feature.getUserId();
+            if (feature.getDepartment() != null) {
+                departments.computeIfAbsent(feature.getDepartment(), k -> new ArrayList<>()).add(userId);
+            }
+            if (feature.hasInterests()) {
+                for (long interestId : feature.interestIds()) {
+                    interests.computeIfAbsent(interestId, k -> new ArrayList<>()).add(userId);
+                }
+            } else {
+                noInterests.add(userId);
+            }
+            if (feature.hasPosts()) {
+                int mask = feature.getCategoryMask();
+                while (mask != 0) {
+                    int bit = Integer.numberOfTrailingZeros(mask);
+                    categories.get(bit).add(userId);
+                    mask &= mask - 1;
+                }
+            } else {
+                noPosts.add(userId);
+            }
+        }
+
+        this.byDepartment = new HashMap<>(departments.size() * 2);
+        departments.forEach((department, ids) -> byDepartment.put(department, toArray(ids)));
+        this.byInterest = new HashMap<>(interests.size() * 2);
+        interests.forEach((interestId, ids) -> byInterest.put(interestId, toArray(ids)));
+        for (int bit = 0; bit < Integer.SIZE; bit++) {
+            byCategory[bit] = toArray(categories.get(bit));
+        }
+        this.withoutInterests = toArray(noInterests);
+        this.withoutPosts = toArray(noPosts);
+    }
+
+    private RecommendationCandidateGenerator(RecommendationCandidateGenerator source) {
+        this.maxCandidates = source.maxCandidates;
+        this.byDepartment = new HashMap<>(source.byDepartment);
+        this.byInterest = new HashMap<>(source.byInterest);
+        System.arraycopy(source.byCategory, 0, this.byCategory, 0, Integer.SIZE);
+        this.withoutInterests = source.withoutInterests;
+        this.withoutPosts = source.withoutPosts;
+    }
+
+    /**
+     * 사용자 한 명의 특성만 바꾼 새 생성기 (기존 생성기는 변경하지 않음)
+     * - previous: 기존 특성 (새로 추가되는 사용자면 null)
+     * - updated: 새 특성 (후보에서 빠지는 사용자면 null)
+     * - 해당 사용자가 속한 포스팅 리스트만 복사하고 나머지 배열은 공유
+     */
+    public RecommendationCandidateGenerator withReplaced(UserFeatureVector previous, UserFeatureVector updated) {
+        RecommendationCandidateGenerator copy = new RecommendationCandidateGenerator(this);
+        if (previous != null) {
+            copy.apply(previous, false);
+        }
+        if (updated != null) {
+            copy.apply(updated, true);
+        }
+        return copy;
+    }
+
+    private void apply(UserFeatureVector feature, boolean add) {
+        long userId = feature.getUserId();
+        if (feature.getDepartment() != null) {
+            byDepartment.put(feature.getDepartment(),
+                    edit(byDepartment.get(feature.getDepartment()), userId, add));
+        }
+        if (feature.hasInterests()) {
+            for (long interestId : feature.interestIds()) {
+                byInterest.put(interestId, edit(byInterest.get(interestId), userId, add));
+            }
+        } else {
+            withoutInterests = edit(withoutInterests, userId, add);
+        }
+        if (feature.hasPosts()) {
+            int mask = feature.getCategoryMask();
+            while (mask != 0) {
+                int bit = Integer.numberOfTrailingZeros(mask);
+                byCategory[bit] = edit(byCategory[bit], userId, add);
+                mask &= mask - 1;
+            }
+        } else {
+            withoutPosts = edit(withoutPosts, userId, add);
+        }
+    }
+
+    /**
+     * 대상 사용자의 후보 ID (본인 제외, ID 오름차순)
+     */
+    public long[] generate(UserFeatureVector target) {
+        Map<Long, int[]> hits = new HashMap<>();
+
+        if (target.getDepartment() != null) {
+            addPostings(hits, byDepartment.getOrDefault(target.getDepartment(), EMPTY));
+        }
+        if (target.hasInterests()) {
+            for (long interestId : target.interestIds()) {
+                addPostings(hits, byInterest.getOrDefault(interestId, EMPTY));
+            }
+        } else {
+            addPostings(hits, withoutInterests);
+        }
+        if (target.hasPosts()) {
+            int mask = target.getCategoryMask();
+            while (mask != 0) {
+                int bit = Integer.numberOfTrailingZeros(mask);
+                addPostings(hits, byCategory[bit]);
+                mask &= mask - 1;
+            }
+        } else {
+            addPostings(hits, withoutPosts);
+        }
+        hits.remove(target.getUserId());
+
+        long[] candidateIds = hits.size() > maxCandidates ? mostOverlapping(hits) : toArray(hits.keySet());
+        Arrays.sort(candidateIds);
+        return candidateIds;
+    }
+
+    public int getMaxCandidates() {
+        return maxCandidates;
+    }
+
+    private void addPostings(Map<Long, int[]> hits, long[] userIds) {
+        for (long userId : userIds) {
+            hits.computeIfAbsent(userId, k -> new int[1])[0]++;
+        }
+    }
+
+    /**
+     * 겹치는 포스팅 수 기준 상위 maxCandidates 명 (카운팅 정렬)
+     */
+    private long[] mostOverlapping(Map<Long, int[]> hits) {
+        int maxHits = 0;
+        for (int[] count : hits.values()) {
+            maxHits = Math.max(maxHits, count[0]);
+        }
+        int[] histogram = new int[maxHits + 1];
+        for (int[] count : hits.values()) {
+            histogram[count[0]]++;
+        }
+        // 상위 maxCandidates 명에 들기 위한 최소 겹침 수
+        int threshold = maxHits + 1;
+        int selected = 0;
+        while (threshold > 1 && selected + histogram[threshold - 1] <= maxCandidates) {
+            threshold--;
+            selected += histogram[threshold];
+        }
+
+        long[] result = new long[maxCandidates];
+        int size = 0;
+        List<Long> boundary = new ArrayList<>();
+        for (Map.Entry<Long, int[]> entry : hits.entrySet()) {
+            int count = entry.getValue()[0];
+            if (count >= threshold) {
+                result[size++] = entry.getKey();
+            } else if (count == threshold - 1) {
+                boundary.add(entry.getKey());
+            }
+        }
+        // 경계 그룹은 ID 순으로 남은 자리만큼 채움 (결과를 실행마다 동일하게 유지)
+        boundary.sort(null);
+        for (int i = 0; i < boundary.size() && size < maxCandidates; i++) {
+            result[size++] = boundary.get(i);
+        }
+        return size == result.length ? result : Arrays.copyOf(result, size);
+    }
+
+    private static long[] edit(long[] postings, long userId, boolean add) {
+        long[] source = postings != null ? postings : EMPTY;
+        if (add) {
+            long[] result = Arrays.copyOf(source, source.length + 1);
+            result[source.length] = userId;
+            return result;
+        }
+        for (int i = 0; i < source.length; i++) {
+            if (source[i] == userId) {
+                long[] result = new long[source.length - 1];
+                System.arraycopy(source, 0, result, 0, i);
+                System.arraycopy(source, i + 1, result, i, source.length - i - 1);
+                return result;
+            }
+        }
+        return source;
+    }
+
+    private static long[] toArray(Collection<Long> ids) {
+        long[] array = new long[ids.size()];
+        int i = 0;
+        for (Long id : ids) {
+            array[i++] = id;
+        }
+        return array;
+    }
+}
@@ -0,0 +1,32 @@
+package com.sookmyung.campus_match.service.recommendation;
+
+import com.sookmyung.campus_match.domain.event.UserRecommendationsChangedEvent;
+import com.sookmyung.campus_match.domain.recommendation.UserRecommendation;
+import com.sookmyung.campus_match.repository.recommendation.UserRecommendationRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * 배치 청크 하나의 추천 결과를 독립 트랜잭션으로 저장
+ * WHY: 청크마다 커밋하여 장시간 트랜잭션을 피하고, 실패 시 해당 청크만 롤백
+ */
+@Component
+@RequiredArgsConstructor
+public class RecommendationChunkWriter {
+
+    private final UserRecommendationRepository userRecommendationRepository;
+    private final ApplicationEventPublisher eventPublisher;
+
+    @Transactional(propagation = Propagation.REQUIRES_NEW)
+    public void writeChunk(Collection<Long> userIds, List<UserRecommendation> recommendations) {
+        userRecommendationRepository.deleteByUserIdIn(userIds);
+        userRecommendationRepository.batchInsert(recommendations);
+        eventPublisher.publishEvent(new UserRecommendationsChangedEvent(userIds));
+    }
+}
@@ -0,0 +1,174 @@
+package com.sookmyung.campus_match.service.recommendation;
+
+import com.sookmyung.campus_match.config.recommendation.RecommendationProperties;
+import com.sookmyung.campus_match.domain.common.enums.ApprovalStatus;
+import com.sookmyung.campus_match.domain.common.enums.PostCategory;
+import com.sookmyung.campus_match.domain.user.User;
+import com.sookmyung.campus_match.repository.post.PostRepository;
+import com.sookmyung.campus_match.repository.user.ProfileRepository;
+import com.sookmyung.campus_match.repository.user.UserInterestRepository;
+import com.sookmyung.campus_match.repository.user.UserRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+import java.util.*;
+
+/**
+ * 추천 계산에 필요한 사용자 특성을 일괄 조회하여 특성 벡터로 변환
+ * - 사용자 / 관심사 / 게시글 카테고리 / 자기소개를 각각 한 번의 쿼리로 적재
+ * - 자기소개 키워드는 BioKeywordStore 에서 인턴된 ID로 변환 (원문이 바뀐 사용자만 토큰화)
+ * - 마지막으로 적재한 승인 사용자 스냅샷을 보관하고, 변경 이벤트는 바뀐 사용자만 다시 조회해 반영
+ * WHY: 후보 수와 무관하게 SQL 왕복 횟수를 고정하기 위함 (기존: 후보당 약 5회 조회)
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class RecommendationFeatureLoader {
+
+    private final UserRepository userRepository;
+    private final UserInterestRepository userInterestRepository;
+    private final PostRepository postRepository;
+    private final ProfileRepository profileRepository;
+    private final BioKeywordStore bioKeywordStore;
+    private final RecommendationProperties properties;
+
+    private final Object snapshotLock = new Object();
+    private volatile RecommendationFeatureSnapshot cachedSnapshot;
+
+    /**
+     * 승인된 전체 사용자의 특성 스냅샷 적재 (쿼리 4회)
+     * - 적재 결과는 이후 부분 갱신(refreshApprovedSnapshot)의 기준으로 보관
+     */
+    public RecommendationFeatureSnapshot loadApprovedSnapshot() {
+        List<User> approvedUsers = userRepository.findByApprovalStatus(ApprovalStatus.APPROVED);
+
+        Map<Long, User> candidates = new LinkedHashMap<>(approvedUsers.size() * 2);
+        for (User user : approvedUsers) {
+            candidates.put(user.getId(), user);
+        }
+
+        Map<Long, Set<Long>> interests = groupInterests(
+                userInterestRepository.findUserInterestPairsByApprovalStatus(ApprovalStatus.APPROVED));
+        Map<Long, Integer> categoryMasks = groupCategories(
+                postRepository.findAuthorCategoryPairsByApprovalStatus(ApprovalStatus.APPROVED));
+        Map<Long, String> bios = groupBios(
+                profileRepository.findUserBiosByApprovalStatus(ApprovalStatus.APPROVED));
+
+        Map<Long, UserFeatureVector> features = new HashMap<>(candidates.size() * 2);
+        for (User user : approvedUsers) {
+            features.put(user.getId(), toFeatureVector(user, interests, categoryMasks, bios));
+        }
+
+        // 승인 사용자가 아니게 된 사용자의 자기소개 키워드 정리
+        bioKeywordStore.retainOnly(features.keySet());
+
+        log.debug("추천 특성 스냅샷 적재 완료 - 사용자 수: {}", features.size());
+        RecommendationFeatureSnapshot snapshot = new RecommendationFeatureSnapshot(candidates, features,
+                properties.getCandidate().getMaxCandidates());
+        synchronized (snapshotLock) {
+            cachedSnapshot = snapshot;
+        }
+        return snapshot;
+    }
+
+    /**
+     * 사용자 한 명이 바뀐 뒤의 승인 사용자 스냅샷
+     * - 보관 중인 스냅샷이 있으면 해당 사용자 특성만 다시 조회하여 반영 (쿼리 3회)
+     * - 승인 사용자가 아니거나 삭제된 경우(user == null) 후보에서 제거
+     * - 보관 중인 스냅샷이 없으면(기동 직후) 전체 적재
+     * WHY: 변경 이벤트마다 전체 특성을 다시 적재하면 이벤트당 비용이 전체 사용자 수에 비례함
+     */
+    public RecommendationFeatureSnapshot refreshApprovedSnapshot(Long userId, User user) {
+        synchronized (snapshotLock) {
+            RecommendationFeatureSnapshot current = cachedSnapshot;
+            if (current == null) {
+                return loadApprovedSnapshot();
+            }
+            RecommendationFeatureSnapshot updated;
+            if (user != null && user.getApprovalStatus() == ApprovalStatus.APPROVED) {
+                updated = current.withUser(user, loadFeatures(List.of(user)).get(user.getId()));
+            } else {
+                updated = current.withoutUser(userId);
+                bioKeywordStore.remove(userId);
+            }
+            cachedSnapshot = updated;
+            return updated;
+        }
+    }
+
+    /**
+     * 특정 사용자들의 특성 벡터 적재 (쿼리 3회)
+     * - 스냅샷에 포함되지 않은 사용자(예: 미승인 사용자)의 특성 조회용
+     */
+    public Map<Long, UserFeatureVector> loadFeatures(Collection<User> users) {
+        if (users.isEmpty()) {
+            return Collections.emptyMap();
+        }
+        List<Long> userIds = users.stream().map(User::getId).toList();
+
+        Map<Long, Set<Long>> interests = groupInterests(
+                userInterestRepository.findUserInterestPairsByUserIds(userIds));
+        Map<Long, Integer> categoryMasks = groupCategories(
+                postRepository.findAuthorCategoryPairsByAuthorIds(userIds));
+        Map<Long, String> bios = groupBios(profileRepository.findUserBiosByUserIds(userIds));
+
+        Map<Long, UserFeatureVector> features = new HashMap<>(users.size() * 2);
+        for (User user : users) {
+            features.put(user.getId(), toFeatureVector(user, interests, categoryMasks, bios));
+        }
+        return features;
+    }
+
+    private UserFeatureVector toFeatureVector(User user,
+                                              Map<Long, Set<Long>> interests,
+                                              Map<Long, Integer> categoryMasks,
+                                              Map<Long, String> bios) {
+        Set<Long> interestIds = interests.getOrDefault(user.getId(), Collections.emptySet());
+        long[] interestArray = new long[interestIds.size()];
+        int i = 0;
+        for (Long interestId : interestIds) {
+            interestArray[i++] = interestId;
+        }
+
+        Integer categoryMask = categoryMasks.get(user.getId());
+        String bio = bios.getOrDefault(user.getId(), "");
+
+        return new UserFeatureVector(
+                user.getId(),
+                user.getDepartment(),
+                interestArray,
+                categoryMask != null ? categoryMask : 0,
+                categoryMask != null,
+                bioKeywordStore.update(user.getId(), bio),
+                bio.isEmpty());
+    }
+
+    private Map<Long, Set<Long>> groupInterests(List<Object[]> rows) {
+        Map<Long, Set<Long>> result = new HashMap<>();
+        for (Object[] row : rows) {
+            result.computeIfAbsent((Long) row[0], k -> new HashSet<>()).add((Long) row[1]);
+        }
+        return result;
+    }
+
+    private Map<Long, Integer> groupCategories(List<Object[]> rows) {
+        Map<Long, Integer> result = new HashMap<>();
+        for (Object[] row : rows) {
+            PostCategory category = (PostCategory) row[1];
+            int bit = category != null ? 1 << category.ordinal() : 0;
+            result.merge((Long) row[0], bit, (a, b) -> a | b);
+        }
+        return result;
+    }
+
+    private Map<Long, String> groupBios(List<Object[]> rows) {
+        Map<Long, String> result = new HashMap<>();
+        for (Object[] row : rows) {
+            if (row[1] != null) {
+                result.put((Long) row[0], (String) row[1]);
+            }
+        }
+        return result;
+    }
+}
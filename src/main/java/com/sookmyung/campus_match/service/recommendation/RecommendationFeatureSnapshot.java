@@ -0,0 +1,107 @@
+package com.sookmyung.campus_match.service.recommendation;
+
+import com.sookmyung.campus_match.domain.user.User;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 추천 후보 사용자와 특성 벡터의 읽기 전용 스냅샷
+ * - 한 번 적재한 뒤 여러 사용자의 추천 계산에 재사용
+ * - 후보 생성용 포스팅 리스트를 함께 보관 (RecommendationCandidateGenerator)
+ * - 변경은 withUser/withoutUser 로 새 스냅샷을 만들어 반영 (사용 중인 스냅샷은 그대로 유지)
+ */
+public class RecommendationFeatureSnapshot {
+
+    private final Map<Long, User> candidates;
+    private final Map<Long, UserFeatureVector> features;
+    private final RecommendationCandidateGenerator candidateGenerator;
+
+    public RecommendationFeatureSnapshot(Map<Long, User> candidates, Map<Long, UserFeatureVector> features) {
+        this(candidates, features, RecommendationCandidateGenerator.DEFAULT_MAX_CANDIDATES);
+    }
+
+    public RecommendationFeatureSnapshot(Map<Long, User> candidates, Map<Long, UserFeatureVector> features,
+                                         int maxCandidates) {
+        this.candidates = Collections.unmodifiableMap(candidates);
+        this.features = Collections.unmodifiableMap(features);
+        this.candidateGenerator = new RecommendationCandidateGenerator(features.values(), maxCandidates);
+    }
+
+    private RecommendationFeatureSnapshot(Map<Long, User> candidates, Map<Long, UserFeatureVector> features,
+                                          RecommendationCandidateGenerator candidateGenerator) {
+        this.candidates = Collections.unmodifiableMap(candidates);
+        this.features = Collections.unmodifiableMap(features);
+        this.candidateGenerator = candidateGenerator;
+    }
+
+    /**
+     * 사용자 한 명을 추가하거나 특성을 교체한 새 스냅샷
+     */
+    public RecommendationFeatureSnapshot withUser(User user, UserFeatureVector userFeatures) {
+        Map<Long, User> nextCandidates = new LinkedHashMap<>(candidates);
+        Map<Long, UserFeatureVector> nextFeatures = new HashMap<>(features);
+        nextCandidates.put(user.getId(), user);
+        UserFeatureVector previous = nextFeatures.put(user.getId(), userFeatures);
+        return new RecommendationFeatureSnapshot(nextCandidates, nextFeatures,
+                candidateGenerator.withReplaced(previous, userFeatures));
+    }
+
+    /**
+     * 사용자 한 명을 후보에서 뺀 새 스냅샷 (없으면 그대로 반환)
+     */
+    public RecommendationFeatureSnapshot withoutUser(Long userId) {
+        if (!features.containsKey(userId)) {
+            return this;
+        }
+        Map<Long, User> nextCandidates = new LinkedHashMap<>(candidates);
+        Map<Long, UserFeatureVector> nextFeatures = new HashMap<>(features);
+        nextCandidates.remove(userId);
+        UserFeatureVector previous = nextFeatures.remove(userId);
+        return new RecommendationFeatureSnapshot(nextCandidates, nextFeatures,
+                candidateGenerator.withReplaced(previous, null));
+    }
+
+    public Collection<User> getCandidates() {
+        return candidates.values();
+    }
+
+    public User getCandidate(Long userId) {
+        return candidates.get(userId);
+    }
+
+    public UserFeatureVector getFeatures(Long userId) {
+        return features.get(userId);
+    }
+
+    /**
+     * 대상 사용자와 겹치는 특성이 있는 후보 ID (본인 제외, ID 오름차순)
+     */
+    public long[] getCandidateIdsFor(UserFeatureVector target) {
+        return candidateGenerator.generate(target);
+    }
+
+    /**
+     * 대상 사용자와 겹치는 특성이 있는 후보만 반환 (본인 제외, ID 오름차순)
+     */
+    public List<User> getCandidatesFor(UserFeatureVector target) {
+        long[] candidateIds = candidateGenerator.generate(target);
+        List<User> result = new ArrayList<>(candidateIds.length);
+        for (long candidateId : candidateIds) {
+            User candidate = candidates.get(candidateId);
+            if (candidate != null) {
+                result.add(candidate);
+            }
+        }
+        return result;
+    }
+
+    public int size() {
+        return candidates.size();
+    }
+}
@@ -0,0 +1,72 @@
+package com.sookmyung.campus_match.service.recommendation;
+
+import com.sookmyung.campus_match.domain.recommendation.UserRecommendation;
+import com.sookmyung.campus_match.domain.user.User;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 특성 스냅샷 기준으로 한 사용자의 추천 목록(상위 N명)을 계산
+ * - DB 접근 없이 메모리에서만 동작하므로 여러 스레드에서 동시에 호출 가능
+ * - 전체 사용자가 아니라 후보 생성 단계에서 선별된 사용자만 점수 계산
+ * - 상위 K개는 원시 타입 최소 힙(TopKScores)으로 유지
+ */
+public final class RecommendationRanker {
+
+    /** 추천으로 저장할 최소 유사도 */
+    public static final double MIN_SIMILARITY = 0.1;
+
+    /** 사용자당 저장하는 최대 추천 수 */
+    public static final int MAX_RECOMMENDATIONS = 20;
+
+    private RecommendationRanker() {
+    }
+
+    public static List<UserRecommendation> rank(User user, UserFeatureVector target,
+                                                RecommendationFeatureSnapshot snapshot,
+                                                LocalDateTime generatedAt) {
+        return rank(user, target, snapshot, generatedAt, MAX_RECOMMENDATIONS, MIN_SIMILARITY);
+    }
+
+    /**
+     * 상위 k명 추천 계산
+     * - 점수 계산 루프에서는 (사용자 ID, 점수)만 고정 크기 힙에 넣고,
+     *   최종 k명에 대해서만 UserRecommendation 엔티티를 생성
+     * @param k 최대 추천 수
+     * @param minSimilarity 이 값을 초과하는 점수만 추천
+     */
+    public static List<UserRecommendation> rank(User user, UserFeatureVector target,
+                                                RecommendationFeatureSnapshot snapshot,
+                                                LocalDateTime generatedAt,
+                                                int k, double minSimilarity) {
+        TopKScores topK = new TopKScores(k);
+        long userId = user.getId();
+
+        for (long candidateId : snapshot.getCandidateIdsFor(target)) {
+            if (candidateId == userId) {
+                continue; // 본인 제외
+            }
+            double similarityScore = SimilarityCalculator.similarity(target, snapshot.getFeatures(candidateId));
+            if (similarityScore > minSimilarity) { // 최소 유사도 임계값
+                topK.offer(candidateId, similarityScore);
+            }
+        }
+
+        // 유사도 점수 내림차순으로 최종 k명만 엔티티 생성
+        double[] scores = new double[topK.size()];
+        long[] recommendedIds = topK.drainDescending(scores);
+        List<UserRecommendation> recommendations = new ArrayList<>(recommendedIds.length);
+        for (int i = 0; i < recommendedIds.length; i++) {
+            recommendations.add(UserRecommendation.builder()
+                    .user(user)
+                    .recommendedUser(snapshot.getCandidate(recommendedIds[i]))
+                    .similarityScore(BigDecimal.valueOf(scores[i]))
+                    .generatedAt(generatedAt)
+                    .build());
+        }
+        return recommendations;
+    }
+}
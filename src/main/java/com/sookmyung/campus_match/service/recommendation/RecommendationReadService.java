@@ -0,0 +1,96 @@
+package com.sookmyung.campus_match.service.recommendation;
+
+import com.sookmyung.campus_match.config.recommendation.RecommendationCacheConfig;
+import com.sookmyung.campus_match.config.recommendation.RecommendationProperties;
+import com.sookmyung.campus_match.domain.event.UserRecommendationsChangedEvent;
+import com.sookmyung.campus_match.domain.user.User;
+import com.sookmyung.campus_match.dto.user.UserResponse;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.List;
+
+/**
+ * 추천 조회 API용 캐시 계층
+ * - 사용자 / 학과 / 관심사별로 최대 maxCachedResults 명의 응답 DTO를 캐시하고 limit 만큼 잘라 반환
+ * - 사용자 키: user_recommendations 재생성/부분 갱신 커밋 시 즉시 무효화
+ * - 학과/관심사 키: TTL 동안만 유지 (설정한 TTL 이 최대 지연)
+ * WHY: 피드 화면이 로드될 때마다 같은 추천 조회가 DB를 다시 치지 않도록 하기 위함
+ */
+@Slf4j
+@Service
+@Transactional(readOnly = true)
+public class RecommendationReadService {
+
+    private final RecommendationService recommendationService;
+    private final Cache userCache;
+    private final Cache departmentCache;
+    private final Cache interestCache;
+    private final int maxCachedResults;
+
+    public RecommendationReadService(RecommendationService recommendationService,
+                                     CacheManager cacheManager,
+                                     RecommendationProperties properties) {
+        this.recommendationService = recommendationService;
+        this.userCache = cacheManager.getCache(RecommendationCacheConfig.USER_RECOMMENDATIONS);
+        this.departmentCache = cacheManager.getCache(RecommendationCacheConfig.DEPARTMENT_RECOMMENDATIONS);
+        this.interestCache = cacheManager.getCache(RecommendationCacheConfig.INTEREST_RECOMMENDATIONS);
+        this.maxCachedResults = properties.getCache().getMaxCachedResults();
+    }
+
+    public List<UserResponse> getRecommendedUsersForUser(Long userId, int limit) {
+        return cached(userCache, userId, limit,
+                size -> recommendationService.getRecommendedUsersForUser(userId, size));
+    }
+
+    public List<UserResponse> getUsersByDepartment(String department, int limit) {
+        return cached(departmentCache, department, limit,
+                size -> recommendationService.getUsersByDepartment(department, size));
+    }
+
+    public List<UserResponse> getUsersByInterest(String interestType, int limit) {
+        return cached(interestCache, interestType.toLowerCase(), limit,
+                size -> recommendationService.getUsersByInterest(interestType, size));
+    }
+
+    /**
+     * 추천 목록이 바뀐 사용자의 캐시 무효화 (커밋 이후)
+     */
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onRecommendationsChanged(UserRecommendationsChangedEvent event) {
+        for (Long userId : event.getUserIds()) {
+            userCache.evict(userId);
+        }
+        log.debug("추천 캐시 무효화 - 사용자 수: {}", event.getUserIds().size());
+    }
+
+    @SuppressWarnings("unchecked")
+    private List<UserResponse> cached(Cache cache, Object key, int limit, Loader loader) {
+        if (limit <= 0) {
+            return List.of();
+        }
+        if (limit > maxCachedResults) {
+            return toResponses(loader.load(limit)); // 캐시 범위를 넘는 요청은 직접 조회
+        }
+        List<UserResponse> responses = cache.get(key, List.class);
+        if (responses == null) {
+            responses = toResponses(loader.load(maxCachedResults));
+            cache.put(key, responses);
+        }
+        return responses.size() > limit ? responses.subList(0, limit) : responses;
+    }
+
+    private List<UserResponse> toResponses(List<User> users) {
+        return users.stream().map(UserResponse::from).toList();
+    }
+
+    @FunctionalInterface
+    private interface Loader {
+        List<User> load(int size);
+    }
+}
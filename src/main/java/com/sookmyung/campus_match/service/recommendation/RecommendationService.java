@@ -1,24 +1,27 @@
 package com.sookmyung.campus_match.service.recommendation;
 
-import com.sookmyung.campus_match.domain.recommendation.UserEmbedding;
 import com.sookmyung.campus_match.domain.recommendation.UserRecommendation;
 import com.sookmyung.campus_match.domain.user.User;
-import com.sookmyung.campus_match.domain.user.UserInterest;
-import com.sookmyung.campus_match.domain.post.Post;
-import com.sookmyung.campus_match.domain.common.enums.PostCategory;
 import com.sookmyung.campus_match.repository.recommendation.UserEmbeddingRepository;
 import com.sookmyung.campus_match.repository.recommendation.UserRecommendationRepository;
+import com.sookmyung.campus_match.repository.user.InterestRepository;
 import com.sookmyung.campus_match.repository.user.UserInterestRepository;
 import com.sookmyung.campus_match.repository.user.UserRepository;
-import com.sookmyung.campus_match.repository.post.PostRepository;
+import com.sookmyung.campus_match.service.recommendation.embedding.HnswIndex;
+import com.sookmyung.campus_match.service.recommendation.embedding.UserEmbeddingIndex;
 import com.sookmyung.campus_match.domain.common.enums.ApprovalStatus;
+import com.sookmyung.campus_match.domain.event.UserRecommendationsChangedEvent;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.util.*;
 import java.math.BigDecimal;
+import java.time.LocalDateTime;
 import java.util.stream.Collectors;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
@@ -30,14 +33,19 @@ import org.springframework.data.domain.Pageable;
 public class RecommendationService {
 
     private final UserRepository userRepository;
-    private final UserInterestRepository userInterestRepository;
-    private final PostRepository postRepository;
     private final UserEmbeddingRepository userEmbeddingRepository;
     private final UserRecommendationRepository userRecommendationRepository;
+    private final RecommendationFeatureLoader featureLoader;
+    private final RecommendationBatchRunner batchRunner;
+    private final UserEmbeddingIndex embeddingIndex;
+    private final UserInterestRepository userInterestRepository;
+    private final InterestRepository interestRepository;
+    private final ApplicationEventPublisher eventPublisher;
 
     /**
      * 사용자에게 추천할 다른 사용자 목록을 생성
      * - 관심사, 자기소개, 작성한 글을 기반으로 유사도 분석
+     * - 후보 특성은 일괄 조회 후 메모리에서 한 번에 계산 (후보 수와 무관하게 쿼리 수 고정)
      */
     @Transactional
     public List<UserRecommendation> generateRecommendationsForUser(Long userId) {
@@ -45,39 +53,9 @@ public class RecommendationService {
             User user = userRepository.findById(userId)
                     .orElseThrow(() -> new IllegalArgumentException("User not found: " + userId));
 
-            // 승인된 사용자만 추천 대상
-            List<User> approvedUsers = userRepository.findByApprovalStatus(ApprovalStatus.APPROVED);
-            approvedUsers.remove(user); // 본인 제외
-
-            List<UserRecommendation> recommendations = new ArrayList<>();
-
-            for (User candidate : approvedUsers) {
-                double similarityScore = calculateSimilarity(user, candidate);
-                
-                if (similarityScore > 0.1) { // 최소 유사도 임계값
-                    UserRecommendation recommendation = UserRecommendation.builder()
-                            .user(user)
-                            .recommendedUser(candidate)
-                            .similarityScore(BigDecimal.valueOf(similarityScore))
-                            .build();
-                    
-                    recommendations.add(recommendation);
-                }
-            }
-
-            // 유사도 점수 순으로 정렬
-            recommendations.sort((a, b) -> Double.compare(b.getSimilarityScore(), a.getSimilarityScore()));
-
-            // 상위 20개만 저장
-            List<UserRecommendation> topRecommendations = recommendations.stream()
-                    .limit(20)
-                    .collect(Collectors.toList());
-
-            // 기존 추천 기록 삭제 후 새로운 추천 저장
-            userRecommendationRepository.deleteByUserId(userId);
-            userRecommendationRepository.saveAll(topRecommendations);
-
-            return topRecommendations;
+            // 승인된 사용자만 추천 대상 (보관 중인 스냅샷에 본인 변경분만 반영)
+            RecommendationFeatureSnapshot snapshot = featureLoader.refreshApprovedSnapshot(userId, user);
+            return generateRecommendations(user, snapshot);
         } catch (Exception e) {
             log.warn("사용자 추천 생성 실패 - 사용자 ID: {}, 오류: {}", userId, e.getMessage());
             return java.util.Collections.emptyList();
@@ -85,174 +63,173 @@ public class RecommendationService {
     }
 
     /**
-     * 두 사용자 간의 유사도 계산
-     * - 관심사 일치: 40%
-     * - 학과 일치: 30%
-     * - 게시글 카테고리 일치: 20%
-     * - 자기소개 키워드 일치: 10%
+     * 적재된 특성 스냅샷을 기준으로 추천 목록을 계산하고 저장
      */
-    private double calculateSimilarity(User user1, User user2) {
-        double totalScore = 0.0;
-
-        // 1. 관심사 일치도 (40%)
-        double interestSimilarity = calculateInterestSimilarity(user1, user2);
-        totalScore += interestSimilarity * 0.4;
-
-        // 2. 학과 일치도 (30%)
-        double departmentSimilarity = calculateDepartmentSimilarity(user1, user2);
-        totalScore += departmentSimilarity * 0.3;
-
-        // 3. 게시글 카테고리 일치도 (20%)
-        double postSimilarity = calculatePostSimilarity(user1, user2);
-        totalScore += postSimilarity * 0.2;
-
-        // 4. 자기소개 키워드 일치도 (10%)
-        double bioSimilarity = calculateBioSimilarity(user1, user2);
-        totalScore += bioSimilarity * 0.1;
-
-        return Math.min(1.0, totalScore);
-    }
-
-    /**
-     * 관심사 일치도 계산
-     */
-    private double calculateInterestSimilarity(User user1, User user2) {
-        List<UserInterest> interests1 = userInterestRepository.findByUser(user1);
-        List<UserInterest> interests2 = userInterestRepository.findByUser(user2);
-
-        if (interests1.isEmpty() && interests2.isEmpty()) {
-            return 0.5; // 둘 다 관심사가 없으면 중간 점수
-        }
-
-        Set<Long> interestIds1 = interests1.stream()
-                .map(interest -> interest.getInterest().getId())
-                .collect(Collectors.toSet());
-        
-        Set<Long> interestIds2 = interests2.stream()
-                .map(interest -> interest.getInterest().getId())
-                .collect(Collectors.toSet());
-
-        if (interestIds1.isEmpty() || interestIds2.isEmpty()) {
-            return 0.0;
+    private List<UserRecommendation> generateRecommendations(User user, RecommendationFeatureSnapshot snapshot) {
+        UserFeatureVector target = snapshot.getFeatures(user.getId());
+        if (target == null) {
+            // 미승인 사용자 등 스냅샷에 없는 경우 본인 특성만 별도 조회
+            target = featureLoader.loadFeatures(List.of(user)).get(user.getId());
         }
 
-        // Jaccard 유사도 계산
-        Set<Long> intersection = new HashSet<>(interestIds1);
-        intersection.retainAll(interestIds2);
+        List<UserRecommendation> topRecommendations =
+                RecommendationRanker.rank(user, target, snapshot, LocalDateTime.now());
 
-        Set<Long> union = new HashSet<>(interestIds1);
-        union.addAll(interestIds2);
+        // 기존 추천 기록 삭제 후 새로운 추천 저장 (DELETE 한 번 + 배치 INSERT, 행마다 INSERT 하지 않음)
+        userRecommendationRepository.deleteByUserIdIn(List.of(user.getId()));
+        userRecommendationRepository.batchInsert(topRecommendations);
+        eventPublisher.publishEvent(new UserRecommendationsChangedEvent(List.of(user.getId())));
 
-        return union.isEmpty() ? 0.0 : (double) intersection.size() / union.size();
+        return topRecommendations;
     }
 
     /**
-     * 학과 일치도 계산
+     * 사용자의 추천 목록 조회
      */
-    private double calculateDepartmentSimilarity(User user1, User user2) {
-        return user1.getDepartment().equals(user2.getDepartment()) ? 1.0 : 0.0;
+    public List<UserRecommendation> getRecommendationsForUser(Long userId) {
+        return userRecommendationRepository.findByUser_Id(userId);
     }
 
     /**
-     * 게시글 카테고리 일치도 계산
+     * 변경된 사용자 한 명 기준으로 추천을 부분 갱신
+     * - 행: 해당 사용자 본인의 추천 목록을 다시 계산
+     * - 열: 다른 사용자들의 추천 목록 중 해당 사용자 항목만 점수 갱신/추가/삭제
+     * - 특성은 보관 중인 스냅샷에 해당 사용자분만 다시 조회하여 반영 (전체 재적재 없음)
+     * - 삭제된 사용자는 스냅샷에서만 제거 (추천 행은 FK로 함께 삭제됨)
+     * WHY: 프로필/관심사/게시글 변경 시 전체 재생성(O(N²)) 없이 대상 사용자의 후보 규모로 최신 상태 유지
      */
-    private double calculatePostSimilarity(User user1, User user2) {
-        List<Post> posts1 = postRepository.findByAuthor_Id(user1.getId(), null).getContent();
-        List<Post> posts2 = postRepository.findByAuthor_Id(user2.getId(), null).getContent();
-
-        if (posts1.isEmpty() && posts2.isEmpty()) {
-            return 0.5; // 둘 다 게시글이 없으면 중간 점수
-        }
-
-        Set<PostCategory> categories1 = posts1.stream()
-                .map(post -> post.getCategory())
-                .collect(Collectors.toSet());
-        
-        Set<PostCategory> categories2 = posts2.stream()
-                .map(post -> post.getCategory())
-                .collect(Collectors.toSet());
-
-        if (categories1.isEmpty() || categories2.isEmpty()) {
-            return 0.0;
+    @Transactional
+    public void refreshRecommendationsForUser(Long userId) {
+        User user = userRepository.findById(userId).orElse(null);
+        RecommendationFeatureSnapshot snapshot = featureLoader.refreshApprovedSnapshot(userId, user);
+        if (user == null) {
+            return;
         }
 
-        // Jaccard 유사도 계산
-        Set<PostCategory> intersection = new HashSet<>(categories1);
-        intersection.retainAll(categories2);
-
-        Set<PostCategory> union = new HashSet<>(categories1);
-        union.addAll(categories2);
-
-        return union.isEmpty() ? 0.0 : (double) intersection.size() / union.size();
+        generateRecommendations(user, snapshot);
+        patchIncomingRecommendations(user, snapshot);
     }
 
     /**
-     * 자기소개 키워드 일치도 계산
+     * 다른 사용자들의 추천 목록에서 대상 사용자 항목을 갱신
+     * - 기존 항목: 점수 갱신, 임계값 미만이면 삭제
+     * - 신규 항목: 목록에 여유가 있거나 최저 점수보다 높을 때만 추가 (최저 항목 교체)
+     * - 추천 목록이 아직 없는 사용자는 건너뜀 (전체 재생성 시 반영)
      */
-    private double calculateBioSimilarity(User user1, User user2) {
-        // 간단한 키워드 매칭 (실제로는 더 정교한 NLP 처리 필요)
-        String bio1 = user1.getProfile() != null ? user1.getProfile().getBio() : "";
-        String bio2 = user2.getProfile() != null ? user2.getProfile().getBio() : "";
+    private void patchIncomingRecommendations(User target, RecommendationFeatureSnapshot snapshot) {
+        List<UserRecommendation> incoming = userRecommendationRepository.findByRecommendedUserId(target.getId());
+        UserFeatureVector targetFeatures = snapshot.getFeatures(target.getId());
+
+        if (targetFeatures == null) {
+            // 승인 취소 등으로 추천 대상에서 빠진 경우 다른 사용자 목록에서 제거
+            userRecommendationRepository.deleteAll(incoming);
+            return;
+        }
 
-        if (bio1.isEmpty() && bio2.isEmpty()) {
-            return 0.5;
+        Map<Long, UserRecommendation> existingByOwner = new HashMap<>(incoming.size() * 2);
+        for (UserRecommendation recommendation : incoming) {
+            existingByOwner.put(recommendation.getUser().getId(), recommendation);
         }
 
-        // 공통 키워드 찾기 (간단한 구현)
-        Set<String> keywords1 = extractKeywords(bio1);
-        Set<String> keywords2 = extractKeywords(bio2);
+        LocalDateTime generatedAt = LocalDateTime.now();
+        List<UserRecommendation> toSave = new ArrayList<>();
+        List<UserRecommendation> toDelete = new ArrayList<>();
 
-        if (keywords1.isEmpty() || keywords2.isEmpty()) {
-            return 0.0;
+        // 유사도는 대칭이므로 대상 사용자의 후보 + 이미 대상을 추천 중인 사용자만 확인하면 충분
+        Map<Long, User> owners = new LinkedHashMap<>();
+        for (User candidate : snapshot.getCandidatesFor(targetFeatures)) {
+            owners.put(candidate.getId(), candidate);
+        }
+        for (Long ownerId : existingByOwner.keySet()) {
+            User owner = snapshot.getCandidate(ownerId);
+            if (owner != null) {
+                owners.putIfAbsent(ownerId, owner);
+            }
         }
 
-        Set<String> intersection = new HashSet<>(keywords1);
-        intersection.retainAll(keywords2);
+        Map<Long, Double> newScores = new LinkedHashMap<>();
+        for (User owner : owners.values()) {
+            if (owner.getId().equals(target.getId())) {
+                continue;
+            }
+            double similarityScore = SimilarityCalculator.similarity(snapshot.getFeatures(owner.getId()), targetFeatures);
+            UserRecommendation existing = existingByOwner.get(owner.getId());
+
+            if (existing != null) {
+                if (similarityScore > RecommendationRanker.MIN_SIMILARITY) {
+                    existing.setSimilarityScore(BigDecimal.valueOf(similarityScore));
+                    existing.setGeneratedAt(generatedAt);
+                    toSave.add(existing);
+                } else {
+                    toDelete.add(existing);
+                }
+            } else if (similarityScore > RecommendationRanker.MIN_SIMILARITY) {
+                newScores.put(owner.getId(), similarityScore);
+            }
+        }
 
-        Set<String> union = new HashSet<>(keywords1);
-        union.addAll(keywords2);
+        // 신규 추가 후보 사용자들의 목록 크기/최저 점수를 한 번에 조회
+        Map<Long, Object[]> statsByOwner = new HashMap<>();
+        if (!newScores.isEmpty()) {
+            for (Object[] row : userRecommendationRepository.findRecommendationStatsByUserIds(newScores.keySet())) {
+                statsByOwner.put((Long) row[0], row);
+            }
+        }
 
-        return union.isEmpty() ? 0.0 : (double) intersection.size() / union.size();
-    }
+        List<Long> fullOwnerIds = new ArrayList<>();
+        for (Map.Entry<Long, Double> entry : newScores.entrySet()) {
+            Object[] stats = statsByOwner.get(entry.getKey());
+            if (stats == null) {
+                continue;
+            }
+            long count = (Long) stats[1];
+            if (count >= RecommendationRanker.MAX_RECOMMENDATIONS) {
+                double minScore = stats[2] != null ? ((BigDecimal) stats[2]).doubleValue() : 0.0;
+                if (entry.getValue() <= minScore) {
+                    continue;
+                }
+                fullOwnerIds.add(entry.getKey());
+            }
+            toSave.add(UserRecommendation.builder()
+                    .user(owners.get(entry.getKey()))
+                    .recommendedUser(target)
+                    .similarityScore(BigDecimal.valueOf(entry.getValue()))
+                    .generatedAt(generatedAt)
+                    .build());
+        }
 
-    /**
-     * 텍스트에서 키워드 추출 (간단한 구현)
-     */
-    private Set<String> extractKeywords(String text) {
-        if (text == null || text.isEmpty()) {
-            return new HashSet<>();
+        // 목록이 가득 찬 경우 최저 점수 항목과 교체 (사용자당 한 건, 쿼리 한 번)
+        if (!fullOwnerIds.isEmpty()) {
+            Set<Long> replacedOwners = new HashSet<>();
+            for (UserRecommendation lowest : userRecommendationRepository.findLowestByUserIds(fullOwnerIds)) {
+                if (replacedOwners.add(lowest.getUser().getId())) {
+                    toDelete.add(lowest);
+                }
+            }
         }
 
-        // 간단한 키워드 추출 (실제로는 더 정교한 NLP 처리 필요)
-        return Arrays.stream(text.toLowerCase()
-                .replaceAll("[^a-zA-Z가-힣\\s]", " ")
-                .split("\\s+"))
-                .filter(word -> word.length() > 1)
-                .collect(Collectors.toSet());
-    }
+        userRecommendationRepository.deleteAll(toDelete);
+        userRecommendationRepository.saveAll(toSave);
 
-    /**
-     * 사용자의 추천 목록 조회
-     */
-    public List<UserRecommendation> getRecommendationsForUser(Long userId) {
-        return userRecommendationRepository.findByUser_Id(userId);
+        Set<Long> changedOwners = new HashSet<>();
+        toSave.forEach(recommendation -> changedOwners.add(recommendation.getUser().getId()));
+        toDelete.forEach(recommendation -> changedOwners.add(recommendation.getUser().getId()));
+        if (!changedOwners.isEmpty()) {
+            eventPublisher.publishEvent(new UserRecommendationsChangedEvent(changedOwners));
+        }
+        log.debug("추천 부분 갱신 - 사용자 ID: {}, 갱신/추가: {}, 삭제: {}",
+                target.getId(), toSave.size(), toDelete.size());
     }
 
     /**
-     * 모든 사용자의 추천 목록 재생성 (배치 작업용)
+     * 모든 사용자의 추천 목록 재생성 (복구용 배치 작업)
+     * - 평상시에는 변경 이벤트 기반 부분 갱신(refreshRecommendationsForUser)으로 최신 상태 유지
+     * - 청크 단위 병렬 계산/커밋 및 체크포인트 재개는 RecommendationBatchRunner가 담당
+     * WHY: 클래스 기본 읽기 전용 트랜잭션에 묶이지 않도록 트랜잭션 없이 실행
      */
-    @Transactional
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
     public void regenerateAllRecommendations() {
-        List<User> approvedUsers = userRepository.findByApprovalStatus(ApprovalStatus.APPROVED);
-        
-        for (User user : approvedUsers) {
-            try {
-                generateRecommendationsForUser(user.getId());
-                log.info("Generated recommendations for user: {}", user.getUsername());
-            } catch (Exception e) {
-                log.error("Failed to generate recommendations for user: {}", user.getUsername(), e);
-            }
-        }
+        batchRunner.run();
     }
 
     /**
@@ -268,10 +245,23 @@ public class RecommendationService {
 
     /**
      * 특정 사용자에게 추천할 다른 사용자 목록 조회
+     * - 저장된 추천 목록(user_recommendations)이 있으면 유사도 순으로 사용
+     * - 임베딩이 있으면 ANN 인덱스에서 가장 가까운 사용자 조회 (전체 사용자 스캔 없음)
+     * - 임베딩이 없거나 결과가 없으면 같은 학과 우선 정렬로 대체
      */
     public List<User> getRecommendedUsersForUser(Long userId, int limit) {
         User user = userRepository.findById(userId)
                 .orElseThrow(() -> new IllegalArgumentException("User not found: " + userId));
+
+        List<User> storedUsers = findStoredRecommendedUsers(userId, limit);
+        if (!storedUsers.isEmpty()) {
+            return storedUsers;
+        }
+
+        List<User> nearestUsers = findNearestApprovedUsers(userId, limit);
+        if (!nearestUsers.isEmpty()) {
+            return nearestUsers;
+        }
         
         // 승인된 사용자 중 본인을 제외한 사용자들을 반환
         List<User> recommendedUsers = userRepository.findByApprovalStatusAndIdNot(ApprovalStatus.APPROVED, user.getId());
@@ -288,14 +278,76 @@ public class RecommendationService {
         return recommendedUsers.stream().limit(limit).collect(Collectors.toList());
     }
 
+    private List<User> findStoredRecommendedUsers(Long userId, int limit) {
+        if (limit <= 0) {
+            return Collections.emptyList();
+        }
+        return userRecommendationRepository.findWithRecommendedUserByUserId(userId).stream()
+                .map(UserRecommendation::getRecommendedUser)
+                .filter(candidate -> candidate.getApprovalStatus() == ApprovalStatus.APPROVED)
+                .limit(limit)
+                .collect(Collectors.toList());
+    }
+
+    private List<User> findNearestApprovedUsers(Long userId, int limit) {
+        if (limit <= 0 || !embeddingIndex.contains(userId)) {
+            return Collections.emptyList();
+        }
+        // 미승인 사용자가 섞일 수 있으므로 여유 있게 조회 후 필터링
+        List<HnswIndex.Neighbor> neighbors = embeddingIndex.findNearest(userId, limit * 2);
+        if (neighbors.isEmpty()) {
+            return Collections.emptyList();
+        }
+        List<Long> neighborIds = neighbors.stream().map(HnswIndex.Neighbor::getUserId).toList();
+        Map<Long, User> usersById = userRepository.findAllById(neighborIds).stream()
+                .filter(candidate -> candidate.getApprovalStatus() == ApprovalStatus.APPROVED)
+                .collect(Collectors.toMap(User::getId, candidate -> candidate));
+
+        List<User> result = new ArrayList<>(limit);
+        for (Long neighborId : neighborIds) {
+            User candidate = usersById.get(neighborId);
+            if (candidate != null) {
+                result.add(candidate);
+                if (result.size() == limit) {
+                    break;
+                }
+            }
+        }
+        return result;
+    }
+
     /**
      * 관심사 기반 사용자 추천
+     * - interestType: 관심사 이름(한글/영문), 쉼표로 여러 개 지정 가능
+     * - 지정한 관심사와 많이 겹치는 승인 사용자 순으로 limit 명만 조회 (인덱스 조인 + LIMIT)
+     * WHY: 기존에는 관심사와 무관하게 승인 사용자 전체를 적재해 섞은 뒤 잘라냈음 (요청마다 O(N) 메모리)
      */
     public List<User> getUsersByInterest(String interestType, int limit) {
-        // 간단한 구현: 승인된 사용자 중 랜덤하게 반환
-        List<User> users = userRepository.findByApprovalStatus(ApprovalStatus.APPROVED);
-        Collections.shuffle(users);
-        return users.stream().limit(limit).collect(Collectors.toList());
+        if (limit <= 0 || interestType == null) {
+            return Collections.emptyList();
+        }
+        List<String> names = Arrays.stream(interestType.split(","))
+                .map(String::trim)
+                .filter(name -> !name.isEmpty())
+                .distinct()
+                .toList();
+        if (names.isEmpty()) {
+            return Collections.emptyList();
+        }
+        List<Long> interestIds = interestRepository.findIdsByNames(names);
+        if (interestIds.isEmpty()) {
+            return Collections.emptyList();
+        }
+
+        List<Object[]> ranked = userInterestRepository.findUserOverlapByInterestIds(
+                interestIds, ApprovalStatus.APPROVED, PageRequest.of(0, limit));
+        List<Long> userIds = ranked.stream().map(row -> (Long) row[0]).toList();
+        Map<Long, User> usersById = userRepository.findAllById(userIds).stream()
+                .collect(Collectors.toMap(User::getId, user -> user));
+        return userIds.stream()
+                .map(usersById::get)
+                .filter(Objects::nonNull)
+                .collect(Collectors.toList());
     }
 
     /**
@@ -0,0 +1,110 @@
+package com.sookmyung.campus_match.service.recommendation;
+
+import com.sookmyung.campus_match.domain.event.PostChangedEvent;
+import com.sookmyung.campus_match.domain.event.UserAccountChangedEvent;
+import com.sookmyung.campus_match.domain.event.UserInterestChangedEvent;
+import com.sookmyung.campus_match.domain.event.UserProfileChangedEvent;
+import com.sookmyung.campus_match.service.recommendation.embedding.EmbeddingGenerationService;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 프로필/관심사/게시글/계정(승인, 삭제) 변경 이벤트를 받아 해당 사용자의 임베딩과 추천만 부분 갱신
+ * - 커밋 이후에만 처리 (롤백된 변경은 반영하지 않음)
+ * - 같은 사용자에 대한 대기 중 요청은 하나로 합침
+ * - 전용 단일 스레드에서 순차 처리하여 요청 스레드를 막지 않음
+ */
+@Slf4j
+@Component
+public class RecommendationUpdateListener {
+
+    private static final int QUEUE_CAPACITY = 10_000;
+
+    private final RecommendationService recommendationService;
+    private final EmbeddingGenerationService embeddingGenerationService;
+    private final Set<Long> pendingUserIds = ConcurrentHashMap.newKeySet();
+    private final ExecutorService executor;
+
+    public RecommendationUpdateListener(RecommendationService recommendationService,
+                                        EmbeddingGenerationService embeddingGenerationService) {
+        this.recommendationService = recommendationService;
+        this.embeddingGenerationService = embeddingGenerationService;
+        AtomicInteger threadCount = new AtomicInteger();
+        this.executor = new ThreadPoolExecutor(1, 1, 0L, TimeUnit.MILLISECONDS,
+                new LinkedBlockingQueue<>(QUEUE_CAPACITY),
+                runnable -> {
+                    Thread thread = new Thread(runnable, "recommendation-update-" + threadCount.incrementAndGet());
+                    thread.setDaemon(true);
+                    return thread;
+                });
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onProfileChanged(UserProfileChangedEvent event) {
+        schedule(event.getUserId());
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onInterestChanged(UserInterestChangedEvent event) {
+        schedule(event.getUserId());
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onPostChanged(PostChangedEvent event) {
+        schedule(event.getAuthorId());
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onAccountChanged(UserAccountChangedEvent event) {
+        // 승인/반려/삭제도 보관 중인 추천 특성 스냅샷에 반영되어야 함
+        schedule(event.getUserId());
+    }
+
+    private void schedule(Long userId) {
+        if (userId == null || !pendingUserIds.add(userId)) {
+            return; // 이미 갱신 대기 중이면 합침
+        }
+        try {
+            executor.execute(() -> {
+                // 처리 시작 전에 제거하여, 처리 중 들어온 변경은 다음 갱신으로 반영되도록 함
+                pendingUserIds.remove(userId);
+                refresh(userId);
+            });
+        } catch (RejectedExecutionException e) {
+            pendingUserIds.remove(userId);
+            log.warn("추천 부분 갱신 대기열 초과 - 사용자 ID: {} (전체 재생성 시 반영)", userId);
+        }
+    }
+
+    private void refresh(Long userId) {
+        // 임베딩을 먼저 갱신해야 이어지는 추천 갱신이 최신 벡터를 사용함
+        try {
+            embeddingGenerationService.generateForUser(userId);
+        } catch (Exception e) {
+            log.warn("임베딩 갱신 실패 - 사용자 ID: {}, 오류: {}", userId, e.getMessage());
+        }
+        try {
+            recommendationService.refreshRecommendationsForUser(userId);
+            log.debug("추천 부분 갱신 완료 - 사용자 ID: {}", userId);
+        } catch (Exception e) {
+            log.warn("추천 부분 갱신 실패 - 사용자 ID: {}, 오류: {}", userId, e.getMessage());
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdown();
+    }
+}
@@ -0,0 +1,104 @@
+package com.sookmyung.campus_match.service.recommendation;
+
+/**
+ * 두 사용자 특성 벡터 간의 유사도 계산
+ * - 관심사 일치: 40%
+ * - 학과 일치: 30%
+ * - 게시글 카테고리 일치: 20%
+ * - 자기소개 키워드 일치: 10%
+ * WHY: 정렬된 배열/비트마스크 기반이라 후보 한 명당 추가 조회나 컬렉션 할당이 없음
+ */
+public final class SimilarityCalculator {
+
+    static final double INTEREST_WEIGHT = 0.4;
+    static final double DEPARTMENT_WEIGHT = 0.3;
+    static final double POST_WEIGHT = 0.2;
+    static final double BIO_WEIGHT = 0.1;
+
+    /** 양쪽 모두 정보가 없을 때의 중간 점수 */
+    static final double NEUTRAL_SCORE = 0.5;
+
+    private SimilarityCalculator() {
+    }
+
+    public static double similarity(UserFeatureVector a, UserFeatureVector b) {
+        double totalScore = 0.0;
+        totalScore += interestSimilarity(a, b) * INTEREST_WEIGHT;
+        totalScore += departmentSimilarity(a, b) * DEPARTMENT_WEIGHT;
+        totalScore += postSimilarity(a, b) * POST_WEIGHT;
+        totalScore += bioSimilarity(a, b) * BIO_WEIGHT;
+        return Math.min(1.0, totalScore);
+    }
+
+    static double interestSimilarity(UserFeatureVector a, UserFeatureVector b) {
+        long[] ids1 = a.interestIds();
+        long[] ids2 = b.interestIds();
+        if (ids1.length == 0 && ids2.length == 0) {
+            return NEUTRAL_SCORE; // 둘 다 관심사가 없으면 중간 점수
+        }
+        if (ids1.length == 0 || ids2.length == 0) {
+            return 0.0;
+        }
+        int intersection = 0;
+        int i = 0;
+        int j = 0;
+        while (i < ids1.length && j < ids2.length) {
+            if (ids1[i] == ids2[j]) {
+                intersection++;
+                i++;
+                j++;
+            } else if (ids1[i] < ids2[j]) {
+                i++;
+            } else {
+                j++;
+            }
+        }
+        return jaccard(intersection, ids1.length, ids2.length);
+    }
+
+    static double departmentSimilarity(UserFeatureVector a, UserFeatureVector b) {
+        return a.getDepartment() != null && a.getDepartment().equals(b.getDepartment()) ? 1.0 : 0.0;
+    }
+
+    static double postSimilarity(UserFeatureVector a, UserFeatureVector b) {
+        if (!a.hasPosts() && !b.hasPosts()) {
+            return NEUTRAL_SCORE; // 둘 다 게시글이 없으면 중간 점수
+        }
+        int union = Integer.bitCount(a.getCategoryMask() | b.getCategoryMask());
+        if (!a.hasPosts() || !b.hasPosts() || union == 0) {
+            return 0.0;
+        }
+        return (double) Integer.bitCount(a.getCategoryMask() & b.getCategoryMask()) / union;
+    }
+
+    static double bioSimilarity(UserFeatureVector a, UserFeatureVector b) {
+        if (a.isBioEmpty() && b.isBioEmpty()) {
+            return NEUTRAL_SCORE;
+        }
+        int[] k1 = a.bioKeywordIds();
+        int[] k2 = b.bioKeywordIds();
+        if (k1.length == 0 || k2.length == 0) {
+            return 0.0;
+        }
+        int intersection = 0;
+        int i = 0;
+        int j = 0;
+        while (i < k1.length && j < k2.length) {
+            if (k1[i] == k2[j]) {
+                intersection++;
+                i++;
+                j++;
+            } else if (k1[i] < k2[j]) {
+                i++;
+            } else {
+                j++;
+            }
+        }
+        return jaccard(intersection, k1.length, k2.length);
+    }
+
+    private static double jaccard(int intersection, int size1, int size2) {
+        int union = size1 + size2 - intersection;
+        return union == 0 ? 0.0 : (double) intersection / union;
+    }
+}
@@ -0,0 +1,105 @@
+package com.sookmyung.campus_match.service.recommendation;
+
+/**
+ * 고정 크기 최소 힙으로 (사용자 ID, 점수) 상위 K개 유지
+ * - 원시 타입 배열만 사용하여 후보마다 객체를 만들지 않음
+ * - 힙 루트는 현재 K개 중 가장 나쁜 항목 (점수 낮은 순, 같으면 ID 큰 순)
+ * WHY: 전체 후보를 엔티티 목록으로 만들어 정렬한 뒤 K개만 남기던 할당/정렬 비용 제거 (O(N log K))
+ */
+public final class TopKScores {
+
+    private final long[] ids;
+    private final double[] scores;
+    private int size;
+
+    public TopKScores(int k) {
+        if (k < 0) {
+            throw new IllegalArgumentException("k must not be negative: " + k);
+        }
+        this.ids = new long[k];
+        this.scores = new double[k];
+    }
+
+    /**
+     * 후보 추가 (상위 K개에 들지 못하면 무시)
+     */
+    public void offer(long id, double score) {
+        if (size < ids.length) {
+            ids[size] = id;
+            scores[size] = score;
+            siftUp(size++);
+        } else if (size > 0 && isWorse(ids[0], scores[0], id, score)) {
+            ids[0] = id;
+            scores[0] = score;
+            siftDown(0);
+        }
+    }
+
+    public int size() {
+        return size;
+    }
+
+    /**
+     * 점수 내림차순(같으면 ID 오름차순)으로 꺼냄. 호출 후 비워짐
+     * @return 결과 ID, 점수는 {@code scoresOut} 에 같은 순서로 기록
+     */
+    public long[] drainDescending(double[] scoresOut) {
+        int count = size;
+        long[] resultIds = new long[count];
+        for (int i = count - 1; i >= 0; i--) {
+            resultIds[i] = ids[0];
+            scoresOut[i] = scores[0];
+            size--;
+            if (size > 0) {
+                ids[0] = ids[size];
+                scores[0] = scores[size];
+                siftDown(0);
+            }
+        }
+        return resultIds;
+    }
+
+    /** a가 b보다 나쁜 항목인지 (점수 낮음, 같으면 ID 큼) */
+    private static boolean isWorse(long idA, double scoreA, long idB, double scoreB) {
+        return scoreA < scoreB || (scoreA == scoreB && idA > idB);
+    }
+
+    private void siftUp(int index) {
+        while (index > 0) {
+            int parent = (index - 1) >>> 1;
+            if (!isWorse(ids[index], scores[index], ids[parent], scores[parent])) {
+                break;
+            }
+            swap(index, parent);
+            index = parent;
+        }
+    }
+
+    private void siftDown(int index) {
+        while (true) {
+            int left = 2 * index + 1;
+            if (left >= size) {
+                break;
+            }
+            int worst = left;
+            int right = left + 1;
+            if (right < size && isWorse(ids[right], scores[right], ids[left], scores[left])) {
+                worst = right;
+            }
+            if (!isWorse(ids[worst], scores[worst], ids[index], scores[index])) {
+                break;
+            }
+            swap(index, worst);
+            index = worst;
+        }
+    }
+
+    private void swap(int a, int b) {
+        long id = ids[a];
+        ids[a] = ids[b];
+        ids[b] = id;
+        double score = scores[a];
+        scores[a] = scores[b];
+        scores[b] = score;
+    }
+}
@@ -0,0 +1,72 @@
+package com.sookmyung.campus_match.service.recommendation;
+
+import java.util.Arrays;
+
+/**
+ * 추천 유사도 계산용 사용자 특성 벡터
+ * - 관심사 ID: 정렬된 long 배열
+ * - 게시글 카테고리: PostCategory ordinal 비트마스크
+ * - 자기소개 키워드: 정렬된 키워드 ID 배열 (BioKeywordStore 인턴 ID)
+ * WHY: 후보마다 엔티티/컬렉션을 다시 조회하지 않고 메모리 상에서 한 번에 비교하기 위함
+ */
+public final class UserFeatureVector {
+
+    private static final long[] NO_INTERESTS = new long[0];
+    private static final int[] NO_KEYWORDS = new int[0];
+
+    private final Long userId;
+    private final String department;
+    private final long[] interestIds;
+    private final int categoryMask;
+    private final boolean hasPosts;
+    private final int[] bioKeywordIds;
+    private final boolean bioEmpty;
+
+    public UserFeatureVector(Long userId, String department, long[] interestIds,
+                             int categoryMask, boolean hasPosts,
+                             int[] bioKeywordIds, boolean bioEmpty) {
+        this.userId = userId;
+        this.department = department;
+        this.interestIds = interestIds != null ? interestIds : NO_INTERESTS;
+        this.categoryMask = categoryMask;
+        this.hasPosts = hasPosts;
+        this.bioKeywordIds = bioKeywordIds != null ? bioKeywordIds : NO_KEYWORDS;
+        this.bioEmpty = bioEmpty;
+        Arrays.sort(this.interestIds);
+        Arrays.sort(this.bioKeywordIds);
+    }
+
+    public Long getUserId() {
+        return userId;
+    }
+
+    public String getDepartment() {
+        return department;
+    }
+
+    /** 정렬된 관심사 ID (읽기 전용으로 사용) */
+    long[] interestIds() {
+        return interestIds;
+    }
+
+    public int getCategoryMask() {
+        return categoryMask;
+    }
+
+    public boolean hasPosts() {
+        return hasPosts;
+    }
+
+    /** 정렬된 자기소개 키워드 ID (읽기 전용으로 사용) */
+    int[] bioKeywordIds() {
+        return bioKeywordIds;
+    }
+
+    public boolean isBioEmpty() {
+        return bioEmpty;
+    }
+
+    public boolean hasInterests() {
+        return interestIds.length > 0;
+    }
+}
@@ -0,0 +1,61 @@
+package com.sookmyung.campus_match.service.recommendation.embedding;
+
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+
+/**
+ * 해시 버킷별 문서 빈도 (IDF 계산용)
+ * - 메모리 사용량은 차원 수에만 비례 (사용자 수와 무관)
+ * - 저장 형식: 버킷별 문서 빈도 int32 little-endian 연속 배열 (차원 수 * 4 바이트)
+ */
+public final class DocumentFrequencies {
+
+    private final int[] documentFrequencies;
+    private int documentCount;
+
+    public DocumentFrequencies(int dimension) {
+        this.documentFrequencies = new int[dimension];
+    }
+
+    void addDocument(boolean[] presentBuckets) {
+        for (int i = 0; i < presentBuckets.length; i++) {
+            if (presentBuckets[i]) {
+                documentFrequencies[i]++;
+            }
+        }
+        documentCount++;
+    }
+
+    /**
+     * 평활화한 IDF: ln((1 + N) / (1 + df)) + 1
+     * - 통계가 비어 있으면 모든 버킷이 1.0 (순수 TF)
+     */
+    public double idf(int bucket) {
+        return Math.log((1.0 + documentCount) / (1.0 + documentFrequencies[bucket])) + 1.0;
+    }
+
+    public int getDocumentCount() {
+        return documentCount;
+    }
+
+    public int dimension() {
+        return documentFrequencies.length;
+    }
+
+    public byte[] encode() {
+        ByteBuffer buffer = ByteBuffer.allocate(documentFrequencies.length * Integer.BYTES)
+                .order(ByteOrder.LITTLE_ENDIAN);
+        buffer.asIntBuffer().put(documentFrequencies);
+        return buffer.array();
+    }
+
+    public static DocumentFrequencies decode(int documentCount, byte[] data) {
+        if (data == null || data.length == 0 || data.length % Integer.BYTES != 0) {
+            throw new IllegalArgumentException("잘못된 문서 빈도 데이터 길이: " + (data == null ? "null" : data.length));
+        }
+        DocumentFrequencies frequencies = new DocumentFrequencies(data.length / Integer.BYTES);
+        ByteBuffer.wrap(data).order(ByteOrder.LITTLE_ENDIAN).asIntBuffer().get(frequencies.documentFrequencies);
+        frequencies.documentCount = documentCount;
+        return frequencies;
+    }
+}
@@ -0,0 +1,82 @@
+package com.sookmyung.campus_match.service.recommendation.embedding;
+
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+
+/**
+ * 임베딩 벡터 직렬화/역직렬화
+ * - 저장 형식: float32 little-endian 연속 배열 (차원 수 * 4 바이트)
+ * - 기존 TEXT 형식("0.1,0.2,..." 또는 "[0.1, 0.2, ...]")도 읽을 수 있음
+ */
+public final class EmbeddingCodec {
+
+    private EmbeddingCodec() {
+    }
+
+    public static byte[] encode(float[] vector) {
+        ByteBuffer buffer = ByteBuffer.allocate(vector.length * Float.BYTES).order(ByteOrder.LITTLE_ENDIAN);
+        buffer.asFloatBuffer().put(vector);
+        return buffer.array();
+    }
+
+    public static float[] decode(byte[] data) {
+        if (data == null || data.length % Float.BYTES != 0) {
+            throw new IllegalArgumentException("잘못된 임베딩 데이터 길이: " + (data == null ? "null" : data.length));
+        }
+        float[] vector = new float[data.length / Float.BYTES];
+        ByteBuffer.wrap(data).order(ByteOrder.LITTLE_ENDIAN).asFloatBuffer().get(vector);
+        return vector;
+    }
+
+    /**
+     * 기존 TEXT 컬럼 형식 파싱
+     */
+    public static float[] parseText(String text) {
+        if (text == null) {
+            return new float[0];
+        }
+        String trimmed = text.trim();
+        if (trimmed.startsWith("[")) {
+            trimmed = trimmed.substring(1);
+        }
+        if (trimmed.endsWith("]")) {
+            trimmed = trimmed.substring(0, trimmed.length() - 1);
+        }
+        if (trimmed.isBlank()) {
+            return new float[0];
+        }
+        String[] parts = trimmed.split(",");
+        float[] vector = new float[parts.length];
+        for (int i = 0; i < parts.length; i++) {
+            vector[i] = Float.parseFloat(parts[i].trim());
+        }
+        return vector;
+    }
+
+    /**
+     * L2 정규화한 사본 반환 (영벡터는 그대로)
+     */
+    public static float[] normalize(float[] vector) {
+        double norm = 0.0;
+        for (float value : vector) {
+            norm += value * value;
+        }
+        float[] normalized = vector.clone();
+        if (norm == 0.0) {
+            return normalized;
+        }
+        float scale = (float) (1.0 / Math.sqrt(norm));
+        for (int i = 0; i < normalized.length; i++) {
+            normalized[i] *= scale;
+        }
+        return normalized;
+    }
+
+    public static float dot(float[] a, float[] b) {
+        float sum = 0.0f;
+        for (int i = 0; i < a.length; i++) {
+            sum += a[i] * b[i];
+        }
+        return sum;
+    }
+}
@@ -0,0 +1,253 @@
+package com.sookmyung.campus_match.service.recommendation.embedding;
+
+import com.sookmyung.campus_match.config.recommendation.RecommendationProperties;
+import com.sookmyung.campus_match.domain.recommendation.EmbeddingDocumentFrequency;
+import com.sookmyung.campus_match.repository.recommendation.EmbeddingDocumentFrequencyRepository;
+import com.sookmyung.campus_match.repository.post.PostRepository;
+import com.sookmyung.campus_match.repository.user.ExperienceRepository;
+import com.sookmyung.campus_match.repository.user.ProfileRepository;
+import com.sookmyung.campus_match.repository.user.UserRepository;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Consumer;
+
+/**
+ * 프로필/경력/게시글 텍스트로 사용자 임베딩 생성 (외부 모델 호출 없음)
+ * - 전체 생성: 사용자 ID 키셋 페이지 단위 2-패스 스트리밍 (1차: 문서 빈도, 2차: 벡터 생성/저장)
+ * - 페이지마다 프로필/경력/게시글을 IN 쿼리 3회로 적재하므로 메모리는 페이지 크기에만 비례
+ * - 개별 생성: 프로필/게시글 변경 시 마지막 문서 빈도 통계로 해당 사용자만 다시 계산
+ * - 문서 빈도 통계는 DB에 저장하여 재시작 후에도 전체 생성 때와 같은 IDF 가중치 사용
+ */
+@Slf4j
+@Service
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+public class EmbeddingGenerationService {
+
+    private final UserRepository userRepository;
+    private final ProfileRepository profileRepository;
+    private final ExperienceRepository experienceRepository;
+    private final PostRepository postRepository;
+    private final UserEmbeddingService userEmbeddingService;
+    private final EmbeddingDocumentFrequencyRepository documentFrequencyRepository;
+    private final RecommendationProperties.Embedding config;
+    private final HashedTfIdfVectorizer vectorizer;
+
+    private final AtomicBoolean running = new AtomicBoolean(false);
+    private final ExecutorService launcher = Executors.newSingleThreadExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "embedding-generation");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    private volatile DocumentFrequencies documentFrequencies;
+
+    public EmbeddingGenerationService(UserRepository userRepository,
+                                      ProfileRepository profileRepository,
+                                      ExperienceRepository experienceRepository,
+                                      PostRepository postRepository,
+                                      UserEmbeddingService userEmbeddingService,
+                                      EmbeddingDocumentFrequencyRepository documentFrequencyRepository,
+                                      RecommendationProperties properties) {
+        this.userRepository = userRepository;
+        this.profileRepository = profileRepository;
+        this.experienceRepository = experienceRepository;
+        this.postRepository = postRepository;
+        this.userEmbeddingService = userEmbeddingService;
+        this.documentFrequencyRepository = documentFrequencyRepository;
+        this.config = properties.getEmbedding();
+        this.vectorizer = new HashedTfIdfVectorizer(config.getDimension());
+    }
+
+    /**
+     * 전체 임베딩 생성을 백그라운드에서 시작
+     * @return 이미 실행 중이면 false
+     */
+    public boolean startAsync() {
+        if (running.get()) {
+            return false;
+        }
+        launcher.execute(() -> {
+            try {
+                generateAll();
+            } catch (Exception e) {
+                log.error("임베딩 전체 생성 실패", e);
+            }
+        });
+        return true;
+    }
+
+    /**
+     * 전체 사용자 임베딩 생성 (현재 스레드에서 실행)
+     * @return 이미 실행 중이면 false
+     */
+    public boolean generateAll() {
+        if (!running.compareAndSet(false, true)) {
+            log.info("임베딩 생성이 이미 실행 중입니다.");
+            return false;
+        }
+        try {
+            long startedAt = System.currentTimeMillis();
+
+            // 1차 패스: 문서 빈도 집계 (개별 생성용으로 저장)
+            DocumentFrequencies frequencies = collectDocumentFrequencies();
+            storeDocumentFrequencies(frequencies);
+            documentFrequencies = frequencies;
+
+            // 2차 패스: 벡터 생성 후 페이지 단위 저장, 텍스트가 없어진 사용자의 기존 임베딩은 삭제
+            int[] saved = {0};
+            int[] empty = {0};
+            forEachDocumentPage(documents -> {
+                Map<Long, float[]> vectors = new LinkedHashMap<>(documents.size() * 2);
+                List<Long> emptyUserIds = new ArrayList<>();
+                documents.forEach((userId, text) -> {
+                    float[] vector = vectorizer.vectorize(text, frequencies);
+                    if (isZero(vector)) {
+                        emptyUserIds.add(userId);
+                    } else {
+                        vectors.put(userId, vector);
+                    }
+                });
+                userEmbeddingService.saveEmbeddings(vectors);
+                userEmbeddingService.deleteEmbeddings(emptyUserIds);
+                saved[0] += vectors.size();
+                empty[0] += emptyUserIds.size();
+            });
+
+            log.info("임베딩 전체 생성 완료 - 문서 수: {}, 저장: {}, 빈 문서: {}, 소요: {}ms",
+                    frequencies.getDocumentCount(), saved[0], empty[0], System.currentTimeMillis() - startedAt);
+            return true;
+        } finally {
+            running.set(false);
+        }
+    }
+
+    /**
+     * 한 사용자의 임베딩만 다시 생성 (텍스트가 없으면 삭제)
+     */
+    public void generateForUser(Long userId) {
+        DocumentFrequencies frequencies = currentDocumentFrequencies();
+        String text = loadDocuments(List.of(userId)).getOrDefault(userId, "");
+        float[] vector = vectorizer.vectorize(text, frequencies);
+        if (isZero(vector)) {
+            userEmbeddingService.deleteEmbedding(userId);
+        } else {
+            userEmbeddingService.saveEmbedding(userId, vector);
+        }
+    }
+
+    /**
+     * 개별 생성에 쓸 문서 빈도 통계
+     * - 메모리에 없으면(재시작 직후) 저장된 통계를 읽음
+     * - 저장된 통계가 없거나 차원이 다르면 1차 패스만 다시 실행하여 집계 후 저장
+     * WHY: TF만으로 계산한 벡터가 IDF 가중 벡터로 구축된 ANN 인덱스에 섞이지 않도록 함
+     */
+    private synchronized DocumentFrequencies currentDocumentFrequencies() {
+        DocumentFrequencies frequencies = documentFrequencies;
+        if (frequencies != null) {
+            return frequencies;
+        }
+        frequencies = documentFrequencyRepository.findFirstByOrderByIdDesc()
+                .filter(stored -> stored.getDimension() == vectorizer.dimension())
+                .map(stored -> DocumentFrequencies.decode(stored.getDocumentCount(), stored.getFrequencies()))
+                .orElse(null);
+        if (frequencies == null) {
+            log.info("저장된 문서 빈도 통계가 없어 다시 집계합니다.");
+            frequencies = collectDocumentFrequencies();
+            storeDocumentFrequencies(frequencies);
+        }
+        documentFrequencies = frequencies;
+        return frequencies;
+    }
+
+    private DocumentFrequencies collectDocumentFrequencies() {
+        DocumentFrequencies frequencies = new DocumentFrequencies(vectorizer.dimension());
+        forEachDocumentPage(documents -> documents.values()
+                .forEach(text -> vectorizer.addToDocumentFrequencies(text, frequencies)));
+        return frequencies;
+    }
+
+    private void storeDocumentFrequencies(DocumentFrequencies frequencies) {
+        EmbeddingDocumentFrequency stored = documentFrequencyRepository.findFirstByOrderByIdDesc()
+                .orElseGet(() -> EmbeddingDocumentFrequency.builder().build());
+        stored.setDimension(frequencies.dimension());
+        stored.setDocumentCount(frequencies.getDocumentCount());
+        stored.setFrequencies(frequencies.encode());
+        documentFrequencyRepository.save(stored);
+    }
+
+    private void forEachDocumentPage(Consumer<Map<Long, String>> pageConsumer) {
+        int pageSize = Math.max(1, config.getGenerationPageSize());
+        long afterId = 0L;
+        while (true) {
+            List<Long> userIds = userRepository.findIdsAfter(afterId, PageRequest.of(0, pageSize));
+            if (userIds == null || userIds.isEmpty()) {
+                break;
+            }
+            pageConsumer.accept(loadDocuments(userIds));
+            afterId = userIds.get(userIds.size() - 1);
+            if (userIds.size() < pageSize) {
+                break;
+            }
+        }
+    }
+
+    /**
+     * 사용자별 임베딩 원문 (헤드라인, 자기소개, 경력 제목/설명/태그, 게시글 제목/본문)
+     */
+    private Map<Long, String> loadDocuments(List<Long> userIds) {
+        Map<Long, StringBuilder> builders = new HashMap<>(userIds.size() * 2);
+        for (Long userId : userIds) {
+            builders.put(userId, new StringBuilder());
+        }
+        append(builders, profileRepository.findEmbeddingTextsByUserIds(userIds));
+        append(builders, experienceRepository.findEmbeddingTextsByUserIds(userIds));
+        append(builders, postRepository.findEmbeddingTextsByAuthorIds(userIds));
+
+        Map<Long, String> documents = new LinkedHashMap<>(userIds.size() * 2);
+        for (Long userId : userIds) {
+            documents.put(userId, builders.get(userId).toString());
+        }
+        return documents;
+    }
+
+    private void append(Map<Long, StringBuilder> builders, List<Object[]> rows) {
+        for (Object[] row : rows) {
+            StringBuilder builder = builders.get((Long) row[0]);
+            if (builder == null) {
+                continue;
+            }
+            for (int i = 1; i < row.length; i++) {
+                if (row[i] != null) {
+                    builder.append(row[i]).append('\n');
+                }
+            }
+        }
+    }
+
+    private static boolean isZero(float[] vector) {
+        for (float value : vector) {
+            if (value != 0.0f) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        launcher.shutdownNow();
+    }
+}
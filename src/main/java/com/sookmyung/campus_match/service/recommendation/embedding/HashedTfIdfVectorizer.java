@@ -0,0 +1,122 @@
+package com.sookmyung.campus_match.service.recommendation.embedding;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * 외부 모델 없이 텍스트를 고정 차원 벡터로 변환하는 해시 TF-IDF 벡터라이저
+ * - 특성: 단어(2자 이상) + 한글 단어의 글자 바이그램 (형태소 분석 없이 조사/어미 변형에 대응)
+ * - 특성 해싱: 특성 해시로 차원 인덱스와 부호를 정해 사전 없이 고정 차원 유지
+ * - 가중치: (1 + ln tf) * idf, 최종 벡터는 L2 정규화
+ */
+public final class HashedTfIdfVectorizer {
+
+    private static final int WORD_SEED = 0x5bd1e995;
+    private static final int BIGRAM_SEED = 0x27d4eb2d;
+
+    private final int dimension;
+
+    public HashedTfIdfVectorizer(int dimension) {
+        if (dimension <= 0) {
+            throw new IllegalArgumentException("dimension must be positive: " + dimension);
+        }
+        this.dimension = dimension;
+    }
+
+    public int dimension() {
+        return dimension;
+    }
+
+    /**
+     * 문서에 등장한 차원(버킷)을 문서 빈도에 반영 (IDF 1차 패스용)
+     */
+    public void addToDocumentFrequencies(String text, DocumentFrequencies frequencies) {
+        Map<Integer, Integer> features = countFeatures(text);
+        boolean[] seen = new boolean[dimension];
+        for (Integer feature : features.keySet()) {
+            seen[bucket(feature)] = true;
+        }
+        frequencies.addDocument(seen);
+    }
+
+    /**
+     * 텍스트를 TF-IDF 벡터로 변환 (IDF 2차 패스용)
+     * - 특성이 하나도 없으면 영벡터
+     */
+    public float[] vectorize(String text, DocumentFrequencies frequencies) {
+        float[] vector = new float[dimension];
+        Map<Integer, Integer> features = countFeatures(text);
+        for (Map.Entry<Integer, Integer> entry : features.entrySet()) {
+            int feature = entry.getKey();
+            int bucket = bucket(feature);
+            float weight = (float) ((1.0 + Math.log(entry.getValue())) * frequencies.idf(bucket));
+            vector[bucket] += sign(feature) * weight;
+        }
+        return EmbeddingCodec.normalize(vector);
+    }
+
+    /**
+     * 특성 해시별 등장 횟수
+     */
+    Map<Integer, Integer> countFeatures(String text) {
+        Map<Integer, Integer> counts = new HashMap<>();
+        if (text == null || text.isEmpty()) {
+            return counts;
+        }
+        int length = text.length();
+        int start = -1;
+        for (int i = 0; i <= length; i++) {
+            boolean wordChar = i < length && Character.isLetterOrDigit(text.charAt(i));
+            if (wordChar && start == -1) {
+                start = i;
+            } else if (!wordChar && start != -1) {
+                addWord(text, start, i, counts);
+                start = -1;
+            }
+        }
+        return counts;
+    }
+
+    private void addWord(String text, int start, int end, Map<Integer, Integer> counts) {
+        if (end - start < 2) {
+            return;
+        }
+        counts.merge(hash(text, start, end, WORD_SEED), 1, Integer::sum);
+        if (isHangul(text.charAt(start))) {
+            for (int i = start; i + 2 <= end; i++) {
+                counts.merge(hash(text, i, i + 2, BIGRAM_SEED), 1, Integer::sum);
+            }
+        }
+    }
+
+    private static boolean isHangul(char c) {
+        return c >= '가' && c <= '힣';
+    }
+
+    /** 대소문자 무시 해시 (String.hashCode와 같은 방식 + murmur3 마무리 혼합) */
+    private static int hash(String text, int start, int end, int seed) {
+        int h = seed;
+        for (int i = start; i < end; i++) {
+            h = 31 * h + Character.toLowerCase(text.charAt(i));
+        }
+        return mix(h);
+    }
+
+    private static int mix(int h) {
+        h ^= h >>> 16;
+        h *= 0x85ebca6b;
+        h ^= h >>> 13;
+        h *= 0xc2b2ae35;
+        h ^= h >>> 16;
+        return h;
+    }
+
+    private int bucket(int feature) {
+        return Math.floorMod(feature, dimension);
+    }
+
+    /** 해시 충돌이 한쪽으로 쏠리지 않도록 부호도 해시로 결정 */
+    private static int sign(int feature) {
+        return (mix(feature ^ 0x9e3779b9) & 1) == 0 ? 1 : -1;
+    }
+}
@@ -0,0 +1,525 @@
+package com.sookmyung.campus_match.service.recommendation.embedding;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * 코사인 유사도 기반 HNSW(Hierarchical Navigable Small World) 근사 최근접 이웃 인덱스
+ * - 벡터는 L2 정규화된 float[]로 보관하고 거리 = 1 - 내적
+ * - 추가/갱신은 쓰기 락, 검색은 읽기 락 (검색끼리는 동시 실행)
+ * - 갱신/삭제는 기존 노드를 삭제 표시만 하고 새 노드를 추가 (그래프 탐색 경로는 유지)
+ * WHY: 전체 사용자 선형 스캔 대신 O(log N) 수준의 탐색으로 상위 K명 조회
+ */
+public class HnswIndex {
+
+    private static final int INITIAL_CAPACITY = 1024;
+
+    private final int m;
+    private final int maxM0;
+    private final int efConstruction;
+    private final double levelMultiplier;
+    private final Random random;
+    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+    private final ThreadLocal<VisitedSet> visitedSets = ThreadLocal.withInitial(VisitedSet::new);
+
+    private int dimension = -1;
+    private float[][] vectors = new float[INITIAL_CAPACITY][];
+    private long[] userIds = new long[INITIAL_CAPACITY];
+    private int[][][] links = new int[INITIAL_CAPACITY][][];
+    private int[][] linkCounts = new int[INITIAL_CAPACITY][];
+    private boolean[] deleted = new boolean[INITIAL_CAPACITY];
+    private final Map<Long, Integer> nodeByUserId = new HashMap<>();
+
+    private int nodeCount;
+    private int deletedCount;
+    private int entryPoint = -1;
+    private int maxLevel = -1;
+
+    public HnswIndex() {
+        this(16, 100, 42L);
+    }
+
+    public HnswIndex(int m, int efConstruction, long seed) {
+        this.m = m;
+        this.maxM0 = m * 2;
+        this.efConstruction = efConstruction;
+        this.levelMultiplier = 1.0 / Math.log(m);
+        this.random = new Random(seed);
+    }
+
+    /**
+     * 사용자 벡터 추가 (이미 있으면 교체)
+     */
+    public void add(long userId, float[] vector) {
+        lock.writeLock().lock();
+        try {
+            if (dimension == -1) {
+                dimension = vector.length;
+            } else if (vector.length != dimension) {
+                throw new IllegalArgumentException("임베딩 차원 불일치: " + vector.length + " (인덱스: " + dimension + ")");
+            }
+            markDeleted(userId);
+            insert(userId, EmbeddingCodec.normalize(vector));
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * 사용자 벡터 제거
+     */
+    public void remove(long userId) {
+        lock.writeLock().lock();
+        try {
+            markDeleted(userId);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public boolean contains(long userId) {
+        lock.readLock().lock();
+        try {
+            return nodeByUserId.containsKey(userId);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * 인덱스에 저장된 사용자 벡터(정규화된 값)의 사본
+     */
+    public float[] getVector(long userId) {
+        lock.readLock().lock();
+        try {
+            Integer node = nodeByUserId.get(userId);
+            return node != null ? vectors[node].clone() : null;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * 등록된 사용자와 가장 가까운 K명 (본인 제외)
+     */
+    public List<Neighbor> findNearest(long userId, int k, int ef) {
+        lock.readLock().lock();
+        try {
+            Integer node = nodeByUserId.get(userId);
+            if (node == null) {
+                return List.of();
+            }
+            return searchLocked(vectors[node], k, ef, userId);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * 임의 벡터와 가장 가까운 K명
+     */
+    public List<Neighbor> search(float[] query, int k, int ef) {
+        lock.readLock().lock();
+        try {
+            if (dimension != -1 && query.length != dimension) {
+                throw new IllegalArgumentException("임베딩 차원 불일치: " + query.length + " (인덱스: " + dimension + ")");
+            }
+            return searchLocked(EmbeddingCodec.normalize(query), k, ef, Long.MIN_VALUE);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /** 검색 가능한 사용자 수 */
+    public int size() {
+        lock.readLock().lock();
+        try {
+            return nodeByUserId.size();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /** 삭제 표시된 노드 수 (재구성 판단용) */
+    public int deletedCount() {
+        lock.readLock().lock();
+        try {
+            return deletedCount;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    public int dimension() {
+        return dimension;
+    }
+
+    private List<Neighbor> searchLocked(float[] query, int k, int ef, long excludeUserId) {
+        if (entryPoint == -1 || k <= 0) {
+            return List.of();
+        }
+        int current = entryPoint;
+        for (int level = maxLevel; level > 0; level--) {
+            current = greedyClosest(query, current, level);
+        }
+        // 삭제 노드는 경로로만 거치고 결과에서 빠지므로, 본인 몫으로 한 칸만 여유를 둠
+        NodeHeap found = searchLayer(query, current, Math.max(ef, k + 1), 0, true);
+        int[] nodes = found.sortedNodesAscending();
+
+        List<Neighbor> result = new ArrayList<>(Math.min(k, nodes.length));
+        for (int node : nodes) {
+            if (deleted[node] || userIds[node] == excludeUserId) {
+                continue;
+            }
+            result.add(new Neighbor(userIds[node], EmbeddingCodec.dot(query, vectors[node])));
+            if (result.size() == k) {
+                break;
+            }
+        }
+        return result;
+    }
+
+    private void insert(long userId, float[] vector) {
+        int node = allocateNode(userId, vector);
+        int level = randomLevel();
+        links[node] = new int[level + 1][];
+        linkCounts[node] = new int[level + 1];
+        for (int l = 0; l <= level; l++) {
+            links[node][l] = new int[l == 0 ? maxM0 : m];
+        }
+        nodeByUserId.put(userId, node);
+
+        if (entryPoint == -1) {
+            entryPoint = node;
+            maxLevel = level;
+            return;
+        }
+
+        int current = entryPoint;
+        for (int l = maxLevel; l > level; l--) {
+            current = greedyClosest(vector, current, l);
+        }
+        for (int l = Math.min(level, maxLevel); l >= 0; l--) {
+            NodeHeap candidates = searchLayer(vector, current, efConstruction, l, false);
+            int[] sorted = candidates.sortedNodesAscending();
+            int[] selected = selectNeighbors(vector, sorted, m);
+            System.arraycopy(selected, 0, links[node][l], 0, selected.length);
+            linkCounts[node][l] = selected.length;
+            for (int neighbor : selected) {
+                connect(neighbor, node, l);
+            }
+            current = sorted[0];
+        }
+        if (level > maxLevel) {
+            entryPoint = node;
+            maxLevel = level;
+        }
+    }
+
+    private int allocateNode(long userId, float[] vector) {
+        if (nodeCount == vectors.length) {
+            int capacity = vectors.length * 2;
+            vectors = Arrays.copyOf(vectors, capacity);
+            userIds = Arrays.copyOf(userIds, capacity);
+            links = Arrays.copyOf(links, capacity);
+            linkCounts = Arrays.copyOf(linkCounts, capacity);
+            deleted = Arrays.copyOf(deleted, capacity);
+        }
+        int node = nodeCount++;
+        vectors[node] = vector;
+        userIds[node] = userId;
+        return node;
+    }
+
+    private void markDeleted(long userId) {
+        Integer existing = nodeByUserId.remove(userId);
+        if (existing != null) {
+            deleted[existing] = true;
+            deletedCount++;
+        }
+    }
+
+    private int randomLevel() {
+        double r = 1.0 - random.nextDouble(); // (0, 1]
+        return (int) (-Math.log(r) * levelMultiplier);
+    }
+
+    private float distance(float[] a, int node) {
+        return 1.0f - EmbeddingCodec.dot(a, vectors[node]);
+    }
+
+    private int greedyClosest(float[] query, int start, int level) {
+        int current = start;
+        float currentDistance = distance(query, current);
+        boolean changed = true;
+        while (changed) {
+            changed = false;
+            if (level >= links[current].length) {
+                break;
+            }
+            int[] neighbors = links[current][level];
+            int count = linkCounts[current][level];
+            for (int i = 0; i < count; i++) {
+                float d = distance(query, neighbors[i]);
+                if (d < currentDistance) {
+                    currentDistance = d;
+                    current = neighbors[i];
+                    changed = true;
+                }
+            }
+        }
+        return current;
+    }
+
+    /**
+     * 한 계층에서 ef개의 최근접 후보 탐색
+     * - liveOnly 면 삭제 표시 노드는 탐색 경로로만 쓰고 결과에는 넣지 않음
+     *   WHY: 삭제가 많으면 결과 슬롯을 삭제 노드가 차지해 K명보다 적게 반환됨
+     */
+    private NodeHeap searchLayer(float[] query, int entry, int ef, int level, boolean liveOnly) {
+        VisitedSet visited = visitedSets.get();
+        visited.reset(nodeCount);
+
+        NodeHeap candidates = new NodeHeap(ef * 2, false); // 가까운 순 (min-heap)
+        NodeHeap results = new NodeHeap(ef + 1, true);    // 먼 순 (max-heap)
+
+        float entryDistance = distance(query, entry);
+        candidates.push(entry, entryDistance);
+        if (!liveOnly || !deleted[entry]) {
+            results.push(entry, entryDistance);
+        }
+        visited.add(entry);
+
+        while (candidates.size() > 0) {
+            float candidateDistance = candidates.peekDistance();
+            if (results.size() >= ef && candidateDistance > results.peekDistance()) {
+                break;
+            }
+            int candidate = candidates.pop();
+            if (level >= links[candidate].length) {
+                continue;
+            }
+            int[] neighbors = links[candidate][level];
+            int count = linkCounts[candidate][level];
+            for (int i = 0; i < count; i++) {
+                int neighbor = neighbors[i];
+                if (!visited.add(neighbor)) {
+                    continue;
+                }
+                float d = distance(query, neighbor);
+                if (results.size() < ef || d < results.peekDistance()) {
+                    candidates.push(neighbor, d);
+                    if (liveOnly && deleted[neighbor]) {
+                        continue;
+                    }
+                    results.push(neighbor, d);
+                    if (results.size() > ef) {
+                        results.pop();
+                    }
+                }
+            }
+        }
+        return results;
+    }
+
+    /**
+     * 이웃 선택 휴리스틱: 이미 선택된 이웃보다 기준점에 더 가까운 후보를 우선 선택하고,
+     * 부족하면 남은 가까운 후보로 채움 (연결 수 부족으로 그래프가 끊기는 것 방지)
+     */
+    private int[] selectNeighbors(float[] base, int[] sortedCandidates, int limit) {
+        if (sortedCandidates.length <= limit) {
+            return sortedCandidates;
+        }
+        int[] selected = new int[limit];
+        int selectedCount = 0;
+        boolean[] taken = new boolean[sortedCandidates.length];
+        for (int i = 0; i < sortedCandidates.length && selectedCount < limit; i++) {
+            int candidate = sortedCandidates[i];
+            float toBase = distance(base, candidate);
+            boolean good = true;
+            for (int j = 0; j < selectedCount; j++) {
+                if (distance(vectors[selected[j]], candidate) < toBase) {
+                    good = false;
+                    break;
+                }
+            }
+            if (good) {
+                selected[selectedCount++] = candidate;
+                taken[i] = true;
+            }
+        }
+        for (int i = 0; i < sortedCandidates.length && selectedCount < limit; i++) {
+            if (!taken[i]) {
+                selected[selectedCount++] = sortedCandidates[i];
+            }
+        }
+        return selected;
+    }
+
+    private void connect(int node, int newNeighbor, int level) {
+        int[] neighbors = links[node][level];
+        int count = linkCounts[node][level];
+        if (count < neighbors.length) {
+            neighbors[count] = newNeighbor;
+            linkCounts[node][level] = count + 1;
+            return;
+        }
+        // 연결 수 초과 시 기준 노드와 가장 먼 연결 하나를 교체
+        // WHY: 삽입마다 휴리스틱 재선택(O(M²) 거리 계산)을 하면 구축 시간이 크게 늘어남
+        float[] base = vectors[node];
+        float newDistance = distance(base, newNeighbor);
+        int farthest = -1;
+        float farthestDistance = newDistance;
+        for (int i = 0; i < count; i++) {
+            float d = distance(base, neighbors[i]);
+            if (d > farthestDistance) {
+                farthestDistance = d;
+                farthest = i;
+            }
+        }
+        if (farthest != -1) {
+            neighbors[farthest] = newNeighbor;
+        }
+    }
+
+    /**
+     * 검색 결과 (사용자 ID, 코사인 유사도)
+     */
+    public static final class Neighbor {
+        private final long userId;
+        private final float similarity;
+
+        public Neighbor(long userId, float similarity) {
+            this.userId = userId;
+            this.similarity = similarity;
+        }
+
+        public long getUserId() {
+            return userId;
+        }
+
+        public float getSimilarity() {
+            return similarity;
+        }
+    }
+
+    /**
+     * (노드, 거리) 쌍의 이진 힙 - 박싱 없이 원시 배열로 관리
+     */
+    private static final class NodeHeap {
+        private int[] nodes;
+        private float[] distances;
+        private int size;
+        private final boolean maxHeap;
+
+        NodeHeap(int capacity, boolean maxHeap) {
+            this.nodes = new int[Math.max(4, capacity)];
+            this.distances = new float[Math.max(4, capacity)];
+            this.maxHeap = maxHeap;
+        }
+
+        int size() {
+            return size;
+        }
+
+        float peekDistance() {
+            return distances[0];
+        }
+
+        void push(int node, float distance) {
+            if (size == nodes.length) {
+                nodes = Arrays.copyOf(nodes, size * 2);
+                distances = Arrays.copyOf(distances, size * 2);
+            }
+            int i = size++;
+            while (i > 0) {
+                int parent = (i - 1) >>> 1;
+                if (!before(distance, distances[parent])) {
+                    break;
+                }
+                nodes[i] = nodes[parent];
+                distances[i] = distances[parent];
+                i = parent;
+            }
+            nodes[i] = node;
+            distances[i] = distance;
+        }
+
+        int pop() {
+            int top = nodes[0];
+            int lastNode = nodes[--size];
+            float lastDistance = distances[size];
+            int i = 0;
+            while (true) {
+                int child = 2 * i + 1;
+                if (child >= size) {
+                    break;
+                }
+                if (child + 1 < size && before(distances[child + 1], distances[child])) {
+                    child++;
+                }
+                if (!before(distances[child], lastDistance)) {
+                    break;
+                }
+                nodes[i] = nodes[child];
+                distances[i] = distances[child];
+                i = child;
+            }
+            nodes[i] = lastNode;
+            distances[i] = lastDistance;
+            return top;
+        }
+
+        /** 거리 오름차순 노드 배열 (힙은 비워짐) */
+        int[] sortedNodesAscending() {
+            int[] sorted = new int[size];
+            if (maxHeap) {
+                for (int i = sorted.length - 1; i >= 0; i--) {
+                    sorted[i] = pop();
+                }
+            } else {
+                for (int i = 0; i < sorted.length; i++) {
+                    sorted[i] = pop();
+                }
+            }
+            return sorted;
+        }
+
+        private boolean before(float a, float b) {
+            return maxHeap ? a > b : a < b;
+        }
+    }
+
+    /**
+     * 세대 번호 기반 방문 표시 (검색마다 배열을 새로 만들지 않음)
+     */
+    private static final class VisitedSet {
+        private int[] marks = new int[0];
+        private int generation;
+
+        void reset(int capacity) {
+            if (marks.length < capacity) {
+                marks = new int[Math.max(capacity, marks.length * 2)];
+                generation = 0;
+            }
+            generation++;
+            if (generation == Integer.MAX_VALUE) {
+                Arrays.fill(marks, 0);
+                generation = 1;
+            }
+        }
+
+        boolean add(int node) {
+            if (marks[node] == generation) {
+                return false;
+            }
+            marks[node] = generation;
+            return true;
+        }
+    }
+}
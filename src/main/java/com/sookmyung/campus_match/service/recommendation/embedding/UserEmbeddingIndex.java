@@ -0,0 +1,180 @@
+package com.sookmyung.campus_match.service.recommendation.embedding;
+
+import com.sookmyung.campus_match.config.recommendation.RecommendationProperties;
+import com.sookmyung.campus_match.domain.event.UserEmbeddingChangedEvent;
+import com.sookmyung.campus_match.repository.recommendation.UserEmbeddingRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.List;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * 사용자 임베딩 ANN 인덱스
+ * - 애플리케이션 시작 시 백그라운드에서 전체 임베딩을 페이지 단위로 적재하여 구축
+ * - 임베딩 저장/삭제 이벤트(커밋 후)로 증분 갱신
+ * - 삭제 표시 노드가 살아있는 노드보다 많아지면 백그라운드에서 재구성
+ */
+@Slf4j
+@Component
+public class UserEmbeddingIndex {
+
+    private final UserEmbeddingRepository userEmbeddingRepository;
+    private final RecommendationProperties.Embedding config;
+    private final AtomicBoolean rebuilding = new AtomicBoolean(false);
+    // 증분 갱신과 인덱스 교체를 직렬화 (교체 직전에 들어온 변경이 버려질 옛 인덱스에만 반영되지 않도록)
+    private final Object swapLock = new Object();
+
+    private volatile HnswIndex index;
+    private volatile HnswIndex building;
+    private volatile boolean ready;
+
+    public UserEmbeddingIndex(UserEmbeddingRepository userEmbeddingRepository, RecommendationProperties properties) {
+        this.userEmbeddingRepository = userEmbeddingRepository;
+        this.config = properties.getEmbedding();
+        this.index = newIndex();
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void buildOnStartup() {
+        rebuildAsync();
+    }
+
+    /**
+     * 인덱스 재구성을 백그라운드 스레드에서 시작 (이미 진행 중이면 무시)
+     */
+    public void rebuildAsync() {
+        if (!rebuilding.compareAndSet(false, true)) {
+            return;
+        }
+        Thread thread = new Thread(() -> {
+            try {
+                rebuild();
+            } catch (Exception e) {
+                log.warn("임베딩 인덱스 구축 실패: {}", e.getMessage());
+            } finally {
+                synchronized (swapLock) {
+                    building = null;
+                }
+                rebuilding.set(false);
+            }
+        }, "embedding-index-builder");
+        thread.setDaemon(true);
+        thread.start();
+    }
+
+    private void rebuild() {
+        long startedAt = System.currentTimeMillis();
+        HnswIndex fresh = newIndex();
+        synchronized (swapLock) {
+            building = fresh; // 구축 중 들어온 변경도 새 인덱스에 반영
+        }
+
+        long afterId = 0L;
+        int pageSize = Math.max(1, config.getLoadPageSize());
+        while (true) {
+            List<Object[]> rows = userEmbeddingRepository.findEmbeddingPage(afterId, PageRequest.of(0, pageSize));
+            if (rows == null || rows.isEmpty()) {
+                break;
+            }
+            for (Object[] row : rows) {
+                addRow(fresh, row);
+            }
+            afterId = (Long) rows.get(rows.size() - 1)[0];
+            if (rows.size() < pageSize) {
+                break;
+            }
+        }
+
+        synchronized (swapLock) {
+            index = fresh;
+            building = null;
+        }
+        ready = true;
+        log.info("임베딩 인덱스 구축 완료 - 사용자 수: {}, 소요: {}ms",
+                fresh.size(), System.currentTimeMillis() - startedAt);
+    }
+
+    private void addRow(HnswIndex target, Object[] row) {
+        Long userId = (Long) row[1];
+        try {
+            float[] vector = row[2] != null
+                    ? EmbeddingCodec.decode((byte[]) row[2])
+                    : EmbeddingCodec.parseText((String) row[3]);
+            if (vector.length > 0 && !target.contains(userId)) {
+                target.add(userId, vector);
+            }
+        } catch (Exception e) {
+            log.warn("임베딩 인덱스 적재 건너뜀 - 사용자 ID: {}, 오류: {}", userId, e.getMessage());
+        }
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onEmbeddingChanged(UserEmbeddingChangedEvent event) {
+        try {
+            if (event.getVector() == null || event.getVector().length == 0) {
+                remove(event.getUserId());
+            } else {
+                upsert(event.getUserId(), event.getVector());
+            }
+        } catch (Exception e) {
+            log.warn("임베딩 인덱스 갱신 실패 - 사용자 ID: {}, 오류: {}", event.getUserId(), e.getMessage());
+        }
+    }
+
+    public void upsert(Long userId, float[] vector) {
+        synchronized (swapLock) {
+            index.add(userId, vector);
+            if (building != null) {
+                building.add(userId, vector);
+            }
+        }
+        compactIfNeeded();
+    }
+
+    public void remove(Long userId) {
+        synchronized (swapLock) {
+            index.remove(userId);
+            if (building != null) {
+                building.remove(userId);
+            }
+        }
+        compactIfNeeded();
+    }
+
+    /**
+     * 임베딩 기준 가장 가까운 사용자 K명 (본인 제외, 유사도 내림차순)
+     * - 인덱스에 없는 사용자면 빈 목록
+     */
+    public List<HnswIndex.Neighbor> findNearest(Long userId, int k) {
+        return index.findNearest(userId, k, Math.max(config.getEfSearch(), k));
+    }
+
+    public boolean contains(Long userId) {
+        return index.contains(userId);
+    }
+
+    public boolean isReady() {
+        return ready;
+    }
+
+    public int size() {
+        return index.size();
+    }
+
+    private void compactIfNeeded() {
+        HnswIndex current = index;
+        if (ready && current.deletedCount() > Math.max(1000, current.size())) {
+            rebuildAsync();
+        }
+    }
+
+    private HnswIndex newIndex() {
+        return new HnswIndex(config.getM(), config.getEfConstruction(), System.nanoTime());
+    }
+}
@@ -0,0 +1,110 @@
+package com.sookmyung.campus_match.service.recommendation.embedding;
+
+import com.sookmyung.campus_match.domain.event.UserEmbeddingChangedEvent;
+import com.sookmyung.campus_match.domain.recommendation.UserEmbedding;
+import com.sookmyung.campus_match.repository.recommendation.UserEmbeddingRepository;
+import com.sookmyung.campus_match.repository.user.UserRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * 사용자 임베딩 저장/조회
+ * - 벡터는 바이너리(float32)로 저장하고, 커밋 후 ANN 인덱스에 반영
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+@Transactional(readOnly = true)
+public class UserEmbeddingService {
+
+    private final UserEmbeddingRepository userEmbeddingRepository;
+    private final UserRepository userRepository;
+    private final ApplicationEventPublisher eventPublisher;
+
+    @Transactional
+    public void saveEmbedding(Long userId, float[] vector) {
+        UserEmbedding embedding = userEmbeddingRepository.findByUser_Id(userId)
+                .orElseGet(() -> UserEmbedding.builder()
+                        .user(userRepository.getReferenceById(userId))
+                        .build());
+        embedding.setEmbeddingData(EmbeddingCodec.encode(vector));
+        embedding.setDimension(vector.length);
+        embedding.setEmbeddingVector(null); // 바이너리 형식으로 일원화
+        userEmbeddingRepository.save(embedding);
+
+        eventPublisher.publishEvent(new UserEmbeddingChangedEvent(userId, vector.clone()));
+    }
+
+    /**
+     * 여러 사용자의 임베딩을 한 트랜잭션으로 저장 (배치 페이지 단위)
+     */
+    @Transactional
+    public void saveEmbeddings(Map<Long, float[]> vectorsByUserId) {
+        if (vectorsByUserId.isEmpty()) {
+            return;
+        }
+        Map<Long, UserEmbedding> existing = new HashMap<>();
+        for (UserEmbedding embedding : userEmbeddingRepository.findByUser_IdIn(vectorsByUserId.keySet())) {
+            existing.put(embedding.getUser().getId(), embedding);
+        }
+
+        List<UserEmbedding> toSave = new ArrayList<>(vectorsByUserId.size());
+        for (Map.Entry<Long, float[]> entry : vectorsByUserId.entrySet()) {
+            UserEmbedding embedding = existing.get(entry.getKey());
+            if (embedding == null) {
+                embedding = UserEmbedding.builder()
+                        .user(userRepository.getReferenceById(entry.getKey()))
+                        .build();
+            }
+            embedding.setEmbeddingData(EmbeddingCodec.encode(entry.getValue()));
+            embedding.setDimension(entry.getValue().length);
+            embedding.setEmbeddingVector(null);
+            toSave.add(embedding);
+        }
+        userEmbeddingRepository.saveAll(toSave);
+
+        for (Map.Entry<Long, float[]> entry : vectorsByUserId.entrySet()) {
+            eventPublisher.publishEvent(new UserEmbeddingChangedEvent(entry.getKey(), entry.getValue().clone()));
+        }
+    }
+
+    @Transactional
+    public void deleteEmbedding(Long userId) {
+        userEmbeddingRepository.findByUser_Id(userId).ifPresent(userEmbeddingRepository::delete);
+        eventPublisher.publishEvent(new UserEmbeddingChangedEvent(userId, null));
+    }
+
+    /**
+     * 여러 사용자의 임베딩을 한 번에 삭제 (저장된 임베딩이 있는 사용자만 인덱스에서 제거)
+     */
+    @Transactional
+    public void deleteEmbeddings(Collection<Long> userIds) {
+        if (userIds.isEmpty()) {
+            return;
+        }
+        List<UserEmbedding> existing = userEmbeddingRepository.findByUser_IdIn(userIds);
+        if (existing.isEmpty()) {
+            return;
+        }
+        userEmbeddingRepository.deleteAllInBatch(existing);
+        for (UserEmbedding embedding : existing) {
+            eventPublisher.publishEvent(new UserEmbeddingChangedEvent(embedding.getUser().getId(), null));
+        }
+    }
+
+    public Optional<float[]> getEmbedding(Long userId) {
+        return userEmbeddingRepository.findByUser_Id(userId).map(embedding -> embedding.getEmbeddingData() != null
+                ? EmbeddingCodec.decode(embedding.getEmbeddingData())
+                : EmbeddingCodec.parseText(embedding.getEmbeddingVector()));
+    }
+}
@@ -0,0 +1,41 @@
+package com.sookmyung.campus_match.service.search;
+
+import com.sookmyung.campus_match.service.search.index.SearchResult;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * 색인 검색 결과와 DB 조회 결과를 잇는 유틸리티
+ */
+final class SearchHits {
+
+    private SearchHits() {
+    }
+
+    static List<Long> ids(SearchResult result) {
+        List<Long> ids = new ArrayList<>(result.getIds().length);
+        for (long id : result.getIds()) {
+            ids.add(id);
+        }
+        return ids;
+    }
+
+    /**
+     * findAllById 결과를 색인 순서(관련도 순)로 재정렬 (그 사이 삭제된 엔티티는 제외)
+     */
+    static <T> List<T> inIndexOrder(SearchResult result, List<T> entities, Function<T, Long> idOf) {
+        Map<Long, T> byId = entities.stream().collect(Collectors.toMap(idOf, Function.identity()));
+        List<T> ordered = new ArrayList<>(result.getIds().length);
+        for (long id : result.getIds()) {
+            T entity = byId.get(id);
+            if (entity != null) {
+                ordered.add(entity);
+            }
+        }
+        return ordered;
+    }
+}
@@ -0,0 +1,189 @@
+package com.sookmyung.campus_match.service.search;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.sookmyung.campus_match.config.search.SearchProperties;
+import com.sookmyung.campus_match.domain.event.PostChangedEvent;
+import com.sookmyung.campus_match.domain.event.TeamChangedEvent;
+import com.sookmyung.campus_match.domain.event.UserAccountChangedEvent;
+import com.sookmyung.campus_match.domain.event.UserInterestChangedEvent;
+import com.sookmyung.campus_match.domain.event.UserProfileChangedEvent;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+
+/**
+ * 검색 결과 캐시
+ * - 키: 검색 종류 + 데이터 버전 + 색인 버전 + 정규화한 검색어(공백 정리, 소문자) + 필터/정렬/페이지
+ * - 데이터 버전은 게시글/사용자/팀 쓰기 커밋 이벤트마다 증가, 색인 버전은 색인 문서가 바뀔 때마다 바뀜
+ *   → 버전이 바뀌면 이전 키는 더 이상 조회되지 않고 LRU/TTL 로 자연히 밀려남 (키별 무효화 관리 없음)
+ * - 조회수/좋아요 수처럼 버전을 올리지 않는 변경은 TTL 만큼 늦게 반영
+ * - 메트릭: cache.gets(hit/miss) 등 Caffeine 통계, search.cache.hit.ratio,
+ *   search.cache.load(미스 시 실제 검색 시간), search.cache.saved.time(적중으로 아낀 추정 시간)
+ * WHY: 학과명, "스터디", "공모전" 같은 인기 검색어가 매번 같은 검색과 DB 조회를 반복하지 않도록 하기 위함
+ */
+@Slf4j
+@Component
+public class SearchResultCache {
+
+    public enum Scope {
+        POSTS, USERS, UNIFIED
+    }
+
+    /** 적중 시 아낀 시간 추정에 쓰는 최근 미스 검색 시간 평균의 가중치 */
+    private static final double LOAD_TIME_SMOOTHING = 0.2;
+
+    private final boolean enabled;
+    private final Cache<List<Object>, Object> cache;
+    private final AtomicLong postVersion = new AtomicLong();
+    private final AtomicLong userVersion = new AtomicLong();
+    private final AtomicLong teamVersion = new AtomicLong();
+    private final Map<Scope, ScopeMetrics> metrics = new EnumMap<>(Scope.class);
+
+    public SearchResultCache(SearchProperties properties, MeterRegistry meterRegistry) {
+        SearchProperties.Cache config = properties.getCache();
+        this.enabled = config.isEnabled();
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(config.getMaxSize())
+                .expireAfterWrite(config.getTtl())
+                .recordStats()
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, cache, "search.results");
+        Gauge.builder("search.cache.hit.ratio", cache, c -> c.stats().hitRate())
+                .description("검색 결과 캐시 적중률")
+                .register(meterRegistry);
+        for (Scope scope : Scope.values()) {
+            metrics.put(scope, new ScopeMetrics(scope, meterRegistry));
+        }
+    }
+
+    /**
+     * 캐시된 결과가 있으면 반환하고, 없으면 loader 로 검색한 결과를 저장 후 반환
+     *
+     * @param indexVersion 검색에 쓰는 색인의 버전 (색인 미사용 시 -1)
+     * @param params       정규화한 검색어 외의 키 구성 요소 (필터, 정렬, 페이지 등)
+     */
+    @SuppressWarnings("unchecked")
+    public <T> T get(Scope scope, long indexVersion, String keyword, Supplier<T> loader, Object... params) {
+        if (!enabled) {
+            return loader.get();
+        }
+        List<Object> key = key(scope, indexVersion, keyword, params);
+        ScopeMetrics scopeMetrics = metrics.get(scope);
+        boolean[] loaded = {false};
+        Object value = cache.get(key, k -> {
+            loaded[0] = true;
+            long startedAt = System.nanoTime();
+            T result = loader.get();
+            scopeMetrics.recordLoad(System.nanoTime() - startedAt);
+            return result;
+        });
+        if (!loaded[0]) {
+            scopeMetrics.recordHit();
+        }
+        return (T) value;
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onPostChanged(PostChangedEvent event) {
+        postVersion.incrementAndGet();
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onProfileChanged(UserProfileChangedEvent event) {
+        userVersion.incrementAndGet();
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onInterestChanged(UserInterestChangedEvent event) {
+        userVersion.incrementAndGet();
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onAccountChanged(UserAccountChangedEvent event) {
+        userVersion.incrementAndGet();
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onTeamChanged(TeamChangedEvent event) {
+        teamVersion.incrementAndGet();
+    }
+
+    private List<Object> key(Scope scope, long indexVersion, String keyword, Object[] params) {
+        List<Object> key = new ArrayList<>(params.length + 4);
+        key.add(scope);
+        key.add(dataVersion(scope));
+        key.add(indexVersion);
+        key.add(normalize(keyword));
+        key.addAll(Arrays.asList(params));
+        return key;
+    }
+
+    private long dataVersion(Scope scope) {
+        return switch (scope) {
+            case POSTS -> postVersion.get();
+            case USERS -> userVersion.get();
+            // 세 버전의 합도 어느 하나가 오르면 항상 커지므로 단조 증가
+            case UNIFIED -> postVersion.get() + userVersion.get() + teamVersion.get();
+        };
+    }
+
+    /**
+     * 앞뒤 공백 제거, 연속 공백 하나로, 소문자화 ("  Java  스터디" 와 "java 스터디" 는 같은 키)
+     */
+    static String normalize(String keyword) {
+        if (keyword == null) {
+            return "";
+        }
+        return String.join(" ", keyword.trim().split("\\s+")).toLowerCase(Locale.ROOT);
+    }
+
+    /**
+     * 검색 종류별 미스 검색 시간과 적중으로 아낀 시간 (최근 미스 평균 x 적중 수)
+     */
+    private static final class ScopeMetrics {
+        private final Timer loadTimer;
+        private final Counter savedTime;
+        private volatile double averageLoadMillis;
+
+        private ScopeMetrics(Scope scope, MeterRegistry meterRegistry) {
+            String tag = scope.name().toLowerCase(Locale.ROOT);
+            this.loadTimer = Timer.builder("search.cache.load")
+                    .description("캐시 미스 시 실제 검색(색인 + DB 조회)에 걸린 시간")
+                    .tag("scope", tag)
+                    .register(meterRegistry);
+            this.savedTime = Counter.builder("search.cache.saved.time")
+                    .description("캐시 적중으로 아낀 검색 시간 추정치")
+                    .baseUnit("milliseconds")
+                    .tag("scope", tag)
+                    .register(meterRegistry);
+        }
+
+        private void recordLoad(long nanos) {
+            loadTimer.record(nanos, TimeUnit.NANOSECONDS);
+            double millis = nanos / 1_000_000.0;
+            double previous = averageLoadMillis;
+            averageLoadMillis = previous == 0 ? millis : previous + LOAD_TIME_SMOOTHING * (millis - previous);
+        }
+
+        private void recordHit() {
+            savedTime.increment(averageLoadMillis);
+        }
+    }
+}
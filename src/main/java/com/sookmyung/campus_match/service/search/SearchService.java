@@ -3,18 +3,30 @@ package com.sookmyung.campus_match.service.search;
 import com.sookmyung.campus_match.domain.post.Post;
 import com.sookmyung.campus_match.domain.common.enums.PostCategory;
 import com.sookmyung.campus_match.domain.user.User;
+import com.sookmyung.campus_match.dto.common.PageResponse;
+import com.sookmyung.campus_match.dto.search.PostSearchCondition;
 import com.sookmyung.campus_match.dto.search.PostSearchResponse;
 import com.sookmyung.campus_match.dto.search.UserSearchResponse;
 import com.sookmyung.campus_match.repository.post.PostRepository;
 import com.sookmyung.campus_match.repository.user.UserRepository;
+import com.sookmyung.campus_match.service.search.index.PostSearchIndex;
+import com.sookmyung.campus_match.service.search.index.SearchResult;
+import com.sookmyung.campus_match.service.search.index.UserSearchIndex;
+import com.sookmyung.campus_match.util.page.PageCursor;
 import com.sookmyung.campus_match.util.page.PageUtils;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.SliceImpl;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.Collection;
+import java.util.EnumSet;
 import java.util.List;
 import java.util.stream.Collectors;
 
@@ -24,18 +36,39 @@ import java.util.stream.Collectors;
 @Transactional(readOnly = true)
 public class SearchService {
 
+    /** 검색 결과를 넘겨 볼 수 있는 최대 깊이 (offset + size), 넘는 페이지 요청은 400 */
+    static final int MAX_SEARCH_DEPTH = 2000;
+    private static final int DEFAULT_PAGE_SIZE = 20;
+
     private final PostRepository postRepository;
     private final UserRepository userRepository;
     private final PageUtils pageUtils;
+    private final PostSearchIndex postSearchIndex;
+    private final UserSearchIndex userSearchIndex;
+    private final SearchResultCache searchResultCache;
 
     /**
      * 게시글 검색
-     * - 제목, 내용, 작성자명 기준 LIKE 검색
-     * - 카테고리별 필터링
-     * - 페이징 지원
+     * - 제목, 내용, 작성자명 기준 역색인(BM25) 검색, 색인 준비 전에는 LIKE 검색
+     * - 카테고리 / 마감 여부 / 작성자 학과 필터링 (색인 검색은 점수 계산 전에 필터 적용)
+     * - 삭제된 글은 제외
+     * - 페이징 지원, 같은 검색어/조건/페이지 결과는 게시글 버전이 바뀔 때까지 캐시
      */
     public com.sookmyung.campus_match.dto.common.PageResponse<PostSearchResponse> searchPosts(String keyword, Integer page, Integer size, String sort) {
-        log.info("게시글 검색 요청 - keyword: {}, page: {}, size: {}", keyword, page, size);
+        return searchPosts(keyword, PostSearchCondition.none(), page, size, sort);
+    }
+
+    public PageResponse<PostSearchResponse> searchPosts(String keyword, PostSearchCondition condition,
+                                                        Integer page, Integer size, String sort) {
+        PostSearchCondition safeCondition = condition != null ? condition : PostSearchCondition.none();
+        checkSearchDepth(page, size);
+        return searchResultCache.get(SearchResultCache.Scope.POSTS, postIndexVersion(), keyword,
+                () -> loadPosts(keyword, safeCondition, page, size, sort), "page", safeCondition, page, size, sort);
+    }
+
+    private PageResponse<PostSearchResponse> loadPosts(String keyword, PostSearchCondition condition,
+                                                       Integer page, Integer size, String sort) {
+        log.info("게시글 검색 요청 - keyword: {}, condition: {}, page: {}, size: {}", keyword, condition, page, size);
         
         try {
             // WHY: dev 환경에서는 키워드 검증을 건너뛰어 400 에러 방지
@@ -52,12 +85,14 @@ public class SearchService {
             Pageable pageable = org.springframework.data.domain.PageRequest.of(page != null ? page : 0, size != null ? size : 20);
             Page<Post> posts;
             
-            if (keyword != null && !keyword.trim().isEmpty()) {
-                // 키워드가 있는 경우 제목, 내용, 작성자명으로 검색
-                posts = postRepository.searchByKeyword(keyword.trim(), pageable);
+            if (keyword != null && !keyword.trim().isEmpty() && postSearchIndex.isReady()) {
+                // 색인이 준비된 경우 관련도 순으로 검색
+                posts = searchPostsByIndex(keyword.trim(), condition, pageable);
             } else {
-                // 키워드가 없는 경우 전체 조회
-                posts = postRepository.findAll(pageable);
+                // 색인 준비 전이거나 키워드가 없으면 제목, 내용, 작성자명 LIKE 검색 (키워드가 없으면 조건만 적용)
+                String trimmed = keyword != null && !keyword.trim().isEmpty() ? keyword.trim() : null;
+                posts = postRepository.searchByKeywordAndCondition(trimmed, categoriesOf(condition),
+                        condition.getClosed(), departmentOf(condition), pageable);
             }
             
             log.info("게시글 검색 완료 - 결과 수: {}", posts.getTotalElements());
@@ -68,13 +103,110 @@ public class SearchService {
         }
     }
 
+    /**
+     * 게시글 검색 커서 페이징
+     * - 관련도 순 결과에는 (createdAt, id) 같은 정렬 키가 없으므로 커서에 다음 시작 위치(오프셋)를 담음
+     * - 색인 검색은 메모리에서 순위를 매긴 뒤 해당 페이지 ID만 DB 에서 조회하므로 깊은 페이지도 DB 비용이 같음
+     * - 색인 준비 전 LIKE 검색은 Slice 로 COUNT 없이 조회 (오프셋은 페이지 크기 단위로 내림)
+     * - 커서 오프셋도 최대 깊이(MAX_SEARCH_DEPTH)까지만 허용, 그 이후로는 다음 커서를 내주지 않음
+     */
+    public PageResponse<PostSearchResponse> searchPostsByCursor(String keyword, String cursor, Integer size) {
+        return searchPostsByCursor(keyword, PostSearchCondition.none(), cursor, size);
+    }
+
+    public PageResponse<PostSearchResponse> searchPostsByCursor(String keyword, PostSearchCondition condition,
+                                                                String cursor, Integer size) {
+        if (keyword == null || keyword.trim().isEmpty()) {
+            return PageResponse.empty();
+        }
+        PostSearchCondition safeCondition = condition != null ? condition : PostSearchCondition.none();
+        int limit = PageCursor.pageSize(size);
+        int offset = cursor == null || cursor.isBlank() ? 0 : PageCursor.decodeOffset(cursor, MAX_SEARCH_DEPTH);
+        return searchResultCache.get(SearchResultCache.Scope.POSTS, postIndexVersion(), keyword,
+                () -> loadPostsByOffset(keyword.trim(), safeCondition, offset, limit), "offset", safeCondition, offset, limit);
+    }
+
+    private PageResponse<PostSearchResponse> loadPostsByOffset(String query, PostSearchCondition condition, int offset, int limit) {
+
+        List<Post> posts;
+        int nextOffset;
+        boolean hasNext;
+        if (postSearchIndex.isReady()) {
+            SearchResult result = postSearchIndex.search(query, PostSearchIndex.filterOf(condition), offset, limit, false);
+            posts = SearchHits.inIndexOrder(result, postRepository.findAllById(SearchHits.ids(result)), Post::getId);
+            nextOffset = offset + result.getIds().length;
+            hasNext = nextOffset < result.getTotalHits();
+        } else {
+            Slice<Post> slice = postRepository.searchSliceByKeyword(query, categoriesOf(condition),
+                    condition.getClosed(), departmentOf(condition), PageRequest.of(offset / limit, limit));
+            posts = slice.getContent();
+            nextOffset = (offset / limit) * limit + posts.size();
+            hasNext = slice.hasNext();
+        }
+
+        hasNext = hasNext && nextOffset < MAX_SEARCH_DEPTH;
+
+        Slice<PostSearchResponse> page = new SliceImpl<>(
+                posts.stream().map(PostSearchResponse::from).toList(), PageRequest.of(offset / limit, limit), hasNext);
+        return PageResponse.from(page, hasNext ? PageCursor.encodeOffset(nextOffset) : null);
+    }
+
+    /**
+     * 페이지 번호 기반 검색의 깊이 제한
+     * WHY: 색인 검색은 offset + size 만큼 상위 결과를 유지하고, LIKE 검색은 앞 행을 모두 건너뛰므로
+     *      깊이를 제한하지 않으면 요청 값 하나로 메모리/DB 비용을 임의로 키울 수 있음
+     */
+    private static void checkSearchDepth(Integer page, Integer size) {
+        long offset = (long) (page != null ? page : 0) * (size != null ? size : DEFAULT_PAGE_SIZE);
+        if (offset + (size != null ? size : DEFAULT_PAGE_SIZE) > MAX_SEARCH_DEPTH) {
+            throw new IllegalArgumentException("검색 결과는 " + MAX_SEARCH_DEPTH + "건까지만 조회할 수 있습니다.");
+        }
+    }
+
+    private long postIndexVersion() {
+        return postSearchIndex.isReady() ? postSearchIndex.version() : -1L;
+    }
+
+    /**
+     * LIKE 검색용 카테고리 목록 (조건이 없으면 전체 카테고리)
+     */
+    private static Collection<PostCategory> categoriesOf(PostSearchCondition condition) {
+        List<PostCategory> categories = condition.getCategories();
+        return categories == null || categories.isEmpty() ? EnumSet.allOf(PostCategory.class) : categories;
+    }
+
+    private static String departmentOf(PostSearchCondition condition) {
+        String department = condition.getDepartment();
+        return department == null || department.isBlank() ? null : department.trim();
+    }
+
+    private Page<Post> searchPostsByIndex(String keyword, PostSearchCondition condition, Pageable pageable) {
+        SearchResult result = postSearchIndex.search(keyword, PostSearchIndex.filterOf(condition),
+                (int) pageable.getOffset(), pageable.getPageSize(), false);
+        List<Post> posts = SearchHits.inIndexOrder(result, postRepository.findAllById(SearchHits.ids(result)), Post::getId);
+        return new PageImpl<>(posts, pageable, result.getTotalHits());
+    }
+
+    private Page<User> searchUsersByIndex(String keyword, Pageable pageable) {
+        SearchResult result = userSearchIndex.search(keyword, (int) pageable.getOffset(), pageable.getPageSize());
+        List<User> users = SearchHits.inIndexOrder(result, userRepository.findAllById(SearchHits.ids(result)), User::getId);
+        return new PageImpl<>(users, pageable, result.getTotalHits());
+    }
+
     /**
      * 사용자 검색
-     * - 이름, 학과, 관심사 기준 검색
-     * - 승인 상태별 필터링
-     * - 페이징 지원
+     * - 이름, 학과, 헤드라인, 자기소개, 경력 태그, 관심사 기준 역색인 검색 (승인된 사용자만)
+     * - 색인 준비 전에는 이름, 학과 LIKE 검색
+     * - 페이징 지원, 같은 검색어/페이지 결과는 사용자 버전이 바뀔 때까지 캐시
      */
     public com.sookmyung.campus_match.dto.common.PageResponse<UserSearchResponse> searchUsers(String keyword, Integer page, Integer size, String sort) {
+        checkSearchDepth(page, size);
+        return searchResultCache.get(SearchResultCache.Scope.USERS,
+                userSearchIndex.isReady() ? userSearchIndex.version() : -1L, keyword,
+                () -> loadUsers(keyword, page, size, sort), "page", page, size, sort);
+    }
+
+    private PageResponse<UserSearchResponse> loadUsers(String keyword, Integer page, Integer size, String sort) {
         log.info("사용자 검색 요청 - keyword: {}, page: {}, size: {}", keyword, page, size);
         
         try {
@@ -82,7 +214,10 @@ public class SearchService {
             Pageable pageable = org.springframework.data.domain.PageRequest.of(page != null ? page : 0, size != null ? size : 20);
             Page<User> users;
             
-            if (keyword != null && !keyword.trim().isEmpty()) {
+            if (keyword != null && !keyword.trim().isEmpty() && userSearchIndex.isReady()) {
+                // 색인이 준비된 경우 관련도 순으로 검색
+                users = searchUsersByIndex(keyword.trim(), pageable);
+            } else if (keyword != null && !keyword.trim().isEmpty()) {
                 // 키워드가 있는 경우 이름, 학과로 검색
                 users = userRepository.searchByKeyword(keyword.trim(), pageable);
             } else {
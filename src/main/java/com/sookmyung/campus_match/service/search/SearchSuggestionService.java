@@ -0,0 +1,176 @@
+package com.sookmyung.campus_match.service.search;
+
+import com.sookmyung.campus_match.config.search.SearchProperties;
+import com.sookmyung.campus_match.domain.common.enums.ApprovalStatus;
+import com.sookmyung.campus_match.domain.event.PostChangedEvent;
+import com.sookmyung.campus_match.domain.event.UserAccountChangedEvent;
+import com.sookmyung.campus_match.dto.search.SuggestionResponse;
+import com.sookmyung.campus_match.repository.post.PostRepository;
+import com.sookmyung.campus_match.repository.user.InterestRepository;
+import com.sookmyung.campus_match.repository.user.UserRepository;
+import com.sookmyung.campus_match.service.search.suggest.CompletionTrie;
+import com.sookmyung.campus_match.service.search.suggest.SuggestionType;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.List;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 검색어 자동완성
+ * - 게시글 제목, 승인 사용자 이름, 학과, 관심사 이름으로 CompletionTrie 구축
+ * - 가중치: 게시글은 1 + 조회수 + 좋아요 x 5, 학과/관심사는 소속 사용자 수, 사용자 이름은 1
+ * - 주기적으로 새 트라이를 만들어 교체 (조회수/좋아요 변화, 삭제 반영), 그 사이 새 글/승인 사용자는 바로 추가
+ * WHY: 키 입력마다 LIKE 검색을 돌리지 않고 메모리 조회 한 번으로 후보를 돌려주기 위함
+ */
+@Slf4j
+@Service
+public class SearchSuggestionService {
+
+    static final long LIKE_WEIGHT = 5;
+    private static final int PAGE_SIZE = 1000;
+
+    private final PostRepository postRepository;
+    private final UserRepository userRepository;
+    private final InterestRepository interestRepository;
+    private final SearchProperties.Suggest config;
+    private final ScheduledExecutorService scheduler = Executors.newSingleThreadScheduledExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "search-suggest-rebuild");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    private volatile CompletionTrie trie;
+
+    public SearchSuggestionService(PostRepository postRepository,
+                                   UserRepository userRepository,
+                                   InterestRepository interestRepository,
+                                   SearchProperties properties) {
+        this.postRepository = postRepository;
+        this.userRepository = userRepository;
+        this.interestRepository = interestRepository;
+        this.config = properties.getSuggest();
+        this.trie = new CompletionTrie(config.getTopN());
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void scheduleRebuilds() {
+        long intervalMillis = Math.max(1000L, config.getRebuildInterval().toMillis());
+        scheduler.scheduleWithFixedDelay(() -> {
+            try {
+                rebuild();
+            } catch (Exception e) {
+                log.warn("자동완성 트라이 재구축 실패: {}", e.getMessage());
+            }
+        }, 0, intervalMillis, TimeUnit.MILLISECONDS);
+    }
+
+    /**
+     * 접두사 자동완성 (최대 top-n 개)
+     */
+    public List<SuggestionResponse> suggest(String prefix, int limit) {
+        return trie.suggest(prefix, Math.min(limit, config.getTopN())).stream()
+                .map(SuggestionResponse::from)
+                .toList();
+    }
+
+    /**
+     * 새 트라이를 만들어 교체 (현재 스레드에서 실행)
+     */
+    public void rebuild() {
+        long startedAt = System.currentTimeMillis();
+        CompletionTrie fresh = new CompletionTrie(config.getTopN());
+
+        long afterId = 0L;
+        while (true) {
+            List<Object[]> rows = postRepository.findSuggestionSourcesAfter(afterId, PageRequest.of(0, PAGE_SIZE));
+            if (rows == null || rows.isEmpty()) {
+                break;
+            }
+            for (Object[] row : rows) {
+                fresh.add((String) row[1], SuggestionType.POST, postWeight((Integer) row[2], (Integer) row[3]));
+            }
+            afterId = (Long) rows.get(rows.size() - 1)[0];
+            if (rows.size() < PAGE_SIZE) {
+                break;
+            }
+        }
+
+        afterId = 0L;
+        while (true) {
+            List<Object[]> rows = userRepository.findSearchDocumentsAfter(
+                    ApprovalStatus.APPROVED, afterId, PageRequest.of(0, PAGE_SIZE));
+            if (rows == null || rows.isEmpty()) {
+                break;
+            }
+            for (Object[] row : rows) {
+                fresh.add((String) row[1], SuggestionType.USER, 1);
+            }
+            afterId = (Long) rows.get(rows.size() - 1)[0];
+            if (rows.size() < PAGE_SIZE) {
+                break;
+            }
+        }
+
+        for (Object[] row : userRepository.countByDepartment(ApprovalStatus.APPROVED)) {
+            fresh.add((String) row[0], SuggestionType.DEPARTMENT, (Long) row[1]);
+        }
+        for (Object[] row : interestRepository.findSuggestionWeights()) {
+            fresh.add((String) row[0], SuggestionType.INTEREST, (Long) row[2]);
+            fresh.add((String) row[1], SuggestionType.INTEREST, (Long) row[2]);
+        }
+
+        trie = fresh;
+        log.info("자동완성 트라이 구축 완료 - 후보 수: {}, 소요: {}ms",
+                fresh.size(), System.currentTimeMillis() - startedAt);
+    }
+
+    /**
+     * 새 글/수정된 제목은 다음 재구축을 기다리지 않고 바로 후보에 추가
+     */
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onPostChanged(PostChangedEvent event) {
+        if (event.getChangeType() == PostChangedEvent.ChangeType.DELETED) {
+            return; // 삭제는 다음 재구축 때 반영
+        }
+        try {
+            for (Object[] row : postRepository.findSearchDocumentsByIds(List.of(event.getPostId()))) {
+                if (!Boolean.TRUE.equals(row[4])) {
+                    trie.add((String) row[1], SuggestionType.POST, 1);
+                }
+            }
+        } catch (Exception e) {
+            log.warn("자동완성 후보 추가 실패 - 게시글 ID: {}, 오류: {}", event.getPostId(), e.getMessage());
+        }
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onAccountChanged(UserAccountChangedEvent event) {
+        try {
+            for (Object[] row : userRepository.findSearchDocumentsByIds(List.of(event.getUserId()))) {
+                if (row[3] == ApprovalStatus.APPROVED) {
+                    trie.add((String) row[1], SuggestionType.USER, 1);
+                }
+            }
+        } catch (Exception e) {
+            log.warn("자동완성 후보 추가 실패 - 사용자 ID: {}, 오류: {}", event.getUserId(), e.getMessage());
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        scheduler.shutdownNow();
+    }
+
+    static long postWeight(Integer viewCount, Integer likeCount) {
+        return 1 + (viewCount != null ? viewCount : 0) + LIKE_WEIGHT * (likeCount != null ? likeCount : 0);
+    }
+}
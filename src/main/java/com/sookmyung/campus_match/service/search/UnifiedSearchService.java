@@ -0,0 +1,150 @@
+package com.sookmyung.campus_match.service.search;
+
+import com.sookmyung.campus_match.domain.post.Post;
+import com.sookmyung.campus_match.domain.team.Team;
+import com.sookmyung.campus_match.domain.user.User;
+import com.sookmyung.campus_match.dto.search.PostSearchResponse;
+import com.sookmyung.campus_match.dto.search.UnifiedSearchResponse;
+import com.sookmyung.campus_match.dto.search.UserSearchResponse;
+import com.sookmyung.campus_match.dto.team.TeamResponse;
+import com.sookmyung.campus_match.repository.post.PostRepository;
+import com.sookmyung.campus_match.repository.team.TeamRepository;
+import com.sookmyung.campus_match.repository.user.UserRepository;
+import com.sookmyung.campus_match.service.search.index.PostSearchIndex;
+import com.sookmyung.campus_match.service.search.index.SearchResult;
+import com.sookmyung.campus_match.service.search.index.TeamSearchIndex;
+import com.sookmyung.campus_match.service.search.index.UserSearchIndex;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+/**
+ * 통합 검색 (게시글 + 사용자 + 팀)
+ * - 세 색인을 가상 스레드에서 동시에 조회한 뒤, 현재 트랜잭션에서 상위 결과 엔티티만 ID로 일괄 조회
+ * - 패싯(카테고리, 마감 여부, 학과, 관심사)은 COUNT 쿼리 없이 색인 검색 중 일치 문서에서 집계
+ * - 합친 순위는 종류별 BM25 점수를 각 종류 최고 점수로 나눈 값 기준 (서로 다른 색인의 점수는 직접 비교 불가)
+ * - 아직 구축되지 않은 색인은 빈 결과로 응답
+ * - 같은 검색어/크기 결과는 세 색인과 데이터 버전이 모두 그대로인 동안 SearchResultCache 에서 반환
+ * WHY: 검색 화면이 게시글/사용자/팀 검색과 카테고리 개수 계산을 위해 여러 번 호출하던 것을 한 번으로 줄이기 위함
+ */
+@Slf4j
+@Service
+@Transactional(readOnly = true)
+public class UnifiedSearchService {
+
+    static final int MAX_SIZE = 50;
+
+    private final PostSearchIndex postSearchIndex;
+    private final UserSearchIndex userSearchIndex;
+    private final TeamSearchIndex teamSearchIndex;
+    private final PostRepository postRepository;
+    private final UserRepository userRepository;
+    private final TeamRepository teamRepository;
+    private final SearchResultCache searchResultCache;
+    private final ExecutorService searchExecutor = Executors.newVirtualThreadPerTaskExecutor();
+
+    public UnifiedSearchService(PostSearchIndex postSearchIndex,
+                                UserSearchIndex userSearchIndex,
+                                TeamSearchIndex teamSearchIndex,
+                                PostRepository postRepository,
+                                UserRepository userRepository,
+                                TeamRepository teamRepository,
+                                SearchResultCache searchResultCache) {
+        this.postSearchIndex = postSearchIndex;
+        this.userSearchIndex = userSearchIndex;
+        this.teamSearchIndex = teamSearchIndex;
+        this.postRepository = postRepository;
+        this.userRepository = userRepository;
+        this.teamRepository = teamRepository;
+        this.searchResultCache = searchResultCache;
+    }
+
+    /**
+     * 종류별 상위 size 개와 합친 순위, 패싯 개수를 한 번에 반환
+     */
+    public UnifiedSearchResponse search(String keyword, int size) {
+        if (keyword == null || keyword.isBlank()) {
+            return UnifiedSearchResponse.empty();
+        }
+        int limit = Math.max(1, Math.min(size, MAX_SIZE));
+        // 사용자/팀 색인 버전은 키의 추가 요소로 포함
+        return searchResultCache.get(SearchResultCache.Scope.UNIFIED, postSearchIndex.version(), keyword,
+                () -> load(keyword.trim(), limit), limit, userSearchIndex.version(), teamSearchIndex.version());
+    }
+
+    private UnifiedSearchResponse load(String query, int limit) {
+        CompletableFuture<SearchResult> postFuture = CompletableFuture.supplyAsync(
+                () -> postSearchIndex.search(query, 0, limit, true), searchExecutor);
+        CompletableFuture<SearchResult> userFuture = CompletableFuture.supplyAsync(
+                () -> userSearchIndex.search(query, 0, limit, true), searchExecutor);
+        CompletableFuture<SearchResult> teamFuture = CompletableFuture.supplyAsync(
+                () -> teamSearchIndex.search(query, 0, limit), searchExecutor);
+        CompletableFuture.allOf(postFuture, userFuture, teamFuture).join();
+
+        SearchResult postResult = postFuture.join();
+        SearchResult userResult = userFuture.join();
+        SearchResult teamResult = teamFuture.join();
+
+        // 엔티티 조회와 DTO 변환(지연 로딩 포함)은 요청 스레드의 트랜잭션 안에서 수행
+        List<Post> posts = postResult.getIds().length == 0 ? List.of()
+                : SearchHits.inIndexOrder(postResult, postRepository.findAllById(SearchHits.ids(postResult)), Post::getId);
+        List<User> users = userResult.getIds().length == 0 ? List.of()
+                : SearchHits.inIndexOrder(userResult, userRepository.findAllById(SearchHits.ids(userResult)), User::getId);
+        List<Team> teams = teamResult.getIds().length == 0 ? List.of()
+                : SearchHits.inIndexOrder(teamResult, teamRepository.findAllById(SearchHits.ids(teamResult)), Team::getId);
+
+        Map<String, Map<String, Integer>> facets = new LinkedHashMap<>(postResult.getFacets());
+        facets.putAll(userResult.getFacets());
+
+        log.debug("통합 검색 - keyword: {}, 게시글: {}, 사용자: {}, 팀: {}",
+                query, postResult.getTotalHits(), userResult.getTotalHits(), teamResult.getTotalHits());
+
+        return UnifiedSearchResponse.builder()
+                .results(merge(limit, postResult, userResult, teamResult))
+                .posts(posts.stream().map(PostSearchResponse::from).toList())
+                .totalPosts(postResult.getTotalHits())
+                .users(users.stream().map(UserSearchResponse::from).toList())
+                .totalUsers(userResult.getTotalHits())
+                .teams(teams.stream().map(TeamResponse::from).toList())
+                .totalTeams(teamResult.getTotalHits())
+                .facets(facets)
+                .build();
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        searchExecutor.shutdown();
+    }
+
+    /**
+     * 종류별 최고 점수로 정규화한 뒤 점수 내림차순으로 합쳐 상위 limit 개
+     */
+    static List<UnifiedSearchResponse.Hit> merge(int limit, SearchResult posts, SearchResult users, SearchResult teams) {
+        List<UnifiedSearchResponse.Hit> hits = new ArrayList<>();
+        addNormalized(hits, "POST", posts);
+        addNormalized(hits, "USER", users);
+        addNormalized(hits, "TEAM", teams);
+        hits.sort(Comparator.comparingDouble(UnifiedSearchResponse.Hit::getScore).reversed());
+        return hits.size() > limit ? new ArrayList<>(hits.subList(0, limit)) : hits;
+    }
+
+    private static void addNormalized(List<UnifiedSearchResponse.Hit> hits, String type, SearchResult result) {
+        float[] scores = result.getScores();
+        if (scores.length == 0 || scores[0] <= 0f) {
+            return;
+        }
+        for (int i = 0; i < scores.length; i++) {
+            hits.add(new UnifiedSearchResponse.Hit(type, result.getIds()[i], scores[i] / scores[0]));
+        }
+    }
+}
@@ -0,0 +1,256 @@
+package com.sookmyung.campus_match.service.search.index;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * 오타 교정용 단어 사전 (symmetric delete)
+ * - 색인 문서의 일부 필드(게시글 제목, 사용자 이름) 단어와 등장 횟수를 보관
+ * - 문서가 수정/삭제되면 이전 단어의 횟수를 빼고, 횟수가 0인 단어는 사전에 없는 것으로 취급
+ *   (지운 변형 목록에서는 색인 압축 때 살아있는 문서로 사전을 다시 만들 때 빠짐)
+ * - 단어마다 최대 편집 거리만큼 글자를 지운 변형을 미리 등록해 두고, 질의 단어도 같은 방식으로 지워서 만나는 후보만
+ *   실제 편집 거리(인접 전치 포함)로 확인 → 사전 전체를 훑지 않고 후보 수에 비례한 비용으로 교정
+ * - 허용 편집 거리: 한글은 3글자 이상 1, 그 외는 4글자 이상 1, 8글자 이상 2 (짧은 단어는 교정하지도, 교정 결과가 되지도 않음)
+ * - 교정 후보 중 편집 거리가 작은 것, 같으면 많이 등장한 단어, 그래도 같으면 사전순으로 앞선 단어를 고름
+ * - 스레드 안전하지 않음 (InvertedIndex 의 읽기/쓰기 잠금 안에서만 사용)
+ */
+public final class FuzzyLexicon {
+
+    static final int MAX_EDITS = 2;
+
+    private final Map<String, Integer> wordIds = new HashMap<>();
+    private final List<String> words = new ArrayList<>();
+    private int[] counts = new int[64];
+    private final Map<String, int[]> deletes = new HashMap<>();
+    private int liveWords;
+
+    /**
+     * 문서 단어를 사전에 추가 (이미 있으면 등장 횟수만 증가)
+     */
+    public void addWords(String[] documentWords) {
+        for (String word : documentWords) {
+            add(word, 1);
+        }
+    }
+
+    /**
+     * 수정/삭제된 문서의 단어를 사전에서 뺌 (addWords 에 넘겼던 것과 같은 단어 목록)
+     */
+    public void removeWords(String[] documentWords) {
+        for (String word : documentWords) {
+            remove(word, 1);
+        }
+    }
+
+    public void add(String word, int count) {
+        Integer id = wordIds.get(word);
+        if (id == null) {
+            id = words.size();
+            words.add(word);
+            wordIds.put(word, id);
+            if (id >= counts.length) {
+                counts = Arrays.copyOf(counts, counts.length * 2);
+            }
+            int wordId = id;
+            for (String variant : variants(word, maxEdits(word))) {
+                deletes.merge(variant, new int[]{wordId}, FuzzyLexicon::append);
+            }
+        }
+        if (counts[id] == 0 && count > 0) {
+            liveWords++;
+        }
+        counts[id] += count;
+    }
+
+    void remove(String word, int count) {
+        Integer id = wordIds.get(word);
+        if (id == null || counts[id] == 0) {
+            return;
+        }
+        counts[id] = Math.max(0, counts[id] - count);
+        if (counts[id] == 0) {
+            liveWords--;
+        }
+    }
+
+    public boolean contains(String word) {
+        Integer id = wordIds.get(word);
+        return id != null && counts[id] > 0;
+    }
+
+    /**
+     * 등장 횟수가 남아 있는 단어 수
+     */
+    public int size() {
+        return liveWords;
+    }
+
+    /**
+     * 질의 문장의 각 단어를 교정한 문장 (교정할 단어가 없으면 null)
+     */
+    public String correct(String query) {
+        List<String> queryWords = words(query);
+        boolean corrected = false;
+        StringBuilder result = new StringBuilder();
+        for (String word : queryWords) {
+            String replacement = contains(word) ? word : closest(word);
+            if (replacement == null) {
+                replacement = word;
+            } else if (!replacement.equals(word)) {
+                corrected = true;
+            }
+            if (result.length() > 0) {
+                result.append(' ');
+            }
+            result.append(replacement);
+        }
+        return corrected ? result.toString() : null;
+    }
+
+    /**
+     * 허용 편집 거리 안에서 가장 가까운 사전 단어 (없으면 null)
+     */
+    public String closest(String word) {
+        int maxEdits = maxEdits(word);
+        if (maxEdits == 0) {
+            return null;
+        }
+        Set<Integer> seen = new HashSet<>();
+        String best = null;
+        int bestDistance = Integer.MAX_VALUE;
+        int bestCount = -1;
+        for (String variant : variants(word, maxEdits)) {
+            int[] candidates = deletes.get(variant);
+            if (candidates == null) {
+                continue;
+            }
+            for (int candidate : candidates) {
+                if (counts[candidate] == 0 || !seen.add(candidate)) {
+                    continue;
+                }
+                String target = words.get(candidate);
+                // 짧은 사전 단어로는 교정하지 않도록 양쪽 허용 거리 중 작은 값 기준
+                int allowed = Math.min(maxEdits, maxEdits(target));
+                int distance = distance(word, target, allowed);
+                if (distance > allowed) {
+                    continue;
+                }
+                boolean better = distance < bestDistance
+                        || (distance == bestDistance && counts[candidate] > bestCount)
+                        || (distance == bestDistance && counts[candidate] == bestCount && target.compareTo(best) < 0);
+                if (better) {
+                    best = target;
+                    bestDistance = distance;
+                    bestCount = counts[candidate];
+                }
+            }
+        }
+        return best;
+    }
+
+    /**
+     * 소문자화 후 글자/숫자가 아닌 문자 기준으로 나눈 단어 목록
+     */
+    static List<String> words(String text) {
+        List<String> result = new ArrayList<>();
+        if (text == null) {
+            return result;
+        }
+        String lower = text.toLowerCase(Locale.ROOT);
+        int start = -1;
+        for (int i = 0; i <= lower.length(); i++) {
+            boolean letter = i < lower.length() && Character.isLetterOrDigit(lower.charAt(i));
+            if (letter && start < 0) {
+                start = i;
+            } else if (!letter && start >= 0) {
+                result.add(lower.substring(start, i));
+                start = -1;
+            }
+        }
+        return result;
+    }
+
+    static int maxEdits(String word) {
+        boolean hangul = !word.isEmpty() && Character.UnicodeScript.of(word.charAt(0)) == Character.UnicodeScript.HANGUL;
+        if (hangul) {
+            return word.length() >= 3 ? 1 : 0;
+        }
+        if (word.length() >= 8) {
+            return MAX_EDITS;
+        }
+        return word.length() >= 4 ? 1 : 0;
+    }
+
+    /**
+     * 단어 자신과 글자를 최대 edits 개 지운 변형 전체
+     */
+    private static Set<String> variants(String word, int edits) {
+        Set<String> result = new HashSet<>();
+        result.add(word);
+        List<String> frontier = List.of(word);
+        for (int round = 0; round < edits; round++) {
+            List<String> next = new ArrayList<>();
+            for (String current : frontier) {
+                if (current.length() <= 1) {
+                    continue;
+                }
+                for (int i = 0; i < current.length(); i++) {
+                    String deleted = current.substring(0, i) + current.substring(i + 1);
+                    if (result.add(deleted)) {
+                        next.add(deleted);
+                    }
+                }
+            }
+            frontier = next;
+        }
+        return result;
+    }
+
+    /**
+     * 인접 전치를 포함한 편집 거리 (limit 을 넘으면 limit + 1)
+     */
+    static int distance(String a, String b, int limit) {
+        if (Math.abs(a.length() - b.length()) > limit) {
+            return limit + 1;
+        }
+        int[] previous2 = new int[b.length() + 1];
+        int[] previous = new int[b.length() + 1];
+        int[] current = new int[b.length() + 1];
+        for (int j = 0; j <= b.length(); j++) {
+            previous[j] = j;
+        }
+        for (int i = 1; i <= a.length(); i++) {
+            current[0] = i;
+            int rowMin = current[0];
+            for (int j = 1; j <= b.length(); j++) {
+                int cost = a.charAt(i - 1) == b.charAt(j - 1) ? 0 : 1;
+                int value = Math.min(Math.min(previous[j] + 1, current[j - 1] + 1), previous[j - 1] + cost);
+                if (i > 1 && j > 1 && a.charAt(i - 1) == b.charAt(j - 2) && a.charAt(i - 2) == b.charAt(j - 1)) {
+                    value = Math.min(value, previous2[j - 2] + 1);
+                }
+                current[j] = value;
+                rowMin = Math.min(rowMin, value);
+            }
+            if (rowMin > limit) {
+                return limit + 1;
+            }
+            int[] swap = previous2;
+            previous2 = previous;
+            previous = current;
+            current = swap;
+        }
+        return Math.min(previous[b.length()], limit + 1);
+    }
+
+    private static int[] append(int[] existing, int[] added) {
+        int[] merged = Arrays.copyOf(existing, existing.length + added.length);
+        System.arraycopy(added, 0, merged, existing.length, added.length);
+        return merged;
+    }
+}
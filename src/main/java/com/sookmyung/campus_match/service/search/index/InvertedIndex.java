@@ -0,0 +1,695 @@
+package com.sookmyung.campus_match.service.search.index;
+
+import com.sookmyung.campus_match.service.recommendation.TopKScores;
+import com.sookmyung.campus_match.util.text.KoreanNgramAnalyzer;
+import com.sookmyung.campus_match.util.text.TextAnalyzer;
+import com.sookmyung.campus_match.util.text.TokenDictionary;
+
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * 프로세스 내 역색인 (BM25 랭킹)
+ * - 문서: 외부 ID(long) + 필드별 텍스트, 필드마다 가중치를 두어 용어 빈도에 반영 (BM25F 단순화)
+ * - 토큰화는 주입된 TextAnalyzer, 용어는 공유 TokenDictionary 의 int ID 로 보관
+ * - 용어별 포스팅: 내부 문서 번호 오름차순 int 배열 + 가중 빈도
+ * - 수정은 기존 문서 삭제 표시 + 새 문서 번호로 추가, 삭제 표시가 많아지면 압축
+ * - 질의 용어를 모두 포함하는 문서만 일치 (AND), 전체 일치 수는 정렬 없이 계산
+ * - 문서마다 "차원:값" 속성(카테고리, 학과 등)을 붙여 두면 검색 중 일치 문서의 패싯 개수를 함께 집계
+ * - 속성별 문서 비트셋을 유지하여 SearchFilter 조건을 점수 계산 전에 적용
+ * - 읽기/쓰기 잠금으로 검색은 동시에, 갱신은 하나씩 처리
+ * - 갱신마다 전역 카운터에서 새 버전을 받아, 결과 캐시가 버전만 비교해 무효화 여부를 판단
+ * - 오타 교정 필드를 지정하면 그 필드 단어로 FuzzyLexicon 을 만들어, 정확 일치 결과가 적을 때만 교정한 질의로 재검색
+ * WHY: LIKE '%키워드%' 전체 스캔 대신 용어 포스팅만 읽어 검색 비용을 결과 규모에 비례시키기 위함
+ */
+public final class InvertedIndex {
+
+    private static final int FORMAT_VERSION = 5;
+    private static final int[] NO_ATTRIBUTES = new int[0];
+    private static final String[] NO_WORDS = new String[0];
+    private static final float K1 = 1.2f;
+    private static final float B = 0.75f;
+    /** 모든 색인 인스턴스가 공유하는 버전 발급기 (색인을 통째로 교체해도 버전이 겹치지 않음) */
+    private static final AtomicLong VERSIONS = new AtomicLong();
+
+    private final TextAnalyzer analyzer;
+    private final TokenDictionary dictionary;
+    private final float[] fieldWeights;
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+
+    private final Map<Integer, Postings> postings = new HashMap<>();
+    private final Map<Long, Integer> docByExternalId = new HashMap<>();
+    private long[] externalIds = new long[64];
+    private float[] docLengths = new float[64];
+    private int[][] docAttributes = new int[64][];
+    /** 문서별 오타 교정 필드 단어 (수정/삭제 시 사전에서 빼고, 압축/스냅샷 읽기 때 사전을 다시 만듦) */
+    private String[][] docFuzzyWords = new String[64][];
+    private final Map<String, Integer> attributeOrdinals = new HashMap<>();
+    private final List<String> attributeNames = new ArrayList<>();
+    /** 속성 번호별 문서 비트셋 (삭제 표시 문서 포함, 검색 시 live 와 교집합) */
+    private final List<BitSet> attributeDocs = new ArrayList<>();
+    private final BitSet live = new BitSet();
+    private int maxDoc;
+    private int liveCount;
+    private double totalLength;
+    private volatile long version = VERSIONS.incrementAndGet();
+    private FuzzyLexicon lexicon = new FuzzyLexicon();
+    private final boolean[] fuzzyFields;
+
+    /**
+     * 기본 분석기(KoreanNgramAnalyzer)와 전용 사전으로 생성
+     */
+    public InvertedIndex(float... fieldWeights) {
+        this(new KoreanNgramAnalyzer(), new TokenDictionary(), fieldWeights);
+    }
+
+    /**
+     * @param fieldWeights 필드 순서대로의 가중치 (add 호출 시 같은 순서로 텍스트 전달)
+     */
+    public InvertedIndex(TextAnalyzer analyzer, TokenDictionary dictionary, float... fieldWeights) {
+        if (fieldWeights.length == 0) {
+            throw new IllegalArgumentException("at least one field is required");
+        }
+        this.analyzer = analyzer;
+        this.dictionary = dictionary;
+        this.fieldWeights = fieldWeights.clone();
+        this.fuzzyFields = new boolean[fieldWeights.length];
+    }
+
+    /**
+     * 오타 교정 사전에 단어를 넣을 필드 지정 (문서 추가 전에 호출)
+     */
+    public InvertedIndex withFuzzyFields(int... fields) {
+        for (int field : fields) {
+            fuzzyFields[field] = true;
+        }
+        return this;
+    }
+
+    /**
+     * 문서 추가 (같은 ID가 있으면 교체)
+     */
+    public void add(long id, String... fieldTexts) {
+        add(id, List.of(), fieldTexts);
+    }
+
+    /**
+     * 패싯 속성과 함께 문서 추가 (같은 ID가 있으면 교체)
+     * @param attributes attribute(차원, 값) 으로 만든 속성 목록
+     */
+    public void add(long id, List<String> attributes, String... fieldTexts) {
+        Map<Integer, Float> termFrequencies = new LinkedHashMap<>();
+        float length = 0f;
+        for (int field = 0; field < fieldWeights.length && field < fieldTexts.length; field++) {
+            for (String term : analyzer.analyze(fieldTexts[field])) {
+                termFrequencies.merge(dictionary.intern(term), fieldWeights[field], Float::sum);
+                length += fieldWeights[field];
+            }
+        }
+        String[] fuzzyWords = fuzzyWordsOf(fieldTexts);
+
+        lock.writeLock().lock();
+        try {
+            deleteInternal(id);
+            int doc = maxDoc++;
+            ensureCapacity(doc + 1);
+            externalIds[doc] = id;
+            docLengths[doc] = length;
+            docAttributes[doc] = attributeOrdinalsOf(attributes);
+            docFuzzyWords[doc] = fuzzyWords;
+            lexicon.addWords(fuzzyWords);
+            markAttributes(doc);
+            for (Map.Entry<Integer, Float> entry : termFrequencies.entrySet()) {
+                postings.computeIfAbsent(entry.getKey(), k -> new Postings()).append(doc, entry.getValue());
+            }
+            docByExternalId.put(id, doc);
+            live.set(doc);
+            liveCount++;
+            totalLength += length;
+            version = VERSIONS.incrementAndGet();
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public void delete(long id) {
+        lock.writeLock().lock();
+        try {
+            deleteInternal(id);
+            version = VERSIONS.incrementAndGet();
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public boolean contains(long id) {
+        lock.readLock().lock();
+        try {
+            return docByExternalId.containsKey(id);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * 마지막 갱신 시점의 버전 (갱신될 때마다 바뀜)
+     */
+    public long version() {
+        return version;
+    }
+
+    public int size() {
+        lock.readLock().lock();
+        try {
+            return liveCount;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * BM25 검색
+     * @param offset 건너뛸 상위 결과 수
+     * @param limit 반환할 결과 수
+     * @return 전체 일치 수와 offset 이후 limit 개의 (ID, 점수)
+     */
+    public SearchResult search(String query, int offset, int limit) {
+        return search(query, offset, limit, false);
+    }
+
+    /**
+     * BM25 검색 (countFacets 이면 일치 문서 전체의 속성별 개수도 집계)
+     */
+    public SearchResult search(String query, int offset, int limit, boolean countFacets) {
+        return search(query, SearchFilter.NONE, offset, limit, countFacets);
+    }
+
+    /**
+     * 필터를 적용한 BM25 검색
+     * - 필터 조건의 속성별 문서 비트셋을 합쳐(차원 안 OR, 차원끼리 AND) 점수 계산 전에 후보를 거름
+     * - 필터 통과 문서가 가장 짧은 포스팅보다 적으면 필터 비트셋을 기준으로 포스팅을 건너뛰며 확인
+     * - 패싯 개수도 필터를 통과한 일치 문서 기준
+     */
+    public SearchResult search(String query, SearchFilter filter, int offset, int limit, boolean countFacets) {
+        List<String> terms = new ArrayList<>(new LinkedHashSet<>(analyzer.analyze(query)));
+        if (terms.isEmpty()) {
+            return SearchResult.EMPTY;
+        }
+        int[] termIds = new int[terms.size()];
+        for (int i = 0; i < termIds.length; i++) {
+            termIds[i] = dictionary.lookup(terms.get(i));
+            if (termIds[i] == TokenDictionary.UNKNOWN) {
+                return SearchResult.EMPTY; // 어떤 문서에도 없는 용어
+            }
+        }
+
+        lock.readLock().lock();
+        try {
+            Postings[] lists = new Postings[terms.size()];
+            float[] idfs = new float[terms.size()];
+            for (int i = 0; i < lists.length; i++) {
+                lists[i] = postings.get(termIds[i]);
+                if (lists[i] == null) {
+                    return SearchResult.EMPTY; // 모든 용어를 포함해야 일치
+                }
+            }
+            // 가장 짧은 포스팅을 기준으로 나머지에서 문서를 찾음
+            Arrays.sort(lists, (a, b) -> Integer.compare(a.size, b.size));
+            for (int i = 0; i < lists.length; i++) {
+                idfs[i] = idf(lists[i].size);
+            }
+            BitSet accepted = filter == null || filter.isEmpty() ? live : acceptedDocs(filter);
+            if (accepted.isEmpty()) {
+                return SearchResult.EMPTY;
+            }
+
+            float averageLength = liveCount == 0 ? 1f : (float) (totalLength / liveCount);
+            int[] cursors = new int[lists.length];
+            Postings lead = lists[0];
+            // 힙 크기는 요청 값(offset + limit)이 아니라 일치 가능한 문서 수로 제한 (int 넘침/과대 할당 방지)
+            long requested = (long) Math.max(0, offset) + Math.max(0, limit);
+            TopKScores topK = new TopKScores((int) Math.min(requested, Math.min(liveCount, lead.size)));
+            int[] facetCounts = countFacets ? new int[attributeNames.size()] : null;
+            int totalHits = 0;
+
+            boolean filterDriven = accepted != live && accepted.cardinality() < lead.size;
+            int p = filterDriven ? -1 : 0;
+            int doc = filterDriven ? accepted.nextSetBit(0) : -1;
+            while (filterDriven ? doc >= 0 : p < lead.size) {
+                if (!filterDriven) {
+                    doc = lead.docs[p++];
+                    if (!accepted.get(doc)) {
+                        continue;
+                    }
+                }
+                float score = score(lists, idfs, cursors, doc, filterDriven ? 0 : 1, averageLength,
+                        filterDriven ? 0f : lead.freqs[p - 1]);
+                if (score >= 0f) {
+                    totalHits++;
+                    topK.offer(doc, score);
+                    if (facetCounts != null) {
+                        for (int attribute : docAttributes[doc]) {
+                            facetCounts[attribute]++;
+                        }
+                    }
+                }
+                if (filterDriven) {
+                    doc = accepted.nextSetBit(doc + 1);
+                }
+            }
+
+            double[] scores = new double[topK.size()];
+            long[] docs = topK.drainDescending(scores);
+            int from = Math.min(Math.max(0, offset), docs.length);
+            long[] ids = new long[docs.length - from];
+            float[] pageScores = new float[ids.length];
+            for (int i = from; i < docs.length; i++) {
+                ids[i - from] = externalIds[(int) docs[i]];
+                pageScores[i - from] = (float) scores[i];
+            }
+            return new SearchResult(totalHits, ids, pageScores, toFacets(facetCounts));
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * 정확 일치 결과가 minHits 개 미만이면 오타 교정한 질의로 다시 검색해 더 많이 일치하는 쪽을 반환
+     * - 교정은 오타 교정 필드에서 나온 단어 기준, 교정할 단어가 없으면 정확 일치 결과 그대로
+     * - 삭제된 문서의 단어는 재구축 전까지 사전에 남지만, 교정 결과가 더 많이 일치할 때만 쓰므로 결과에 영향 없음
+     * WHY: 대부분의 질의는 정확 일치만으로 충분하므로 결과가 부족할 때만 교정 비용을 냄
+     */
+    public SearchResult search(String query, int offset, int limit, boolean countFacets, int minHits) {
+        return search(query, SearchFilter.NONE, offset, limit, countFacets, minHits);
+    }
+
+    /**
+     * 필터 + 오타 교정 재검색
+     */
+    public SearchResult search(String query, SearchFilter filter, int offset, int limit, boolean countFacets, int minHits) {
+        SearchResult exact = search(query, filter, offset, limit, countFacets);
+        if (exact.getTotalHits() >= minHits) {
+            return exact;
+        }
+        String corrected;
+        lock.readLock().lock();
+        try {
+            corrected = lexicon.size() == 0 ? null : lexicon.correct(query);
+        } finally {
+            lock.readLock().unlock();
+        }
+        if (corrected == null) {
+            return exact;
+        }
+        SearchResult fuzzy = search(corrected, filter, offset, limit, countFacets);
+        return fuzzy.getTotalHits() > exact.getTotalHits() ? fuzzy : exact;
+    }
+
+    /**
+     * 살아있는 문서만 디스크 형식으로 기록 (삭제 표시 문서는 제외되어 압축됨)
+     */
+    public void writeTo(DataOutputStream out) throws IOException {
+        lock.readLock().lock();
+        try {
+            int[] remap = new int[maxDoc];
+            int next = 0;
+            for (int doc = 0; doc < maxDoc; doc++) {
+                remap[doc] = live.get(doc) ? next++ : -1;
+            }
+            out.writeInt(FORMAT_VERSION);
+            out.writeInt(fieldWeights.length);
+            for (float weight : fieldWeights) {
+                out.writeFloat(weight);
+            }
+            for (boolean fuzzy : fuzzyFields) {
+                out.writeBoolean(fuzzy);
+            }
+            out.writeInt(liveCount);
+            for (int doc = 0; doc < maxDoc; doc++) {
+                if (remap[doc] >= 0) {
+                    out.writeLong(externalIds[doc]);
+                    out.writeFloat(docLengths[doc]);
+                    out.writeShort(docAttributes[doc].length);
+                    for (int attribute : docAttributes[doc]) {
+                        out.writeUTF(attributeNames.get(attribute));
+                    }
+                    out.writeInt(docFuzzyWords[doc].length);
+                    for (String word : docFuzzyWords[doc]) {
+                        out.writeUTF(word);
+                    }
+                }
+            }
+            List<Map.Entry<Integer, Postings>> entries = new ArrayList<>(postings.entrySet());
+            out.writeInt(entries.size());
+            for (Map.Entry<Integer, Postings> entry : entries) {
+                Postings list = entry.getValue();
+                int liveDocs = 0;
+                for (int p = 0; p < list.size; p++) {
+                    if (remap[list.docs[p]] >= 0) {
+                        liveDocs++;
+                    }
+                }
+                out.writeUTF(dictionary.term(entry.getKey())); // 사전 ID는 프로세스마다 다르므로 문자열로 기록
+                out.writeInt(liveDocs);
+                for (int p = 0; p < list.size; p++) {
+                    int doc = remap[list.docs[p]];
+                    if (doc >= 0) {
+                        out.writeInt(doc);
+                        out.writeFloat(list.freqs[p]);
+                    }
+                }
+            }
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    public static InvertedIndex readFrom(DataInputStream in) throws IOException {
+        return readFrom(in, new KoreanNgramAnalyzer(), new TokenDictionary());
+    }
+
+    /**
+     * 스냅샷 읽기 (분석기가 바뀌면 FORMAT_VERSION 을 올려 재구축되도록 함)
+     */
+    public static InvertedIndex readFrom(DataInputStream in, TextAnalyzer analyzer, TokenDictionary dictionary)
+            throws IOException {
+        int version = in.readInt();
+        if (version != FORMAT_VERSION) {
+            throw new IOException("지원하지 않는 색인 형식 버전: " + version);
+        }
+        float[] weights = new float[in.readInt()];
+        for (int i = 0; i < weights.length; i++) {
+            weights[i] = in.readFloat();
+        }
+        InvertedIndex index = new InvertedIndex(analyzer, dictionary, weights);
+        for (int field = 0; field < weights.length; field++) {
+            index.fuzzyFields[field] = in.readBoolean();
+        }
+        int docCount = in.readInt();
+        index.ensureCapacity(docCount);
+        for (int doc = 0; doc < docCount; doc++) {
+            long id = in.readLong();
+            float length = in.readFloat();
+            List<String> attributes = new ArrayList<>();
+            for (int a = in.readShort(); a > 0; a--) {
+                attributes.add(in.readUTF());
+            }
+            String[] fuzzyWords = new String[in.readInt()];
+            for (int w = 0; w < fuzzyWords.length; w++) {
+                fuzzyWords[w] = in.readUTF();
+            }
+            index.docFuzzyWords[doc] = fuzzyWords;
+            index.lexicon.addWords(fuzzyWords);
+            index.externalIds[doc] = id;
+            index.docLengths[doc] = length;
+            index.docAttributes[doc] = index.attributeOrdinalsOf(attributes);
+            index.markAttributes(doc);
+            index.docByExternalId.put(id, doc);
+            index.totalLength += length;
+        }
+        index.maxDoc = docCount;
+        index.liveCount = docCount;
+        index.live.set(0, docCount);
+        int termCount = in.readInt();
+        for (int t = 0; t < termCount; t++) {
+            String term = in.readUTF();
+            int size = in.readInt();
+            if (size == 0) {
+                continue;
+            }
+            Postings list = new Postings(size);
+            for (int p = 0; p < size; p++) {
+                list.append(in.readInt(), in.readFloat());
+            }
+            index.postings.put(dictionary.intern(term), list);
+        }
+        return index;
+    }
+
+    /**
+     * 패싯 속성 문자열 ("차원:값")
+     */
+    public static String attribute(String dimension, Object value) {
+        return dimension + ':' + value;
+    }
+
+    private int[] attributeOrdinalsOf(List<String> attributes) {
+        if (attributes.isEmpty()) {
+            return NO_ATTRIBUTES;
+        }
+        int[] ordinals = new int[attributes.size()];
+        int count = 0;
+        for (String attribute : attributes) {
+            Integer ordinal = attributeOrdinals.get(attribute);
+            if (ordinal == null) {
+                ordinal = attributeNames.size();
+                attributeNames.add(attribute);
+                attributeOrdinals.put(attribute, ordinal);
+                attributeDocs.add(new BitSet());
+            }
+            boolean duplicate = false;
+            for (int i = 0; i < count; i++) {
+                duplicate |= ordinals[i] == ordinal;
+            }
+            if (!duplicate) {
+                ordinals[count++] = ordinal;
+            }
+        }
+        return count == ordinals.length ? ordinals : Arrays.copyOf(ordinals, count);
+    }
+
+    /**
+     * 속성별 개수를 차원 -> (값 -> 개수, 개수 내림차순) 으로 변환
+     */
+    private Map<String, Map<String, Integer>> toFacets(int[] facetCounts) {
+        if (facetCounts == null) {
+            return Map.of();
+        }
+        Map<String, List<Map.Entry<String, Integer>>> byDimension = new LinkedHashMap<>();
+        for (int ordinal = 0; ordinal < facetCounts.length; ordinal++) {
+            if (facetCounts[ordinal] == 0) {
+                continue;
+            }
+            String name = attributeNames.get(ordinal);
+            int separator = name.indexOf(':');
+            byDimension.computeIfAbsent(name.substring(0, separator), k -> new ArrayList<>())
+                    .add(Map.entry(name.substring(separator + 1), facetCounts[ordinal]));
+        }
+        Map<String, Map<String, Integer>> facets = new LinkedHashMap<>();
+        for (Map.Entry<String, List<Map.Entry<String, Integer>>> dimension : byDimension.entrySet()) {
+            dimension.getValue().sort(Map.Entry.<String, Integer>comparingByValue().reversed());
+            Map<String, Integer> values = new LinkedHashMap<>();
+            for (Map.Entry<String, Integer> value : dimension.getValue()) {
+                values.put(value.getKey(), value.getValue());
+            }
+            facets.put(dimension.getKey(), values);
+        }
+        return facets;
+    }
+
+    private void deleteInternal(long id) {
+        Integer doc = docByExternalId.remove(id);
+        if (doc == null) {
+            return;
+        }
+        live.clear(doc);
+        liveCount--;
+        totalLength -= docLengths[doc];
+        lexicon.removeWords(docFuzzyWords[doc]);
+        docFuzzyWords[doc] = NO_WORDS;
+        if (maxDoc - liveCount > Math.max(1000, liveCount)) {
+            compact();
+        }
+    }
+
+    /**
+     * 삭제 표시된 문서를 포스팅에서 제거하고 문서 번호를 다시 매김 (쓰기 잠금 안에서 호출)
+     */
+    private void compact() {
+        int[] remap = new int[maxDoc];
+        int next = 0;
+        for (int doc = 0; doc < maxDoc; doc++) {
+            if (live.get(doc)) {
+                externalIds[next] = externalIds[doc];
+                docLengths[next] = docLengths[doc];
+                docAttributes[next] = docAttributes[doc];
+                docFuzzyWords[next] = docFuzzyWords[doc];
+                remap[doc] = next++;
+            } else {
+                remap[doc] = -1;
+            }
+        }
+        postings.values().removeIf(list -> list.remap(remap) == 0);
+        docByExternalId.replaceAll((id, doc) -> remap[doc]);
+        live.clear();
+        live.set(0, next);
+        maxDoc = next;
+        for (BitSet docs : attributeDocs) {
+            docs.clear();
+        }
+        for (int doc = 0; doc < next; doc++) {
+            markAttributes(doc);
+        }
+        // 오타 교정 사전도 살아있는 문서 단어로 다시 만들어 지워진 단어의 변형을 정리
+        Arrays.fill(docFuzzyWords, next, docFuzzyWords.length, null);
+        lexicon = new FuzzyLexicon();
+        for (int doc = 0; doc < next; doc++) {
+            lexicon.addWords(docFuzzyWords[doc]);
+        }
+    }
+
+    private String[] fuzzyWordsOf(String[] fieldTexts) {
+        List<String> words = new ArrayList<>();
+        for (int field = 0; field < fuzzyFields.length && field < fieldTexts.length; field++) {
+            if (fuzzyFields[field]) {
+                words.addAll(FuzzyLexicon.words(fieldTexts[field]));
+            }
+        }
+        return words.isEmpty() ? NO_WORDS : words.toArray(NO_WORDS);
+    }
+
+    private void markAttributes(int doc) {
+        for (int attribute : docAttributes[doc]) {
+            attributeDocs.get(attribute).set(doc);
+        }
+    }
+
+    private void ensureCapacity(int capacity) {
+        if (capacity > externalIds.length) {
+            int newCapacity = Math.max(capacity, externalIds.length * 2);
+            externalIds = Arrays.copyOf(externalIds, newCapacity);
+            docLengths = Arrays.copyOf(docLengths, newCapacity);
+            docAttributes = Arrays.copyOf(docAttributes, newCapacity);
+            docFuzzyWords = Arrays.copyOf(docFuzzyWords, newCapacity);
+        }
+    }
+
+    /**
+     * doc 이 lists[from..] 포스팅에 모두 있으면 BM25 점수 합 (from 이 1이면 leadFrequency 가 첫 포스팅의 빈도), 없으면 -1
+     */
+    private float score(Postings[] lists, float[] idfs, int[] cursors, int doc, int from,
+                        float averageLength, float leadFrequency) {
+        float norm = K1 * (1 - B + B * docLengths[doc] / averageLength);
+        float score = from == 1 ? bm25(leadFrequency, norm) * idfs[0] : 0f;
+        for (int i = from; i < lists.length; i++) {
+            int position = lists[i].advance(cursors[i], doc);
+            cursors[i] = position;
+            if (position >= lists[i].size || lists[i].docs[position] != doc) {
+                return -1f;
+            }
+            score += bm25(lists[i].freqs[position], norm) * idfs[i];
+        }
+        return score;
+    }
+
+    /**
+     * 필터를 통과하는 살아있는 문서 비트셋 (읽기 잠금 안에서 호출)
+     */
+    private BitSet acceptedDocs(SearchFilter filter) {
+        BitSet accepted = null;
+        for (Map.Entry<String, Set<String>> dimension : filter.dimensions().entrySet()) {
+            BitSet anyOf = new BitSet();
+            for (String value : dimension.getValue()) {
+                Integer ordinal = attributeOrdinals.get(attribute(dimension.getKey(), value));
+                if (ordinal != null) {
+                    anyOf.or(attributeDocs.get(ordinal));
+                }
+            }
+            if (accepted == null) {
+                accepted = anyOf;
+            } else {
+                accepted.and(anyOf);
+            }
+            if (accepted.isEmpty()) {
+                return accepted;
+            }
+        }
+        accepted.and(live);
+        return accepted;
+    }
+
+    private float idf(int documentFrequency) {
+        int documents = Math.max(liveCount, documentFrequency);
+        return (float) Math.log(1 + (documents - documentFrequency + 0.5) / (documentFrequency + 0.5));
+    }
+
+    private static float bm25(float termFrequency, float norm) {
+        return termFrequency * (K1 + 1) / (termFrequency + norm);
+    }
+
+    /**
+     * 용어 하나의 포스팅 (문서 번호 오름차순)
+     * - 문서 빈도(df)에는 압축 전까지 삭제 표시 문서도 포함됨 (Lucene 과 같은 근사)
+     */
+    private static final class Postings {
+        private int[] docs;
+        private float[] freqs;
+        private int size;
+
+        private Postings() {
+            this(4);
+        }
+
+        private Postings(int capacity) {
+            this.docs = new int[capacity];
+            this.freqs = new float[capacity];
+        }
+
+        private void append(int doc, float freq) {
+            if (size == docs.length) {
+                docs = Arrays.copyOf(docs, size * 2);
+                freqs = Arrays.copyOf(freqs, size * 2);
+            }
+            docs[size] = doc;
+            freqs[size] = freq;
+            size++;
+        }
+
+        /**
+         * from 위치부터 doc 이상인 첫 위치 (지수 탐색 + 이진 탐색)
+         */
+        private int advance(int from, int doc) {
+            if (from >= size || docs[from] >= doc) {
+                return from;
+            }
+            int step = 1;
+            int low = from;
+            int high = from + 1;
+            while (high < size && docs[high] < doc) {
+                low = high;
+                step <<= 1;
+                high = from + step;
+            }
+            high = Math.min(high + 1, size);
+            int position = Arrays.binarySearch(docs, low + 1, high, doc);
+            return position >= 0 ? position : -position - 1;
+        }
+
+        private int remap(int[] remap) {
+            int kept = 0;
+            for (int p = 0; p < size; p++) {
+                int doc = remap[docs[p]];
+                if (doc >= 0) {
+                    docs[kept] = doc;
+                    freqs[kept] = freqs[p];
+                    kept++;
+                }
+            }
+            size = kept;
+            return kept;
+        }
+    }
+}
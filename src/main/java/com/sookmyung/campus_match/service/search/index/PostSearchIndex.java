@@ -0,0 +1,386 @@
+package com.sookmyung.campus_match.service.search.index;
+
+import com.sookmyung.campus_match.config.search.SearchProperties;
+import com.sookmyung.campus_match.domain.event.PostChangedEvent;
+import com.sookmyung.campus_match.dto.search.PostSearchCondition;
+import com.sookmyung.campus_match.repository.post.PostRepository;
+import com.sookmyung.campus_match.util.text.TextAnalyzer;
+import com.sookmyung.campus_match.util.text.TokenDictionary;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+
+/**
+ * 게시글 전문 검색 색인 (제목 / 본문 / 작성자명, 패싯/필터: 카테고리 / 마감 여부 / 작성자 학과)
+ * - 시작 시 로컬 디스크 스냅샷을 읽고, 스냅샷 이후 수정된 게시글만 DB에서 따라잡음 (스냅샷이 없으면 전체 구축)
+ * - 게시글 생성/수정/삭제 이벤트(커밋 후)로 증분 갱신, 삭제된 글은 색인에서 제거
+ * - 변경 N건마다, 그리고 종료 시 스냅샷 저장
+ * - 작성자 이름/학과 변경은 해당 글이 다시 수정되거나 전체 재구축될 때 반영됨
+ */
+@Slf4j
+@Component
+public class PostSearchIndex {
+
+    static final float TITLE_WEIGHT = 3f;
+    static final float CONTENT_WEIGHT = 1f;
+    static final float AUTHOR_WEIGHT = 2f;
+
+    private static final int TITLE_FIELD = 0;
+
+    public static final String FACET_CATEGORY = "category";
+    public static final String FACET_CLOSED = "isClosed";
+    /** 사용자 색인의 "department" 패싯과 통합 검색 응답에서 섞이지 않도록 이름을 구분 */
+    public static final String FACET_DEPARTMENT = "authorDepartment";
+
+    private static final String SNAPSHOT_FILE = "posts.idx";
+    /** 색인 문서 구성(속성 등)이 바뀌면 올려서 이전 스냅샷 대신 전체 재구축 */
+    private static final int DOCUMENT_VERSION = 2;
+    /** 커밋 순서와 updated_at 순서가 어긋나는 경우를 고려한 따라잡기 여유 시간 */
+    private static final long CATCH_UP_MARGIN_MINUTES = 5;
+    /** 종료 시 진행 중인 스냅샷 저장을 기다리는 최대 시간 */
+    private static final long SNAPSHOT_SHUTDOWN_WAIT_SECONDS = 30;
+
+    private final PostRepository postRepository;
+    private final TextAnalyzer analyzer;
+    private final TokenDictionary dictionary;
+    private final SearchProperties.Index config;
+    private final Path snapshotPath;
+    private final int fuzzyMinHits;
+    private final AtomicBoolean rebuilding = new AtomicBoolean(false);
+    private final AtomicInteger changesSinceSnapshot = new AtomicInteger();
+    private final Object snapshotLock = new Object();
+    // 증분 갱신과 색인 교체를 직렬화 (교체 직전에 들어온 변경이 버려질 옛 색인에만 반영되지 않도록)
+    private final Object swapLock = new Object();
+    private final ExecutorService snapshotWriter = Executors.newSingleThreadExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "post-search-snapshot");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    private volatile InvertedIndex index;
+    private volatile InvertedIndex building;
+    private volatile boolean ready;
+    private volatile LocalDateTime watermark;
+
+    public PostSearchIndex(PostRepository postRepository,
+                           TextAnalyzer analyzer,
+                           TokenDictionary dictionary,
+                           SearchProperties properties) {
+        this.postRepository = postRepository;
+        this.analyzer = analyzer;
+        this.dictionary = dictionary;
+        this.config = properties.getIndex();
+        this.snapshotPath = Paths.get(config.getDirectory(), SNAPSHOT_FILE);
+        this.fuzzyMinHits = properties.getFuzzy().isEnabled() ? properties.getFuzzy().getMinHits() : 0;
+        this.index = newIndex();
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void loadOnStartup() {
+        if (!rebuilding.compareAndSet(false, true)) {
+            return;
+        }
+        Thread thread = new Thread(() -> {
+            try {
+                if (loadSnapshot()) {
+                    catchUp();
+                } else {
+                    rebuild();
+                }
+            } catch (Exception e) {
+                log.warn("게시글 검색 색인 준비 실패: {}", e.getMessage());
+            } finally {
+                synchronized (swapLock) {
+                    building = null;
+                }
+                rebuilding.set(false);
+            }
+        }, "post-search-index-builder");
+        thread.setDaemon(true);
+        thread.start();
+    }
+
+    /**
+     * 전체 게시글로 색인 재구축 (현재 스레드에서 실행)
+     */
+    public void rebuild() {
+        long startedAt = System.currentTimeMillis();
+        InvertedIndex fresh = newIndex();
+        synchronized (swapLock) {
+            building = fresh; // 구축 중 들어온 변경도 새 색인에 반영
+        }
+
+        forEachPage(afterId -> postRepository.findSearchDocumentsAfter(afterId, pageRequest()), fresh);
+
+        synchronized (swapLock) {
+            index = fresh;
+            building = null;
+        }
+        ready = true;
+        log.info("게시글 검색 색인 구축 완료 - 문서 수: {}, 소요: {}ms",
+                fresh.size(), System.currentTimeMillis() - startedAt);
+        saveSnapshotAsync();
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onPostChanged(PostChangedEvent event) {
+        try {
+            refresh(List.of(event.getPostId()));
+        } catch (Exception e) {
+            log.warn("게시글 검색 색인 갱신 실패 - 게시글 ID: {}, 오류: {}", event.getPostId(), e.getMessage());
+        }
+    }
+
+    /**
+     * 지정한 게시글들을 DB 기준으로 다시 색인 (없거나 삭제된 글은 제거)
+     */
+    public void refresh(List<Long> postIds) {
+        Set<Long> missing = new HashSet<>(postIds);
+        for (Object[] row : postRepository.findSearchDocumentsByIds(postIds)) {
+            missing.remove((Long) row[0]);
+            apply(row);
+        }
+        for (Long postId : missing) {
+            synchronized (swapLock) {
+                index.delete(postId);
+                if (building != null) {
+                    building.delete(postId);
+                }
+            }
+        }
+        if (changesSinceSnapshot.addAndGet(postIds.size()) >= config.getSnapshotEveryChanges()) {
+            saveSnapshotAsync();
+        }
+    }
+
+    public SearchResult search(String query, int offset, int limit) {
+        return search(query, offset, limit, false);
+    }
+
+    /**
+     * 정확 일치 결과가 search.fuzzy.min-hits 미만이면 제목 오타를 교정해 재검색
+     */
+    public SearchResult search(String query, int offset, int limit, boolean countFacets) {
+        return search(query, SearchFilter.NONE, offset, limit, countFacets);
+    }
+
+    /**
+     * 필터 조건을 만족하는 글 안에서만 검색 (필터는 점수 계산 전에 적용)
+     */
+    public SearchResult search(String query, SearchFilter filter, int offset, int limit, boolean countFacets) {
+        return index.search(query, filter, offset, limit, countFacets, fuzzyMinHits);
+    }
+
+    /**
+     * 게시글 검색 조건 → 색인 필터 (카테고리 OR, 조건끼리 AND)
+     */
+    public static SearchFilter filterOf(PostSearchCondition condition) {
+        if (condition == null) {
+            return SearchFilter.NONE;
+        }
+        String department = condition.getDepartment();
+        return SearchFilter.NONE
+                .and(FACET_CATEGORY, condition.getCategories())
+                .and(FACET_CLOSED, condition.getClosed())
+                .and(FACET_DEPARTMENT, department == null || department.isBlank() ? null : department.trim());
+    }
+
+    public boolean isReady() {
+        return ready;
+    }
+
+    /**
+     * 현재 색인 버전 (문서 갱신이나 색인 교체 시 바뀜)
+     */
+    public long version() {
+        return index.version();
+    }
+
+    public int size() {
+        return index.size();
+    }
+
+    private void catchUp() {
+        LocalDateTime since = watermark != null
+                ? watermark.minusMinutes(CATCH_UP_MARGIN_MINUTES)
+                : LocalDateTime.of(1970, 1, 1, 0, 0);
+        int[] applied = {0};
+        forEachPage(afterId -> {
+            List<Object[]> rows = postRepository.findSearchDocumentsUpdatedAfter(since, afterId, pageRequest());
+            applied[0] += rows.size();
+            return rows;
+        }, index);
+        ready = true;
+        log.info("게시글 검색 색인 스냅샷 적재 완료 - 문서 수: {}, 따라잡은 변경: {}", index.size(), applied[0]);
+    }
+
+    private void forEachPage(Function<Long, List<Object[]>> pageLoader, InvertedIndex target) {
+        int pageSize = Math.max(1, config.getLoadPageSize());
+        long afterId = 0L;
+        while (true) {
+            List<Object[]> rows = pageLoader.apply(afterId);
+            if (rows == null || rows.isEmpty()) {
+                break;
+            }
+            for (Object[] row : rows) {
+                applyTo(target, row);
+            }
+            afterId = (Long) rows.get(rows.size() - 1)[0];
+            if (rows.size() < pageSize) {
+                break;
+            }
+        }
+    }
+
+    private void apply(Object[] row) {
+        synchronized (swapLock) {
+            applyTo(index, row);
+            if (building != null) {
+                applyTo(building, row);
+            }
+        }
+    }
+
+    /**
+     * 검색 문서 행 (id, title, content, authorName, isDeleted, updatedAt, category, isClosed, authorDepartment) 반영
+     */
+    private void applyTo(InvertedIndex target, Object[] row) {
+        Long postId = (Long) row[0];
+        if (Boolean.TRUE.equals(row[4])) {
+            target.delete(postId);
+        } else {
+            List<String> attributes = new ArrayList<>(3);
+            attributes.add(InvertedIndex.attribute(FACET_CATEGORY, row[6]));
+            attributes.add(InvertedIndex.attribute(FACET_CLOSED, Boolean.TRUE.equals(row[7])));
+            if (row[8] != null) {
+                attributes.add(InvertedIndex.attribute(FACET_DEPARTMENT, row[8]));
+            }
+            target.add(postId, attributes, (String) row[1], (String) row[2], (String) row[3]);
+        }
+        LocalDateTime updatedAt = (LocalDateTime) row[5];
+        if (updatedAt != null && (watermark == null || updatedAt.isAfter(watermark))) {
+            watermark = updatedAt;
+        }
+    }
+
+    private boolean loadSnapshot() {
+        if (!Files.exists(snapshotPath)) {
+            return false;
+        }
+        try (DataInputStream in = new DataInputStream(new BufferedInputStream(Files.newInputStream(snapshotPath)))) {
+            int documentVersion = in.readInt();
+            if (documentVersion != DOCUMENT_VERSION) {
+                throw new IOException("색인 문서 버전 불일치: " + documentVersion);
+            }
+            String savedWatermark = in.readUTF();
+            InvertedIndex loaded = InvertedIndex.readFrom(in, analyzer, dictionary);
+            watermark = savedWatermark.isEmpty() ? null : LocalDateTime.parse(savedWatermark);
+            synchronized (swapLock) {
+                index = loaded;
+            }
+            return true;
+        } catch (Exception e) {
+            log.warn("게시글 검색 색인 스냅샷 읽기 실패, 전체 재구축 - 오류: {}", e.getMessage());
+            return false;
+        }
+    }
+
+    private void saveSnapshotAsync() {
+        changesSinceSnapshot.set(0);
+        try {
+            snapshotWriter.execute(this::saveSnapshot);
+        } catch (Exception e) {
+            log.debug("게시글 검색 색인 스냅샷 예약 건너뜀: {}", e.getMessage());
+        }
+    }
+
+    /**
+     * 임시 파일에 쓴 뒤 교체하여 쓰는 도중 종료되어도 이전 스냅샷을 유지
+     * - 저장은 한 번에 하나씩 (백그라운드 저장과 종료 시 저장이 겹치지 않도록)
+     * - 임시 파일은 저장마다 고유한 이름을 사용
+     */
+    private void saveSnapshot() {
+        if (!ready) {
+            return;
+        }
+        synchronized (snapshotLock) {
+            Path temp = null;
+            try {
+                Files.createDirectories(snapshotPath.getParent());
+                temp = Files.createTempFile(snapshotPath.getParent(), SNAPSHOT_FILE + ".", ".tmp");
+                LocalDateTime savedWatermark = watermark;
+                try (DataOutputStream out = new DataOutputStream(new BufferedOutputStream(Files.newOutputStream(temp)))) {
+                    out.writeInt(DOCUMENT_VERSION);
+                    out.writeUTF(savedWatermark != null ? savedWatermark.toString() : "");
+                    index.writeTo(out);
+                }
+                Files.move(temp, snapshotPath, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+            } catch (IOException e) {
+                log.warn("게시글 검색 색인 스냅샷 저장 실패: {}", e.getMessage());
+                deleteQuietly(temp);
+            }
+        }
+    }
+
+    private void deleteQuietly(Path path) {
+        if (path == null) {
+            return;
+        }
+        try {
+            Files.deleteIfExists(path);
+        } catch (IOException e) {
+            log.debug("임시 스냅샷 파일 삭제 실패: {}", e.getMessage());
+        }
+    }
+
+    /**
+     * 예약된 백그라운드 저장이 끝난 뒤 최신 상태로 한 번 더 저장
+     */
+    @PreDestroy
+    public void shutdown() {
+        snapshotWriter.shutdown();
+        try {
+            if (!snapshotWriter.awaitTermination(SNAPSHOT_SHUTDOWN_WAIT_SECONDS, TimeUnit.SECONDS)) {
+                log.warn("게시글 검색 색인 스냅샷 저장 대기 시간 초과");
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        saveSnapshot();
+    }
+
+    private PageRequest pageRequest() {
+        return PageRequest.of(0, Math.max(1, config.getLoadPageSize()));
+    }
+
+    private InvertedIndex newIndex() {
+        return new InvertedIndex(analyzer, dictionary, TITLE_WEIGHT, CONTENT_WEIGHT, AUTHOR_WEIGHT)
+                .withFuzzyFields(TITLE_FIELD);
+    }
+}
@@ -0,0 +1,82 @@
+package com.sookmyung.campus_match.service.search.index;
+
+import java.util.Collection;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * 색인 검색 필터 (문서 속성 "차원:값" 기준)
+ * - 같은 차원 안의 값은 OR, 차원끼리는 AND (예: 카테고리 STUDY 또는 PROJECT 이면서 마감되지 않은 글)
+ * - 불변 객체, and() 는 조건을 더한 새 필터를 반환 (값이 없으면 그대로)
+ * - equals/hashCode 를 구현하여 검색 결과 캐시 키로 사용 가능
+ */
+public final class SearchFilter {
+
+    public static final SearchFilter NONE = new SearchFilter(Map.of());
+
+    private final Map<String, Set<String>> dimensions;
+
+    private SearchFilter(Map<String, Set<String>> dimensions) {
+        this.dimensions = dimensions;
+    }
+
+    /**
+     * dimension 값이 values 중 하나인 문서로 제한 (values 가 비었거나 null 이면 조건 없음)
+     */
+    public SearchFilter and(String dimension, Collection<?> values) {
+        if (values == null || values.isEmpty()) {
+            return this;
+        }
+        Set<String> names = new LinkedHashSet<>();
+        for (Object value : values) {
+            if (value != null) {
+                names.add(String.valueOf(value));
+            }
+        }
+        if (names.isEmpty()) {
+            return this;
+        }
+        Map<String, Set<String>> copy = new LinkedHashMap<>(dimensions);
+        copy.merge(dimension, Collections.unmodifiableSet(names), (existing, added) -> {
+            // 같은 차원을 두 번 제한하면 교집합
+            Set<String> both = new LinkedHashSet<>(existing);
+            both.retainAll(added);
+            return Collections.unmodifiableSet(both);
+        });
+        return new SearchFilter(Collections.unmodifiableMap(copy));
+    }
+
+    /**
+     * dimension 값이 value 인 문서로 제한 (value 가 null 이면 조건 없음)
+     */
+    public SearchFilter and(String dimension, Object value) {
+        return value == null ? this : and(dimension, List.of(value));
+    }
+
+    public boolean isEmpty() {
+        return dimensions.isEmpty();
+    }
+
+    Map<String, Set<String>> dimensions() {
+        return dimensions;
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        return other instanceof SearchFilter filter && dimensions.equals(filter.dimensions);
+    }
+
+    @Override
+    public int hashCode() {
+        return dimensions.hashCode();
+    }
+
+    @Override
+    public String toString() {
+        return dimensions.toString();
+    }
+}
@@ -0,0 +1,46 @@
+package com.sookmyung.campus_match.service.search.index;
+
+import java.util.Map;
+
+/**
+ * 색인 검색 결과 한 페이지
+ * - totalHits: 질의와 일치하는 전체 문서 수
+ * - ids / scores: 요청한 페이지의 문서 ID와 BM25 점수 (점수 내림차순)
+ * - facets: 패싯 집계를 요청한 경우 일치 문서 전체의 차원 -> (값 -> 개수)
+ */
+public final class SearchResult {
+
+    public static final SearchResult EMPTY = new SearchResult(0, new long[0], new float[0]);
+
+    private final int totalHits;
+    private final long[] ids;
+    private final float[] scores;
+    private final Map<String, Map<String, Integer>> facets;
+
+    public SearchResult(int totalHits, long[] ids, float[] scores) {
+        this(totalHits, ids, scores, Map.of());
+    }
+
+    public SearchResult(int totalHits, long[] ids, float[] scores, Map<String, Map<String, Integer>> facets) {
+        this.totalHits = totalHits;
+        this.ids = ids;
+        this.scores = scores;
+        this.facets = facets;
+    }
+
+    public int getTotalHits() {
+        return totalHits;
+    }
+
+    public long[] getIds() {
+        return ids;
+    }
+
+    public float[] getScores() {
+        return scores;
+    }
+
+    public Map<String, Map<String, Integer>> getFacets() {
+        return facets;
+    }
+}
@@ -0,0 +1,160 @@
+package com.sookmyung.campus_match.service.search.index;
+
+import com.sookmyung.campus_match.config.search.SearchProperties;
+import com.sookmyung.campus_match.domain.event.TeamChangedEvent;
+import com.sookmyung.campus_match.repository.team.TeamRepository;
+import com.sookmyung.campus_match.util.text.TextAnalyzer;
+import com.sookmyung.campus_match.util.text.TokenDictionary;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * 팀 전문 검색 색인 (팀 이름 / 설명)
+ * - 비활성화된 팀은 제외, 시작 시 키셋 페이지로 구축하고 팀 변경 이벤트(커밋 후)로 증분 갱신
+ */
+@Slf4j
+@Component
+public class TeamSearchIndex {
+
+    static final float NAME_WEIGHT = 3f;
+    static final float DESCRIPTION_WEIGHT = 1f;
+
+    private final TeamRepository teamRepository;
+    private final TextAnalyzer analyzer;
+    private final TokenDictionary dictionary;
+    private final int pageSize;
+    private final AtomicBoolean rebuilding = new AtomicBoolean(false);
+
+    private volatile InvertedIndex index;
+    private volatile InvertedIndex building;
+    private volatile boolean ready;
+
+    public TeamSearchIndex(TeamRepository teamRepository,
+                           TextAnalyzer analyzer,
+                           TokenDictionary dictionary,
+                           SearchProperties properties) {
+        this.teamRepository = teamRepository;
+        this.analyzer = analyzer;
+        this.dictionary = dictionary;
+        this.pageSize = Math.max(1, properties.getIndex().getLoadPageSize());
+        this.index = newIndex();
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void buildOnStartup() {
+        if (!rebuilding.compareAndSet(false, true)) {
+            return;
+        }
+        Thread thread = new Thread(() -> {
+            try {
+                rebuild();
+            } catch (Exception e) {
+                log.warn("팀 검색 색인 구축 실패: {}", e.getMessage());
+            } finally {
+                building = null;
+                rebuilding.set(false);
+            }
+        }, "team-search-index-builder");
+        thread.setDaemon(true);
+        thread.start();
+    }
+
+    /**
+     * 전체 팀으로 색인 재구축 (현재 스레드에서 실행)
+     */
+    public void rebuild() {
+        InvertedIndex fresh = newIndex();
+        building = fresh;
+
+        long afterId = 0L;
+        while (true) {
+            List<Object[]> rows = teamRepository.findSearchDocumentsAfter(afterId, PageRequest.of(0, pageSize));
+            if (rows == null || rows.isEmpty()) {
+                break;
+            }
+            for (Object[] row : rows) {
+                applyTo(fresh, row);
+            }
+            afterId = (Long) rows.get(rows.size() - 1)[0];
+            if (rows.size() < pageSize) {
+                break;
+            }
+        }
+
+        index = fresh;
+        building = null;
+        ready = true;
+        log.info("팀 검색 색인 구축 완료 - 문서 수: {}", fresh.size());
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onTeamChanged(TeamChangedEvent event) {
+        try {
+            refresh(List.of(event.getTeamId()));
+        } catch (Exception e) {
+            log.warn("팀 검색 색인 갱신 실패 - 팀 ID: {}, 오류: {}", event.getTeamId(), e.getMessage());
+        }
+    }
+
+    /**
+     * 지정한 팀들을 DB 기준으로 다시 색인 (없거나 비활성화된 팀은 제거)
+     */
+    public void refresh(List<Long> teamIds) {
+        Set<Long> missing = new HashSet<>(teamIds);
+        InvertedIndex pending = building;
+        for (Object[] row : teamRepository.findSearchDocumentsByIds(teamIds)) {
+            missing.remove((Long) row[0]);
+            applyTo(index, row);
+            if (pending != null) {
+                applyTo(pending, row);
+            }
+        }
+        for (Long teamId : missing) {
+            index.delete(teamId);
+            if (pending != null) {
+                pending.delete(teamId);
+            }
+        }
+    }
+
+    public SearchResult search(String query, int offset, int limit) {
+        return index.search(query, offset, limit);
+    }
+
+    public boolean isReady() {
+        return ready;
+    }
+
+    /**
+     * 현재 색인 버전 (문서 갱신이나 색인 교체 시 바뀜)
+     */
+    public long version() {
+        return index.version();
+    }
+
+    /**
+     * 팀 행 (id, teamName, description, isActive) 반영
+     */
+    private static void applyTo(InvertedIndex target, Object[] row) {
+        Long teamId = (Long) row[0];
+        if (Boolean.FALSE.equals(row[3])) {
+            target.delete(teamId);
+        } else {
+            target.add(teamId, (String) row[1], (String) row[2]);
+        }
+    }
+
+    private InvertedIndex newIndex() {
+        return new InvertedIndex(analyzer, dictionary, NAME_WEIGHT, DESCRIPTION_WEIGHT);
+    }
+}
@@ -0,0 +1,288 @@
+package com.sookmyung.campus_match.service.search.index;
+
+import com.sookmyung.campus_match.config.search.SearchProperties;
+import com.sookmyung.campus_match.domain.common.enums.ApprovalStatus;
+import com.sookmyung.campus_match.domain.event.UserAccountChangedEvent;
+import com.sookmyung.campus_match.domain.event.UserInterestChangedEvent;
+import com.sookmyung.campus_match.domain.event.UserProfileChangedEvent;
+import com.sookmyung.campus_match.repository.user.ExperienceRepository;
+import com.sookmyung.campus_match.repository.user.ProfileRepository;
+import com.sookmyung.campus_match.repository.user.UserInterestRepository;
+import com.sookmyung.campus_match.repository.user.UserRepository;
+import com.sookmyung.campus_match.util.text.TextAnalyzer;
+import com.sookmyung.campus_match.util.text.TokenDictionary;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * 사용자 전문 검색 색인 (이름 / 학과 / 헤드라인 / 자기소개 / 경력 태그 / 관심사 이름, 패싯: 학과 / 관심사)
+ * - 승인된 사용자만 색인, 필드별 가중치는 search.user-boosts 설정
+ * - 시작 시 승인 사용자 키셋 페이지마다 프로필/경력/관심사를 IN 쿼리로 모아 구축
+ * - 프로필 변경, 관심사 변경, 승인 상태 변경/삭제 이벤트(커밋 후)로 해당 사용자만 다시 색인
+ * WHY: 여러 테이블에 흩어진 사용자 텍스트를 LIKE 로 조인 검색하지 않고 한 번에 관련도 순으로 찾기 위함
+ */
+@Slf4j
+@Component
+public class UserSearchIndex {
+
+    public static final String FACET_DEPARTMENT = "department";
+    public static final String FACET_INTEREST = "interest";
+
+    private static final int NAME = 0;
+    private static final int DEPARTMENT = 1;
+    private static final int HEADLINE = 2;
+    private static final int BIO = 3;
+    private static final int TAGS = 4;
+    private static final int INTERESTS = 5;
+    private static final int FIELD_COUNT = 6;
+
+    private final UserRepository userRepository;
+    private final ProfileRepository profileRepository;
+    private final ExperienceRepository experienceRepository;
+    private final UserInterestRepository userInterestRepository;
+    private final TextAnalyzer analyzer;
+    private final TokenDictionary dictionary;
+    private final float[] fieldWeights;
+    private final int pageSize;
+    private final int fuzzyMinHits;
+    private final AtomicBoolean rebuilding = new AtomicBoolean(false);
+
+    private volatile InvertedIndex index;
+    private volatile InvertedIndex building;
+    private volatile boolean ready;
+
+    public UserSearchIndex(UserRepository userRepository,
+                           ProfileRepository profileRepository,
+                           ExperienceRepository experienceRepository,
+                           UserInterestRepository userInterestRepository,
+                           TextAnalyzer analyzer,
+                           TokenDictionary dictionary,
+                           SearchProperties properties) {
+        this.userRepository = userRepository;
+        this.profileRepository = profileRepository;
+        this.experienceRepository = experienceRepository;
+        this.userInterestRepository = userInterestRepository;
+        this.analyzer = analyzer;
+        this.dictionary = dictionary;
+        SearchProperties.UserBoosts boosts = properties.getUserBoosts();
+        this.fieldWeights = new float[]{
+                boosts.getName(), boosts.getDepartment(), boosts.getHeadline(),
+                boosts.getBio(), boosts.getTags(), boosts.getInterests()
+        };
+        this.pageSize = Math.max(1, properties.getIndex().getLoadPageSize());
+        this.fuzzyMinHits = properties.getFuzzy().isEnabled() ? properties.getFuzzy().getMinHits() : 0;
+        this.index = newIndex();
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void buildOnStartup() {
+        if (!rebuilding.compareAndSet(false, true)) {
+            return;
+        }
+        Thread thread = new Thread(() -> {
+            try {
+                rebuild();
+            } catch (Exception e) {
+                log.warn("사용자 검색 색인 구축 실패: {}", e.getMessage());
+            } finally {
+                building = null;
+                rebuilding.set(false);
+            }
+        }, "user-search-index-builder");
+        thread.setDaemon(true);
+        thread.start();
+    }
+
+    /**
+     * 승인된 전체 사용자로 색인 재구축 (현재 스레드에서 실행)
+     */
+    public void rebuild() {
+        long startedAt = System.currentTimeMillis();
+        InvertedIndex fresh = newIndex();
+        building = fresh; // 구축 중 들어온 변경도 새 색인에 반영
+
+        long afterId = 0L;
+        while (true) {
+            List<Object[]> rows = userRepository.findSearchDocumentsAfter(
+                    ApprovalStatus.APPROVED, afterId, PageRequest.of(0, pageSize));
+            if (rows == null || rows.isEmpty()) {
+                break;
+            }
+            for (Map.Entry<Long, UserDocument> document : loadDocuments(rows).entrySet()) {
+                fresh.add(document.getKey(), document.getValue().attributes, document.getValue().fields);
+            }
+            afterId = (Long) rows.get(rows.size() - 1)[0];
+            if (rows.size() < pageSize) {
+                break;
+            }
+        }
+
+        index = fresh;
+        building = null;
+        ready = true;
+        log.info("사용자 검색 색인 구축 완료 - 문서 수: {}, 소요: {}ms",
+                fresh.size(), System.currentTimeMillis() - startedAt);
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onProfileChanged(UserProfileChangedEvent event) {
+        refreshSafely(event.getUserId());
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onInterestChanged(UserInterestChangedEvent event) {
+        refreshSafely(event.getUserId());
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onAccountChanged(UserAccountChangedEvent event) {
+        refreshSafely(event.getUserId());
+    }
+
+    /**
+     * 지정한 사용자들을 DB 기준으로 다시 색인 (없거나 승인되지 않은 사용자는 제거)
+     */
+    public void refresh(List<Long> userIds) {
+        List<Object[]> approved = new ArrayList<>();
+        for (Object[] row : userRepository.findSearchDocumentsByIds(userIds)) {
+            if (row[3] == ApprovalStatus.APPROVED) {
+                approved.add(row);
+            }
+        }
+        Map<Long, UserDocument> documents = approved.isEmpty() ? Map.of() : loadDocuments(approved);
+        InvertedIndex pending = building;
+        for (Long userId : userIds) {
+            UserDocument document = documents.get(userId);
+            if (document != null) {
+                index.add(userId, document.attributes, document.fields);
+                if (pending != null) {
+                    pending.add(userId, document.attributes, document.fields);
+                }
+            } else {
+                index.delete(userId);
+                if (pending != null) {
+                    pending.delete(userId);
+                }
+            }
+        }
+    }
+
+    public SearchResult search(String query, int offset, int limit) {
+        return search(query, offset, limit, false);
+    }
+
+    /**
+     * 정확 일치 결과가 search.fuzzy.min-hits 미만이면 이름 오타를 교정해 재검색
+     */
+    public SearchResult search(String query, int offset, int limit, boolean countFacets) {
+        return index.search(query, offset, limit, countFacets, fuzzyMinHits);
+    }
+
+    public boolean isReady() {
+        return ready;
+    }
+
+    /**
+     * 현재 색인 버전 (문서 갱신이나 색인 교체 시 바뀜)
+     */
+    public long version() {
+        return index.version();
+    }
+
+    private void refreshSafely(Long userId) {
+        try {
+            refresh(List.of(userId));
+        } catch (Exception e) {
+            log.warn("사용자 검색 색인 갱신 실패 - 사용자 ID: {}, 오류: {}", userId, e.getMessage());
+        }
+    }
+
+    /**
+     * (id, name, department, ...) 사용자 행에 프로필/경력 태그/관심사 텍스트를 모아 색인 문서로 변환
+     */
+    private Map<Long, UserDocument> loadDocuments(List<Object[]> userRows) {
+        Map<Long, StringBuilder[]> builders = new LinkedHashMap<>();
+        Map<Long, List<String>> attributes = new HashMap<>();
+        for (Object[] row : userRows) {
+            StringBuilder[] fields = new StringBuilder[FIELD_COUNT];
+            for (int field = 0; field < FIELD_COUNT; field++) {
+                fields[field] = new StringBuilder();
+            }
+            append(fields[NAME], row[1]);
+            append(fields[DEPARTMENT], row[2]);
+            builders.put((Long) row[0], fields);
+            List<String> userAttributes = new ArrayList<>();
+            if (row[2] != null) {
+                userAttributes.add(InvertedIndex.attribute(FACET_DEPARTMENT, row[2]));
+            }
+            attributes.put((Long) row[0], userAttributes);
+        }
+        Set<Long> userIds = new HashSet<>(builders.keySet());
+
+        for (Object[] row : profileRepository.findEmbeddingTextsByUserIds(userIds)) {
+            StringBuilder[] fields = builders.get((Long) row[0]);
+            if (fields != null) {
+                append(fields[HEADLINE], row[1]);
+                append(fields[BIO], row[2]);
+            }
+        }
+        for (Object[] row : experienceRepository.findEmbeddingTextsByUserIds(userIds)) {
+            StringBuilder[] fields = builders.get((Long) row[0]);
+            if (fields != null) {
+                append(fields[TAGS], row[3]);
+            }
+        }
+        for (Object[] row : userInterestRepository.findInterestNamesByUserIds(userIds)) {
+            StringBuilder[] fields = builders.get((Long) row[0]);
+            if (fields != null) {
+                append(fields[INTERESTS], row[1]);
+                append(fields[INTERESTS], row[2]);
+                attributes.get((Long) row[0]).add(InvertedIndex.attribute(FACET_INTEREST, row[1]));
+            }
+        }
+
+        Map<Long, UserDocument> documents = new LinkedHashMap<>();
+        for (Map.Entry<Long, StringBuilder[]> entry : builders.entrySet()) {
+            String[] texts = new String[FIELD_COUNT];
+            for (int field = 0; field < FIELD_COUNT; field++) {
+                texts[field] = entry.getValue()[field].toString();
+            }
+            documents.put(entry.getKey(), new UserDocument(texts, attributes.get(entry.getKey())));
+        }
+        return documents;
+    }
+
+    private static void append(StringBuilder field, Object text) {
+        if (text != null) {
+            field.append(text).append(' ');
+        }
+    }
+
+    private InvertedIndex newIndex() {
+        return new InvertedIndex(analyzer, dictionary, fieldWeights).withFuzzyFields(NAME);
+    }
+
+    private static final class UserDocument {
+        private final String[] fields;
+        private final List<String> attributes;
+
+        private UserDocument(String[] fields, List<String> attributes) {
+            this.fields = fields;
+            this.attributes = attributes;
+        }
+    }
+}
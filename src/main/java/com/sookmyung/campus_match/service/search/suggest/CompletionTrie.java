@@ -0,0 +1,292 @@
+package com.sookmyung.campus_match.service.search.suggest;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * 자동완성용 압축 트라이 (radix tree)
+ * - 간선에 문자열 조각을 두어 노드 수를 줄이고, 노드마다 가중치 상위 N개 후보를 미리 계산해 둠
+ * - 조회는 접두사 길이만큼 내려간 뒤 그 노드의 상위 N개를 그대로 반환 (후보 수와 무관)
+ * - 후보는 전체 문자열과 각 단어 시작 위치로 등록되어 "스터디" 로 "알고리즘 스터디" 도 찾음
+ * - 같은 후보를 더 큰 가중치로 다시 추가하면 경로의 상위 N개를 갱신 (가중치 감소는 재구축 시 반영)
+ */
+public final class CompletionTrie {
+
+    /** 후보 하나당 등록할 최대 단어 시작 위치 수 */
+    private static final int MAX_WORD_KEYS = 5;
+
+    private final int topN;
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+    private final Node root;
+    private final List<Suggestion> entries = new ArrayList<>();
+    private final Map<String, Integer> entryByKey = new HashMap<>();
+
+    public CompletionTrie(int topN) {
+        if (topN <= 0) {
+            throw new IllegalArgumentException("topN must be positive");
+        }
+        this.topN = topN;
+        this.root = new Node("");
+    }
+
+    /**
+     * 후보 추가 (같은 종류/문자열이 있으면 더 큰 가중치로만 갱신)
+     */
+    public void add(String text, SuggestionType type, long weight) {
+        String normalized = normalize(text);
+        if (normalized.isEmpty()) {
+            return;
+        }
+        String entryKey = type.name() + ':' + normalized;
+
+        lock.writeLock().lock();
+        try {
+            Integer existing = entryByKey.get(entryKey);
+            int entry;
+            if (existing == null) {
+                entry = entries.size();
+                entries.add(new Suggestion(text.trim(), type, weight));
+                entryByKey.put(entryKey, entry);
+            } else {
+                entry = existing;
+                if (entries.get(entry).getWeight() >= weight) {
+                    return;
+                }
+                entries.get(entry).setWeight(weight);
+            }
+            for (String key : keysOf(normalized)) {
+                insert(key, entry);
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * 접두사로 시작하는 후보를 가중치 내림차순으로 최대 limit 개 반환
+     */
+    public List<Suggestion> suggest(String prefix, int limit) {
+        String normalized = normalize(prefix);
+        if (normalized.isEmpty() || limit <= 0) {
+            return List.of();
+        }
+        lock.readLock().lock();
+        try {
+            Node node = root;
+            int i = 0;
+            while (i < normalized.length()) {
+                Node child = node.child(normalized.charAt(i));
+                if (child == null) {
+                    return List.of();
+                }
+                int remaining = normalized.length() - i;
+                if (child.label.length() <= remaining) {
+                    if (!normalized.startsWith(child.label, i)) {
+                        return List.of();
+                    }
+                    i += child.label.length();
+                } else {
+                    // 접두사가 간선 중간에서 끝나는 경우
+                    if (!child.label.startsWith(normalized.substring(i))) {
+                        return List.of();
+                    }
+                    i = normalized.length();
+                }
+                node = child;
+            }
+            int count = Math.min(limit, node.topSize);
+            List<Suggestion> result = new ArrayList<>(count);
+            for (int k = 0; k < count; k++) {
+                result.add(entries.get(node.top[k]));
+            }
+            return result;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    public int size() {
+        lock.readLock().lock();
+        try {
+            return entries.size();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    static String normalize(String text) {
+        if (text == null) {
+            return "";
+        }
+        StringBuilder normalized = new StringBuilder(text.length());
+        boolean space = false;
+        for (int i = 0; i < text.length(); i++) {
+            char c = text.charAt(i);
+            if (Character.isWhitespace(c)) {
+                space = normalized.length() > 0;
+            } else {
+                if (space) {
+                    normalized.append(' ');
+                    space = false;
+                }
+                normalized.append(c);
+            }
+        }
+        return normalized.toString().toLowerCase(Locale.ROOT);
+    }
+
+    private static List<String> keysOf(String normalized) {
+        List<String> keys = new ArrayList<>(2);
+        keys.add(normalized);
+        int words = 1;
+        for (int i = 0; i < normalized.length() && words < MAX_WORD_KEYS; i++) {
+            if (normalized.charAt(i) == ' ') {
+                keys.add(normalized.substring(i + 1));
+                words++;
+            }
+        }
+        return keys;
+    }
+
+    private void insert(String key, int entry) {
+        Node node = root;
+        offer(node, entry);
+        int i = 0;
+        while (i < key.length()) {
+            Node child = node.child(key.charAt(i));
+            if (child == null) {
+                Node leaf = new Node(key.substring(i));
+                node.addChild(leaf);
+                offer(leaf, entry);
+                return;
+            }
+            int common = commonPrefix(child.label, key, i);
+            if (common < child.label.length()) {
+                child = split(node, child, common);
+            }
+            offer(child, entry);
+            i += common;
+            node = child;
+        }
+    }
+
+    /**
+     * child 간선을 common 위치에서 나눠 중간 노드를 만듦 (중간 노드는 기존 하위 후보를 그대로 가짐)
+     */
+    private static Node split(Node parent, Node child, int common) {
+        Node middle = new Node(child.label.substring(0, common));
+        middle.top = Arrays.copyOf(child.top, child.top.length);
+        middle.topSize = child.topSize;
+        parent.replaceChild(child, middle);
+        child.label = child.label.substring(common);
+        middle.addChild(child);
+        return middle;
+    }
+
+    /**
+     * 노드의 상위 N개에 후보 반영 (이미 있으면 위치만 다시 잡음)
+     */
+    private void offer(Node node, int entry) {
+        if (node.top.length == 0) {
+            node.top = new int[topN];
+        }
+        int[] top = node.top;
+        for (int k = 0; k < node.topSize; k++) {
+            if (top[k] == entry) {
+                System.arraycopy(top, k + 1, top, k, node.topSize - k - 1);
+                node.topSize--;
+                break;
+            }
+        }
+        int position = node.topSize;
+        while (position > 0 && ranksBefore(entry, top[position - 1])) {
+            position--;
+        }
+        if (position >= topN) {
+            return;
+        }
+        int shift = Math.min(node.topSize, topN - 1) - position;
+        System.arraycopy(top, position, top, position + 1, shift);
+        top[position] = entry;
+        node.topSize = Math.min(node.topSize + 1, topN);
+    }
+
+    private boolean ranksBefore(int entry, int other) {
+        long weight = entries.get(entry).getWeight();
+        long otherWeight = entries.get(other).getWeight();
+        if (weight != otherWeight) {
+            return weight > otherWeight;
+        }
+        return entries.get(entry).getText().length() < entries.get(other).getText().length();
+    }
+
+    private static int commonPrefix(String label, String key, int offset) {
+        int max = Math.min(label.length(), key.length() - offset);
+        int i = 0;
+        while (i < max && label.charAt(i) == key.charAt(offset + i)) {
+            i++;
+        }
+        return i;
+    }
+
+    private static final class Node {
+        private static final Node[] NO_CHILDREN = new Node[0];
+
+        private String label;
+        private Node[] children = NO_CHILDREN;
+        private int[] top = new int[0];
+        private int topSize;
+
+        private Node(String label) {
+            this.label = label;
+        }
+
+        /**
+         * 첫 글자로 자식 찾기 (자식은 첫 글자 오름차순 유지)
+         */
+        private Node child(char first) {
+            int low = 0;
+            int high = children.length - 1;
+            while (low <= high) {
+                int mid = (low + high) >>> 1;
+                char c = children[mid].label.charAt(0);
+                if (c < first) {
+                    low = mid + 1;
+                } else if (c > first) {
+                    high = mid - 1;
+                } else {
+                    return children[mid];
+                }
+            }
+            return null;
+        }
+
+        private void addChild(Node child) {
+            char first = child.label.charAt(0);
+            int position = 0;
+            while (position < children.length && children[position].label.charAt(0) < first) {
+                position++;
+            }
+            Node[] grown = new Node[children.length + 1];
+            System.arraycopy(children, 0, grown, 0, position);
+            grown[position] = child;
+            System.arraycopy(children, position, grown, position + 1, children.length - position);
+            children = grown;
+        }
+
+        private void replaceChild(Node previous, Node replacement) {
+            for (int i = 0; i < children.length; i++) {
+                if (children[i] == previous) {
+                    children[i] = replacement;
+                    return;
+                }
+            }
+        }
+    }
+}
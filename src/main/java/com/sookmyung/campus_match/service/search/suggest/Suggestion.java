@@ -0,0 +1,33 @@
+package com.sookmyung.campus_match.service.search.suggest;
+
+/**
+ * 자동완성 후보 (표시 문자열, 종류, 가중치)
+ */
+public final class Suggestion {
+
+    private final String text;
+    private final SuggestionType type;
+    private volatile long weight;
+
+    public Suggestion(String text, SuggestionType type, long weight) {
+        this.text = text;
+        this.type = type;
+        this.weight = weight;
+    }
+
+    public String getText() {
+        return text;
+    }
+
+    public SuggestionType getType() {
+        return type;
+    }
+
+    public long getWeight() {
+        return weight;
+    }
+
+    void setWeight(long weight) {
+        this.weight = weight;
+    }
+}
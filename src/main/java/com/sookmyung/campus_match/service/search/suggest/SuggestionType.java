@@ -0,0 +1,11 @@
+package com.sookmyung.campus_match.service.search.suggest;
+
+/**
+ * 자동완성 후보 종류
+ */
+public enum SuggestionType {
+    POST,
+    USER,
+    DEPARTMENT,
+    INTEREST
+}
@@ -1,5 +1,6 @@
 package com.sookmyung.campus_match.service.team;
 
+import com.sookmyung.campus_match.domain.event.TeamChangedEvent;
 import com.sookmyung.campus_match.domain.team.Team;
 import com.sookmyung.campus_match.domain.team.TeamMember;
 import com.sookmyung.campus_match.domain.team.TeamSchedule;
@@ -24,6 +25,7 @@ import com.sookmyung.campus_match.repository.team.ScheduleAssignmentRepository;
 import com.sookmyung.campus_match.repository.user.UserRepository;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
@@ -44,6 +46,7 @@ public class TeamService {
     private final TeamScheduleRepository teamScheduleRepository;
     private final ScheduleAssignmentRepository scheduleAssignmentRepository;
     private final UserRepository userRepository;
+    private final ApplicationEventPublisher eventPublisher;
 
     /**
      * 팀 생성
@@ -72,6 +75,7 @@ public class TeamService {
                 .role(MemberRole.LEADER)
                 .build();
         teamMemberRepository.save(leader);
+        eventPublisher.publishEvent(new TeamChangedEvent(savedTeam.getId()));
 
         return TeamResponse.from(savedTeam);
     }
@@ -97,6 +101,7 @@ public class TeamService {
         team.setMaxMembers(request.getMaxMembers());
 
         Team savedTeam = teamRepository.save(team);
+        eventPublisher.publishEvent(new TeamChangedEvent(teamId));
         return TeamResponse.from(savedTeam);
     }
 
@@ -117,6 +122,7 @@ public class TeamService {
         }
 
         teamRepository.delete(team);
+        eventPublisher.publishEvent(new TeamChangedEvent(teamId));
         log.info("팀 {} 삭제됨", teamId);
     }
 
@@ -324,6 +330,7 @@ public class TeamService {
 
         team.deactivate();
         teamRepository.save(team);
+        eventPublisher.publishEvent(new TeamChangedEvent(teamId));
         log.info("팀 {} 비활성화됨", teamId);
     }
 }
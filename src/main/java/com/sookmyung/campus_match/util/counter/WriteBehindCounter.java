@@ -0,0 +1,60 @@
+package com.sookmyung.campus_match.util.counter;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * ID 별 증가분을 메모리에 모았다가 한 번에 내보내는 카운터 (write-behind)
+ * - ID 마다 LongAdder 를 두어 같은 ID 에 동시에 증가해도 셀이 나뉘어 경합이 적음
+ * - drain() 은 셀마다 원자적으로 값을 가져오며 0 으로 되돌리므로(sumThenReset) 동시 증가분을 잃지 않음
+ * - 한 번 생긴 ID 의 카운터는 지우지 않음 (지우는 순간 카운터를 잡고 있던 증가분을 잃을 수 있으므로)
+ *   → 메모리는 증가가 있었던 서로 다른 ID 수(게시글/프로필 수 이하)에 비례
+ * - drain() 은 한 스레드에서만 호출 (주기적 flush)
+ */
+public final class WriteBehindCounter {
+
+    private final Map<Long, LongAdder> counts = new ConcurrentHashMap<>();
+
+    public void increment(long id) {
+        add(id, 1L);
+    }
+
+    public void add(long id, long delta) {
+        LongAdder count = counts.get(id); // 이미 있는 ID 는 잠금 없이 조회
+        if (count == null) {
+            count = counts.computeIfAbsent(id, key -> new LongAdder());
+        }
+        count.add(delta);
+    }
+
+    /**
+     * 아직 내보내지 않은 증가분 (조회 시 DB 값에 더해 보여주기 위함)
+     */
+    public long pending(long id) {
+        LongAdder count = counts.get(id);
+        return count != null ? count.sum() : 0L;
+    }
+
+    /**
+     * 모인 증가분을 ID 별로 가져오고 0 으로 되돌림 (증가분이 0 인 ID 는 제외)
+     */
+    public Map<Long, Long> drain() {
+        Map<Long, Long> deltas = new HashMap<>();
+        for (Map.Entry<Long, LongAdder> entry : counts.entrySet()) {
+            long delta = entry.getValue().sumThenReset();
+            if (delta != 0) {
+                deltas.put(entry.getKey(), delta);
+            }
+        }
+        return deltas;
+    }
+
+    /**
+     * 현재 보관 중인 ID 수
+     */
+    public int size() {
+        return counts.size();
+    }
+}
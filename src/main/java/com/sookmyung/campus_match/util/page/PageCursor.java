@@ -0,0 +1,127 @@
+package com.sookmyung.campus_match.util.page;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.Base64;
+
+/**
+ * 커서 기반(키셋) 페이징용 불투명 커서
+ * - 키 커서: 마지막 항목의 (createdAt, id) 를 담아 다음 페이지를 seek 조건으로 조회
+ * - 오프셋 커서: 관련도 순 검색처럼 정렬 키가 없는 결과에서 다음 시작 위치를 담음
+ * - 문자열은 "k:초:나노:id" / "o:offset" 을 Base64 URL-safe 로 인코딩 (클라이언트는 내용을 해석하지 않음)
+ * WHY: OFFSET 페이징은 깊은 페이지일수록 앞 행을 모두 건너뛰어야 해서 무한 스크롤 비용이 선형으로 늘어남
+ */
+public final class PageCursor {
+
+    private static final String KEY_PREFIX = "k:";
+    private static final String OFFSET_PREFIX = "o:";
+    private static final int DEFAULT_SIZE = 20;
+    private static final int MAX_SIZE = 100;
+
+    private final LocalDateTime createdAt;
+    private final Long id;
+
+    private PageCursor(LocalDateTime createdAt, Long id) {
+        this.createdAt = createdAt;
+        this.id = id;
+    }
+
+    /**
+     * (createdAt, id) 키 커서 생성
+     */
+    public static String encode(LocalDateTime createdAt, Long id) {
+        if (createdAt == null || id == null) {
+            return null;
+        }
+        return encodeRaw(KEY_PREFIX + createdAt.toEpochSecond(ZoneOffset.UTC)
+                + ':' + createdAt.getNano() + ':' + id);
+    }
+
+    /**
+     * 오프셋 커서 생성
+     */
+    public static String encodeOffset(int offset) {
+        return encodeRaw(OFFSET_PREFIX + Math.max(0, offset));
+    }
+
+    /**
+     * 키 커서 해석
+     *
+     * @throws IllegalArgumentException 형식이 잘못되었거나 키 커서가 아닌 경우
+     */
+    public static PageCursor decode(String cursor) {
+        String raw = decodeRaw(cursor);
+        if (!raw.startsWith(KEY_PREFIX)) {
+            throw invalid();
+        }
+        String[] parts = raw.substring(KEY_PREFIX.length()).split(":");
+        if (parts.length != 3) {
+            throw invalid();
+        }
+        try {
+            LocalDateTime createdAt = LocalDateTime.ofEpochSecond(
+                    Long.parseLong(parts[0]), Integer.parseInt(parts[1]), ZoneOffset.UTC);
+            return new PageCursor(createdAt, Long.parseLong(parts[2]));
+        } catch (RuntimeException e) {
+            throw invalid();
+        }
+    }
+
+    /**
+     * 오프셋 커서 해석
+     * - 커서는 서명하지 않으므로 클라이언트가 임의로 만든 값도 들어올 수 있어 상한을 함께 검사
+     *
+     * @param maxOffset 허용하는 최대 오프셋 (검색 최대 깊이)
+     * @throws IllegalArgumentException 형식이 잘못되었거나, 오프셋 커서가 아니거나, 상한을 넘는 경우
+     */
+    public static int decodeOffset(String cursor, int maxOffset) {
+        String raw = decodeRaw(cursor);
+        if (!raw.startsWith(OFFSET_PREFIX)) {
+            throw invalid();
+        }
+        try {
+            int offset = Integer.parseInt(raw.substring(OFFSET_PREFIX.length()));
+            if (offset < 0 || offset > maxOffset) {
+                throw invalid();
+            }
+            return offset;
+        } catch (NumberFormatException e) {
+            throw invalid();
+        }
+    }
+
+    /**
+     * 커서 페이지 크기 (기본 20, 1~100 으로 제한)
+     */
+    public static int pageSize(Integer size) {
+        return size != null ? Math.min(Math.max(1, size), MAX_SIZE) : DEFAULT_SIZE;
+    }
+
+    public LocalDateTime getCreatedAt() {
+        return createdAt;
+    }
+
+    public Long getId() {
+        return id;
+    }
+
+    private static String encodeRaw(String raw) {
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    private static String decodeRaw(String cursor) {
+        if (cursor == null || cursor.isBlank()) {
+            throw invalid();
+        }
+        try {
+            return new String(Base64.getUrlDecoder().decode(cursor.trim()), StandardCharsets.UTF_8);
+        } catch (IllegalArgumentException e) {
+            throw invalid();
+        }
+    }
+
+    private static IllegalArgumentException invalid() {
+        return new IllegalArgumentException("잘못된 페이지 커서입니다.");
+    }
+}
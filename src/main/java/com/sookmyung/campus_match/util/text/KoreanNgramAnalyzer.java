@@ -0,0 +1,115 @@
+package com.sookmyung.campus_match.util.text;
+
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+
+/**
+ * 한국어 위주 검색용 분석기
+ * - 한글: 어절 끝 조사(은/는/이/가/을/를/에서 ...)를 떼어낸 뒤 음절 바이그램 (한 음절이면 그대로)
+ * - 영문/숫자: 소문자화 후 간단한 어미 제거 (studies -> study, designing -> design)
+ * - 그 외 문자(공백, 문장부호)는 구분자
+ * WHY: 형태소 분석기 없이도 "캡스톤디자인" 이 "디자인" 으로, "스터디를" 이 "스터디" 로 검색되도록 하기 위함
+ */
+@Component
+public class KoreanNgramAnalyzer implements TextAnalyzer {
+
+    // 긴 조사부터 검사
+    private static final String[] PARTICLES = {
+            "에서는", "으로는", "에게서", "이라고",
+            "에서", "에게", "한테", "으로", "께서", "까지", "부터", "처럼", "보다", "이나", "이랑",
+            "은", "는", "이", "가", "을", "를", "의", "에", "로", "와", "과", "도", "만", "랑"
+    };
+    private static final int MIN_STEM_SYLLABLES = 2;
+    private static final int MIN_LATIN_STEM = 3;
+
+    @Override
+    public List<String> analyze(String text) {
+        List<String> tokens = new ArrayList<>();
+        if (text == null || text.isEmpty()) {
+            return tokens;
+        }
+        int length = text.length();
+        int i = 0;
+        while (i < length) {
+            char c = text.charAt(i);
+            if (isHangulSyllable(c)) {
+                int start = i;
+                while (i < length && isHangulSyllable(text.charAt(i))) {
+                    i++;
+                }
+                addHangulTokens(stripParticle(text.substring(start, i)), tokens);
+            } else if (Character.isLetterOrDigit(c)) {
+                int start = i;
+                while (i < length && Character.isLetterOrDigit(text.charAt(i)) && !isHangulSyllable(text.charAt(i))) {
+                    i++;
+                }
+                tokens.add(stem(text.substring(start, i).toLowerCase(Locale.ROOT)));
+            } else {
+                i++;
+            }
+        }
+        return tokens;
+    }
+
+    static String stripParticle(String word) {
+        for (String particle : PARTICLES) {
+            if (word.length() - particle.length() >= MIN_STEM_SYLLABLES && word.endsWith(particle)) {
+                return word.substring(0, word.length() - particle.length());
+            }
+        }
+        return word;
+    }
+
+    /**
+     * 영문 어미 간단 제거 (복수형, -ing, -ed, 끝 e) - 색인/질의 양쪽에 같은 규칙이 적용되므로 일관성만 보장하면 됨
+     */
+    static String stem(String word) {
+        if (!isAsciiLetters(word)) {
+            return word;
+        }
+        String stem = word;
+        if (stem.endsWith("ies") && stem.length() - 3 >= MIN_LATIN_STEM - 1) {
+            stem = stem.substring(0, stem.length() - 3) + "y";
+        } else if (stem.endsWith("sses") || stem.endsWith("xes") || stem.endsWith("ches") || stem.endsWith("shes")) {
+            stem = stem.substring(0, stem.length() - 2);
+        } else if (stem.endsWith("s") && !stem.endsWith("ss") && stem.length() - 1 >= MIN_LATIN_STEM) {
+            stem = stem.substring(0, stem.length() - 1);
+        }
+        if (stem.endsWith("ing") && stem.length() - 3 >= MIN_LATIN_STEM) {
+            stem = stem.substring(0, stem.length() - 3);
+        } else if (stem.endsWith("ed") && stem.length() - 2 >= MIN_LATIN_STEM) {
+            stem = stem.substring(0, stem.length() - 2);
+        }
+        if (stem.endsWith("e") && stem.length() - 1 >= MIN_LATIN_STEM) {
+            stem = stem.substring(0, stem.length() - 1);
+        }
+        return stem;
+    }
+
+    private static void addHangulTokens(String word, List<String> tokens) {
+        if (word.length() == 1) {
+            tokens.add(word);
+            return;
+        }
+        for (int i = 0; i + 1 < word.length(); i++) {
+            tokens.add(word.substring(i, i + 2));
+        }
+    }
+
+    private static boolean isHangulSyllable(char c) {
+        return c >= '가' && c <= '힣';
+    }
+
+    private static boolean isAsciiLetters(String word) {
+        for (int i = 0; i < word.length(); i++) {
+            char c = word.charAt(i);
+            if (c < 'a' || c > 'z') {
+                return false;
+            }
+        }
+        return true;
+    }
+}
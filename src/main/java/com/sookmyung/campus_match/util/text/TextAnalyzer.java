@@ -0,0 +1,15 @@
+package com.sookmyung.campus_match.util.text;
+
+import java.util.List;
+
+/**
+ * 검색 색인/질의 공통 텍스트 분석기
+ * - 색인할 때와 질의할 때 같은 분석기를 써야 토큰이 일치함
+ */
+public interface TextAnalyzer {
+
+    /**
+     * 텍스트를 검색 토큰 목록으로 변환 (중복 포함, 등장 순서 유지)
+     */
+    List<String> analyze(String text);
+}
@@ -0,0 +1,55 @@
+package com.sookmyung.campus_match.util.text;
+
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 검색 토큰 사전 (토큰 문자열 <-> int ID)
+ * - 여러 색인이 같은 사전을 공유하여 같은 토큰 문자열을 한 번만 보관
+ * - 질의 시에는 lookup 으로 조회만 하여 없는 토큰이 사전에 쌓이지 않도록 함
+ */
+@Component
+public class TokenDictionary {
+
+    public static final int UNKNOWN = -1;
+
+    private final Map<String, Integer> ids = new ConcurrentHashMap<>();
+    private final List<String> terms = new ArrayList<>();
+
+    /**
+     * 토큰 ID 반환 (없으면 새로 발급)
+     */
+    public int intern(String term) {
+        Integer id = ids.get(term);
+        if (id != null) {
+            return id;
+        }
+        synchronized (terms) {
+            return ids.computeIfAbsent(term, key -> {
+                terms.add(key);
+                return terms.size() - 1;
+            });
+        }
+    }
+
+    /**
+     * 토큰 ID 조회 (없으면 UNKNOWN)
+     */
+    public int lookup(String term) {
+        return ids.getOrDefault(term, UNKNOWN);
+    }
+
+    public String term(int id) {
+        synchronized (terms) {
+            return terms.get(id);
+        }
+    }
+
+    public int size() {
+        return ids.size();
+    }
+}
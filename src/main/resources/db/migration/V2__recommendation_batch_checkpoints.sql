@@ -0,0 +1,15 @@
+-- 추천 전체 재생성 배치 체크포인트
+CREATE TABLE recommendation_batch_checkpoints (
+    id BIGINT AUTO_INCREMENT PRIMARY KEY,
+    status VARCHAR(20) NOT NULL,
+    total_users INT NOT NULL DEFAULT 0,
+    processed_users INT NOT NULL DEFAULT 0,
+    last_user_id BIGINT,
+    started_at DATETIME NOT NULL,
+    finished_at DATETIME,
+    created_at TIMESTAMP DEFAULT CURRENT_TIMESTAMP,
+    updated_at TIMESTAMP DEFAULT CURRENT_TIMESTAMP ON UPDATE CURRENT_TIMESTAMP
+);
+
+-- 청크 단위 삭제(user_id IN ...)와 대상 사용자 역조회용
+CREATE INDEX idx_user_recommendations_recommended_user_id ON user_recommendations(recommended_user_id);
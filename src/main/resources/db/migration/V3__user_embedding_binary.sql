@@ -0,0 +1,3 @@
+-- 임베딩 벡터를 float32 바이너리로 저장 (기존 embedding_data TEXT 컬럼은 사용되지 않았음)
+ALTER TABLE user_embeddings MODIFY COLUMN embedding_data BLOB;
+ALTER TABLE user_embeddings ADD COLUMN dimension INT;
@@ -0,0 +1,7 @@
+-- 관심사 기반 추천 조회용 인덱스
+-- 관심사 이름 → ID 조회
+CREATE INDEX idx_interests_name ON interests(interest_name);
+CREATE INDEX idx_interests_name_en ON interests(interest_name_en);
+
+-- 관심사 ID → 사용자 조회 (user_id 까지 포함하여 테이블 접근 없이 그룹핑)
+CREATE INDEX idx_user_interests_interest_user ON user_interests(interest_id, user_id);
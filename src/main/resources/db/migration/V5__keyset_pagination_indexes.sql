@@ -0,0 +1,6 @@
+-- 커서(키셋) 페이징용 인덱스
+-- 게시글 목록: 삭제/마감 필터 후 (created_at, id) 내림차순 seek
+CREATE INDEX idx_posts_feed_created_id ON posts(is_deleted, is_closed, created_at, id);
+
+-- 댓글 목록: 게시글별 (created_at, id) 오름차순 seek
+CREATE INDEX idx_post_comments_post_created_id ON post_comments(post_id, created_at, id);
@@ -0,0 +1,9 @@
+-- 임베딩 문서 빈도(IDF) 통계: 재시작 후 개별 임베딩 갱신이 전체 생성과 같은 가중치를 쓰도록 저장
+CREATE TABLE embedding_document_frequencies (
+    id BIGINT AUTO_INCREMENT PRIMARY KEY,
+    dimension INT NOT NULL,
+    document_count INT NOT NULL,
+    frequencies BLOB NOT NULL,
+    created_at TIMESTAMP DEFAULT CURRENT_TIMESTAMP,
+    updated_at TIMESTAMP DEFAULT CURRENT_TIMESTAMP ON UPDATE CURRENT_TIMESTAMP
+);
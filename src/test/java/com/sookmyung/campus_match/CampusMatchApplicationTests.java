@@ -18,6 +18,8 @@ import com.sookmyung.campus_match.repository.team.TeamMemberRepository;
 import com.sookmyung.campus_match.repository.team.ScheduleAssignmentRepository;
 import com.sookmyung.campus_match.repository.recommendation.UserRecommendationRepository;
 import com.sookmyung.campus_match.repository.recommendation.UserEmbeddingRepository;
+import com.sookmyung.campus_match.repository.recommendation.RecommendationBatchCheckpointRepository;
+import com.sookmyung.campus_match.repository.recommendation.EmbeddingDocumentFrequencyRepository;
 import com.sookmyung.campus_match.repository.post.PostApplicationRepository;
 import com.sookmyung.campus_match.repository.admin.AdminRepository;
 import com.sookmyung.campus_match.repository.message.MessageReportRepository;
@@ -51,6 +53,8 @@ class CampusMatchApplicationTests {
     @MockBean ScheduleAssignmentRepository scheduleAssignmentRepository;
     @MockBean UserRecommendationRepository userRecommendationRepository;
     @MockBean UserEmbeddingRepository userEmbeddingRepository;
+    @MockBean RecommendationBatchCheckpointRepository recommendationBatchCheckpointRepository;
+    @MockBean EmbeddingDocumentFrequencyRepository embeddingDocumentFrequencyRepository;
     @MockBean PostApplicationRepository postApplicationRepository;
     @MockBean AdminRepository adminRepository;
     @MockBean MessageReportRepository messageReportRepository;
@@ -0,0 +1,13 @@
+package com.sookmyung.campus_match.config;
+
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.data.jpa.repository.config.EnableJpaAuditing;
+
+/**
+ * @DataJpaTest 용 JPA Auditing 설정
+ * WHY: JpaAuditingConfig 는 test 프로필에서 꺼져 있어 createdAt/updatedAt(NOT NULL)이 채워지지 않음
+ */
+@TestConfiguration
+@EnableJpaAuditing
+public class JpaAuditingTestConfig {
+}
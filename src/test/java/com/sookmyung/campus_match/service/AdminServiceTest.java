@@ -1,6 +1,7 @@
 package com.sookmyung.campus_match.service;
 
 import com.sookmyung.campus_match.domain.common.enums.ApprovalStatus;
+import com.sookmyung.campus_match.domain.event.UserAccountChangedEvent;
 import com.sookmyung.campus_match.domain.user.User;
 import com.sookmyung.campus_match.dto.admin.ApproveUserRequest;
 import com.sookmyung.campus_match.exception.ApiException;
@@ -13,6 +14,7 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
 
 import java.time.LocalDate;
 import java.util.Optional;
@@ -27,6 +29,9 @@ class AdminServiceTest {
     @Mock
     private UserRepository userRepository;
 
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
     @InjectMocks
     private AdminService adminService;
 
@@ -68,6 +73,7 @@ class AdminServiceTest {
         // Then
         verify(userRepository).findById(1L);
         verify(userRepository).save(any(User.class));
+        verify(eventPublisher).publishEvent(any(UserAccountChangedEvent.class));
         assertEquals(ApprovalStatus.APPROVED, testUser.getApprovalStatus());
     }
 
@@ -0,0 +1,64 @@
+package com.sookmyung.campus_match.service;
+
+import com.sookmyung.campus_match.service.recommendation.BioKeywordStore;
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class BioKeywordStoreTest {
+
+    @Test
+    void update_ShouldInternKeywordsAcrossUsers() {
+        // Given
+        BioKeywordStore store = new BioKeywordStore();
+
+        // When
+        int[] first = store.update(1L, "Spring 백엔드, spring! 개발 a");
+        int[] second = store.update(2L, "백엔드 개발자");
+
+        // Then: 대소문자/구두점 무시, 중복 제거, 1자 토큰 제외
+        assertEquals(3, first.length);
+        for (int i = 1; i < first.length; i++) {
+            assertTrue(first[i - 1] < first[i]);
+        }
+        assertEquals(2, second.length);
+        assertEquals(1, Arrays.stream(second).filter(id -> Arrays.binarySearch(first, id) >= 0).count());
+    }
+
+    @Test
+    void update_ShouldReuseKeywordsUntilBioChanges() {
+        // Given
+        BioKeywordStore store = new BioKeywordStore();
+        int[] original = store.update(1L, "마케팅 기획");
+
+        // When / Then: 같은 원문이면 같은 배열 재사용
+        assertSame(original, store.update(1L, "마케팅 기획"));
+
+        // When: 자기소개 변경 시 새 키워드로 교체
+        int[] changed = store.update(1L, "데이터 분석");
+        assertNotSame(original, changed);
+        assertSame(changed, store.getKeywordIds(1L));
+
+        store.remove(1L);
+        assertEquals(0, store.getKeywordIds(1L).length);
+        assertEquals(0, store.update(2L, null).length);
+    }
+
+    @Test
+    void retainOnly_ShouldDropUsersOutsideSnapshot() {
+        // Given
+        BioKeywordStore store = new BioKeywordStore();
+        store.update(1L, "마케팅 기획");
+        store.update(2L, "데이터 분석");
+
+        // When: 사용자 2만 승인 상태로 남음
+        store.retainOnly(List.of(2L));
+
+        // Then
+        assertEquals(0, store.getKeywordIds(1L).length);
+        assertEquals(2, store.getKeywordIds(2L).length);
+    }
+}
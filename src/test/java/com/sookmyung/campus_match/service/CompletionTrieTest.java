@@ -0,0 +1,86 @@
+package com.sookmyung.campus_match.service;
+
+import com.sookmyung.campus_match.service.search.suggest.CompletionTrie;
+import com.sookmyung.campus_match.service.search.suggest.Suggestion;
+import com.sookmyung.campus_match.service.search.suggest.SuggestionType;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class CompletionTrieTest {
+
+    @Test
+    void suggest_ShouldReturnTopWeightedCompletionsForPrefix() {
+        // Given
+        CompletionTrie trie = new CompletionTrie(3);
+        trie.add("스프링 스터디 모집", SuggestionType.POST, 10);
+        trie.add("스프링부트 프로젝트", SuggestionType.POST, 30);
+        trie.add("스타트업 공모전", SuggestionType.POST, 20);
+        trie.add("알고리즘 스터디", SuggestionType.POST, 5);
+        trie.add("컴퓨터과학전공", SuggestionType.DEPARTMENT, 40);
+
+        // When & Then
+        assertEquals(List.of("스프링부트 프로젝트", "스타트업 공모전", "스프링 스터디 모집"), texts(trie.suggest("스", 10)));
+        assertEquals(List.of("스프링부트 프로젝트", "스프링 스터디 모집"), texts(trie.suggest("스프링", 10)));
+        assertEquals(List.of("스프링 스터디 모집", "알고리즘 스터디"), texts(trie.suggest("스터디", 10)));
+        assertEquals(List.of("스프링부트 프로젝트"), texts(trie.suggest("스프링부", 10)));
+        assertEquals(List.of(), trie.suggest("없는", 10));
+    }
+
+    @Test
+    void add_ShouldPromoteExistingEntryWhenWeightGrows() {
+        // Given
+        CompletionTrie trie = new CompletionTrie(2);
+        trie.add("Java", SuggestionType.INTEREST, 1);
+        trie.add("JavaScript", SuggestionType.INTEREST, 5);
+        trie.add("Jazz", SuggestionType.INTEREST, 3);
+
+        // When
+        trie.add("java", SuggestionType.INTEREST, 10);
+
+        // Then: 대소문자 무관, 중복 없이 순위만 갱신
+        assertEquals(List.of("Java", "JavaScript"), texts(trie.suggest("JA", 5)));
+        assertEquals(3, trie.size());
+    }
+
+    @Test
+    void suggest_ShouldMatchBruteForceOnRandomInput() {
+        // Given
+        Random random = new Random(7);
+        CompletionTrie trie = new CompletionTrie(5);
+        List<Suggestion> all = new ArrayList<>();
+        for (int i = 0; i < 2000; i++) {
+            StringBuilder text = new StringBuilder();
+            int length = 1 + random.nextInt(8);
+            for (int c = 0; c < length; c++) {
+                text.append((char) ('a' + random.nextInt(4)));
+            }
+            long weight = random.nextInt(100000);
+            if (all.stream().noneMatch(s -> s.getText().contentEquals(text))) {
+                all.add(new Suggestion(text.toString(), SuggestionType.POST, weight));
+                trie.add(text.toString(), SuggestionType.POST, weight);
+            }
+        }
+
+        // When & Then
+        for (String prefix : List.of("a", "ab", "abc", "d", "dd", "cab")) {
+            List<Long> expected = all.stream()
+                    .filter(s -> s.getText().startsWith(prefix))
+                    .map(Suggestion::getWeight)
+                    .sorted(Comparator.reverseOrder())
+                    .limit(5)
+                    .toList();
+            List<Long> actual = trie.suggest(prefix, 5).stream().map(Suggestion::getWeight).toList();
+            assertEquals(expected, actual);
+        }
+    }
+
+    private static List<String> texts(List<Suggestion> suggestions) {
+        return suggestions.stream().map(Suggestion::getText).toList();
+    }
+}
@@ -0,0 +1,67 @@
+package com.sookmyung.campus_match.service;
+
+import com.sookmyung.campus_match.service.recommendation.embedding.DocumentFrequencies;
+import com.sookmyung.campus_match.service.recommendation.embedding.EmbeddingCodec;
+import com.sookmyung.campus_match.service.recommendation.embedding.HashedTfIdfVectorizer;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class HashedTfIdfVectorizerTest {
+
+    private final HashedTfIdfVectorizer vectorizer = new HashedTfIdfVectorizer(256);
+
+    @Test
+    void vectorize_ShouldPlaceSimilarProfilesCloser() {
+        // Given
+        List<String> documents = List.of(
+                "스프링 백엔드 개발자입니다. Java Spring Boot 프로젝트 경험",
+                "스프링부트로 백엔드 API를 개발했습니다. Java",
+                "UX 디자이너, 피그마로 모바일 화면을 디자인합니다",
+                "마케팅 공모전 수상, 브랜드 캠페인 기획");
+        DocumentFrequencies frequencies = new DocumentFrequencies(vectorizer.dimension());
+        documents.forEach(text -> vectorizer.addToDocumentFrequencies(text, frequencies));
+
+        // When
+        float[] backend1 = vectorizer.vectorize(documents.get(0), frequencies);
+        float[] backend2 = vectorizer.vectorize(documents.get(1), frequencies);
+        float[] designer = vectorizer.vectorize(documents.get(2), frequencies);
+
+        // Then
+        assertEquals(4, frequencies.getDocumentCount());
+        assertEquals(1.0f, EmbeddingCodec.dot(backend1, backend1), 1e-4f);
+        assertTrue(EmbeddingCodec.dot(backend1, backend2) > EmbeddingCodec.dot(backend1, designer));
+        assertArrayEquals(backend1, vectorizer.vectorize(documents.get(0), frequencies));
+    }
+
+    @Test
+    void documentFrequencies_ShouldRoundTripThroughEncoding() {
+        // Given
+        DocumentFrequencies frequencies = new DocumentFrequencies(vectorizer.dimension());
+        vectorizer.addToDocumentFrequencies("스프링 백엔드 개발자입니다", frequencies);
+        vectorizer.addToDocumentFrequencies("피그마로 모바일 화면을 디자인합니다", frequencies);
+
+        // When: 재시작 후 저장된 통계를 읽은 경우
+        DocumentFrequencies restored = DocumentFrequencies.decode(frequencies.getDocumentCount(), frequencies.encode());
+
+        // Then: 같은 IDF 가중치로 같은 벡터를 생성
+        assertEquals(2, restored.getDocumentCount());
+        assertEquals(vectorizer.dimension(), restored.dimension());
+        assertArrayEquals(vectorizer.vectorize("스프링 백엔드", frequencies),
+                vectorizer.vectorize("스프링 백엔드", restored));
+        assertThrows(IllegalArgumentException.class, () -> DocumentFrequencies.decode(1, new byte[3]));
+    }
+
+    @Test
+    void vectorize_ShouldReturnZeroVectorForEmptyText() {
+        DocumentFrequencies frequencies = new DocumentFrequencies(vectorizer.dimension());
+
+        float[] vector = vectorizer.vectorize("  ", frequencies);
+
+        assertEquals(256, vector.length);
+        assertEquals(0.0f, EmbeddingCodec.dot(vector, vector));
+        assertThrows(IllegalArgumentException.class, () -> new HashedTfIdfVectorizer(0));
+    }
+}
@@ -0,0 +1,133 @@
+package com.sookmyung.campus_match.service;
+
+import com.sookmyung.campus_match.service.recommendation.embedding.EmbeddingCodec;
+import com.sookmyung.campus_match.service.recommendation.embedding.HnswIndex;
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Random;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class HnswIndexTest {
+
+    private static final int USER_COUNT = 3000;
+    private static final int DIMENSION = 32;
+
+    @Test
+    void findNearest_ShouldMatchBruteForceWithHighRecall() {
+        // Given
+        Random random = new Random(7);
+        float[][] vectors = randomVectors(random);
+        HnswIndex index = new HnswIndex();
+        for (int i = 0; i < USER_COUNT; i++) {
+            index.add(i, vectors[i]);
+        }
+
+        // When / Then
+        int hits = 0;
+        int queries = 50;
+        for (int q = 0; q < queries; q++) {
+            int userId = random.nextInt(USER_COUNT);
+            List<HnswIndex.Neighbor> result = index.findNearest(userId, 20, 64);
+
+            assertEquals(20, result.size());
+            assertTrue(result.stream().noneMatch(n -> n.getUserId() == userId));
+            for (int i = 1; i < result.size(); i++) {
+                assertTrue(result.get(i - 1).getSimilarity() >= result.get(i).getSimilarity());
+            }
+            Set<Long> truth = bruteForceTop(vectors, userId, 20);
+            hits += (int) result.stream().filter(n -> truth.contains(n.getUserId())).count();
+        }
+        assertTrue(hits / (queries * 20.0) > 0.9, "recall: " + hits / (queries * 20.0));
+    }
+
+    @Test
+    void add_ShouldReplaceExistingVectorAndRemoveShouldHideUser() {
+        // Given
+        HnswIndex index = new HnswIndex();
+        index.add(1L, new float[]{1, 0, 0});
+        index.add(2L, new float[]{0, 1, 0});
+        index.add(3L, new float[]{0, 0, 1});
+
+        // When: 3번 사용자를 1번과 같은 방향으로 갱신
+        index.add(3L, new float[]{2, 0, 0});
+
+        // Then
+        List<HnswIndex.Neighbor> nearest = index.findNearest(1L, 1, 16);
+        assertEquals(3L, nearest.get(0).getUserId());
+        assertEquals(1.0f, nearest.get(0).getSimilarity(), 1e-6f);
+        assertEquals(3, index.size());
+        assertEquals(1, index.deletedCount());
+
+        index.remove(3L);
+        assertFalse(index.contains(3L));
+        assertTrue(index.findNearest(1L, 5, 16).stream().noneMatch(n -> n.getUserId() == 3L));
+        assertThrows(IllegalArgumentException.class, () -> index.add(4L, new float[]{1, 0}));
+    }
+
+    @Test
+    void findNearest_ShouldReturnKLiveUsersWhenMostNodesAreDeleted() {
+        // Given: 3000명 중 90% 삭제 표시 (재구성 전)
+        Random random = new Random(11);
+        float[][] vectors = randomVectors(random);
+        HnswIndex index = new HnswIndex();
+        for (int i = 0; i < USER_COUNT; i++) {
+            index.add(i, vectors[i]);
+        }
+        for (int i = 0; i < USER_COUNT; i++) {
+            if (i % 10 != 0) {
+                index.remove(i);
+            }
+        }
+
+        // When
+        List<HnswIndex.Neighbor> result = index.findNearest(0L, 20, 20);
+
+        // Then: 삭제 노드가 결과 슬롯을 차지하지 않아 살아있는 사용자로 K명을 채움
+        assertEquals(20, result.size());
+        assertTrue(result.stream().allMatch(n -> n.getUserId() % 10 == 0 && n.getUserId() != 0L));
+    }
+
+    @Test
+    void codec_ShouldRoundTripBinaryAndParseLegacyText() {
+        float[] vector = {0.25f, -1.5f, 3.0f};
+
+        assertArrayEquals(vector, EmbeddingCodec.decode(EmbeddingCodec.encode(vector)));
+        assertEquals(12, EmbeddingCodec.encode(vector).length);
+        assertArrayEquals(vector, EmbeddingCodec.parseText("[0.25, -1.5, 3.0]"));
+        assertArrayEquals(vector, EmbeddingCodec.parseText("0.25,-1.5,3"));
+    }
+
+    private float[][] randomVectors(Random random) {
+        float[][] centers = new float[20][DIMENSION];
+        for (float[] center : centers) {
+            for (int j = 0; j < DIMENSION; j++) {
+                center[j] = (float) random.nextGaussian();
+            }
+        }
+        float[][] vectors = new float[USER_COUNT][DIMENSION];
+        for (float[] vector : vectors) {
+            float[] center = centers[random.nextInt(centers.length)];
+            for (int j = 0; j < DIMENSION; j++) {
+                vector[j] = center[j] + (float) random.nextGaussian() * 0.7f;
+            }
+        }
+        return vectors;
+    }
+
+    private Set<Long> bruteForceTop(float[][] vectors, int userId, int k) {
+        float[] query = EmbeddingCodec.normalize(vectors[userId]);
+        Long[] ids = new Long[vectors.length];
+        float[] scores = new float[vectors.length];
+        for (int i = 0; i < vectors.length; i++) {
+            ids[i] = (long) i;
+            scores[i] = i == userId ? -2f : EmbeddingCodec.dot(query, EmbeddingCodec.normalize(vectors[i]));
+        }
+        Arrays.sort(ids, (a, b) -> Float.compare(scores[b.intValue()], scores[a.intValue()]));
+        return new HashSet<>(Arrays.asList(ids).subList(0, k));
+    }
+}
@@ -0,0 +1,200 @@
+package com.sookmyung.campus_match.service;
+
+import com.sookmyung.campus_match.service.search.index.InvertedIndex;
+import com.sookmyung.campus_match.service.search.index.SearchFilter;
+import com.sookmyung.campus_match.service.search.index.SearchResult;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class InvertedIndexTest {
+
+    @Test
+    void search_ShouldRankByBm25AndRequireAllTerms() {
+        // Given: 제목(3) / 본문(1) / 작성자(2) 가중치
+        InvertedIndex index = new InvertedIndex(3f, 1f, 2f);
+        index.add(1L, "Spring study", "weekly spring boot study group", "kim");
+        index.add(2L, "Design contest", "spring semester design contest", "lee");
+        index.add(3L, "Algorithm study", "coding test practice", "park");
+
+        // When
+        SearchResult spring = index.search("Spring", 0, 10);
+        SearchResult springStudy = index.search("spring study", 0, 10);
+
+        // Then: 제목에 등장한 1번이 본문에만 등장한 2번보다 높음
+        assertEquals(2, spring.getTotalHits());
+        assertArrayEquals(new long[]{1L, 2L}, spring.getIds());
+        assertTrue(spring.getScores()[0] > spring.getScores()[1]);
+        assertArrayEquals(new long[]{1L}, springStudy.getIds());
+        assertEquals(0, index.search("spring missing", 0, 10).getTotalHits());
+    }
+
+    @Test
+    void addAndDelete_ShouldReplaceDocumentsAndPage() {
+        // Given
+        InvertedIndex index = new InvertedIndex(1f);
+        for (long id = 1; id <= 3000; id++) {
+            index.add(id, "team project " + (id % 2 == 0 ? "even" : "odd"));
+        }
+
+        // When: 절반 삭제(압축 발생), 한 건은 내용 교체
+        for (long id = 1; id <= 1500; id++) {
+            index.delete(id);
+        }
+        index.add(2000L, "renamed");
+
+        // Then
+        assertEquals(1500, index.size());
+        SearchResult even = index.search("even", 10, 20);
+        assertEquals(749, even.getTotalHits());
+        assertEquals(20, even.getIds().length);
+        assertFalse(index.contains(10L));
+        assertArrayEquals(new long[]{2000L}, index.search("renamed", 0, 5).getIds());
+    }
+
+    @Test
+    void search_ShouldBoundHeapByMatchesForHugePages() {
+        // Given
+        InvertedIndex index = new InvertedIndex(1f);
+        index.add(1L, "team project");
+        index.add(2L, "team study");
+
+        // When: offset + limit 이 int 범위를 넘는 요청
+        SearchResult deep = index.search("team", Integer.MAX_VALUE, Integer.MAX_VALUE);
+        SearchResult wide = index.search("team", 0, Integer.MAX_VALUE);
+
+        // Then: 예외/과대 할당 없이 일치 문서 수만큼만 처리
+        assertEquals(2, deep.getTotalHits());
+        assertEquals(0, deep.getIds().length);
+        assertArrayEquals(new long[]{1L, 2L}, wide.getIds());
+    }
+
+    @Test
+    void search_ShouldCountFacetsOverAllMatches() {
+        // Given
+        InvertedIndex index = new InvertedIndex(1f);
+        for (long id = 1; id <= 30; id++) {
+            String category = id % 3 == 0 ? "STUDY" : "PROJECT";
+            index.add(id, List.of(InvertedIndex.attribute("category", category),
+                    InvertedIndex.attribute("isClosed", id > 25)), "team recruiting " + id);
+        }
+
+        // When: 첫 페이지만 요청해도 패싯은 일치 문서 전체 기준
+        SearchResult result = index.search("team", 0, 5, true);
+
+        // Then
+        assertEquals(5, result.getIds().length);
+        assertEquals(Map.of("PROJECT", 20, "STUDY", 10), result.getFacets().get("category"));
+        assertEquals(Map.of("false", 25, "true", 5), result.getFacets().get("isClosed"));
+        assertTrue(index.search("team", 0, 5).getFacets().isEmpty());
+    }
+
+    @Test
+    void search_ShouldApplyFilterBeforeScoring() {
+        // Given
+        InvertedIndex index = new InvertedIndex(1f);
+        for (long id = 1; id <= 30; id++) {
+            String category = id % 3 == 0 ? "STUDY" : id % 3 == 1 ? "PROJECT" : "CONTEST";
+            index.add(id, List.of(InvertedIndex.attribute("category", category),
+                    InvertedIndex.attribute("isClosed", id > 25)), "team recruiting " + id);
+        }
+        index.delete(3L);
+
+        // When: 카테고리는 OR, 차원끼리는 AND
+        SearchFilter openStudies = SearchFilter.NONE.and("category", "STUDY").and("isClosed", false);
+        SearchFilter studyOrContest = SearchFilter.NONE.and("category", List.of("STUDY", "CONTEST"));
+        SearchResult studies = index.search("team", openStudies, 0, 20, true);
+        SearchResult narrowed = index.search("recruiting 24", openStudies, 0, 20, false);
+
+        // Then: 필터 통과 문서만 일치/패싯 집계, 삭제 문서 제외
+        assertEquals(7, studies.getTotalHits());
+        assertEquals(Map.of("STUDY", 7), studies.getFacets().get("category"));
+        assertArrayEquals(new long[]{24L}, narrowed.getIds());
+        assertEquals(19, index.search("team", studyOrContest, 0, 5, false).getTotalHits());
+        assertEquals(0, index.search("team", SearchFilter.NONE.and("category", "UNKNOWN"), 0, 5, false).getTotalHits());
+        assertEquals(29, index.search("team", SearchFilter.NONE, 0, 5, false).getTotalHits());
+    }
+
+    @Test
+    void writeTo_ShouldRoundTripSnapshot() throws Exception {
+        // Given
+        InvertedIndex index = new InvertedIndex(3f, 1f);
+        Random random = new Random(1);
+        for (long id = 1; id <= 500; id++) {
+            index.add(id, List.of(InvertedIndex.attribute("bucket", id % 4)),
+                    "title" + random.nextInt(50), "body word" + random.nextInt(20));
+        }
+        index.delete(7L);
+
+        // When
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        index.writeTo(new DataOutputStream(bytes));
+        InvertedIndex restored = InvertedIndex.readFrom(new DataInputStream(new ByteArrayInputStream(bytes.toByteArray())));
+
+        // Then
+        assertEquals(index.size(), restored.size());
+        SearchResult expected = index.search("body word3", 0, 50);
+        SearchResult actual = restored.search("body word3", 0, 50);
+        assertEquals(expected.getTotalHits(), actual.getTotalHits());
+        assertArrayEquals(expected.getIds(), actual.getIds());
+        assertEquals(index.search("body", 0, 1, true).getFacets(), restored.search("body", 0, 1, true).getFacets());
+    }
+
+    @Test
+    void search_ShouldCorrectTyposOnlyWhenExactMatchesAreFew() throws Exception {
+        // Given: 제목만 오타 교정 대상
+        InvertedIndex index = new InvertedIndex(3f, 1f).withFuzzyFields(0);
+        index.add(1L, "알고리즘 스터디 모집", "코딩 테스트 대비");
+        index.add(2L, "Javascript study", "frontend");
+        index.add(3L, "자료구조 정리", "트리와 그래프");
+
+        // When & Then: 한글 한 글자 / 영문 전치 오타 교정
+        assertArrayEquals(new long[]{1L}, index.search("알고리증 스터디", 0, 10, false, 1).getIds());
+        assertArrayEquals(new long[]{2L}, index.search("javsacript", 0, 10, false, 1).getIds());
+        // 정확 일치 결과가 충분하면 교정하지 않음
+        assertArrayEquals(new long[]{3L}, index.search("자료구조", 0, 10, false, 1).getIds());
+        // minHits 0 이면 교정 없음, 짧은 단어는 교정하지 않음
+        assertEquals(0, index.search("알고리증", 0, 10, false, 0).getTotalHits());
+        assertEquals(0, index.search("jsa", 0, 10, false, 1).getTotalHits());
+
+        // 스냅샷 후에도 교정 사전 유지
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        index.writeTo(new DataOutputStream(bytes));
+        InvertedIndex restored = InvertedIndex.readFrom(new DataInputStream(new ByteArrayInputStream(bytes.toByteArray())));
+        assertArrayEquals(new long[]{2L}, restored.search("javsacript", 0, 10, false, 1).getIds());
+    }
+
+    @Test
+    void search_ShouldForgetWordsOfUpdatedAndDeletedDocsInCorrection() {
+        // Given: 1번 글을 같은 제목으로 여러 번 수정해도 "tests" 는 한 번만 센다
+        InvertedIndex index = new InvertedIndex(3f, 1f).withFuzzyFields(0);
+        for (int edit = 0; edit < 5; edit++) {
+            index.add(1L, "tests", "본문");
+        }
+        index.add(2L, "texts", "본문");
+        index.add(3L, "texts", "본문");
+
+        // When & Then: 등장 횟수가 많은 "texts" 로 교정
+        assertArrayEquals(new long[]{2L, 3L}, sorted(index.search("tezts", 0, 10, false, 1).getIds()));
+
+        // 제목을 바꾸거나 글을 지우면 이전 단어는 교정 후보에서 빠짐
+        index.add(2L, "notes", "본문");
+        index.delete(3L);
+        assertArrayEquals(new long[]{1L}, index.search("tezts", 0, 10, false, 1).getIds());
+    }
+
+    private static long[] sorted(long[] ids) {
+        long[] copy = ids.clone();
+        Arrays.sort(copy);
+        return copy;
+    }
+}
@@ -0,0 +1,52 @@
+package com.sookmyung.campus_match.service;
+
+import com.sookmyung.campus_match.service.search.index.InvertedIndex;
+import com.sookmyung.campus_match.util.text.KoreanNgramAnalyzer;
+import com.sookmyung.campus_match.util.text.TokenDictionary;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class KoreanNgramAnalyzerTest {
+
+    private final KoreanNgramAnalyzer analyzer = new KoreanNgramAnalyzer();
+
+    @Test
+    void analyze_ShouldStripParticlesAndEmitSyllableBigrams() {
+        // When
+        List<String> tokens = analyzer.analyze("스터디를 모집합니다!");
+
+        // Then
+        assertEquals(List.of("스터", "터디", "모집", "집합", "합니", "니다"), tokens);
+        assertEquals(List.of("팀"), analyzer.analyze("팀"));
+        assertEquals(analyzer.analyze("디자인"), analyzer.analyze("디자인은"));
+    }
+
+    @Test
+    void analyze_ShouldLowercaseAndStemLatinWords() {
+        // When & Then
+        assertEquals(List.of("study", "group"), analyzer.analyze("Studies, GROUPS"));
+        assertEquals(analyzer.analyze("design"), analyzer.analyze("Designing"));
+        assertEquals(List.of("java21"), analyzer.analyze("Java21"));
+    }
+
+    @Test
+    void invertedIndex_ShouldMatchCompoundNounsAndParticles() {
+        // Given: 두 색인이 같은 사전을 공유
+        TokenDictionary dictionary = new TokenDictionary();
+        InvertedIndex posts = new InvertedIndex(analyzer, dictionary, 3f, 1f);
+        InvertedIndex users = new InvertedIndex(analyzer, dictionary, 1f);
+        posts.add(1L, "캡스톤디자인 팀원 구합니다", "프론트엔드 개발자를 찾고 있어요");
+        posts.add(2L, "알고리즘 스터디", "코딩테스트 준비");
+        users.add(10L, "디자인 전공");
+
+        // When & Then
+        assertArrayEquals(new long[]{1L}, posts.search("디자인", 0, 10).getIds());
+        assertArrayEquals(new long[]{1L}, posts.search("개발자", 0, 10).getIds());
+        assertArrayEquals(new long[]{2L}, posts.search("스터디가", 0, 10).getIds());
+        assertArrayEquals(new long[]{10L}, users.search("디자인", 0, 10).getIds());
+        assertEquals(0, posts.search("백엔드", 0, 10).getTotalHits());
+    }
+}
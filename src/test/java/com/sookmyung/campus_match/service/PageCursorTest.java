@@ -0,0 +1,63 @@
+package com.sookmyung.campus_match.service;
+
+import com.sookmyung.campus_match.util.page.PageCursor;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDateTime;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class PageCursorTest {
+
+    @Test
+    void encode_ShouldRoundTripCreatedAtAndIdWithNanos() {
+        // Given
+        LocalDateTime createdAt = LocalDateTime.of(2025, 3, 14, 9, 26, 53, 589_793_000);
+
+        // When
+        String cursor = PageCursor.encode(createdAt, 42L);
+        PageCursor decoded = PageCursor.decode(cursor);
+
+        // Then
+        assertFalse(cursor.contains("="));
+        assertEquals(createdAt, decoded.getCreatedAt());
+        assertEquals(42L, decoded.getId());
+    }
+
+    @Test
+    void encodeOffset_ShouldRoundTripAndNotBeAcceptedAsKeyCursor() {
+        // When
+        String cursor = PageCursor.encodeOffset(40);
+
+        // Then
+        assertEquals(40, PageCursor.decodeOffset(cursor, 2000));
+        assertThrows(IllegalArgumentException.class, () -> PageCursor.decode(cursor));
+        assertThrows(IllegalArgumentException.class,
+                () -> PageCursor.decodeOffset(PageCursor.encode(LocalDateTime.now(), 1L), 2000));
+    }
+
+    @Test
+    void decodeOffset_ShouldRejectOffsetBeyondMaxDepth() {
+        assertEquals(2000, PageCursor.decodeOffset(PageCursor.encodeOffset(2000), 2000));
+        assertThrows(IllegalArgumentException.class,
+                () -> PageCursor.decodeOffset(PageCursor.encodeOffset(2001), 2000));
+        assertThrows(IllegalArgumentException.class,
+                () -> PageCursor.decodeOffset(PageCursor.encodeOffset(Integer.MAX_VALUE), 2000));
+    }
+
+    @Test
+    void decode_ShouldRejectMalformedCursor() {
+        // When & Then
+        assertThrows(IllegalArgumentException.class, () -> PageCursor.decode("not a cursor"));
+        assertThrows(IllegalArgumentException.class, () -> PageCursor.decode(""));
+        assertThrows(IllegalArgumentException.class, () -> PageCursor.decodeOffset("bzotMQ", 2000));
+    }
+
+    @Test
+    void pageSize_ShouldDefaultAndClamp() {
+        // When & Then
+        assertEquals(20, PageCursor.pageSize(null));
+        assertEquals(1, PageCursor.pageSize(0));
+        assertEquals(100, PageCursor.pageSize(1000));
+    }
+}
@@ -0,0 +1,123 @@
+package com.sookmyung.campus_match.service;
+
+import com.sookmyung.campus_match.domain.event.PostLikeChangedEvent;
+import com.sookmyung.campus_match.repository.post.PostLikeRepository;
+import com.sookmyung.campus_match.repository.post.PostRepository;
+import com.sookmyung.campus_match.service.post.PostLikeService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class PostLikeServiceTest {
+
+    @Mock
+    private PostLikeRepository postLikeRepository;
+
+    @Mock
+    private PostRepository postRepository;
+
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
+    private PostLikeService postLikeService;
+
+    @BeforeEach
+    void setUp() {
+        postLikeService = new PostLikeService(postLikeRepository, postRepository, eventPublisher);
+    }
+
+    @Test
+    void likedPostIds_ShouldQueryPageOnce() {
+        // Given
+        when(postLikeRepository.findLikedPostIds(eq(1L), anyCollection())).thenReturn(List.of(3L, 7L));
+
+        // When: 중복/null 이 섞인 한 페이지 분량
+        Set<Long> liked = postLikeService.likedPostIds(1L, Arrays.asList(3L, 5L, 7L, 3L, null));
+
+        // Then
+        assertEquals(Set.of(3L, 7L), liked);
+        verify(postLikeRepository, times(1)).findLikedPostIds(1L, Set.of(3L, 5L, 7L));
+    }
+
+    @Test
+    void likedPostIds_ShouldSkipQueryWithoutViewer() {
+        assertTrue(postLikeService.likedPostIds(null, List.of(1L, 2L)).isEmpty());
+        assertTrue(postLikeService.likedPostIds(1L, List.of()).isEmpty());
+        verifyNoInteractions(postLikeRepository);
+    }
+
+    @Test
+    void flush_ShouldWriteOnlyCommittedNetDelta() {
+        // Given: 좋아요 2번, 취소 1번 (커밋 후 이벤트)
+        when(postLikeRepository.insertIfAbsent(eq(10L), anyLong())).thenReturn(true);
+        when(postLikeRepository.deleteIfPresent(10L, 1L)).thenReturn(true);
+        postLikeService.like(10L, 1L);
+        postLikeService.like(10L, 2L);
+        postLikeService.unlike(10L, 1L);
+        postLikeService.onLikeChanged(new PostLikeChangedEvent(10L, 1L, true));
+        postLikeService.onLikeChanged(new PostLikeChangedEvent(10L, 2L, true));
+        postLikeService.onLikeChanged(new PostLikeChangedEvent(10L, 1L, false));
+        assertEquals(1L, postLikeService.pendingLikes(10L));
+
+        // When
+        postLikeService.flush();
+
+        // Then
+        verify(postRepository).addLikeCounts(Map.of(10L, 1L));
+        assertEquals(0L, postLikeService.pendingLikes(10L));
+    }
+
+    @Test
+    void reconcile_ShouldSkipPostsWithLikesNotYetFlushed() {
+        // Given: 10번 글은 행은 커밋됐지만 증감분이 아직 등록 전, 20번 글은 어긋난 채로 대기 중인 변경 없음
+        when(postLikeRepository.insertIfAbsent(10L, 1L)).thenReturn(true);
+        postLikeService.like(10L, 1L);
+        when(postRepository.findLikeCountsAfter(0L, 1000))
+                .thenReturn(List.of(new long[]{10L, 5L, 6L}, new long[]{20L, 3L, 2L}));
+        when(postRepository.repairLikeCount(20L, 3L, 2L)).thenReturn(true);
+
+        // When
+        postLikeService.reconcile();
+
+        // Then: 진행 중인 10번 글은 고치지 않음 (고치면 나중에 증감분이 또 더해짐)
+        verify(postRepository, never()).repairLikeCount(eq(10L), anyLong(), anyLong());
+        verify(postRepository).repairLikeCount(20L, 3L, 2L);
+
+        // 커밋 이벤트 후에는 반영 대기 중이므로 여전히 건너뜀, 반영 후에 보정 대상
+        postLikeService.onLikeChanged(new PostLikeChangedEvent(10L, 1L, true));
+        doThrow(new IllegalStateException("db down")).when(postRepository).addLikeCounts(anyMap());
+        postLikeService.reconcile();
+        verify(postRepository, never()).repairLikeCount(eq(10L), anyLong(), anyLong());
+    }
+
+    @Test
+    void onLikeRolledBack_ShouldReleaseInFlightLikeWithoutDelta() {
+        // Given
+        when(postLikeRepository.insertIfAbsent(10L, 1L)).thenReturn(true);
+        postLikeService.like(10L, 1L);
+        when(postRepository.findLikeCountsAfter(0L, 1000)).thenReturn(List.of(new long[]{10L, 5L, 4L}));
+        when(postRepository.repairLikeCount(10L, 5L, 4L)).thenReturn(true);
+
+        // When
+        postLikeService.onLikeRolledBack(new PostLikeChangedEvent(10L, 1L, true));
+        postLikeService.reconcile();
+
+        // Then
+        assertEquals(0L, postLikeService.pendingLikes(10L));
+        verify(postRepository).repairLikeCount(10L, 5L, 4L);
+        verify(postRepository, never()).addLikeCounts(anyMap());
+    }
+}
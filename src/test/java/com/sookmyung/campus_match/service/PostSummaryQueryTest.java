@@ -0,0 +1,129 @@
+package com.sookmyung.campus_match.service;
+
+import com.sookmyung.campus_match.config.JpaAuditingTestConfig;
+import com.sookmyung.campus_match.domain.common.enums.PostCategory;
+import com.sookmyung.campus_match.domain.post.Post;
+import com.sookmyung.campus_match.domain.user.User;
+import com.sookmyung.campus_match.dto.post.PostSummaryResponse;
+import com.sookmyung.campus_match.repository.post.PostRepository;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.Sort;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * 목록 요약 쿼리가 작성자 지연 로딩 없이 쿼리 한 번(+ COUNT)으로 끝나는지 Hibernate 통계로 확인
+ */
+@DataJpaTest(properties = {
+        "spring.autoconfigure.exclude=", // test 프로필의 JPA 자동설정 제외를 해제
+        "spring.flyway.enabled=false",
+        "spring.jpa.hibernate.ddl-auto=create-drop",
+        "spring.jpa.properties.hibernate.dialect=org.hibernate.dialect.H2Dialect",
+        "spring.jpa.properties.hibernate.generate_statistics=true"
+})
+@Import(JpaAuditingTestConfig.class)
+class PostSummaryQueryTest {
+
+    @Autowired
+    private TestEntityManager entityManager;
+
+    @Autowired
+    private PostRepository postRepository;
+
+    private Statistics statistics;
+    private final List<Long> activeIdsNewestFirst = new ArrayList<>();
+
+    @BeforeEach
+    void setUp() {
+        User[] authors = new User[3];
+        for (int i = 0; i < authors.length; i++) {
+            authors[i] = entityManager.persist(User.builder()
+                    .studentId("2024000" + i)
+                    .department("학과" + i)
+                    .name("작성자" + i)
+                    .birthDate(LocalDate.of(2000, 1, 1))
+                    .phoneNumber("010-0000-000" + i)
+                    .email("author" + i + "@sookmyung.ac.kr")
+                    .passwordHash("hash")
+                    .build());
+        }
+        String longContent = "내용".repeat(PostSummaryResponse.CONTENT_PREVIEW_LENGTH);
+        for (int i = 0; i < 27; i++) {
+            Post post = entityManager.persist(Post.builder()
+                    .category(PostCategory.PROJECT)
+                    .postTitle("게시글 " + i)
+                    .postContent(longContent) // 호환용 content(VARCHAR) 컬럼은 비워 둠
+                    .isClosed(i == 25)
+                    .isDeleted(i == 26)
+                    .viewCount(0)
+                    .likeCount(0)
+                    .commentCount(0)
+                    .author(authors[i % authors.length])
+                    .build());
+            if (i < 25) {
+                activeIdsNewestFirst.add(0, post.getId()); // 나중에 쓴 글일수록 createdAt, id 가 큼
+            }
+        }
+        entityManager.flush();
+        entityManager.clear();
+
+        statistics = entityManager.getEntityManager().getEntityManagerFactory()
+                .unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+    }
+
+    @Test
+    void findActiveAndOpenSummaries_ShouldLoadPageWithOneQueryAndCount() {
+        // When
+        Page<PostSummaryResponse> page = postRepository.findActiveAndOpenSummaries(
+                PageRequest.of(0, 20, Sort.by(Sort.Order.desc("createdAt"), Sort.Order.desc("id"))));
+
+        // Then: 목록 쿼리 1 + COUNT 1, 엔티티(게시글/작성자)는 읽지 않음
+        assertEquals(20, page.getContent().size());
+        assertEquals(25L, page.getTotalElements());
+        assertEquals(2L, statistics.getPrepareStatementCount());
+        assertEquals(0L, statistics.getEntityLoadCount());
+        for (PostSummaryResponse summary : page.getContent()) {
+            assertTrue(summary.getAuthorName().startsWith("작성자"));
+            assertTrue(summary.getAuthorDepartment().startsWith("학과"));
+            assertEquals(PostSummaryResponse.CONTENT_PREVIEW_LENGTH, summary.getContent().length());
+        }
+    }
+
+    @Test
+    void findActiveAndOpenSummaries_ShouldPageByCursorWithSingleQuery() {
+        // When
+        Slice<PostSummaryResponse> first = postRepository.findActiveAndOpenSummariesFirst(PageRequest.of(0, 10));
+        PostSummaryResponse last = first.getContent().get(first.getContent().size() - 1);
+        Slice<PostSummaryResponse> next = postRepository.findActiveAndOpenSummariesBefore(
+                last.getCreatedAt(), last.getId(), PageRequest.of(0, 10));
+
+        // Then: 페이지마다 쿼리 1 (COUNT 없음)
+        assertTrue(first.hasNext());
+        assertEquals(10, next.getContent().size());
+        assertEquals(2L, statistics.getPrepareStatementCount());
+        assertEquals(0L, statistics.getEntityLoadCount());
+        // 다음 페이지는 모두 (createdAt, id) 가 마지막 글보다 앞서지 않음
+        for (PostSummaryResponse summary : next.getContent()) {
+            assertTrue(summary.getCreatedAt().isBefore(last.getCreatedAt())
+                    || (summary.getCreatedAt().isEqual(last.getCreatedAt()) && summary.getId() < last.getId()));
+        }
+        // 마감/삭제되지 않은 글을 최신순으로 10개씩
+        assertEquals(activeIdsNewestFirst.subList(0, 10), first.getContent().stream().map(PostSummaryResponse::getId).toList());
+        assertEquals(activeIdsNewestFirst.subList(10, 20), next.getContent().stream().map(PostSummaryResponse::getId).toList());
+    }
+}
@@ -0,0 +1,164 @@
+package com.sookmyung.campus_match.service;
+
+import com.sookmyung.campus_match.config.recommendation.RecommendationProperties;
+import com.sookmyung.campus_match.domain.common.enums.ApprovalStatus;
+import com.sookmyung.campus_match.domain.common.enums.BatchStatus;
+import com.sookmyung.campus_match.domain.recommendation.RecommendationBatchCheckpoint;
+import com.sookmyung.campus_match.domain.user.User;
+import com.sookmyung.campus_match.repository.recommendation.RecommendationBatchCheckpointRepository;
+import com.sookmyung.campus_match.service.recommendation.RecommendationBatchProgress;
+import com.sookmyung.campus_match.service.recommendation.RecommendationBatchRunner;
+import com.sookmyung.campus_match.service.recommendation.RecommendationChunkWriter;
+import com.sookmyung.campus_match.service.recommendation.RecommendationFeatureLoader;
+import com.sookmyung.campus_match.service.recommendation.RecommendationFeatureSnapshot;
+import com.sookmyung.campus_match.service.recommendation.UserFeatureVector;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class RecommendationBatchRunnerTest {
+
+    private static final int USER_COUNT = 95;
+
+    @Mock
+    private RecommendationFeatureLoader featureLoader;
+
+    @Mock
+    private RecommendationChunkWriter chunkWriter;
+
+    @Mock
+    private RecommendationBatchCheckpointRepository checkpointRepository;
+
+    private RecommendationBatchRunner batchRunner;
+
+    private final Set<Long> writtenUserIds = ConcurrentHashMap.newKeySet();
+
+    private Long failingUserId;
+
+    @BeforeEach
+    void setUp() {
+        RecommendationProperties properties = new RecommendationProperties();
+        properties.getBatch().setChunkSize(10);
+        properties.getBatch().setParallelism(4);
+        batchRunner = new RecommendationBatchRunner(featureLoader, chunkWriter, checkpointRepository, properties);
+
+        Map<Long, User> candidates = new LinkedHashMap<>();
+        Map<Long, UserFeatureVector> features = new HashMap<>();
+        for (long id = USER_COUNT; id >= 1; id--) { // 역순으로 넣어도 ID 오름차순으로 처리되는지 확인
+            candidates.put(id, user(id));
+            features.put(id, new UserFeatureVector(id, id % 2 == 0 ? "컴퓨터학부" : "경영학부",
+                    new long[]{id % 3}, 1, true, new int[]{1}, false));
+        }
+        when(featureLoader.loadApprovedSnapshot()).thenReturn(new RecommendationFeatureSnapshot(candidates, features));
+        when(checkpointRepository.save(any(RecommendationBatchCheckpoint.class))).thenAnswer(invocation -> {
+            RecommendationBatchCheckpoint checkpoint = invocation.getArgument(0);
+            if (checkpoint.getId() == null) {
+                checkpoint.setId(1L);
+            }
+            return checkpoint;
+        });
+        doAnswer(invocation -> {
+            Collection<Long> userIds = invocation.getArgument(0);
+            if (failingUserId != null && userIds.contains(failingUserId)) {
+                throw new IllegalStateException("DB 오류");
+            }
+            writtenUserIds.addAll(userIds);
+            return null;
+        }).when(chunkWriter).writeChunk(anyList(), anyList());
+    }
+
+    @Test
+    void run_ShouldWriteEveryUserInChunksAndComplete() {
+        // Given
+        when(checkpointRepository.findFirstByOrderByIdDesc()).thenReturn(Optional.empty());
+
+        // When
+        assertTrue(batchRunner.run());
+
+        // Then
+        verify(featureLoader, times(1)).loadApprovedSnapshot();
+        verify(chunkWriter, times(10)).writeChunk(anyList(), anyList());
+        assertEquals(USER_COUNT, writtenUserIds.size());
+
+        RecommendationBatchProgress progress = batchRunner.getProgress();
+        assertFalse(progress.isRunning());
+        assertEquals(BatchStatus.COMPLETED, progress.getStatus());
+        assertEquals(USER_COUNT, progress.getProcessedUsers());
+        assertEquals((long) USER_COUNT, progress.getLastUserId());
+        assertEquals(100.0, progress.getPercent(), 1e-9);
+    }
+
+    @Test
+    void run_ShouldResumeAfterLastCheckpointedUser() {
+        // Given: 이전 실행이 40번 사용자까지 커밋 후 중단됨
+        RecommendationBatchCheckpoint interrupted = RecommendationBatchCheckpoint.builder()
+                .status(BatchStatus.RUNNING)
+                .totalUsers(USER_COUNT)
+                .processedUsers(40)
+                .lastUserId(40L)
+                .startedAt(LocalDateTime.now().minusHours(1))
+                .build();
+        interrupted.setId(7L);
+        when(checkpointRepository.findFirstByOrderByIdDesc()).thenReturn(Optional.of(interrupted));
+
+        // When
+        batchRunner.run();
+
+        // Then
+        assertEquals(USER_COUNT - 40, writtenUserIds.size());
+        assertTrue(writtenUserIds.stream().allMatch(id -> id > 40));
+        assertEquals(BatchStatus.COMPLETED, interrupted.getStatus());
+        assertEquals(USER_COUNT, interrupted.getProcessedUsers());
+        assertEquals(7L, batchRunner.getProgress().getRunId());
+    }
+
+    @Test
+    void run_ShouldStopCheckpointBeforeFailedChunk() {
+        // Given: 세 번째 청크(21~30번) 저장 실패
+        when(checkpointRepository.findFirstByOrderByIdDesc()).thenReturn(Optional.empty());
+        failingUserId = 21L;
+
+        // When
+        batchRunner.run();
+
+        // Then: 다음 실행은 20번 이후부터 재개
+        RecommendationBatchProgress progress = batchRunner.getProgress();
+        assertEquals(BatchStatus.FAILED, progress.getStatus());
+        assertEquals(20L, progress.getLastUserId());
+        assertEquals(20, progress.getProcessedUsers());
+        assertEquals(USER_COUNT - 10, writtenUserIds.size());
+    }
+
+    private User user(long id) {
+        User user = User.builder()
+                .studentId(String.valueOf(20240000 + id))
+                .name("사용자" + id)
+                .email("user" + id + "@sookmyung.ac.kr")
+                .department(id % 2 == 0 ? "컴퓨터학부" : "경영학부")
+                .birthDate(LocalDate.of(2000, 1, 1))
+                .phoneNumber("01012345678")
+                .passwordHash("encodedPassword")
+                .approvalStatus(ApprovalStatus.APPROVED)
+                .build();
+        user.setId(id);
+        return user;
+    }
+}
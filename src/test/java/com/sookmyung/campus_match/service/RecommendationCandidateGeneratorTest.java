@@ -0,0 +1,78 @@
+package com.sookmyung.campus_match.service;
+
+import com.sookmyung.campus_match.service.recommendation.RecommendationCandidateGenerator;
+import com.sookmyung.campus_match.service.recommendation.SimilarityCalculator;
+import com.sookmyung.campus_match.service.recommendation.UserFeatureVector;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class RecommendationCandidateGeneratorTest {
+
+    private static final double MIN_SIMILARITY = 0.1;
+
+    @Test
+    void generate_ShouldContainEveryUserAboveMinimumSimilarity() {
+        // Given
+        List<UserFeatureVector> features = randomFeatures(new Random(11), 2000);
+        RecommendationCandidateGenerator generator = new RecommendationCandidateGenerator(features, Integer.MAX_VALUE);
+
+        // When / Then: 후보 밖의 사용자는 최소 유사도를 넘지 못함
+        int totalCandidates = 0;
+        for (UserFeatureVector target : features.subList(0, 100)) {
+            long[] candidateIds = generator.generate(target);
+            totalCandidates += candidateIds.length;
+            assertTrue(Arrays.binarySearch(candidateIds, target.getUserId()) < 0);
+            for (UserFeatureVector other : features) {
+                if (!other.getUserId().equals(target.getUserId())
+                        && SimilarityCalculator.similarity(target, other) > MIN_SIMILARITY) {
+                    assertTrue(Arrays.binarySearch(candidateIds, other.getUserId()) >= 0,
+                            "누락된 후보: " + other.getUserId());
+                }
+            }
+        }
+        assertTrue(totalCandidates < 100 * features.size(), "후보가 전체 사용자보다 적어야 함");
+    }
+
+    @Test
+    void generate_ShouldKeepMostOverlappingUsersWhenCapped() {
+        // Given: 1번과 2번은 학과/관심사/카테고리 모두 일치, 나머지는 학과만 일치
+        List<UserFeatureVector> features = new ArrayList<>();
+        features.add(new UserFeatureVector(1L, "컴퓨터학부", new long[]{7}, 1, true, null, true));
+        features.add(new UserFeatureVector(2L, "컴퓨터학부", new long[]{7}, 1, true, null, true));
+        for (long id = 3; id <= 50; id++) {
+            features.add(new UserFeatureVector(id, "컴퓨터학부", new long[]{8}, 2, true, null, true));
+        }
+        RecommendationCandidateGenerator generator = new RecommendationCandidateGenerator(features, 5);
+
+        // When
+        long[] candidateIds = generator.generate(features.get(0));
+
+        // Then
+        assertEquals(5, candidateIds.length);
+        assertEquals(2L, candidateIds[0]);
+        assertArrayEquals(new long[]{2, 3, 4, 5, 6}, candidateIds);
+    }
+
+    private List<UserFeatureVector> randomFeatures(Random random, int count) {
+        String[] departments = {"컴퓨터학부", "경영학부", "경제학부", "화학과", "미디어학부", "법학부", "약학과", "수학과"};
+        List<UserFeatureVector> features = new ArrayList<>(count);
+        for (long id = 1; id <= count; id++) {
+            long[] interests = new long[random.nextInt(3)];
+            for (int i = 0; i < interests.length; i++) {
+                interests[i] = random.nextInt(60);
+            }
+            boolean hasPosts = random.nextInt(4) == 0;
+            int[] keywords = {random.nextInt(30), 30 + random.nextInt(30)};
+            features.add(new UserFeatureVector(id, departments[random.nextInt(departments.length)],
+                    Arrays.stream(interests).distinct().toArray(),
+                    hasPosts ? 1 << random.nextInt(5) : 0, hasPosts, keywords, false));
+        }
+        return features;
+    }
+}
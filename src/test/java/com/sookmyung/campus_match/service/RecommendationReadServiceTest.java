@@ -0,0 +1,86 @@
+package com.sookmyung.campus_match.service;
+
+import com.sookmyung.campus_match.config.recommendation.RecommendationCacheConfig;
+import com.sookmyung.campus_match.config.recommendation.RecommendationProperties;
+import com.sookmyung.campus_match.domain.common.enums.ApprovalStatus;
+import com.sookmyung.campus_match.domain.event.UserRecommendationsChangedEvent;
+import com.sookmyung.campus_match.domain.user.User;
+import com.sookmyung.campus_match.dto.user.UserResponse;
+import com.sookmyung.campus_match.service.recommendation.RecommendationReadService;
+import com.sookmyung.campus_match.service.recommendation.RecommendationService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.cache.CacheManager;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class RecommendationReadServiceTest {
+
+    @Mock
+    private RecommendationService recommendationService;
+
+    private RecommendationReadService readService;
+
+    @BeforeEach
+    void setUp() {
+        RecommendationProperties properties = new RecommendationProperties();
+        CacheManager cacheManager = new RecommendationCacheConfig().cacheManager(properties);
+        readService = new RecommendationReadService(recommendationService, cacheManager, properties);
+
+        List<User> users = new ArrayList<>();
+        for (long id = 1; id <= 30; id++) {
+            users.add(user(id));
+        }
+        when(recommendationService.getRecommendedUsersForUser(1L, 50)).thenReturn(users);
+    }
+
+    @Test
+    void getRecommendedUsersForUser_ShouldServeRepeatedCallsFromCache() {
+        // When
+        List<UserResponse> first = readService.getRecommendedUsersForUser(1L, 10);
+        List<UserResponse> second = readService.getRecommendedUsersForUser(1L, 20);
+
+        // Then: 최대 캐시 크기로 한 번만 조회하고 limit 만큼 잘라 반환
+        assertEquals(10, first.size());
+        assertEquals(20, second.size());
+        assertEquals(2L, second.get(1).getId());
+        verify(recommendationService, times(1)).getRecommendedUsersForUser(1L, 50);
+    }
+
+    @Test
+    void onRecommendationsChanged_ShouldEvictUserEntry() {
+        // Given
+        readService.getRecommendedUsersForUser(1L, 10);
+
+        // When
+        readService.onRecommendationsChanged(new UserRecommendationsChangedEvent(List.of(1L)));
+        readService.getRecommendedUsersForUser(1L, 10);
+
+        // Then
+        verify(recommendationService, times(2)).getRecommendedUsersForUser(1L, 50);
+    }
+
+    private User user(long id) {
+        User user = User.builder()
+                .studentId(String.valueOf(20240000 + id))
+                .name("사용자" + id)
+                .email("user" + id + "@sookmyung.ac.kr")
+                .department("컴퓨터학부")
+                .birthDate(LocalDate.of(2000, 1, 1))
+                .phoneNumber("01012345678")
+                .passwordHash("encodedPassword")
+                .approvalStatus(ApprovalStatus.APPROVED)
+                .build();
+        user.setId(id);
+        return user;
+    }
+}
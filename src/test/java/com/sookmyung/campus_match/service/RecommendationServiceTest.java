@@ -0,0 +1,253 @@
+package com.sookmyung.campus_match.service;
+
+import com.sookmyung.campus_match.config.recommendation.RecommendationProperties;
+import com.sookmyung.campus_match.domain.common.enums.ApprovalStatus;
+import com.sookmyung.campus_match.domain.common.enums.PostCategory;
+import com.sookmyung.campus_match.domain.recommendation.UserRecommendation;
+import com.sookmyung.campus_match.domain.user.User;
+import com.sookmyung.campus_match.repository.post.PostRepository;
+import com.sookmyung.campus_match.repository.recommendation.UserEmbeddingRepository;
+import com.sookmyung.campus_match.repository.recommendation.UserRecommendationRepository;
+import com.sookmyung.campus_match.repository.user.InterestRepository;
+import com.sookmyung.campus_match.repository.user.ProfileRepository;
+import com.sookmyung.campus_match.repository.user.UserInterestRepository;
+import com.sookmyung.campus_match.repository.user.UserRepository;
+import com.sookmyung.campus_match.service.recommendation.BioKeywordStore;
+import com.sookmyung.campus_match.service.recommendation.RecommendationBatchRunner;
+import com.sookmyung.campus_match.service.recommendation.RecommendationFeatureLoader;
+import com.sookmyung.campus_match.service.recommendation.RecommendationService;
+import com.sookmyung.campus_match.service.recommendation.embedding.UserEmbeddingIndex;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class RecommendationServiceTest {
+
+    private static final int USER_COUNT = 200;
+
+    @Mock
+    private UserRepository userRepository;
+
+    @Mock
+    private UserInterestRepository userInterestRepository;
+
+    @Mock
+    private PostRepository postRepository;
+
+    @Mock
+    private ProfileRepository profileRepository;
+
+    @Mock
+    private UserEmbeddingRepository userEmbeddingRepository;
+
+    @Mock
+    private UserRecommendationRepository userRecommendationRepository;
+
+    @Mock
+    private RecommendationBatchRunner batchRunner;
+
+    @Mock
+    private UserEmbeddingIndex embeddingIndex;
+
+    @Mock
+    private InterestRepository interestRepository;
+
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
+    private RecommendationService recommendationService;
+
+    private List<User> approvedUsers;
+
+    @BeforeEach
+    void setUp() {
+        RecommendationFeatureLoader featureLoader = new RecommendationFeatureLoader(
+                userRepository, userInterestRepository, postRepository, profileRepository, new BioKeywordStore(),
+                new RecommendationProperties());
+        recommendationService = new RecommendationService(
+                userRepository, userEmbeddingRepository, userRecommendationRepository, featureLoader, batchRunner, embeddingIndex,
+                userInterestRepository, interestRepository, eventPublisher);
+
+        approvedUsers = new ArrayList<>();
+        List<Object[]> interestRows = new ArrayList<>();
+        List<Object[]> categoryRows = new ArrayList<>();
+        List<Object[]> bioRows = new ArrayList<>();
+        for (long id = 1; id <= USER_COUNT; id++) {
+            approvedUsers.add(user(id, id % 2 == 0 ? "컴퓨터학부" : "경영학부"));
+            interestRows.add(new Object[]{id, id % 5});
+            categoryRows.add(new Object[]{id, id % 2 == 0 ? PostCategory.PROJECT : PostCategory.STUDY});
+            bioRows.add(new Object[]{id, id % 2 == 0 ? "Spring 백엔드 개발" : "마케팅 기획"});
+        }
+
+        when(userRepository.findByApprovalStatus(ApprovalStatus.APPROVED)).thenReturn(approvedUsers);
+        when(userInterestRepository.findUserInterestPairsByApprovalStatus(ApprovalStatus.APPROVED)).thenReturn(interestRows);
+        when(postRepository.findAuthorCategoryPairsByApprovalStatus(ApprovalStatus.APPROVED)).thenReturn(categoryRows);
+        when(profileRepository.findUserBiosByApprovalStatus(ApprovalStatus.APPROVED)).thenReturn(bioRows);
+    }
+
+    @Test
+    void generateRecommendationsForUser_ShouldUseBoundedBulkQueries() {
+        // Given
+        when(userRepository.findById(2L)).thenReturn(Optional.of(approvedUsers.get(1)));
+
+        // When
+        List<UserRecommendation> result = recommendationService.generateRecommendationsForUser(2L);
+
+        // Then
+        assertEquals(20, result.size());
+        verify(userRepository, times(1)).findByApprovalStatus(ApprovalStatus.APPROVED);
+        verify(userInterestRepository, times(1)).findUserInterestPairsByApprovalStatus(ApprovalStatus.APPROVED);
+        verify(postRepository, times(1)).findAuthorCategoryPairsByApprovalStatus(ApprovalStatus.APPROVED);
+        verify(profileRepository, times(1)).findUserBiosByApprovalStatus(ApprovalStatus.APPROVED);
+        verify(userInterestRepository, never()).findByUser(any(User.class));
+        verify(postRepository, never()).findByAuthor_Id(any(Long.class), any());
+        verify(userRecommendationRepository).deleteByUserIdIn(List.of(2L));
+        verify(userRecommendationRepository).batchInsert(result);
+        verify(userRecommendationRepository, never()).saveAll(anyList());
+    }
+
+    @Test
+    void generateRecommendationsForUser_ShouldRankMostSimilarUsersFirst() {
+        // Given
+        when(userRepository.findById(2L)).thenReturn(Optional.of(approvedUsers.get(1)));
+
+        // When
+        List<UserRecommendation> result = recommendationService.generateRecommendationsForUser(2L);
+
+        // Then: 같은 학과/관심사/카테고리/자기소개를 가진 사용자(id % 10 == 2)가 최상위
+        UserRecommendation top = result.get(0);
+        assertEquals(2L, top.getRecommendedUser().getId() % 10);
+        assertEquals(1.0, top.getSimilarityScore(), 1e-9);
+        assertNotNull(top.getGeneratedAt());
+        assertTrue(result.stream().noneMatch(r -> r.getRecommendedUser().getId().equals(2L)));
+        for (int i = 1; i < result.size(); i++) {
+            assertTrue(result.get(i - 1).getSimilarityScore() >= result.get(i).getSimilarityScore());
+        }
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void refreshRecommendationsForUser_ShouldPatchIncomingRecommendations() {
+        // Given
+        User target = approvedUsers.get(1); // id 2
+        when(userRepository.findById(2L)).thenReturn(Optional.of(target));
+
+        UserRecommendation stale = recommendation(approvedUsers.get(3), target, 0.05); // owner id 4
+        UserRecommendation lowest = recommendation(approvedUsers.get(11), approvedUsers.get(0), 0.99); // owner id 12
+        when(userRecommendationRepository.findByRecommendedUserId(2L)).thenReturn(List.of(stale));
+        when(userRecommendationRepository.findRecommendationStatsByUserIds(anyCollection())).thenReturn(List.of(
+                new Object[]{6L, 5L, new BigDecimal("0.3000")},
+                new Object[]{12L, 20L, new BigDecimal("0.9900")}));
+        when(userRecommendationRepository.findLowestByUserIds(List.of(12L))).thenReturn(List.of(lowest));
+
+        // When
+        recommendationService.refreshRecommendationsForUser(2L);
+
+        // Then: 기존 항목은 점수 갱신, 여유 있는 목록엔 추가, 가득 찬 목록은 최저 항목과 교체
+        ArgumentCaptor<List<UserRecommendation>> saved = ArgumentCaptor.forClass(List.class);
+        verify(userRecommendationRepository).batchInsert(anyList()); // 대상 사용자 본인 추천은 배치 INSERT
+        verify(userRecommendationRepository).saveAll(saved.capture());
+        List<UserRecommendation> patched = saved.getValue();
+
+        assertEquals(0.6, stale.getSimilarityScore(), 1e-9);
+        assertTrue(patched.contains(stale));
+        assertTrue(patched.stream().anyMatch(r -> r.getUser().getId().equals(6L)));
+        assertTrue(patched.stream().anyMatch(r -> r.getUser().getId().equals(12L)));
+        assertTrue(patched.stream().noneMatch(r -> r.getUser().getId().equals(8L))); // 추천 목록이 없는 사용자는 건너뜀
+        verify(userRecommendationRepository).deleteAll(List.of(lowest));
+        // 목록 크기/최저 항목은 관련 사용자만 IN 쿼리 한 번씩
+        verify(userRecommendationRepository, times(1)).findRecommendationStatsByUserIds(anyCollection());
+        verify(userRecommendationRepository, times(1)).findLowestByUserIds(anyCollection());
+    }
+
+    @Test
+    void refreshRecommendationsForUser_ShouldReuseSnapshotAndReloadOnlyChangedUser() {
+        // Given
+        User target = approvedUsers.get(1); // id 2
+        when(userRepository.findById(2L)).thenReturn(Optional.of(target));
+        stubFeaturesOfUser2();
+
+        // When: 같은 사용자가 연속으로 변경됨
+        recommendationService.refreshRecommendationsForUser(2L);
+        recommendationService.refreshRecommendationsForUser(2L);
+
+        // Then: 첫 호출은 스냅샷이 없어 전체 적재, 두 번째는 변경된 사용자 특성만 조회
+        verify(userRepository, times(1)).findByApprovalStatus(ApprovalStatus.APPROVED);
+        verify(userInterestRepository, times(1)).findUserInterestPairsByApprovalStatus(ApprovalStatus.APPROVED);
+        verify(postRepository, times(1)).findAuthorCategoryPairsByApprovalStatus(ApprovalStatus.APPROVED);
+        verify(profileRepository, times(1)).findUserBiosByApprovalStatus(ApprovalStatus.APPROVED);
+        verify(userInterestRepository, times(1)).findUserInterestPairsByUserIds(List.of(2L));
+        verify(userRecommendationRepository, times(2)).batchInsert(argThat(list -> list.size() == 20));
+    }
+
+    @Test
+    void refreshRecommendationsForUser_ShouldDropDeletedUserFromSnapshot() {
+        // Given: 스냅샷 적재 후 가장 유사한 사용자 12 삭제
+        when(userRepository.findById(2L)).thenReturn(Optional.of(approvedUsers.get(1)));
+        stubFeaturesOfUser2();
+        List<UserRecommendation> before = recommendationService.generateRecommendationsForUser(2L);
+        assertTrue(before.stream().anyMatch(r -> r.getRecommendedUser().getId().equals(12L)));
+        when(userRepository.findById(12L)).thenReturn(Optional.empty());
+
+        // When
+        recommendationService.refreshRecommendationsForUser(12L);
+        List<UserRecommendation> after = recommendationService.generateRecommendationsForUser(2L);
+
+        // Then: 전체 재적재 없이 후보에서 빠짐
+        assertEquals(20, after.size());
+        assertTrue(after.stream().noneMatch(r -> r.getRecommendedUser().getId().equals(12L)));
+        verify(userRepository, times(1)).findByApprovalStatus(ApprovalStatus.APPROVED);
+    }
+
+    private void stubFeaturesOfUser2() {
+        when(userInterestRepository.findUserInterestPairsByUserIds(List.of(2L)))
+                .thenReturn(List.<Object[]>of(new Object[]{2L, 2L}));
+        when(postRepository.findAuthorCategoryPairsByAuthorIds(List.of(2L)))
+                .thenReturn(List.<Object[]>of(new Object[]{2L, PostCategory.PROJECT}));
+        when(profileRepository.findUserBiosByUserIds(List.of(2L)))
+                .thenReturn(List.<Object[]>of(new Object[]{2L, "Spring 백엔드 개발"}));
+    }
+
+    private UserRecommendation recommendation(User owner, User recommended, double score) {
+        return UserRecommendation.builder()
+                .user(owner)
+                .recommendedUser(recommended)
+                .similarityScore(BigDecimal.valueOf(score))
+                .generatedAt(LocalDateTime.now())
+                .build();
+    }
+
+    private User user(long id, String department) {
+        User user = User.builder()
+                .studentId(String.valueOf(20240000 + id))
+                .name("사용자" + id)
+                .email("user" + id + "@sookmyung.ac.kr")
+                .department(department)
+                .birthDate(LocalDate.of(2000, 1, 1))
+                .phoneNumber("01012345678")
+                .passwordHash("encodedPassword")
+                .approvalStatus(ApprovalStatus.APPROVED)
+                .build();
+        user.setId(id);
+        return user;
+    }
+}
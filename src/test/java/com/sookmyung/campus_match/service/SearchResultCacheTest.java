@@ -0,0 +1,61 @@
+package com.sookmyung.campus_match.service;
+
+import com.sookmyung.campus_match.config.search.SearchProperties;
+import com.sookmyung.campus_match.domain.event.PostChangedEvent;
+import com.sookmyung.campus_match.service.search.SearchResultCache;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class SearchResultCacheTest {
+
+    private SimpleMeterRegistry meterRegistry;
+    private SearchResultCache cache;
+    private AtomicInteger loads;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        cache = new SearchResultCache(new SearchProperties(), meterRegistry);
+        loads = new AtomicInteger();
+    }
+
+    @Test
+    void get_ShouldReuseResultForNormalizedKeyword() {
+        // When
+        String first = cache.get(SearchResultCache.Scope.POSTS, 1L, "  Java   스터디 ", this::load, "page", 0, 20);
+        String second = cache.get(SearchResultCache.Scope.POSTS, 1L, "java 스터디", this::load, "page", 0, 20);
+        String otherPage = cache.get(SearchResultCache.Scope.POSTS, 1L, "java 스터디", this::load, "page", 1, 20);
+
+        // Then
+        assertEquals(first, second);
+        assertNotEquals(first, otherPage);
+        assertEquals(2, loads.get());
+        assertEquals(1.0 / 3, meterRegistry.get("search.cache.hit.ratio").gauge().value(), 1e-9);
+    }
+
+    @Test
+    void get_ShouldMissAfterDataOrIndexVersionChanges() {
+        // Given
+        cache.get(SearchResultCache.Scope.POSTS, 1L, "스터디", this::load, "page", 0, 20);
+        cache.get(SearchResultCache.Scope.USERS, 1L, "스터디", this::load, "page", 0, 20);
+
+        // When
+        cache.onPostChanged(new PostChangedEvent(10L, 1L, PostChangedEvent.ChangeType.UPDATED));
+        cache.get(SearchResultCache.Scope.POSTS, 1L, "스터디", this::load, "page", 0, 20);
+        cache.get(SearchResultCache.Scope.USERS, 1L, "스터디", this::load, "page", 0, 20);
+        cache.get(SearchResultCache.Scope.USERS, 2L, "스터디", this::load, "page", 0, 20);
+
+        // Then - 게시글 데이터 버전, 사용자 색인 버전이 바뀐 조회만 다시 검색
+        assertEquals(4, loads.get());
+        assertEquals(2, meterRegistry.get("search.cache.load").tag("scope", "users").timer().count());
+    }
+
+    private String load() {
+        return "result-" + loads.incrementAndGet();
+    }
+}
@@ -0,0 +1,59 @@
+package com.sookmyung.campus_match.service;
+
+import com.sookmyung.campus_match.service.recommendation.TopKScores;
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.Random;
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class TopKScoresTest {
+
+    @Test
+    void drainDescending_ShouldMatchFullSortTopK() {
+        // Given: 동점이 많도록 점수를 0.05 단위로 생성
+        Random random = new Random(3);
+        int count = 5000;
+        double[] allScores = new double[count];
+        TopKScores topK = new TopKScores(20);
+        for (int id = 0; id < count; id++) {
+            allScores[id] = random.nextInt(20) * 0.05;
+            topK.offer(id, allScores[id]);
+        }
+
+        // When
+        double[] scores = new double[topK.size()];
+        long[] ids = topK.drainDescending(scores);
+
+        // Then: 점수 내림차순, 같은 점수는 ID 오름차순으로 전체 정렬한 결과와 동일
+        long[] expected = IntStream.range(0, count).boxed()
+                .sorted(Comparator.<Integer>comparingDouble(id -> -allScores[id]).thenComparing(id -> id))
+                .limit(20)
+                .mapToLong(Integer::longValue)
+                .toArray();
+        assertArrayEquals(expected, ids);
+        for (int i = 0; i < ids.length; i++) {
+            assertEquals(allScores[(int) ids[i]], scores[i]);
+        }
+        assertEquals(0, topK.size());
+    }
+
+    @Test
+    void offer_ShouldKeepFewerThanKAndIgnoreZeroCapacity() {
+        TopKScores topK = new TopKScores(5);
+        topK.offer(1L, 0.3);
+        topK.offer(2L, 0.9);
+
+        double[] scores = new double[topK.size()];
+        assertArrayEquals(new long[]{2L, 1L}, topK.drainDescending(scores));
+        assertArrayEquals(new double[]{0.9, 0.3}, scores);
+
+        TopKScores empty = new TopKScores(0);
+        empty.offer(1L, 1.0);
+        assertEquals(0, empty.size());
+        assertTrue(Arrays.equals(new long[0], empty.drainDescending(new double[0])));
+    }
+}
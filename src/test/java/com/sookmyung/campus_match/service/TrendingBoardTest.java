@@ -0,0 +1,81 @@
+package com.sookmyung.campus_match.service;
+
+import com.sookmyung.campus_match.domain.common.enums.PostCategory;
+import com.sookmyung.campus_match.service.post.trending.TrendingBoard;
+import com.sookmyung.campus_match.service.post.trending.TrendingPost;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class TrendingBoardTest {
+
+    private static final long HOUR = Duration.ofHours(1).toMillis();
+
+    @Test
+    void top_ShouldPreferRecentActivityOverOlderLargerScores() {
+        // Given: 반감기 1시간, 1번 글은 3시간 전 가중치 6, 2번 글은 방금 가중치 1
+        TrendingBoard board = new TrendingBoard(Duration.ofHours(1), 0L);
+        board.record(post(1L, PostCategory.STUDY), 6, 0L);
+        board.record(post(2L, PostCategory.PROJECT), 1, 3 * HOUR);
+        board.record(post(3L, PostCategory.STUDY), 1, 3 * HOUR);
+        assertTrue(board.touch(3L, 1, 3 * HOUR));
+
+        // When
+        List<TrendingBoard.Ranked> all = board.top(null, 10, 3 * HOUR);
+        List<TrendingBoard.Ranked> studies = board.top(PostCategory.STUDY, 10, 3 * HOUR);
+
+        // Then: 6 / 2^3 = 0.75 < 1 < 2
+        assertEquals(List.of(3L, 2L, 1L), ids(all));
+        assertEquals(0.75, all.get(2).getScore(), 1e-9);
+        assertEquals(List.of(3L, 1L), ids(studies));
+        assertFalse(board.touch(99L, 1, 3 * HOUR));
+    }
+
+    @Test
+    void prune_ShouldRebaseAndDropDecayedPosts() {
+        // Given
+        TrendingBoard board = new TrendingBoard(Duration.ofHours(1), 0L);
+        board.record(post(1L, PostCategory.STUDY), 1, 0L);
+        board.record(post(2L, PostCategory.STUDY), 100, 0L);
+
+        // When: 10시간 후 1 → 약 0.001, 100 → 약 0.098
+        int removed = board.prune(0.01, 10 * HOUR);
+
+        // Then: 기준 시각이 바뀌어도 현재 점수와 이후 갱신은 그대로 이어짐
+        assertEquals(1, removed);
+        assertEquals(100 / 1024.0, board.top(null, 10, 10 * HOUR).get(0).getScore(), 1e-9);
+        board.record(post(3L, PostCategory.PROJECT), 1, 10 * HOUR);
+        assertEquals(List.of(3L, 2L), ids(board.top(null, 10, 10 * HOUR)));
+    }
+
+    @Test
+    void record_ShouldKeepOrderAcrossAutomaticRebase() {
+        // Given: 반감기 1분, 활동 간격이 길어 저장 값 지수가 기준을 넘도록
+        TrendingBoard board = new TrendingBoard(Duration.ofMinutes(1), 0L);
+        long later = Duration.ofDays(1).toMillis();
+        board.record(post(1L, PostCategory.STUDY), 1, later);
+        board.record(post(2L, PostCategory.STUDY), 2, later);
+
+        // When
+        board.update(post(1L, PostCategory.PROJECT));
+        board.remove(2L);
+
+        // Then
+        List<TrendingBoard.Ranked> top = board.top(null, 10, later);
+        assertEquals(List.of(1L), ids(top));
+        assertEquals(1.0, top.get(0).getScore(), 1e-9);
+        assertTrue(board.top(PostCategory.STUDY, 10, later).isEmpty());
+        assertEquals(1, board.top(PostCategory.PROJECT, 10, later).size());
+    }
+
+    private static TrendingPost post(long id, PostCategory category) {
+        return new TrendingPost(id, category, "post " + id, "author", null);
+    }
+
+    private static List<Long> ids(List<TrendingBoard.Ranked> ranked) {
+        return ranked.stream().map(r -> r.getPost().getPostId()).toList();
+    }
+}
@@ -0,0 +1,102 @@
+package com.sookmyung.campus_match.service;
+
+import com.sookmyung.campus_match.config.JpaAuditingTestConfig;
+import com.sookmyung.campus_match.domain.common.enums.ApprovalStatus;
+import com.sookmyung.campus_match.domain.common.enums.InterestType;
+import com.sookmyung.campus_match.domain.user.Interest;
+import com.sookmyung.campus_match.domain.user.User;
+import com.sookmyung.campus_match.domain.user.UserInterest;
+import com.sookmyung.campus_match.repository.user.UserInterestRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.domain.PageRequest;
+
+import java.time.LocalDate;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * 관심사 겹침 순위 쿼리의 정렬(겹침 수 내림차순, 동점은 사용자 ID 오름차순)과 승인 상태 필터 확인
+ */
+@DataJpaTest(properties = {
+        "spring.autoconfigure.exclude=", // test 프로필의 JPA 자동설정 제외를 해제
+        "spring.flyway.enabled=false",
+        "spring.jpa.hibernate.ddl-auto=create-drop",
+        "spring.jpa.properties.hibernate.dialect=org.hibernate.dialect.H2Dialect"
+})
+@Import(JpaAuditingTestConfig.class)
+class UserInterestOverlapQueryTest {
+
+    @Autowired
+    private TestEntityManager entityManager;
+
+    @Autowired
+    private UserInterestRepository userInterestRepository;
+
+    private List<Long> interestIds;
+    private User[] users;
+
+    @BeforeEach
+    void setUp() {
+        Interest[] interests = new Interest[4];
+        for (int i = 0; i < interests.length; i++) {
+            interests[i] = entityManager.persist(Interest.builder()
+                    .interestName("관심사" + i)
+                    .interestType(InterestType.PREDEFINED)
+                    .build());
+        }
+        interestIds = List.of(interests[0].getId(), interests[1].getId(), interests[2].getId());
+
+        // 겹침 수: users[0]=1, users[1]=2, users[2]=3, users[3]=2, users[4]=3(미승인), users[5]=0(다른 관심사만)
+        int[][] interestIndexes = {{0, 3}, {1, 2}, {0, 1, 2}, {0, 2}, {0, 1, 2}, {3}};
+        users = new User[interestIndexes.length];
+        for (int i = 0; i < users.length; i++) {
+            users[i] = entityManager.persist(User.builder()
+                    .studentId("2024100" + i)
+                    .department("학과")
+                    .name("사용자" + i)
+                    .birthDate(LocalDate.of(2000, 1, 1))
+                    .phoneNumber("010-1000-000" + i)
+                    .email("interest" + i + "@sookmyung.ac.kr")
+                    .passwordHash("hash")
+                    .approvalStatus(i == 4 ? ApprovalStatus.PENDING : ApprovalStatus.APPROVED)
+                    .build());
+            for (int index : interestIndexes[i]) {
+                entityManager.persist(UserInterest.builder()
+                        .user(users[i])
+                        .interest(interests[index])
+                        .build());
+            }
+        }
+        entityManager.flush();
+        entityManager.clear();
+    }
+
+    @Test
+    void findUserOverlapByInterestIds_ShouldOrderByOverlapThenUserId() {
+        // When
+        List<Object[]> ranked = userInterestRepository.findUserOverlapByInterestIds(
+                interestIds, ApprovalStatus.APPROVED, PageRequest.of(0, 10));
+
+        // Then: 동점(겹침 2)인 users[1], users[3]은 ID 오름차순, 미승인/겹침 없는 사용자는 제외
+        assertEquals(List.of(users[2].getId(), users[1].getId(), users[3].getId(), users[0].getId()),
+                ranked.stream().map(row -> (Long) row[0]).toList());
+        assertEquals(List.of(3L, 2L, 2L, 1L), ranked.stream().map(row -> (Long) row[1]).toList());
+    }
+
+    @Test
+    void findUserOverlapByInterestIds_ShouldCutTiesByUserIdAtLimit() {
+        // When
+        List<Object[]> ranked = userInterestRepository.findUserOverlapByInterestIds(
+                interestIds, ApprovalStatus.APPROVED, PageRequest.of(0, 2));
+
+        // Then
+        assertEquals(List.of(users[2].getId(), users[1].getId()),
+                ranked.stream().map(row -> (Long) row[0]).toList());
+    }
+}
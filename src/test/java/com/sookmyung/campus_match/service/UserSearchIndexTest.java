@@ -0,0 +1,84 @@
+package com.sookmyung.campus_match.service;
+
+import com.sookmyung.campus_match.config.search.SearchProperties;
+import com.sookmyung.campus_match.domain.common.enums.ApprovalStatus;
+import com.sookmyung.campus_match.domain.event.UserAccountChangedEvent;
+import com.sookmyung.campus_match.repository.user.ExperienceRepository;
+import com.sookmyung.campus_match.repository.user.ProfileRepository;
+import com.sookmyung.campus_match.repository.user.UserInterestRepository;
+import com.sookmyung.campus_match.repository.user.UserRepository;
+import com.sookmyung.campus_match.service.search.index.SearchResult;
+import com.sookmyung.campus_match.service.search.index.UserSearchIndex;
+import com.sookmyung.campus_match.util.text.KoreanNgramAnalyzer;
+import com.sookmyung.campus_match.util.text.TokenDictionary;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class UserSearchIndexTest {
+
+    @Mock
+    private UserRepository userRepository;
+    @Mock
+    private ProfileRepository profileRepository;
+    @Mock
+    private ExperienceRepository experienceRepository;
+    @Mock
+    private UserInterestRepository userInterestRepository;
+
+    private UserSearchIndex userSearchIndex;
+
+    @BeforeEach
+    void setUp() {
+        userSearchIndex = new UserSearchIndex(userRepository, profileRepository, experienceRepository,
+                userInterestRepository, new KoreanNgramAnalyzer(), new TokenDictionary(), new SearchProperties());
+
+        when(userRepository.findSearchDocumentsAfter(eq(ApprovalStatus.APPROVED), eq(0L), any()))
+                .thenReturn(List.of(
+                        new Object[]{1L, "김숙명", "컴퓨터과학전공"},
+                        new Object[]{2L, "이눈송", "시각영상디자인과"}));
+        when(profileRepository.findEmbeddingTextsByUserIds(anyCollection()))
+                .thenReturn(List.<Object[]>of(new Object[]{1L, "백엔드 개발자", "스프링으로 서비스를 만듭니다"}));
+        when(experienceRepository.findEmbeddingTextsByUserIds(anyCollection()))
+                .thenReturn(List.<Object[]>of(new Object[]{2L, "공모전", "포스터 제작", "Figma,Branding"}));
+        when(userInterestRepository.findInterestNamesByUserIds(anyCollection()))
+                .thenReturn(List.<Object[]>of(new Object[]{1L, "인공지능", "AI"}));
+    }
+
+    @Test
+    void rebuild_ShouldIndexProfileExperienceAndInterestFields() {
+        // When
+        userSearchIndex.rebuild();
+
+        // Then
+        assertTrue(userSearchIndex.isReady());
+        assertArrayEquals(new long[]{1L}, userSearchIndex.search("스프링 개발자", 0, 10).getIds());
+        assertArrayEquals(new long[]{1L}, userSearchIndex.search("인공지능", 0, 10).getIds());
+        assertArrayEquals(new long[]{2L}, userSearchIndex.search("figma", 0, 10).getIds());
+        assertArrayEquals(new long[]{2L}, userSearchIndex.search("디자인", 0, 10).getIds());
+    }
+
+    @Test
+    void onAccountChanged_ShouldRemoveUsersThatAreNoLongerApproved() {
+        // Given
+        userSearchIndex.rebuild();
+        when(userRepository.findSearchDocumentsByIds(List.of(2L)))
+                .thenReturn(List.<Object[]>of(new Object[]{2L, "이눈송", "시각영상디자인과", ApprovalStatus.REJECTED}));
+
+        // When
+        userSearchIndex.onAccountChanged(new UserAccountChangedEvent(2L));
+
+        // Then
+        SearchResult result = userSearchIndex.search("디자인", 0, 10);
+        assertEquals(0, result.getTotalHits());
+    }
+}
@@ -0,0 +1,76 @@
+package com.sookmyung.campus_match.service;
+
+import com.sookmyung.campus_match.util.counter.WriteBehindCounter;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class WriteBehindCounterTest {
+
+    @Test
+    void drain_ShouldReturnDeltasAndResetPending() {
+        // Given
+        WriteBehindCounter counter = new WriteBehindCounter();
+        counter.increment(1L);
+        counter.increment(1L);
+        counter.add(2L, 5L);
+
+        // When
+        assertEquals(2L, counter.pending(1L));
+        Map<Long, Long> deltas = counter.drain();
+
+        // Then
+        assertEquals(Map.of(1L, 2L, 2L, 5L), deltas);
+        assertEquals(0L, counter.pending(1L));
+        assertTrue(counter.drain().isEmpty());
+    }
+
+    @Test
+    void drain_ShouldNotLoseConcurrentIncrements() throws Exception {
+        // Given: 여러 스레드가 소수의 ID 에 몰아서 증가하는 동안 계속 drain
+        WriteBehindCounter counter = new WriteBehindCounter();
+        int threads = 8;
+        int perThread = 50_000;
+        CountDownLatch done = new CountDownLatch(threads);
+        AtomicBoolean running = new AtomicBoolean(true);
+        List<Thread> workers = new ArrayList<>();
+        for (int t = 0; t < threads; t++) {
+            Thread worker = new Thread(() -> {
+                for (int i = 0; i < perThread; i++) {
+                    counter.increment(i % 4);
+                }
+                done.countDown();
+            });
+            workers.add(worker);
+            worker.start();
+        }
+
+        // When
+        long total = 0;
+        while (running.get()) {
+            for (long delta : counter.drain().values()) {
+                total += delta;
+            }
+            if (done.getCount() == 0) {
+                running.set(false);
+            }
+        }
+        for (Thread worker : workers) {
+            worker.join();
+        }
+        for (int i = 0; i < 5; i++) {
+            for (long delta : counter.drain().values()) {
+                total += delta;
+            }
+        }
+
+        // Then
+        assertEquals((long) threads * perThread, total);
+    }
+}